@@ -0,0 +1,39 @@
+package com.backend.immilog.comment.application.handlers;
+
+import com.backend.immilog.comment.application.services.CommentQueryService;
+import com.backend.immilog.shared.domain.event.CommentCountRequestedEvent;
+import com.backend.immilog.shared.domain.event.DomainEventHandler;
+import com.backend.immilog.shared.domain.model.CommentCounts;
+import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountRequestedEventHandler implements DomainEventHandler<CommentCountRequestedEvent> {
+
+    private final CommentQueryService commentQueryService;
+    private final EventResultStorageService eventResultStorageService;
+
+    @Override
+    public void handle(CommentCountRequestedEvent event) {
+        log.debug("Processing CommentCountRequestedEvent for {} posts from domain: {}",
+                event.getPostIds().size(), event.getRequestingDomain());
+
+        try {
+            var counts = commentQueryService.getCommentCountsByPostIds(event.getPostIds());
+            eventResultStorageService.storeCommentCounts(event.getRequestId(), new CommentCounts(counts));
+        } catch (Exception e) {
+            log.error("Failed to process CommentCountRequestedEvent from domain: {}",
+                    event.getRequestingDomain(), e);
+            eventResultStorageService.storeCommentCounts(event.getRequestId(), CommentCounts.empty());
+        }
+    }
+
+    @Override
+    public Class<CommentCountRequestedEvent> getEventType() {
+        return CommentCountRequestedEvent.class;
+    }
+}
@@ -57,15 +57,19 @@ public class CommentQueryService {
     }
 
     public long getCommentCountByPostId(String postId) {
-        return commentRepository.findCommentsByPostId(postId).size();
+        return getCommentCountsByPostIds(List.of(postId)).get(postId);
     }
 
+    /**
+     * 요청한 모든 게시물의 댓글 수를 반환합니다. 댓글이 없는 게시물은 0입니다.
+     */
     public Map<String, Long> getCommentCountsByPostIds(List<String> postIds) {
-        return postIds.stream()
-                .distinct()
+        var distinctPostIds = postIds.stream().distinct().toList();
+        var counts = commentRepository.countCommentsByPostIds(distinctPostIds);
+        return distinctPostIds.stream()
                 .collect(Collectors.toMap(
                         postId -> postId,
-                        this::getCommentCountByPostId
+                        postId -> counts.getOrDefault(postId, 0L)
                 ));
     }
 }
@@ -1,11 +1,11 @@
 package com.backend.immilog.comment.domain.event;
 
-import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.backend.immilog.shared.domain.event.OrderedEvent;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
-public class CommentCreatedEvent implements DomainEvent {
+public class CommentCreatedEvent implements OrderedEvent {
     @Getter
     private String commentId;
     @Getter
@@ -33,4 +33,9 @@ public class CommentCreatedEvent implements DomainEvent {
     public LocalDateTime occurredAt() {
         return occurredAt;
     }
+
+    @Override
+    public String orderingKey() {
+        return postId;
+    }
 }
\ No newline at end of file
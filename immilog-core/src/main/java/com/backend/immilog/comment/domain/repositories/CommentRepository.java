@@ -4,11 +4,14 @@ import com.backend.immilog.comment.application.dto.CommentResult;
 import com.backend.immilog.comment.domain.model.Comment;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CommentRepository {
     List<CommentResult> findCommentsByPostId(String postId);
 
+    Map<String, Long> countCommentsByPostIds(List<String> postIds);
+
     Optional<Comment> findById(String commentId);
 
     Comment save(Comment comment);
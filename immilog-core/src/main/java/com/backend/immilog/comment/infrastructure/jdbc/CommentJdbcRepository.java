@@ -8,7 +8,10 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class CommentJdbcRepository {
@@ -46,6 +49,31 @@ public class CommentJdbcRepository {
         return jdbcTemplate.query(sql, this::mapToCommentResult, postId);
     }
 
+    /**
+     * 게시물별 정상 상태 댓글 수를 한 번의 GROUP BY 쿼리로 조회합니다. 댓글이 없는 게시물은 결과에 포함되지 않습니다.
+     */
+    public Map<String, Long> countCommentsByPostIds(List<String> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        var placeholders = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        var sql = """
+                SELECT c.post_id, COUNT(*) AS comment_count
+                FROM comment c
+                WHERE c.post_id IN (%s) AND c.status = 'NORMAL'
+                GROUP BY c.post_id
+                """.formatted(placeholders);
+        var counts = new HashMap<String, Long>();
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    counts.put(rs.getString("post_id"), rs.getLong("comment_count"));
+                },
+                postIds.toArray()
+        );
+        return counts;
+    }
+
     private CommentResult mapToCommentResult(
             ResultSet rs,
             int rowNum
@@ -94,31 +122,12 @@ public class CommentJdbcRepository {
     }
 
     private ReferenceType parseReferenceType(String referenceTypeString) {
-        System.out.println("DEBUG: parseReferenceType called with: '" + referenceTypeString + "' (length: " + 
-                          (referenceTypeString == null ? "null" : referenceTypeString.length()) + ")");
-        
-        if (referenceTypeString == null) {
-            System.out.println("DEBUG: referenceTypeString is null, returning POST");
-            return ReferenceType.POST;
-        }
-        
-        if (referenceTypeString.trim().isEmpty()) {
-            System.out.println("DEBUG: referenceTypeString is empty after trim, returning POST");
-            return ReferenceType.POST;
-        }
-        
-        // 특별한 경우들 체크
-        if (referenceTypeString.equals("") || referenceTypeString.equals(" ")) {
-            System.out.println("DEBUG: referenceTypeString is empty string or space, returning POST");
+        if (referenceTypeString == null || referenceTypeString.isBlank()) {
             return ReferenceType.POST;
         }
-        
         try {
-            ReferenceType result = ReferenceType.valueOf(referenceTypeString.trim());
-            System.out.println("DEBUG: Successfully parsed ReferenceType: " + result);
-            return result;
+            return ReferenceType.valueOf(referenceTypeString.trim());
         } catch (IllegalArgumentException e) {
-            System.out.println("DEBUG: Failed to parse ReferenceType: '" + referenceTypeString + "', returning POST. Error: " + e.getMessage());
             return ReferenceType.POST;
         }
     }
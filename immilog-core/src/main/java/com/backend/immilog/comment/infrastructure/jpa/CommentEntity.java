@@ -13,7 +13,10 @@ import java.util.ArrayList;
 
 @DynamicUpdate
 @Entity
-@Table(name = "comment")
+@Table(
+        name = "comment",
+        indexes = @Index(name = "idx_comment_post_status", columnList = "post_id, status")
+)
 public class CommentEntity {
     @Id
     @Column(name = "comment_id")
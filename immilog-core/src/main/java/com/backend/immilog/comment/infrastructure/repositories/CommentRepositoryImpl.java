@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -23,6 +24,11 @@ public class CommentRepositoryImpl implements CommentRepository {
         return commentJdbcRepository.findCommentsByPostId(postId);
     }
 
+    @Override
+    public Map<String, Long> countCommentsByPostIds(List<String> postIds) {
+        return commentJdbcRepository.countCommentsByPostIds(postIds);
+    }
+
     @Override
     public Optional<Comment> findById(String commentId) {
         return commentJpaRepository.findById(commentId).map(CommentEntity::toDomain);
@@ -1,9 +1,12 @@
 package com.backend.immilog.interaction.application.services;
 
 import com.backend.immilog.interaction.domain.model.InteractionStatus;
+import com.backend.immilog.interaction.domain.model.InteractionType;
 import com.backend.immilog.interaction.domain.model.InteractionUser;
 import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
 import com.backend.immilog.interaction.domain.service.InteractionDomainService;
+import com.backend.immilog.shared.domain.service.ContentCacheInvalidator;
+import com.backend.immilog.shared.domain.service.ContentLikeCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +16,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class InteractionUserCommandService {
     private final InteractionUserRepository interactionUserRepository;
     private final InteractionDomainService interactionDomainService;
+    private final ContentLikeCounter contentLikeCounter;
+    private final ContentCacheInvalidator contentCacheInvalidator;
 
     @Transactional
     public InteractionUser toggleInteraction(InteractionUser interactionUser) {
@@ -20,19 +25,27 @@ public class InteractionUserCommandService {
         interactionDomainService.validateUserPermissions(interactionUser.userId(), interactionUser.postId());
         interactionDomainService.validatePostExists(interactionUser.postId(), interactionUser.contentType());
         
-        return interactionUserRepository
-                .findByUserIdAndInteractionTypeAndContentTypeAndPostId(
-                        interactionUser.userId(),
-                        interactionUser.interactionType(),
-                        interactionUser.contentType(),
-                        interactionUser.postId()
-                )
-                .map(existing -> interactionUserRepository.save(existing.toggleStatus()))
-                .orElseGet(() -> interactionUserRepository.save(interactionUser));
+        var existing = interactionUserRepository.findByUserIdAndInteractionTypeAndContentTypeAndPostId(
+                interactionUser.userId(),
+                interactionUser.interactionType(),
+                interactionUser.contentType(),
+                interactionUser.postId()
+        );
+        var target = existing.map(InteractionUser::toggleStatus).orElse(interactionUser);
+        var saved = interactionUserRepository.save(target);
+
+        var wasActive = existing.map(found -> found.interactionStatus().isActive()).orElse(false);
+        adjustLikeCount(target, wasActive, target.interactionStatus().isActive());
+        contentCacheInvalidator.invalidate(target.postId(), target.contentType());
+        return saved;
     }
 
     @Transactional
     public void deleteInteraction(String interactionId) {
+        interactionUserRepository.findById(interactionId).ifPresent(interaction -> {
+            adjustLikeCount(interaction, interaction.interactionStatus().isActive(), false);
+            contentCacheInvalidator.invalidate(interaction.postId(), interaction.contentType());
+        });
         interactionUserRepository.deleteById(interactionId);
     }
     
@@ -43,7 +56,10 @@ public class InteractionUserCommandService {
         interactionDomainService.validatePostExists(interactionUser.postId(), interactionUser.contentType());
         interactionDomainService.validateInteractionLimits(interactionUser.userId(), interactionUser.interactionType());
         
-        return interactionUserRepository.save(interactionUser);
+        var saved = interactionUserRepository.save(interactionUser);
+        adjustLikeCount(interactionUser, false, interactionUser.interactionStatus().isActive());
+        contentCacheInvalidator.invalidate(interactionUser.postId(), interactionUser.contentType());
+        return saved;
     }
     
     @Transactional
@@ -65,7 +81,10 @@ public class InteractionUserCommandService {
                 java.time.LocalDateTime.now()
         );
         
-        return interactionUserRepository.save(activatedInteraction);
+        var saved = interactionUserRepository.save(activatedInteraction);
+        adjustLikeCount(activatedInteraction, false, true);
+        contentCacheInvalidator.invalidate(activatedInteraction.postId(), activatedInteraction.contentType());
+        return saved;
     }
     
     @Transactional
@@ -87,6 +106,23 @@ public class InteractionUserCommandService {
                 java.time.LocalDateTime.now()
         );
         
-        return interactionUserRepository.save(deactivatedInteraction);
+        var saved = interactionUserRepository.save(deactivatedInteraction);
+        adjustLikeCount(deactivatedInteraction, true, false);
+        contentCacheInvalidator.invalidate(deactivatedInteraction.postId(), deactivatedInteraction.contentType());
+        return saved;
+    }
+
+    /**
+     * 좋아요 활성 상태가 바뀐 경우에만 같은 트랜잭션에서 콘텐츠의 좋아요 수를 증감한다
+     */
+    private void adjustLikeCount(
+            InteractionUser interaction,
+            boolean wasActive,
+            boolean isActive
+    ) {
+        if (interaction.interactionType() != InteractionType.LIKE || wasActive == isActive) {
+            return;
+        }
+        contentLikeCounter.adjustLikeCount(interaction.postId(), interaction.contentType(), isActive ? 1 : -1);
     }
 }
\ No newline at end of file
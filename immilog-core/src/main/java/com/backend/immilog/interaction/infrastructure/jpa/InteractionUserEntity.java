@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 
 @DynamicUpdate
 @Entity
-@Table(name = "interaction_user")
+@Table(
+        name = "interaction_user",
+        indexes = @Index(name = "idx_interaction_user_post", columnList = "post_id, post_type, interaction_type, interaction_status")
+)
 public class InteractionUserEntity {
     @Id
     @Column(name = "interaction_user_id")
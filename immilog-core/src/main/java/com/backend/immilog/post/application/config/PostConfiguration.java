@@ -1,5 +1,6 @@
 package com.backend.immilog.post.application.config;
 
+import com.backend.immilog.post.domain.service.ranking.PostRankingModelType;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -13,8 +14,32 @@ import java.time.Duration;
 @ConfigurationProperties(prefix = "post.config")
 public class PostConfiguration {
     private Duration eventTimeout = Duration.ofSeconds(2);
+    private Duration enrichmentTimeout = Duration.ofSeconds(3);
     private int defaultPageSize = 10;
+    private int maxFeedPageSize = 50;
+    private int likeCountReconcileBatchSize = 1000;
+    private long postCacheMaxSize = 10_000;
+    private Duration postCacheLocalTtl = Duration.ofSeconds(30);
+    private long feedPageCacheMaxSize = 1_000;
+    private Duration feedPageCacheTtl = Duration.ofSeconds(5);
+    private Duration feedPageLoadWaitTimeout = Duration.ofSeconds(3);
+    private int viewCountFlushBatchSize = 500;
+    private int listTagLimit = 5;
+    private int listAttachmentLimit = 1;
+    private Duration popularPostAggregationTtl = Duration.ofHours(26);
+    private int trendingWindowDays = 30;
+    private Duration trendingWindowSnapshotTtl = Duration.ofSeconds(60);
+    private double hotMinScore = 5;
+    private long trendingPostMetaCacheSize = 50_000;
+    private PostRankingModelType rankingModel = PostRankingModelType.EXPONENTIAL;
+    private Duration rankingHalfLife = Duration.ofHours(24);
+    private double rankingGravity = 1.8;
+    private int trendingRerankCandidates = 100;
     private int popularPostLimit = 5;
+    private int popularMenuMaxCountries = 50;
+    private Duration popularMenuSnapshotTtl = Duration.ofDays(1);
+    private long popularMenuRefreshDelayMs = 300_000;
+    private Duration popularMenuRebuildLockTtl = Duration.ofMinutes(2);
     private int weeklyBestLimit = 10;
     private int minViewCount = 10;
     private int minCommentCount = 2;
@@ -0,0 +1,24 @@
+package com.backend.immilog.post.application.dto.in;
+
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.service.ranking.PostRankingModelType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "트렌딩 점수 오프라인 재현 요청 Service DTO")
+public record TrendingReplayCommand(
+        LocalDateTime from,
+        LocalDateTime to,
+        PostRankingModelType rankingModel,
+        Duration halfLife,
+        double gravity,
+        Map<TrendingSignal, Double> weights,
+        String countryId,
+        String category,
+        double minScore,
+        int limit
+) {
+}
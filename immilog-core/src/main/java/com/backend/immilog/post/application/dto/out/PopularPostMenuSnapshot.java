@@ -0,0 +1,20 @@
+package com.backend.immilog.post.application.dto.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보강까지 끝난 인기글 메뉴 스냅샷. 같은 재구성에서 만들어진 국가별 스냅샷은 같은 version을 가집니다.
+ * countryId가 없으면 전체 국가 메뉴입니다.
+ */
+public record PopularPostMenuSnapshot(
+        long version,
+        String countryId,
+        List<PostResult> hot,
+        List<PostResult> weeklyBest,
+        LocalDateTime builtAt
+) {
+    public PopularPostMenuResponse toResponse() {
+        return new PopularPostMenuResponse(hot, weeklyBest);
+    }
+}
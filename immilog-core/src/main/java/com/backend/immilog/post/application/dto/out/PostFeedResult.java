@@ -0,0 +1,13 @@
+package com.backend.immilog.post.application.dto.out;
+
+import java.util.List;
+
+public record PostFeedResult(
+        List<PostResult> posts,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static PostFeedResult empty() {
+        return new PostFeedResult(List.of(), null, false);
+    }
+}
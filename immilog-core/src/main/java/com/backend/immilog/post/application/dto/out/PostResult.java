@@ -8,7 +8,7 @@ import lombok.Builder;
 
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 public record PostResult(
         String postId,
         String userId,
@@ -0,0 +1,16 @@
+package com.backend.immilog.post.application.dto.out;
+
+import java.util.List;
+
+/**
+ * 여러 게시물을 한 번에 조회/보강한 결과. degraded가 true이면 일부 보강 소스가 시간 초과나 실패로 빈 결과를 사용했으므로
+ * 캐시나 스냅샷처럼 오래 보관하는 곳에 저장하면 안 됩니다.
+ */
+public record PostResultBatch(
+        List<PostResult> posts,
+        boolean degraded
+) {
+    public static PostResultBatch empty() {
+        return new PostResultBatch(List.of(), false);
+    }
+}
@@ -1,9 +1,12 @@
 package com.backend.immilog.post.application.event;
 
 import com.backend.immilog.comment.domain.event.CommentCreatedEvent;
+import com.backend.immilog.post.application.services.PostTrendingService;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
 import com.backend.immilog.post.domain.service.PostDomainService;
 import com.backend.immilog.post.domain.model.post.PostId;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import com.backend.immilog.shared.config.properties.EventProperties;
 import com.backend.immilog.shared.domain.event.DomainEventHandler;
 import com.backend.immilog.shared.domain.event.DomainEvents;
@@ -20,6 +23,8 @@ public class CommentCreatedEventHandler implements DomainEventHandler<CommentCre
 
     private final PostDomainService postDomainService;
     private final EventProperties eventProperties;
+    private final PostResultCache postResultCache;
+    private final PostTrendingService postTrendingService;
 
     @Override
     public void handle(CommentCreatedEvent event) {
@@ -37,6 +42,8 @@ public class CommentCreatedEventHandler implements DomainEventHandler<CommentCre
             }
                 
             postDomainService.incrementCommentCount(PostId.of(event.getPostId()));
+            postResultCache.evict(event.getPostId());
+            postTrendingService.record(event.getPostId(), TrendingSignal.COMMENT, 1);
 
             log.debug(
                     "Successfully increased comment count for post: {} in transaction: {}",
@@ -3,6 +3,7 @@ package com.backend.immilog.post.application.event;
 import com.backend.immilog.post.domain.service.PostDomainService;
 import com.backend.immilog.post.domain.model.post.PostId;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import com.backend.immilog.shared.domain.event.DomainEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class PostCompensationEventHandler implements DomainEventHandler<PostCompensationEvent.CommentCountIncreaseCompensation> {
 
     private final PostDomainService postDomainService;
+    private final PostResultCache postResultCache;
 
     @Override
     public void handle(PostCompensationEvent.CommentCountIncreaseCompensation event) {
@@ -25,6 +27,7 @@ public class PostCompensationEventHandler implements DomainEventHandler<PostComp
 
         try {
             postDomainService.decrementCommentCount(PostId.of(event.getPostId()));
+            postResultCache.evict(event.getPostId());
 
             log.info(
                     "Successfully processed compensation event for transaction: {} - Comment count rolled back for post: {}",
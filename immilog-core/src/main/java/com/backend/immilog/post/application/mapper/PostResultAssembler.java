@@ -1,9 +1,9 @@
 package com.backend.immilog.post.application.mapper;
 
 import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
+import com.backend.immilog.post.domain.search.PostSearchHit;
 import com.backend.immilog.shared.domain.model.InteractionData;
-import com.backend.immilog.shared.domain.model.Resource;
-import com.backend.immilog.shared.domain.model.ResourceType;
 import com.backend.immilog.shared.domain.model.UserData;
 import org.springframework.stereotype.Component;
 
@@ -22,95 +22,36 @@ public class PostResultAssembler {
         if (keyword == null) {
             return postResult;
         }
-        var updatedTags = extractTags(postResult.tags(), keyword);
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                postResult.likeCount(),
-                updatedTags,
-                new ArrayList<>(postResult.attachments()),
-                new ArrayList<>(postResult.likeUsers()),
-                new ArrayList<>(postResult.bookmarkUsers()),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.badge(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                extractKeyword(postResult.title(), keyword, 20, 5),
-                extractKeyword(postResult.content(), keyword, 50, 5),
-                keyword
-        );
+        var titleOffset = postResult.title() == null ? PostSearchHit.NO_MATCH : postResult.title().indexOf(keyword);
+        var contentOffset = postResult.content() == null ? PostSearchHit.NO_MATCH : postResult.content().indexOf(keyword);
+        return assembleKeywords(postResult, keyword, titleOffset, contentOffset, keyword.length());
     }
 
-    public PostResult assembleInteractionData(
+    /**
+     * 검색 백엔드가 계산한 일치 위치를 그대로 사용해 제목/본문 스니펫을 만듭니다.
+     */
+    public PostResult assembleKeywords(
             PostResult postResult,
-            List<InteractionData> interactionData
+            String keyword,
+            PostSearchHit hit
     ) {
-        if (interactionData == null || interactionData.isEmpty()) {
+        if (keyword == null) {
             return postResult;
         }
-        var newLikeUsers = new ArrayList<>(postResult.likeUsers());
-        var newBookmarkUsers = new ArrayList<>(postResult.bookmarkUsers());
-        newLikeUsers.addAll(interactionData.stream()
-                .filter(u -> "LIKE".equals(u.interactionType()) && "ACTIVE".equals(u.interactionStatus()))
-                .map(InteractionData::userId)
-                .toList());
-        newBookmarkUsers.addAll(interactionData.stream()
-                .filter(u -> "BOOKMARK".equals(u.interactionType()) && "ACTIVE".equals(u.interactionStatus()))
-                .map(InteractionData::userId)
-                .toList());
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                postResult.likeCount(),
-                postResult.tags(),
-                postResult.attachments(),
-                newLikeUsers,
-                newBookmarkUsers,
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.badge(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
+        if (hit == null) {
+            return assembleKeywords(postResult, keyword);
+        }
+        return assembleKeywords(postResult, keyword, hit.titleOffset(), hit.contentOffset(), hit.matchLength());
     }
 
-    public PostResult assembleResources(
+    private PostResult assembleKeywords(
             PostResult postResult,
-            List<Resource> resources
+            String keyword,
+            int titleOffset,
+            int contentOffset,
+            int matchLength
     ) {
-        if (resources == null || resources.isEmpty()) {
-            return postResult;
-        }
-
-        var updatedTags = new ArrayList<>(postResult.tags());
-        updatedTags.addAll(resources.stream()
-                .filter(r -> r.resourceType() == ResourceType.TAG)
-                .map(Resource::content)
-                .toList());
-
-        var updatedAttachments = new ArrayList<>(postResult.attachments());
-        updatedAttachments.addAll(resources.stream()
-                .filter(r -> r.resourceType() == ResourceType.ATTACHMENT)
-                .map(Resource::content)
-                .toList());
+        var updatedTags = extractTags(postResult.tags(), keyword);
         return new PostResult(
                 postResult.postId(),
                 postResult.userId(),
@@ -120,39 +61,9 @@ public class PostResultAssembler {
                 postResult.viewCount(),
                 postResult.likeCount(),
                 updatedTags,
-                updatedAttachments,
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.badge(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
-    }
-
-    public PostResult assembleLikeCount(
-            PostResult postResult,
-            long likeCount
-    ) {
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                likeCount,
-                postResult.tags(),
-                postResult.attachments(),
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
+                new ArrayList<>(postResult.attachments()),
+                new ArrayList<>(postResult.likeUsers()),
+                new ArrayList<>(postResult.bookmarkUsers()),
                 postResult.isPublic(),
                 postResult.country(),
                 postResult.region(),
@@ -161,90 +72,80 @@ public class PostResultAssembler {
                 postResult.badge(),
                 postResult.createdAt(),
                 postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
+                extractSnippet(postResult.title(), titleOffset, matchLength, 20, 5),
+                extractSnippet(postResult.content(), contentOffset, matchLength, 50, 5),
+                keyword
         );
     }
 
-    public PostResult assembleCommentCount(
+    /**
+     * 게시물 하나에 필요한 유저, 인터랙션, 리소스, 댓글 수를 한 번에 반영하여 PostResult를 한 번만 생성합니다.
+     * 인터랙션은 호출 측에서 postId 기준으로 미리 그룹핑된 목록을, 리소스는 게시물의 번들(없으면 null)을 전달해야 합니다.
+     */
+    public PostResult assemble(
             PostResult postResult,
+            UserData userData,
+            List<InteractionData> interactionData,
+            PostResourceBundle resources,
             long commentCount
     ) {
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                postResult.userProfileUrl(),
-                postResult.userNickname(),
-                commentCount,
-                postResult.viewCount(),
-                postResult.likeCount(),
-                postResult.tags(),
-                postResult.attachments(),
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.badge(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
-    }
+        var builder = postResult.toBuilder();
+        if (userData != null) {
+            builder.userProfileUrl(userData.profileImageUrl())
+                    .userNickname(userData.nickname());
+        }
 
-    public PostResult assembleUserData(
-            PostResult postResult,
-            UserData userData
-    ) {
-        if (userData == null) {
-            return postResult;
+        var likeUsers = copyOf(postResult.likeUsers());
+        var bookmarkUsers = copyOf(postResult.bookmarkUsers());
+        long likeCount = 0;
+        for (var interaction : interactionData) {
+            if (!"ACTIVE".equals(interaction.interactionStatus())) {
+                continue;
+            }
+            if ("LIKE".equals(interaction.interactionType())) {
+                likeUsers.add(interaction.userId());
+                likeCount++;
+            } else if ("BOOKMARK".equals(interaction.interactionType())) {
+                bookmarkUsers.add(interaction.userId());
+            }
         }
-        return new PostResult(
-                postResult.postId(),
-                postResult.userId(),
-                userData.profileImageUrl(),
-                userData.nickname(),
-                postResult.commentCount(),
-                postResult.viewCount(),
-                postResult.likeCount(),
-                postResult.tags(),
-                postResult.attachments(),
-                postResult.likeUsers(),
-                postResult.bookmarkUsers(),
-                postResult.isPublic(),
-                postResult.country(),
-                postResult.region(),
-                postResult.category(),
-                postResult.status(),
-                postResult.badge(),
-                postResult.createdAt(),
-                postResult.updatedAt(),
-                postResult.title(),
-                postResult.content(),
-                postResult.keyword()
-        );
+
+        var tags = copyOf(postResult.tags());
+        var attachments = copyOf(postResult.attachments());
+        if (resources != null) {
+            tags.addAll(resources.tags());
+            attachments.addAll(resources.attachments());
+        }
+
+        return builder
+                .likeUsers(likeUsers)
+                .bookmarkUsers(bookmarkUsers)
+                .likeCount(likeCount)
+                .tags(tags)
+                .attachments(attachments)
+                .commentCount(commentCount)
+                .build();
     }
 
-    private static String extractKeyword(
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    private static String extractSnippet(
             String text,
-            String keyword,
+            int matchOffset,
+            int matchLength,
             int after,
             int before
     ) {
-        if (text == null || keyword == null) {
+        if (text == null) {
             return "";
         }
-        int keywordIndex = text.indexOf(keyword);
-        if (keywordIndex == -1) {
+        if (matchOffset < 0 || matchOffset >= text.length()) {
             return text.substring(0, Math.min(text.length(), after));
         }
-        int start = Math.max(keywordIndex - before, 0);
-        int end = Math.min(keywordIndex + keyword.length() + after, text.length());
+        int start = Math.max(matchOffset - before, 0);
+        int end = Math.min(matchOffset + matchLength + after, text.length());
         return text.substring(start, end);
     }
 
@@ -0,0 +1,104 @@
+package com.backend.immilog.post.application.runner;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.dto.in.TrendingReplayCommand;
+import com.backend.immilog.post.application.services.TrendingReplayService;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.service.ranking.PostRankingModelType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * trending-replay 프로필로 실행하면 과거 이력으로 인기 순위를 재현해 로그로 출력하고 종료합니다.
+ * 읽기 전용 복제본을 바라보게 두고 실행하는 것을 전제로 하며, Redis 순위에는 쓰지 않습니다.
+ * <pre>
+ * --spring.profiles.active=trending-replay --from=2025-01-01 --to=2025-02-01
+ * --model=gravity --gravity=1.5 --half-life=PT12H --weight.COMMENT=6 --country=KR --category=GREEN_CARD --limit=20
+ * </pre>
+ * 지정하지 않은 값은 post.config의 운영 설정을 따릅니다.
+ */
+@Slf4j
+@Component
+@Profile("trending-replay")
+@RequiredArgsConstructor
+public class TrendingReplayRunner implements ApplicationRunner {
+    private static final String WEIGHT_OPTION_PREFIX = "weight.";
+
+    private final TrendingReplayService trendingReplayService;
+    private final PostConfiguration postConfiguration;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var command = toCommand(args);
+        log.info("[TRENDING REPLAY] {} ~ {}, model={}, country={}, category={}",
+                command.from(), command.to(), command.rankingModel(), command.countryId(), command.category());
+
+        var ranking = trendingReplayService.replay(command);
+        for (int rank = 0; rank < ranking.size(); rank++) {
+            var entry = ranking.get(rank);
+            log.info("[TRENDING REPLAY] #{} {} {}", rank + 1, entry.postId(), String.format(Locale.ROOT, "%.4f", entry.score()));
+        }
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private TrendingReplayCommand toCommand(ApplicationArguments args) {
+        if (!args.containsOption("from")) {
+            throw new IllegalArgumentException("--from=yyyy-MM-dd is required for trending replay");
+        }
+        var from = LocalDate.parse(option(args, "from", null)).atStartOfDay();
+        var to = LocalDate.parse(option(args, "to", LocalDate.now().plusDays(1).toString())).atStartOfDay();
+        var model = PostRankingModelType.valueOf(
+                option(args, "model", postConfiguration.getRankingModel().name()).toUpperCase(Locale.ROOT)
+        );
+        var halfLife = Duration.parse(option(args, "half-life", postConfiguration.getRankingHalfLife().toString()));
+        var gravity = Double.parseDouble(option(args, "gravity", String.valueOf(postConfiguration.getRankingGravity())));
+        var minScore = Double.parseDouble(option(args, "min-score", "0"));
+        var limit = Integer.parseInt(option(args, "limit", "20"));
+
+        Map<TrendingSignal, Double> weights = new EnumMap<>(TrendingSignal.class);
+        args.getOptionNames().stream()
+                .filter(name -> name.startsWith(WEIGHT_OPTION_PREFIX))
+                .forEach(name -> weights.put(
+                        TrendingSignal.valueOf(name.substring(WEIGHT_OPTION_PREFIX.length()).toUpperCase(Locale.ROOT)),
+                        Double.parseDouble(option(args, name, null))
+                ));
+
+        return new TrendingReplayCommand(
+                from,
+                to,
+                model,
+                halfLife,
+                gravity,
+                weights,
+                option(args, "country", null),
+                option(args, "category", null),
+                minScore,
+                limit
+        );
+    }
+
+    private static String option(
+            ApplicationArguments args,
+            String name,
+            String defaultValue
+    ) {
+        var values = args.getOptionValues(name);
+        if (values == null || values.isEmpty()) {
+            return defaultValue;
+        }
+        return values.getFirst();
+    }
+}
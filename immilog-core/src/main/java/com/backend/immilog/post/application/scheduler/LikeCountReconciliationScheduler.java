@@ -0,0 +1,27 @@
+package com.backend.immilog.post.application.scheduler;
+
+import com.backend.immilog.post.application.services.PostLikeCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class LikeCountReconciliationScheduler {
+    private final PostLikeCountService postLikeCountService;
+
+    @Scheduled(cron = "${post.config.like-count-reconcile-cron:0 30 4 * * *}") // 기본값: 매일 04:30 (새벽 시간대)
+    public void reconcileLikeCounts() {
+        log.info("[LIKE COUNT RECONCILIATION] Started reconciling post like counts...");
+        try {
+            var repaired = postLikeCountService.reconcileLikeCounts();
+            log.info("[LIKE COUNT RECONCILIATION] Finished reconciling post like counts. repaired={}", repaired);
+        } catch (Exception e) {
+            log.error("[LIKE COUNT RECONCILIATION FAILED] Failed to reconcile post like counts", e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.backend.immilog.post.application.scheduler;
 
 import com.backend.immilog.post.application.services.PopularPostAggregationService;
 import com.backend.immilog.post.application.services.PostBadgeService;
+import com.backend.immilog.post.application.services.query.PostPopularService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -15,18 +16,51 @@ import org.springframework.stereotype.Component;
 public class PopularPostScheduler {
     private final PopularPostAggregationService popularPostAggregationService;
     private final PostBadgeService postBadgeService;
+    private final PostPopularService postPopularService;
 
-    @Scheduled(cron = "59 * * * * *")
+    // 실시간 순위는 PostTrendingService가 증분 반영하므로 대체 데이터(hot_posts 등)의 전체 재집계는 하루 한 번만 실행한다
+    @Scheduled(cron = "0 30 3 * * *") // 매일 03:30 실행 (새벽 시간대)
     public void aggregatePopularPosts() {
-        log.info("[POPULAR POST AGGREGATION] Started aggregating popular posts...");
+        log.info("[POPULAR POST AGGREGATION] Started nightly rebuild of popular posts...");
         popularPostAggregationService.aggregatePopularPosts();
-        log.info("[POPULAR POST AGGREGATION] Finished aggregating popular posts.");
+        log.info("[POPULAR POST AGGREGATION] Finished nightly rebuild of popular posts.");
+        refreshPopularMenu();
     }
-    
+
+    // HOT 배지는 HOT 메뉴와 같은 트렌딩 순위를 따르도록 전체 재집계와 별도로 자주 갱신한다
+    @Scheduled(cron = "59 * * * * *") // 매분 59초 실행
+    public void updateHotBadges() {
+        try {
+            postBadgeService.updatePostBadges();
+        } catch (Exception e) {
+            log.error("[BADGE UPDATE] Failed to update HOT badges", e);
+        }
+    }
+
     @Scheduled(cron = "0 0 1 * * MON") // 매주 월요일 01:00 실행 (새벽 시간대)
     public void updateWeeklyBestBadges() {
         log.info("[WEEKLY BEST BADGE UPDATE] Started updating weekly best badges...");
         postBadgeService.updateWeeklyBestBadges();
         log.info("[WEEKLY BEST BADGE UPDATE] Finished updating weekly best badges.");
+        refreshPopularMenu();
+    }
+
+    // 트렌딩 순위는 계속 바뀌므로 집계 직후 외에도 주기적으로 메뉴 스냅샷을 다시 만든다
+    // 모든 노드가 실행하지만 스냅샷이 아직 새로우면 건너뛰고, 재구성은 잠금을 가진 한 노드만 수행한다
+    @Scheduled(fixedDelayString = "${post.config.popular-menu-refresh-delay-ms:300000}") // 기본값: 5분마다
+    public void refreshPopularMenuIfStale() {
+        try {
+            postPopularService.refreshMenuSnapshotIfStale();
+        } catch (Exception e) {
+            log.error("[POPULAR MENU] Failed to refresh popular menu snapshot", e);
+        }
+    }
+
+    private void refreshPopularMenu() {
+        try {
+            postPopularService.rebuildMenuSnapshot();
+        } catch (Exception e) {
+            log.error("[POPULAR MENU] Failed to rebuild popular menu snapshot", e);
+        }
     }
-}
\ No newline at end of file
+}
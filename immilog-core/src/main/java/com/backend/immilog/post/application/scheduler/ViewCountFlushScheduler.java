@@ -0,0 +1,25 @@
+package com.backend.immilog.post.application.scheduler;
+
+import com.backend.immilog.post.application.services.PostViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+    private final PostViewCountService postViewCountService;
+
+    @Scheduled(fixedDelayString = "${post.config.view-count-flush-delay-ms:5000}") // 기본값: 5초마다
+    public void flushViewCounts() {
+        try {
+            postViewCountService.flush();
+        } catch (Exception e) {
+            log.error("[VIEW COUNT FLUSH FAILED] Failed to flush buffered view counts", e);
+        }
+    }
+}
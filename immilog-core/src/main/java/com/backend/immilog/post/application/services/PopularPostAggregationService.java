@@ -1,5 +1,6 @@
 package com.backend.immilog.post.application.services;
 
+import com.backend.immilog.post.application.config.PostConfiguration;
 import com.backend.immilog.post.application.services.command.PopularPostCommandService;
 import com.backend.immilog.post.domain.repositories.PopularPostRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 public class PopularPostAggregationService {
     private final PopularPostCommandService postCommandService;
     private final PopularPostRepository popularPostRepository;
-    private final PostBadgeService postBadgeService;
+    private final PostConfiguration postConfiguration;
 
     public void aggregatePopularPosts() {
         try {
@@ -27,7 +28,8 @@ public class PopularPostAggregationService {
             log.info("[POPULAR POST AGGREGATION] Found {} most viewed posts and {} hot posts",
                     mostViewedPosts.size(), hotPosts.size());
 
-            int expiration = 60 * 60;
+            // 재집계는 하루 한 번이므로 다음 재집계 전까지 트렌딩 순위의 대체 데이터로 남아 있어야 한다
+            int expiration = (int) postConfiguration.getPopularPostAggregationTtl().toSeconds();
 
             if (mostViewedPosts.isEmpty() && hotPosts.isEmpty()) {
                 log.warn("[POPULAR POST AGGREGATION FAILED] Popular posts are empty");
@@ -40,9 +42,6 @@ public class PopularPostAggregationService {
             if (!hotPosts.isEmpty()) {
                 postCommandService.saveHotPosts(hotPosts, expiration);
             }
-
-            postBadgeService.updatePostBadges(hotPosts);
-
         } catch (Exception e) {
             log.error("[POPULAR POST AGGREGATION FAILED] Failed to save popular posts", e);
         }
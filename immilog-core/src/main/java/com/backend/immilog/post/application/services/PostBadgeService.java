@@ -1,8 +1,10 @@
 package com.backend.immilog.post.application.services;
 
+import com.backend.immilog.post.application.config.PostConfiguration;
 import com.backend.immilog.post.application.dto.out.PostResult;
 import com.backend.immilog.post.application.services.query.PostQueryService;
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
 import com.backend.immilog.post.domain.service.BadgeManagementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,25 +20,29 @@ import java.util.List;
 public class PostBadgeService {
     private final PostQueryService postQueryService;
     private final BadgeManagementService badgeManagementService;
+    private final PostTrendingService postTrendingService;
+    private final PostConfiguration postConfiguration;
 
+    /**
+     * HOT 메뉴와 같은 감쇠 트렌딩 순위의 전체 국가 상위 게시물에 HOT 배지를 적용합니다.
+     * 순위를 읽지 못하면 기존 배지를 그대로 둡니다.
+     */
     @Transactional
-    public void updatePostBadges(List<PostResult> hotPosts) {
-        log.info("[BADGE UPDATE] Starting badge update for {} hot posts", hotPosts.size());
+    public void updatePostBadges() {
+        var hotPostIds = postTrendingService.topPostIds(TrendingMetric.HOT, null, null, postConfiguration.getPopularPostLimit());
+        log.info("[BADGE UPDATE] Starting badge update for {} hot posts", hotPostIds.size());
 
         try {
-            var newHotPosts = badgeManagementService.filterPostsWithoutBadge(hotPosts);
-            badgeManagementService.applyBadge(newHotPosts, Badge.HOT);
+            // HOT은 이미 배지가 있는 게시물(주간 베스트 포함)을 덮어쓰지 않는다
+            var newHotPostIds = badgeManagementService.applyBadgeToPostIds(hotPostIds, Badge.HOT);
 
-            log.info("[BADGE UPDATE] Successfully updated {} new HOT badges", newHotPosts.size());
+            log.info("[BADGE UPDATE] Successfully updated {} new HOT badges", newHotPostIds.size());
         } catch (Exception e) {
             log.error("[BADGE UPDATE] Failed to update badges", e);
             throw e;
         }
     }
 
-
-
-
     @Transactional
     public void updateWeeklyBestBadges() {
         log.info("[BADGE UPDATE] Starting WEEKLY_BEST badge update");
@@ -1,7 +1,9 @@
 package com.backend.immilog.post.application.services;
 
 import com.backend.immilog.shared.application.event.DomainEventPublisher;
+import com.backend.immilog.shared.domain.event.CommentCountRequestedEvent;
 import com.backend.immilog.shared.domain.event.CommentDataRequestedEvent;
+import com.backend.immilog.shared.domain.model.CommentCounts;
 import com.backend.immilog.shared.domain.model.CommentData;
 import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -81,8 +84,33 @@ public class PostCommentDataService {
         }
     }
 
+    /**
+     * 게시물별 댓글 수만 요청합니다. 댓글 본문을 주고받지 않으므로 목록 조립에는 이 메서드를 사용합니다.
+     */
+    public CommentCounts getCommentCounts(List<String> postIds) {
+        return findCommentCounts(postIds).orElse(CommentCounts.empty());
+    }
+
+    /**
+     * 댓글 수를 요청합니다. 요청 발행 실패나 응답 시간 초과 시 빈 Optional을 반환하여 실제 0건과 구분합니다.
+     */
+    public Optional<CommentCounts> findCommentCounts(List<String> postIds) {
+        if (postIds.isEmpty()) {
+            return Optional.of(CommentCounts.empty());
+        }
+        var requestId = eventResultStorage.generateRequestId("commentCount");
+        // 같은 노드의 핸들러는 발행 중에 바로 결과를 넘기므로 대기 Future를 먼저 등록한다
+        eventResultStorage.registerEventProcessing(requestId);
+        try {
+            eventPublisher.publishDomainEvent(new CommentCountRequestedEvent(requestId, postIds, "post"));
+        } catch (Exception e) {
+            log.error("Failed to request comment counts for {} posts", postIds.size(), e);
+            return Optional.empty();
+        }
+        return eventResultStorage.awaitCommentCounts(requestId, requestTimeout);
+    }
+
     public int getCommentCountForPost(String postId) {
-        var commentData = getCommentData(List.of(postId));
-        return commentData.size();
+        return (int) getCommentCounts(List.of(postId)).countOf(postId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.domain.service.ContentLikeCounter;
+import com.backend.immilog.shared.enums.ContentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeCountService implements ContentLikeCounter {
+    private final PostDomainRepository postDomainRepository;
+    private final PostConfiguration postConfiguration;
+    private final PostTrendingService postTrendingService;
+
+    @Override
+    @Transactional
+    public void adjustLikeCount(
+            String contentId,
+            ContentType contentType,
+            long delta
+    ) {
+        if (contentType != ContentType.POST || delta == 0) {
+            return;
+        }
+        postDomainRepository.adjustLikeCount(contentId, delta);
+        postTrendingService.record(contentId, TrendingSignal.LIKE, delta);
+    }
+
+    /**
+     * post_id 순서로 배치를 나누어 like_count를 interaction_user 집계값과 맞춥니다.
+     * 배치마다 짧은 트랜잭션으로 실행되어 전체 테이블을 한 번에 잠그지 않습니다.
+     */
+    public int reconcileLikeCounts() {
+        var batchSize = postConfiguration.getLikeCountReconcileBatchSize();
+        var repaired = 0;
+        String lastPostId = null;
+        while (true) {
+            var postIds = postDomainRepository.findPostIdsAfter(lastPostId, batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            repaired += postDomainRepository.reconcileLikeCounts(postIds.getFirst(), postIds.getLast());
+            lastPostId = postIds.getLast();
+            if (postIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (repaired > 0) {
+            log.warn("[LIKE COUNT RECONCILIATION] Repaired like_count drift on {} posts", repaired);
+        }
+        return repaired;
+    }
+}
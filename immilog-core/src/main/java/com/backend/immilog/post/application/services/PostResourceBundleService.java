@@ -0,0 +1,57 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
+import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.post.infrastructure.cache.PostResourceBundleCache;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 조립에 필요한 태그/첨부파일 번들을 캐시 우선으로 조회합니다.
+ * 목록 조회는 태그 앞부분과 대표 첨부파일만, 상세 조회는 전체 리소스를 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostResourceBundleService {
+    private final ContentResourceRepository contentResourceRepository;
+    private final PostResourceBundleCache postResourceBundleCache;
+    private final PostConfiguration postConfiguration;
+
+    /**
+     * 요청한 모든 postId의 번들을 반환합니다. 리소스가 없는 게시물은 빈 번들로 채워 캐시하므로 다시 조회하지 않습니다.
+     */
+    public Map<String, PostResourceBundle> getBundles(
+            PostResultCache.View view,
+            List<String> postIds
+    ) {
+        var bundles = new HashMap<>(postResourceBundleCache.getAll(view, postIds));
+        var missingIds = postIds.stream().filter(postId -> !bundles.containsKey(postId)).distinct().toList();
+        if (missingIds.isEmpty()) {
+            return bundles;
+        }
+
+        var loaded = view == PostResultCache.View.SUMMARY
+                ? contentResourceRepository.findBundlesByContentIdList(
+                        missingIds,
+                        postConfiguration.getListTagLimit(),
+                        postConfiguration.getListAttachmentLimit()
+                )
+                : contentResourceRepository.findBundlesByContentIdList(missingIds, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        var filled = missingIds.stream()
+                .map(postId -> loaded.getOrDefault(postId, PostResourceBundle.empty(postId)))
+                .toList();
+        postResourceBundleCache.putAll(view, filled);
+        filled.forEach(bundle -> bundles.put(bundle.postId(), bundle));
+        return bundles;
+    }
+
+    public void evict(String postId) {
+        postResourceBundleCache.evict(postId);
+    }
+}
@@ -0,0 +1,181 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.ResourceType;
+import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.domain.search.PostSearchDocument;
+import com.backend.immilog.post.domain.search.PostSearchEngine;
+import com.backend.immilog.shared.enums.ContentStatus;
+import com.backend.immilog.shared.enums.ContentType;
+import com.backend.immilog.shared.infrastructure.event.EventNodeIdentifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 자체 색인을 유지하는 검색 백엔드를 게시물 생성/수정/삭제와 동기화합니다.
+ * 변경은 트랜잭션 커밋 후 로컬 색인에 반영되고, Redis Pub/Sub으로 다른 노드에도 전파됩니다.
+ * MySQL FULLTEXT처럼 DB가 색인을 관리하는 백엔드에서는 아무 작업도 하지 않습니다.
+ */
+@Slf4j
+@Service
+public class PostSearchIndexService {
+    public static final String INDEX_CHANNEL = "post-search-index";
+    static final String UPSERT = "UPSERT";
+    static final String DELETE = "DELETE";
+    private static final String DELIMITER = "|";
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PostSearchEngine postSearchEngine;
+    private final PostDomainRepository postDomainRepository;
+    private final ContentResourceRepository contentResourceRepository;
+    private final RedisTemplate<String, Object> eventRedisTemplate;
+    private final EventNodeIdentifier eventNodeIdentifier;
+
+    public PostSearchIndexService(
+            PostSearchEngine postSearchEngine,
+            PostDomainRepository postDomainRepository,
+            ContentResourceRepository contentResourceRepository,
+            RedisTemplate<String, Object> eventRedisTemplate,
+            EventNodeIdentifier eventNodeIdentifier
+    ) {
+        this.postSearchEngine = postSearchEngine;
+        this.postDomainRepository = postDomainRepository;
+        this.contentResourceRepository = contentResourceRepository;
+        this.eventRedisTemplate = eventRedisTemplate;
+        this.eventNodeIdentifier = eventNodeIdentifier;
+    }
+
+    public void postChanged(String postId) {
+        afterCommit(UPSERT, postId);
+    }
+
+    public void postDeleted(String postId) {
+        afterCommit(DELETE, postId);
+    }
+
+    /**
+     * 다른 노드가 발행한 색인 변경 메시지를 적용합니다. 자신이 발행한 메시지는 이미 반영되었으므로 무시합니다.
+     */
+    public void applyRemoteChange(String message) {
+        var parts = message.split("\\" + DELIMITER, 3);
+        if (parts.length != 3 || eventNodeIdentifier.isLocal(parts[0])) {
+            return;
+        }
+        apply(parts[1], parts[2]);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (postSearchEngine.maintainsOwnIndex()) {
+            rebuild();
+        }
+    }
+
+    public int rebuild() {
+        var indexed = 0;
+        String lastPostId = null;
+        while (true) {
+            var postIds = postDomainRepository.findPostIdsAfter(lastPostId, REBUILD_BATCH_SIZE);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            var tagsByPostId = contentResourceRepository.findAllByContentIdList(postIds, ContentType.POST).stream()
+                    .filter(resource -> resource.resourceType() == ResourceType.TAG)
+                    .collect(Collectors.groupingBy(
+                            ContentResource::postId,
+                            Collectors.mapping(ContentResource::content, Collectors.toList())
+                    ));
+            for (var post : postDomainRepository.findPostsByIdList(postIds)) {
+                if (isSearchable(post)) {
+                    postSearchEngine.index(toDocument(post, tagsByPostId.getOrDefault(post.id().value(), List.of())));
+                    indexed++;
+                }
+            }
+            lastPostId = postIds.getLast();
+            if (postIds.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("[SEARCH INDEX] Rebuilt {} index with {} posts", postSearchEngine.name(), indexed);
+        return indexed;
+    }
+
+    private void afterCommit(
+            String operation,
+            String postId
+    ) {
+        if (!postSearchEngine.maintainsOwnIndex()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndBroadcast(operation, postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAndBroadcast(operation, postId);
+            }
+        });
+    }
+
+    private void applyAndBroadcast(
+            String operation,
+            String postId
+    ) {
+        apply(operation, postId);
+        try {
+            eventRedisTemplate.convertAndSend(
+                    INDEX_CHANNEL,
+                    String.join(DELIMITER, eventNodeIdentifier.getNodeId(), operation, postId)
+            );
+        } catch (Exception e) {
+            log.warn("[SEARCH INDEX] Failed to broadcast {} for post {}: {}", operation, postId, e.getMessage());
+        }
+    }
+
+    private void apply(
+            String operation,
+            String postId
+    ) {
+        try {
+            if (DELETE.equals(operation)) {
+                postSearchEngine.remove(postId);
+                return;
+            }
+            var post = postDomainRepository.findById(postId);
+            if (post.isEmpty() || !isSearchable(post.get())) {
+                postSearchEngine.remove(postId);
+                return;
+            }
+            var tags = contentResourceRepository.findAllByContentIdList(List.of(postId), ContentType.POST).stream()
+                    .filter(resource -> resource.resourceType() == ResourceType.TAG)
+                    .map(ContentResource::content)
+                    .toList();
+            postSearchEngine.index(toDocument(post.get(), tags));
+        } catch (Exception e) {
+            log.error("[SEARCH INDEX] Failed to apply {} for post {}", operation, postId, e);
+        }
+    }
+
+    private static boolean isSearchable(Post post) {
+        return post.status() != ContentStatus.DELETED;
+    }
+
+    private static PostSearchDocument toDocument(
+            Post post,
+            List<String> tags
+    ) {
+        return new PostSearchDocument(post.id().value(), post.title(), post.content(), tags);
+    }
+}
@@ -0,0 +1,175 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingEntry;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
+import com.backend.immilog.post.domain.model.trending.TrendingScoreDelta;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.domain.repositories.TrendingPostRepository;
+import com.backend.immilog.post.domain.service.ranking.PostRankingModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 조회/좋아요/북마크/댓글이 발생할 때마다 트렌딩 점수를 증분 반영하고, 순위를 정렬 집합에서 바로 읽습니다.
+ * 시간 감쇠는 설정된 {@link PostRankingModel}이 버킷 점수와 버킷 가중치로 계산합니다.
+ * 점수 반영은 커밋 이후에 실행되며, 실패해도 원래 작업에는 영향을 주지 않습니다.
+ * 국가·카테고리별 순위에 나눠 담고 게시물 나이를 계산하기 위한 게시물 정보는 노드 메모리에 캐시합니다.
+ */
+@Slf4j
+@Service
+public class PostTrendingService {
+    private final TrendingPostRepository trendingPostRepository;
+    private final PostDomainRepository postDomainRepository;
+    private final PostConfiguration postConfiguration;
+    private final PostRankingModel rankingModel;
+    private final Cache<String, TrendingPostMeta> metaByPostId;
+
+    public PostTrendingService(
+            TrendingPostRepository trendingPostRepository,
+            PostDomainRepository postDomainRepository,
+            PostConfiguration postConfiguration
+    ) {
+        this.trendingPostRepository = trendingPostRepository;
+        this.postDomainRepository = postDomainRepository;
+        this.postConfiguration = postConfiguration;
+        this.rankingModel = postConfiguration.getRankingModel().create(
+                postConfiguration.getRankingHalfLife(),
+                postConfiguration.getRankingGravity()
+        );
+        this.metaByPostId = Caffeine.newBuilder()
+                .maximumSize(postConfiguration.getTrendingPostMetaCacheSize())
+                .build();
+    }
+
+    public void record(
+            String postId,
+            TrendingSignal signal,
+            long count
+    ) {
+        recordAll(Map.of(postId, count), signal);
+    }
+
+    /**
+     * 게시물별 발생 횟수에 가중치를 곱해 순위별 점수로 반영합니다. 취소(좋아요 해제 등)는 음수 횟수로 전달합니다.
+     */
+    public void recordAll(
+            Map<String, Long> countsByPostId,
+            TrendingSignal signal
+    ) {
+        if (countsByPostId.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(countsByPostId, signal);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(countsByPostId, signal);
+            }
+        });
+    }
+
+    /**
+     * 최근 집계 기간의 순위 상위 게시물 ID를 점수 내림차순으로 반환합니다.
+     * countryId나 category가 없으면 해당 구분의 전체 순위입니다.
+     */
+    public List<String> topPostIds(
+            TrendingMetric metric,
+            String countryId,
+            String category,
+            int limit
+    ) {
+        var minScore = postConfiguration.getHotMinScore();
+        try {
+            var now = LocalDateTime.now();
+            var bucketWeights = new LinkedHashMap<LocalDate, Double>();
+            for (int offset = 0; offset < postConfiguration.getTrendingWindowDays(); offset++) {
+                var day = now.toLocalDate().minusDays(offset);
+                bucketWeights.put(day, rankingModel.bucketWeight(day, now));
+            }
+            // 게시물 나이를 반영하는 모델은 합산 순위와 최종 순위가 달라지므로 후보를 넉넉히 읽어 다시 정렬한다
+            var candidates = rankingModel.usesPostAge()
+                    ? Math.max(limit, postConfiguration.getTrendingRerankCandidates())
+                    : limit;
+            var entries = applyFinalScores(trendingPostRepository.findTopScores(metric, countryId, category, bucketWeights, candidates), now);
+            return entries.stream()
+                    .filter(entry -> entry.score() >= minScore)
+                    .limit(limit)
+                    .map(TrendingEntry::postId)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("Failed to read {} trending posts for country {} category {}: {}", metric, countryId, category, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void apply(
+            Map<String, Long> countsByPostId,
+            TrendingSignal signal
+    ) {
+        try {
+            var metas = resolveMetas(countsByPostId.keySet());
+            var now = LocalDateTime.now();
+            var today = now.toLocalDate();
+            signal.weights().forEach((metric, weight) -> {
+                var deltas = countsByPostId.entrySet().stream()
+                        .filter(entry -> entry.getValue() != 0)
+                        .map(entry -> {
+                            var meta = metas.get(entry.getKey());
+                            return new TrendingScoreDelta(
+                                    entry.getKey(),
+                                    meta == null ? null : meta.countryId(),
+                                    meta == null ? null : meta.category(),
+                                    rankingModel.bucketScore(weight * entry.getValue(), now, today)
+                            );
+                        })
+                        .toList();
+                trendingPostRepository.incrementScores(metric, today, deltas);
+            });
+        } catch (Exception e) {
+            log.warn("Failed to record {} trending signal for {} posts: {}", signal, countsByPostId.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 합산 점수를 모델의 최종 점수로 바꿔 다시 정렬합니다. 게시물 나이를 쓰지 않는 모델이면 작성 시각을 조회하지 않습니다.
+     */
+    private List<TrendingEntry> applyFinalScores(
+            List<TrendingEntry> entries,
+            LocalDateTime now
+    ) {
+        var metas = rankingModel.usesPostAge()
+                ? resolveMetas(entries.stream().map(TrendingEntry::postId).collect(Collectors.toSet()))
+                : Map.<String, TrendingPostMeta>of();
+        return entries.stream()
+                .map(entry -> {
+                    var meta = metas.get(entry.postId());
+                    var createdAt = meta == null ? null : meta.createdAt();
+                    return new TrendingEntry(entry.postId(), rankingModel.finalScore(entry.score(), createdAt, now));
+                })
+                .sorted(Comparator.comparingDouble(TrendingEntry::score).reversed())
+                .toList();
+    }
+
+    private Map<String, TrendingPostMeta> resolveMetas(Set<String> postIds) {
+        return metaByPostId.getAll(postIds, missingIds -> postDomainRepository.findTrendingMetaByIdList(List.copyOf(missingIds)));
+    }
+}
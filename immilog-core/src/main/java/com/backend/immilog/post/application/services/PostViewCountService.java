@@ -0,0 +1,100 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수를 노드 메모리에 모았다가 주기적으로 한 번에 DB에 반영하는 write-behind 카운터.
+ * 조회 요청은 게시물별 LongAdder만 증가시키므로 락이나 애그리거트 조회가 없습니다.
+ * 반영 전 증가분은 이 노드의 조회 결과에 더해 보여주고, 반영한 증가분은 캐시된 결과의 조회수에 더해 조회수가 줄어 보이지 않게 합니다.
+ * 반영이 실패하면 다음 주기에 다시 시도합니다.
+ * 종료 직전에도 남은 증가분을 반영하지만, 프로세스가 비정상 종료되면 마지막 주기의 증가분은 유실될 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+    private final PostDomainRepository postDomainRepository;
+    private final PostConfiguration postConfiguration;
+    private final PostTrendingService postTrendingService;
+    private final PostResultCache postResultCache;
+    private final ConcurrentHashMap<String, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public void recordView(String postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingViews(String postId) {
+        var adder = pendingViews.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 증가분을 배치 크기 단위로 나누어 반영합니다.
+     * 가장 많이 읽히는 게시물의 캐시를 매 주기 비우지 않도록, 결과 캐시는 지우지 않고 조회수만 고쳐 씁니다.
+     *
+     * @return 반영한 게시물 수
+     */
+    public int flush() {
+        var drained = drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        var batchSize = postConfiguration.getViewCountFlushBatchSize();
+        var entries = new ArrayList<>(drained.entrySet());
+        var flushed = 0;
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            var batch = new LinkedHashMap<String, Long>();
+            entries.subList(from, Math.min(from + batchSize, entries.size()))
+                    .forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+            try {
+                postDomainRepository.incrementViewCounts(batch);
+                postTrendingService.recordAll(batch, TrendingSignal.VIEW);
+                postResultCache.addViewCounts(batch);
+                flushed += batch.size();
+            } catch (Exception e) {
+                log.error("Failed to flush view counts for {} posts, re-buffering", batch.size(), e);
+                batch.forEach((postId, delta) -> pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            }
+        }
+        log.debug("Flushed view counts for {} posts", flushed);
+        return flushed;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 게시물별 증가분을 꺼내고 0으로 되돌립니다. 이번 주기에 증가가 없던 항목은 맵에서 제거하되,
+     * 제거와 동시에 들어온 증가분은 새 항목으로 되돌려 놓습니다.
+     */
+    private Map<String, Long> drain() {
+        var drained = new LinkedHashMap<String, Long>();
+        pendingViews.forEach((postId, adder) -> {
+            var delta = adder.sumThenReset();
+            if (delta > 0) {
+                drained.put(postId, delta);
+            } else if (pendingViews.remove(postId, adder)) {
+                var late = adder.sumThenReset();
+                if (late > 0) {
+                    pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+        return drained;
+    }
+}
@@ -0,0 +1,80 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.in.TrendingReplayCommand;
+import com.backend.immilog.post.domain.model.trending.TrendingEntry;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.TrendingEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * 과거 좋아요/북마크/댓글 이력을 점수 모델에 다시 흘려 인기 순위를 계산합니다.
+ * 운영 순위와 같은 모델 코드로 계산하지만 결과는 메모리에만 두고 Redis에는 쓰지 않으므로,
+ * 모델과 가중치를 바꿔 가며 운영에 영향 없이 비교할 수 있습니다.
+ * 조회는 게시물별 누적값만 남아 있어 재현에 포함되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingReplayService {
+    private final TrendingEventRepository trendingEventRepository;
+
+    /**
+     * command.to() 시점 기준의 인기 순위를 점수 내림차순으로 반환합니다.
+     * 가중치가 지정되지 않은 행동은 운영 가중치({@link TrendingSignal#weights()})를 사용합니다.
+     */
+    public List<TrendingEntry> replay(TrendingReplayCommand command) {
+        var model = command.rankingModel().create(command.halfLife(), command.gravity());
+        var asOf = command.to();
+        var scores = new HashMap<String, Double>();
+        var createdAtByPostId = new HashMap<String, LocalDateTime>();
+
+        trendingEventRepository.forEachEventBetween(command.from(), asOf, event -> {
+            var post = event.post();
+            if (!inScope(command.countryId(), post.countryId()) || !inScope(command.category(), post.category())) {
+                return;
+            }
+            var points = weightOf(command, event.signal());
+            if (points == 0) {
+                return;
+            }
+            var day = event.occurredAt().toLocalDate();
+            var score = model.bucketScore(points, event.occurredAt(), day) * model.bucketWeight(day, asOf);
+            scores.merge(post.postId(), score, Double::sum);
+            createdAtByPostId.putIfAbsent(post.postId(), post.createdAt());
+        });
+        log.info("Replayed trending scores for {} posts with {} model", scores.size(), command.rankingModel());
+
+        return scores.entrySet().stream()
+                .map(entry -> new TrendingEntry(
+                        entry.getKey(),
+                        model.finalScore(entry.getValue(), createdAtByPostId.get(entry.getKey()), asOf)
+                ))
+                .filter(entry -> entry.score() >= command.minScore())
+                .sorted(Comparator.comparingDouble(TrendingEntry::score).reversed())
+                .limit(command.limit())
+                .toList();
+    }
+
+    private static boolean inScope(
+            String requested,
+            String actual
+    ) {
+        return requested == null || requested.equals(actual);
+    }
+
+    private static double weightOf(
+            TrendingReplayCommand command,
+            TrendingSignal signal
+    ) {
+        var override = command.weights() == null ? null : command.weights().get(signal);
+        return override != null ? override : signal.weights().getOrDefault(TrendingMetric.HOT, 0.0);
+    }
+}
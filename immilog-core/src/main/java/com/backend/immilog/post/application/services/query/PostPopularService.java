@@ -1,27 +1,68 @@
 package com.backend.immilog.post.application.services.query;
 
+import com.backend.immilog.post.application.config.PostConfiguration;
 import com.backend.immilog.post.application.dto.out.PopularPostMenuResponse;
+import com.backend.immilog.post.application.dto.out.PopularPostMenuSnapshot;
 import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.application.dto.out.PostResultBatch;
+import com.backend.immilog.post.application.services.PostTrendingService;
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.infrastructure.cache.PopularPostMenuSnapshotStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * 인기글 메뉴(HOT + 주간 베스트)를 제공합니다.
+ * 집계 이후 전체/국가별 메뉴를 한 번에 보강해 스냅샷으로 공개하고, 조회는 스냅샷을 그대로 반환합니다.
+ * 공개된 스냅샷이 없을 때만 요청 시점에 직접 조립합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostPopularService {
     private final PostQueryService postQueryService;
+    private final PostTrendingService postTrendingService;
+    private final PostDomainRepository postDomainRepository;
+    private final PopularPostMenuSnapshotStore popularPostMenuSnapshotStore;
+    private final PostConfiguration postConfiguration;
 
     public PopularPostMenuResponse getPopularPostMenu() {
-        log.info("[POPULAR MENU] Fetching popular post menu");
+        return getPopularPostMenu(null);
+    }
+
+    /**
+     * countryId가 없으면 전체 국가 메뉴를, 있으면 해당 국가 메뉴를 반환합니다.
+     */
+    public PopularPostMenuResponse getPopularPostMenu(String countryId) {
+        var snapshot = popularPostMenuSnapshotStore.find(countryId);
+        if (snapshot.isPresent()) {
+            return snapshot.get().toResponse();
+        }
 
+        log.info("[POPULAR MENU] No snapshot published, assembling popular post menu for {}", countryId);
         try {
-            var hotPosts = getHotPosts();
-            var weeklyBest = getWeeklyBestPosts();
+            var limit = postConfiguration.getPopularPostLimit();
+            var hotPostIds = getHotPostIds(countryId, limit);
+            var weeklyBestPostIds = postQueryService.findPostIdsByBadge(Badge.WEEKLY_BEST);
+            var postsById = byPostId(loadPosts(Stream.concat(hotPostIds.stream(), weeklyBestPostIds.stream()).toList()).posts());
 
+            var hotPosts = pick(hotPostIds, postsById, null, limit);
+            var weeklyBest = pick(weeklyBestPostIds, postsById, countryId, limit);
             log.info("[POPULAR MENU] Successfully fetched menu - Hot: {}, WeeklyBest: {}",
                     hotPosts.size(), weeklyBest.size());
 
@@ -33,42 +74,138 @@ public class PostPopularService {
         }
     }
 
-    private List<PostResult> getWeeklyBestPosts() {
+    /**
+     * 현재 스냅샷이 갱신 주기의 절반보다 오래되었을 때만 재구성합니다.
+     * 모든 노드가 주기적으로 호출해도 먼저 재구성한 노드의 스냅샷을 나머지 노드가 그대로 사용합니다.
+     */
+    public void refreshMenuSnapshotIfStale() {
+        var freshAfter = LocalDateTime.now().minus(Duration.ofMillis(postConfiguration.getPopularMenuRefreshDelayMs() / 2));
+        var current = popularPostMenuSnapshotStore.find(null);
+        if (current.isPresent() && current.get().builtAt().isAfter(freshAfter)) {
+            log.debug("[POPULAR MENU] Snapshot v{} is still fresh, skipping rebuild", current.get().version());
+            return;
+        }
+        rebuildMenuSnapshot();
+    }
+
+    /**
+     * 전체 메뉴와 최근 게시물이 있는 국가별 메뉴를 만들어 새 버전으로 공개합니다.
+     * 모든 메뉴에 필요한 게시물을 모아 한 번만 조회/보강합니다.
+     * 국가에 HOT 또는 주간 베스트 게시물이 없으면 해당 목록은 전체 메뉴의 목록을 사용합니다.
+     * 보강 소스가 빈 결과로 대체되었으면 공개하지 않고 기존 스냅샷을 유지합니다.
+     * 다른 노드가 재구성 중이면 건너뜁니다.
+     */
+    public void rebuildMenuSnapshot() {
+        var lockOwner = UUID.randomUUID().toString();
+        if (!popularPostMenuSnapshotStore.tryAcquireRebuildLock(lockOwner)) {
+            log.info("[POPULAR MENU] Another node is rebuilding the snapshot, skipping");
+            return;
+        }
         try {
-            var weeklyBestPosts = postQueryService.findByBadge(Badge.WEEKLY_BEST);
-            return postQueryService.getPostsByPostIdList(
-                    weeklyBestPosts.stream()
-                            .sorted((a, b) -> b.createdAt().compareTo(a.createdAt()))
-                            .map(post -> post.id().value())
-                            .limit(5)
-                            .toList()
-            );
+            buildAndPublish();
+        } finally {
+            popularPostMenuSnapshotStore.releaseRebuildLock(lockOwner);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("[POPULAR MENU] Failed to fetch weekly best posts", e);
-            return List.of();
+    private void buildAndPublish() {
+        var limit = postConfiguration.getPopularPostLimit();
+        var countryIds = postDomainRepository.findCountryIdsWithPostsSince(
+                LocalDateTime.now().minusDays(postConfiguration.getTrendingWindowDays()),
+                postConfiguration.getPopularMenuMaxCountries()
+        );
+
+        var globalHotPostIds = getHotPostIds(null, limit);
+        var hotPostIdsByCountry = new LinkedHashMap<String, List<String>>();
+        countryIds.forEach(countryId -> hotPostIdsByCountry.put(countryId, getHotPostIds(countryId, limit)));
+        var weeklyBestPostIds = postQueryService.findPostIdsByBadge(Badge.WEEKLY_BEST);
+
+        var batch = loadPosts(Stream.of(
+                        globalHotPostIds.stream(),
+                        weeklyBestPostIds.stream(),
+                        hotPostIdsByCountry.values().stream().flatMap(List::stream)
+                )
+                .flatMap(Function.identity())
+                .distinct()
+                .toList());
+        if (batch.degraded()) {
+            // 빈 작성자/리소스/카운트가 들어간 스냅샷은 다음 재구성까지 모든 노드에 노출되므로 기존 스냅샷을 유지한다
+            log.warn("[POPULAR MENU] Enrichment fell back while rebuilding, keeping the current snapshot");
+            return;
+        }
+        var postsById = byPostId(batch.posts());
+
+        var version = popularPostMenuSnapshotStore.nextVersion();
+        var builtAt = LocalDateTime.now();
+        var globalHot = pick(globalHotPostIds, postsById, null, limit);
+        var globalWeeklyBest = pick(weeklyBestPostIds, postsById, null, limit);
+
+        var snapshots = new HashMap<String, PopularPostMenuSnapshot>();
+        snapshots.put(null, new PopularPostMenuSnapshot(version, null, globalHot, globalWeeklyBest, builtAt));
+        hotPostIdsByCountry.forEach((countryId, hotPostIds) -> {
+            var hot = pick(hotPostIds, postsById, null, limit);
+            var weeklyBest = pick(weeklyBestPostIds, postsById, countryId, limit);
+            snapshots.put(countryId, new PopularPostMenuSnapshot(
+                    version,
+                    countryId,
+                    hot.isEmpty() ? globalHot : hot,
+                    weeklyBest.isEmpty() ? globalWeeklyBest : weeklyBest,
+                    builtAt
+            ));
+        });
+        if (popularPostMenuSnapshotStore.publish(version, snapshots)) {
+            log.info("[POPULAR MENU] Rebuilt snapshot v{} with {} posts for {} countries",
+                    version, postsById.size(), countryIds.size());
         }
     }
 
-    private List<PostResult> getHotPosts() {
-        try {
-            var hotPostsFromCache = postQueryService.getPostsFromRedis("hot_posts");
+    private PostResultBatch loadPosts(List<String> postIds) {
+        if (postIds.isEmpty()) {
+            return PostResultBatch.empty();
+        }
+        return postQueryService.getPostBatchByPostIdList(postIds);
+    }
 
-            if (hotPostsFromCache.isEmpty()) {
-                return List.of();
+    private static Map<String, PostResult> byPostId(List<PostResult> posts) {
+        return posts.stream()
+                .collect(Collectors.toMap(PostResult::postId, Function.identity(), (existing, replacement) -> existing));
+    }
+
+    private static List<PostResult> pick(
+            List<String> postIds,
+            Map<String, PostResult> postsById,
+            String countryId,
+            int limit
+    ) {
+        return postIds.stream()
+                .distinct()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .filter(post -> countryId == null || countryId.equals(post.country()))
+                .limit(limit)
+                .toList();
+    }
+
+    private List<String> getHotPostIds(
+            String countryId,
+            int limit
+    ) {
+        try {
+            var trendingPostIds = postTrendingService.topPostIds(TrendingMetric.HOT, countryId, null, limit);
+            if (!trendingPostIds.isEmpty() || countryId != null) {
+                return trendingPostIds;
             }
 
-            var postIds = hotPostsFromCache.stream()
+            // 트렌딩 집합이 비어 있으면(Redis 초기화 직후 등) 야간 재집계 결과를 사용한다
+            return postQueryService.getPostsFromRedis("hot_posts").stream()
                     .sorted((a, b) -> b.createdAt().compareTo(a.createdAt()))
                     .map(PostResult::postId)
-                    .limit(5)
+                    .limit(limit)
                     .toList();
 
-            return postQueryService.getPostsByPostIdList(postIds);
-
         } catch (Exception e) {
             log.error("[POPULAR MENU] Failed to fetch hot posts", e);
             return List.of();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,41 @@
 package com.backend.immilog.post.application.services.query;
 
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.dto.out.PostFeedResult;
 import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.application.dto.out.PostResultBatch;
 import com.backend.immilog.post.application.mapper.PostResultAssembler;
 import com.backend.immilog.post.application.mapper.PostResultConverter;
 import com.backend.immilog.post.application.services.PostCommentDataService;
+import com.backend.immilog.post.application.services.PostResourceBundleService;
+import com.backend.immilog.post.application.services.PostViewCountService;
 import com.backend.immilog.post.domain.events.PostEvent;
 import com.backend.immilog.post.domain.model.post.Badge;
 import com.backend.immilog.post.domain.model.post.Categories;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
-import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.domain.search.PostSearchEngine;
+import com.backend.immilog.post.domain.search.PostSearchHit;
 import com.backend.immilog.post.domain.service.PostScoreCalculator;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.post.infrastructure.cache.PostFeedPageCache;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import com.backend.immilog.shared.aop.annotation.PerformanceMonitor;
 import com.backend.immilog.shared.domain.event.DomainEvents;
-import com.backend.immilog.shared.domain.model.Resource;
+import com.backend.immilog.shared.domain.model.CommentCounts;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.domain.model.UserData;
 import com.backend.immilog.shared.enums.ContentType;
 import com.backend.immilog.shared.infrastructure.DataRepository;
 import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -32,11 +45,22 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -45,13 +69,19 @@ import java.util.stream.IntStream;
 public class PostQueryService {
     private final ObjectMapper objectMapper;
     private final PostDomainRepository postDomainRepository;
-    private final ContentResourceRepository contentResourceRepository;
+    private final PostResourceBundleService postResourceBundleService;
     private final DataRepository redisDataRepository;
     private final PostResultAssembler postResultAssembler;
     private final EventResultStorageService eventResultStorageService;
     private final PostCommentDataService postCommentDataService;
     private final PostResultConverter postResultConverter;
     private final PostScoreCalculator postScoreCalculator;
+    private final PostConfiguration postConfiguration;
+    private final PostSearchEngine postSearchEngine;
+    private final PostResultCache postResultCache;
+    private final PostFeedPageCache postFeedPageCache;
+    private final PostViewCountService postViewCountService;
+    private final ExecutorService enrichmentExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Transactional(readOnly = true)
     public Post getPostById(String postId) {
@@ -63,6 +93,10 @@ public class PostQueryService {
         return postDomainRepository.findById(postId);
     }
 
+    /**
+     * 조회 조건별 post_id 목록과 전체 건수는 피드 페이지 캐시에서, 게시물 본문은 게시물 캐시에서 가져옵니다.
+     * 페이지를 직접 조회한 요청은 이미 읽은 게시물을 그대로 조립에 사용합니다.
+     */
     @PerformanceMonitor
     @Transactional(readOnly = true)
     public Page<PostResult> getPosts(
@@ -72,42 +106,107 @@ public class PostQueryService {
             Categories category,
             Pageable pageable
     ) {
-        var posts = postDomainRepository.findPosts(
+        var loadedPosts = new HashMap<String, Post>();
+        var feedPage = postFeedPageCache.get(
+                new PostFeedPageCache.FeedPageKey(
+                        countryId,
+                        category,
+                        sortingMethod,
+                        isPublic,
+                        pageable.getPageNumber(),
+                        pageable.getPageSize()
+                ),
+                () -> {
+                    var posts = postDomainRepository.findPosts(countryId, sortingMethod, isPublic, category, pageable);
+                    posts.forEach(post -> loadedPosts.put(post.id().value(), post));
+                    return new PostFeedPageCache.FeedPage(
+                            posts.stream().map(post -> post.id().value()).toList(),
+                            posts.getTotalElements()
+                    );
+                }
+        );
+        var postResults = this.hydratePostResults(feedPage.postIds(), loadedPosts).posts();
+        return new PageImpl<>(postResults, pageable, feedPage.totalElements());
+    }
+
+    /**
+     * 커서 기반 피드 조회. 전체 건수를 세지 않고 다음 페이지 커서만 반환합니다.
+     */
+    @PerformanceMonitor
+    @Transactional(readOnly = true)
+    public PostFeedResult getPostFeed(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            String cursor,
+            Integer size
+    ) {
+        var sort = sortingMethod == null ? SortingMethods.CREATED_DATE : sortingMethod;
+        var pageSize = resolveFeedPageSize(size);
+        var slice = postDomainRepository.findPostsByCursor(
                 countryId,
-                sortingMethod,
+                sort,
                 isPublic,
                 category,
-                pageable
+                PostCursor.decode(cursor, sort),
+                pageSize
         );
-        var postIdList = posts.stream().map(post -> post.id().value()).toList();
-        var postResults = posts.map(postResultConverter::convertToPostResult);
-        return this.assemblePostResult(postIdList, postResults);
+        if (slice.posts().isEmpty()) {
+            return PostFeedResult.empty();
+        }
+        var postIdList = slice.posts().stream().map(post -> post.id().value()).toList();
+        var postResults = slice.posts().stream().map(postResultConverter::convertToPostResult).toList();
+        var assembled = this.assemblePostResult(PostResultCache.View.SUMMARY, postIdList, new PageImpl<>(postResults)).results().getContent().stream()
+                .map(this::withPendingViews)
+                .toList();
+        var nextCursor = slice.nextCursor() == null ? null : slice.nextCursor().encode();
+        return new PostFeedResult(assembled, nextCursor, slice.hasNext());
     }
 
+    /**
+     * 검색 백엔드가 관련도 순으로 돌려준 post_id로 게시물을 조회하고, 백엔드가 계산한 일치 위치로 스니펫을 만듭니다.
+     */
     @Transactional(readOnly = true)
     public Page<PostResult> getPostsByKeyword(
             String keyword,
             Pageable pageable
     ) {
-        var posts = postDomainRepository.findPostsByKeyword(keyword, pageable);
-        var postIdList = posts.stream().map(post -> post.id().value()).toList();
-        var postResults = posts.map(postResultConverter::convertToPostResult);
-        var updatedPostResultsPage = new PageImpl<>(
-                postResults.getContent().stream()
-                        .map(post -> postResultAssembler.assembleKeywords(post, keyword))
-                        .toList(),
-                pageable,
-                postResults.getTotalElements()
-        );
-        return this.assemblePostResult(postIdList, updatedPostResultsPage);
+        var searchPage = postSearchEngine.search(keyword, pageable);
+        if (searchPage.hits().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, searchPage.totalHits());
+        }
+        var postIdList = searchPage.hits().stream().map(PostSearchHit::postId).toList();
+        var postsById = postDomainRepository.findPostsByIdList(postIdList).stream()
+                .collect(Collectors.toMap(post -> post.id().value(), Function.identity(), (existing, replacement) -> existing));
+        var rankedResults = searchPage.hits().stream()
+                .filter(hit -> postsById.containsKey(hit.postId()))
+                .map(hit -> postResultAssembler.assembleKeywords(
+                        postResultConverter.convertToPostResult(postsById.get(hit.postId())),
+                        keyword,
+                        hit
+                ))
+                .toList();
+        return this.assemblePostResult(PostResultCache.View.SUMMARY, postIdList, new PageImpl<>(rankedResults, pageable, searchPage.totalHits()))
+                .results()
+                .map(this::withPendingViews);
     }
 
     @Transactional(readOnly = true)
     public PostResult getPostDetail(String postId) {
+        var cached = postResultCache.get(PostResultCache.View.DETAIL, postId);
+        if (cached.isPresent()) {
+            return this.withPendingViews(cached.get());
+        }
         var post = postDomainRepository.findById(postId).orElseThrow(() -> new PostException(PostErrorCode.POST_NOT_FOUND));
         var posts = new PageImpl<>(List.of(post));
         var postResult = posts.map(postResultConverter::convertToPostResult);
-        return this.assemblePostResult(List.of(postId), postResult).getContent().getFirst();
+        var assembledPage = this.assemblePostResult(PostResultCache.View.DETAIL, List.of(postId), postResult);
+        var assembled = assembledPage.results().getContent().getFirst();
+        if (assembledPage.cacheable()) {
+            postResultCache.put(PostResultCache.View.DETAIL, assembled);
+        }
+        return this.withPendingViews(assembled);
     }
 
     @Transactional(readOnly = true)
@@ -118,9 +217,10 @@ public class PostQueryService {
         var posts = postDomainRepository.findPostsByUserId(userId, pageable);
         var postResults = posts.map(postResultConverter::convertToPostResult);
         return this.assemblePostResult(
+                PostResultCache.View.SUMMARY,
                 posts.stream().map(post -> post.id().value()).toList(),
                 postResults
-        );
+        ).results().map(this::withPendingViews);
     }
 
     public List<PostResult> getPostsFromRedis(String key) {
@@ -139,116 +239,245 @@ public class PostQueryService {
         return List.of();
     }
 
+    /**
+     * 캐시에 있는 게시물은 그대로 쓰고, 없는 게시물만 조회/보강한 뒤 캐시에 채워 요청 순서대로 반환합니다.
+     */
     public List<PostResult> getPostsByPostIdList(List<String> postIdList) {
-        var postResults = postDomainRepository.findPostsByIdList(postIdList)
-                .stream()
-                .map(postResultConverter::convertToPostResult)
+        return this.hydratePostResults(postIdList, Map.of()).posts();
+    }
+
+    /**
+     * getPostsByPostIdList와 같지만, 보강 소스가 빈 결과로 대체되었는지 함께 반환합니다.
+     * 스냅샷처럼 결과를 오래 보관하는 호출자는 degraded 결과를 저장하지 않아야 합니다.
+     */
+    public PostResultBatch getPostBatchByPostIdList(List<String> postIdList) {
+        return this.hydratePostResults(postIdList, Map.of());
+    }
+
+    /**
+     * 보강 소스가 하나라도 빈 결과로 대체되면 조립한 결과를 캐시에 넣지 않습니다.
+     * 작성자/태그/좋아요 수가 빠진 결과가 캐시 TTL 동안 모든 노드에 노출되는 것을 막기 위함입니다.
+     */
+    private PostResultBatch hydratePostResults(
+            List<String> postIdList,
+            Map<String, Post> loadedPosts
+    ) {
+        var cached = postResultCache.getAll(PostResultCache.View.SUMMARY, postIdList);
+        var missingIds = postIdList.stream().filter(postId -> !cached.containsKey(postId)).distinct().toList();
+        var resultsById = new HashMap<>(cached);
+        var degraded = false;
+        if (!missingIds.isEmpty()) {
+            var postResults = this.loadPosts(missingIds, loadedPosts)
+                    .stream()
+                    .map(postResultConverter::convertToPostResult)
+                    .toList();
+            var assembled = this.assemblePostResult(PostResultCache.View.SUMMARY, missingIds, new PageImpl<>(postResults));
+            degraded = !assembled.cacheable();
+            assembled.results().forEach(result -> {
+                if (assembled.cacheable()) {
+                    postResultCache.put(PostResultCache.View.SUMMARY, result);
+                }
+                resultsById.put(result.postId(), result);
+            });
+        }
+        var posts = postIdList.stream()
+                .distinct()
+                .map(resultsById::get)
+                .filter(Objects::nonNull)
+                .map(this::withPendingViews)
                 .toList();
-        return this.assemblePostResult(postIdList, new PageImpl<>(postResults)).toList();
+        return new PostResultBatch(posts, degraded);
     }
 
-    private Page<PostResult> assemblePostResult(
+    /**
+     * 아직 DB에 반영되지 않은 이 노드의 조회수 증가분을 더합니다. 캐시에는 더하기 전 값을 저장합니다.
+     */
+    private PostResult withPendingViews(PostResult postResult) {
+        var pending = postViewCountService.pendingViews(postResult.postId());
+        if (pending == 0) {
+            return postResult;
+        }
+        var viewCount = postResult.viewCount() == null ? 0L : postResult.viewCount();
+        return postResult.toBuilder().viewCount(viewCount + pending).build();
+    }
+
+    private List<Post> loadPosts(
+            List<String> postIds,
+            Map<String, Post> loadedPosts
+    ) {
+        if (loadedPosts.keySet().containsAll(postIds)) {
+            return postIds.stream().map(loadedPosts::get).toList();
+        }
+        return postDomainRepository.findPostSummariesByIdList(postIds);
+    }
+
+    /**
+     * 게시물 결과에 작성자/상호작용/댓글 수/리소스를 보강합니다.
+     * 시간 초과나 실패로 빈 결과를 사용한 소스는 degradedSources에 담아 반환합니다.
+     */
+    private AssembledPage assemblePostResult(
+            PostResultCache.View view,
             List<String> resultIdList,
             Page<PostResult> postResults
     ) {
-        var orderMap = IntStream.range(0, resultIdList.size())
-                .boxed()
-                .collect(Collectors.toMap(resultIdList::get, i -> i, (existing, replacement) -> existing));
+        if (postResults.isEmpty()) {
+            return new AssembledPage(postResults, Set.of());
+        }
 
         // 유저 정보 요청을 위해 고유한 userId 목록 추출
         var userIds = postResults.getContent().stream()
                 .map(PostResult::userId)
                 .distinct()
                 .toList();
-        
-        // 이벤트를 통해 유저 데이터 요청
-        String userRequestId = eventResultStorageService.generateRequestId("user");
-        log.info("Requesting user data for {} users with requestId: {}, userIds: {}", userIds.size(), userRequestId, userIds);
-        eventResultStorageService.registerEventProcessing(userRequestId);
-        DomainEvents.raise(new PostEvent.UserDataRequested(userRequestId, userIds));
-        var userData = eventResultStorageService.waitForUserData(userRequestId, java.time.Duration.ofSeconds(2));
-        log.info("Retrieved {} user data items via event for requestId: {}", userData.size(), userRequestId);
-        
-        // 이벤트를 통해 인터랙션 데이터 요청 (CompletableFuture로 동기화)
-        String interactionRequestId = eventResultStorageService.generateRequestId("interaction");
-        log.info("Requesting interaction data for {} posts with requestId: {}, postIds: {}", resultIdList.size(), interactionRequestId, resultIdList);
-        
-        // Future 등록
-        eventResultStorageService.registerEventProcessing(interactionRequestId);
-        
-        // 이벤트 발행
-        DomainEvents.raise(new PostEvent.InteractionDataRequested(interactionRequestId, resultIdList, ContentType.POST.name()));
 
-        // 이벤트 처리 완료 대기 (최대 2초)
-        var interactionUsers = eventResultStorageService.waitForInteractionData(interactionRequestId, java.time.Duration.ofSeconds(2));
-        log.info("Retrieved {} interaction data items via event for requestId: {}", interactionUsers.size(), interactionRequestId);
-        
-        // 실시간 댓글 개수 조회
-        // 이벤트 기반으로 댓글 데이터 요청
-        var commentData = postCommentDataService.getCommentData(resultIdList);
-        log.info("Retrieved comment data for {} posts via events", commentData.size());
-
-        var postResources = contentResourceRepository.findAllByContentIdList(resultIdList, ContentType.POST);
-
-        return postResults.map(postResult -> {
-            // 유저 데이터 찾기
-            var user = userData.stream()
-                    .filter(u -> u.userId().equals(postResult.userId()))
-                    .findFirst()
-                    .orElse(null);
-            
-            var resources = postResources.stream()
-                    .filter(postResource -> postResource.postId().equals(postResult.postId()))
-                    .map(pr -> new Resource(
-                            pr.id(),
-                            pr.postId(),
-                            pr.contentType(),
-                            com.backend.immilog.shared.domain.model.ResourceType.valueOf(pr.resourceType().name()),
-                            pr.content()
-                    ))
-                    .sorted(Comparator.comparingInt(pr -> orderMap.getOrDefault(pr.entityId(), Integer.MAX_VALUE)))
-                    .toList();
+        // 네 가지 보강 조회를 동시에 시작하고 하나의 마감 시각까지만 기다린다
+        var deadline = System.nanoTime() + postConfiguration.getEnrichmentTimeout().toNanos();
+        var userRequestId = eventResultStorageService.generateRequestId("user");
+        var interactionRequestId = eventResultStorageService.generateRequestId("interaction");
 
-            var interactionDataList = interactionUsers.stream()
-                    .filter(interactionData -> interactionData.postId().equals(postResult.postId()))
-                    .sorted(Comparator.comparingInt(id -> orderMap.getOrDefault(id.postId(), Integer.MAX_VALUE)))
-                    .toList();
+        var userDataFuture = supplyEnrichment(() -> requestUserData(userRequestId, userIds));
+        var interactionFuture = supplyEnrichment(() -> requestInteractionData(interactionRequestId, resultIdList));
+        var commentFuture = supplyEnrichment(() -> postCommentDataService.findCommentCounts(resultIdList));
+        var resourceFuture = supplyEnrichment(() -> Optional.of(postResourceBundleService.getBundles(view, resultIdList)));
+
+        var userEnrichment = awaitEnrichment("user", userDataFuture, deadline, List.<UserData>of());
+        var interactionEnrichment = awaitEnrichment("interaction", interactionFuture, deadline, List.<InteractionData>of());
+        var commentEnrichment = awaitEnrichment("comment", commentFuture, deadline, CommentCounts.empty());
+        var resourceEnrichment = awaitEnrichment("resource", resourceFuture, deadline, Map.<String, PostResourceBundle>of());
+        var userData = userEnrichment.value();
+        var interactionUsers = interactionEnrichment.value();
+        var commentCounts = commentEnrichment.value();
+        var resourceBundles = resourceEnrichment.value();
+        log.info("Assembled enrichment data: {} users, {} interactions, {} comment counts, {} resource bundles",
+                userData.size(), interactionUsers.size(), commentCounts.size(), resourceBundles.size());
+
+        var degradedSources = Stream.<Enrichment<?>>of(userEnrichment, interactionEnrichment, commentEnrichment, resourceEnrichment)
+                .filter(Enrichment::degraded)
+                .map(Enrichment::source)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!degradedSources.isEmpty()) {
+            log.warn("Enrichment fell back for sources {}, assembled results will not be cached", degradedSources);
+        }
+
+        // 차원별로 postId 인덱스를 한 번만 만들고, 게시물마다 조회하여 결과를 한 번에 조립한다
+        var userDataById = userData.stream()
+                .collect(Collectors.toMap(UserData::userId, Function.identity(), (existing, replacement) -> existing));
+        var interactionsByPostId = interactionUsers.stream()
+                .filter(interaction -> interaction.postId() != null)
+                .collect(Collectors.groupingBy(InteractionData::postId));
+
+        var assembled = postResults.map(postResult -> postResultAssembler.assemble(
+                postResult,
+                userDataById.get(postResult.userId()),
+                interactionsByPostId.getOrDefault(postResult.postId(), List.of()),
+                resourceBundles.get(postResult.postId()),
+                commentCounts.countOf(postResult.postId())
+        ));
+        return new AssembledPage(assembled, degradedSources);
+    }
+
+    private int resolveFeedPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return postConfiguration.getDefaultPageSize();
+        }
+        return Math.min(size, postConfiguration.getMaxFeedPageSize());
+    }
+
+    private Optional<List<UserData>> requestUserData(
+            String requestId,
+            List<String> userIds
+    ) {
+        log.info("Requesting user data for {} users with requestId: {}, userIds: {}", userIds.size(), requestId, userIds);
+        eventResultStorageService.registerEventProcessing(requestId);
+        DomainEvents.raise(new PostEvent.UserDataRequested(requestId, userIds));
+        return eventResultStorageService.awaitUserData(requestId, postConfiguration.getEventTimeout());
+    }
+
+    private Optional<List<InteractionData>> requestInteractionData(
+            String requestId,
+            List<String> postIds
+    ) {
+        log.info("Requesting interaction data for {} posts with requestId: {}, postIds: {}", postIds.size(), requestId, postIds);
+        eventResultStorageService.registerEventProcessing(requestId);
+        DomainEvents.raise(new PostEvent.InteractionDataRequested(requestId, postIds, ContentType.POST.name()));
+        return eventResultStorageService.awaitInteractionData(requestId, postConfiguration.getEventTimeout());
+    }
+
+    private <T> CompletableFuture<Optional<T>> supplyEnrichment(Supplier<Optional<T>> supplier) {
+        return CompletableFuture.supplyAsync(supplier, enrichmentExecutor);
+    }
+
+    /**
+     * 보강 작업은 각자의 이벤트 대기 시간 안에 끝나므로, 종료 시 진행 중인 작업이 끝나기를 기다린 뒤 실행기를 닫습니다.
+     */
+    @PreDestroy
+    public void closeEnrichmentExecutor() {
+        enrichmentExecutor.close();
+    }
+
+    /**
+     * 공통 마감 시각까지 보강 결과를 기다리고, 시간 초과나 실패 시 해당 소스만 빈 결과로 대체해 degraded로 표시합니다.
+     * 소스가 빈 Optional을 돌려준 경우(내부 이벤트 대기 시간 초과 등)도 같은 방식으로 처리합니다.
+     * 마감을 넘긴 작업은 취소하지 않습니다. supplyAsync 작업은 cancel로 인터럽트되지 않으며, 이벤트 대기 시간 안에 스스로 끝납니다.
+     */
+    private <T> Enrichment<T> awaitEnrichment(
+            String source,
+            CompletableFuture<Optional<T>> future,
+            long deadlineNanos,
+            T emptyResult
+    ) {
+        try {
+            var remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            var result = future.get(remaining, TimeUnit.NANOSECONDS);
+            if (result.isPresent()) {
+                return Enrichment.of(source, result.get());
+            }
+            log.warn("Enrichment source '{}' returned no result, using empty result", source);
+        } catch (TimeoutException e) {
+            log.warn("Enrichment source '{}' did not complete before deadline, using empty result", source);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for enrichment source '{}'", source);
+        } catch (Exception e) {
+            log.error("Enrichment source '{}' failed, using empty result", source, e);
+        }
+        return Enrichment.fallback(source, emptyResult);
+    }
 
-            var postResultWithUserData = postResultAssembler.assembleUserData(
-                    postResult,
-                    user
-            );
-            var postResultWithNewInteractionUsers = postResultAssembler.assembleInteractionData(
-                    postResultWithUserData,
-                    interactionDataList
-            );
-            var postResultWithNewResources = postResultAssembler.assembleResources(
-                    postResultWithNewInteractionUsers,
-                    resources
-            );
-            // 좋아요 수 실시간 계산 (ACTIVE 상태의 LIKE만 카운트)
-            long likeCount = interactionDataList.stream()
-                    .filter(interaction -> "LIKE".equals(interaction.interactionType()) &&
-                            "ACTIVE".equals(interaction.interactionStatus())).count();
-
-            // 댓글 수 실시간 적용 (이벤트 기반)
-            long commentCount = commentData.stream()
-                    .filter(comment -> comment.postId().equals(postResult.postId()))
-                    .count();
-            
-            var postResultWithLikeCount = postResultAssembler.assembleLikeCount(
-                    postResultWithNewResources,
-                    likeCount
-            );
-            
-            return postResultAssembler.assembleCommentCount(
-                    postResultWithLikeCount,
-                    commentCount
-            );
-        });
+    /**
+     * 보강한 페이지와 빈 결과로 대체된 소스 목록. 대체된 소스가 있으면 캐시에 넣지 않습니다.
+     */
+    private record AssembledPage(
+            Page<PostResult> results,
+            Set<String> degradedSources
+    ) {
+        boolean cacheable() {
+            return degradedSources.isEmpty();
+        }
     }
 
+    /**
+     * 보강 소스 하나의 결과. degraded가 true이면 value는 실제 결과가 아니라 대체한 빈 결과입니다.
+     */
+    private record Enrichment<T>(
+            String source,
+            T value,
+            boolean degraded
+    ) {
+        static <T> Enrichment<T> of(
+                String source,
+                T value
+        ) {
+            return new Enrichment<>(source, value, false);
+        }
 
+        static <T> Enrichment<T> fallback(
+                String source,
+                T emptyResult
+        ) {
+            return new Enrichment<>(source, emptyResult, true);
+        }
+    }
 
     public List<Post> findByBadge(Badge badge) {
         log.info("[POST QUERY] Finding posts with badge: {}", badge);
@@ -268,9 +497,14 @@ public class PostQueryService {
         return posts;
     }
 
+    public List<String> findPostIdsByBadge(Badge badge) {
+        return postDomainRepository.findPostIdsByBadge(badge);
+    }
+
     /**
      * 주간 베스트 게시물을 조회합니다.
-     * 점수 = (조회수 × 1.0) + (댓글수 × 3.0) + (좋아요수 × 2.0) 기준으로 정렬하여 상위 10개를 반환합니다.
+     * 점수 = (조회수 × 1.0) + (댓글수 × 3.0) + (좋아요수 × 2.0) 계산과 상위 N개 선정은 DB에서 끝내고,
+     * 선정된 게시물만 보강하므로 주간 게시물 수와 관계없이 보강 비용이 일정합니다.
      * 
      * @param from 시작 날짜
      * @param to 종료 날짜
@@ -278,35 +512,24 @@ public class PostQueryService {
      */
     public List<PostResult> getWeeklyBestPosts(LocalDateTime from, LocalDateTime to) {
         log.info("[WEEKLY BEST] Querying weekly best posts from {} to {}", from, to);
-        
-        // 기간 내 모든 공개 게시물 조회 (조회수 또는 댓글수 최소 조건 충족)
-        var posts = postDomainRepository.findPostsInPeriod(from, to);
-        
-        // 게시물 ID 리스트 추출하여 실시간 데이터 어셈블링
-        var postIdList = posts.stream()
-                .filter(post -> "Y".equals(post.isPublicValue())) // 공개 게시물만
-                .filter(post -> 
-                    (post.viewCount() != null && post.viewCount() >= 10) ||  // 조회수 10회 이상 또는
-                            (post.commentCount() != null && post.commentCountValue() >= 2) // 댓글 2개 이상
-                )
-                .map(post -> post.id().value())
-                .toList();
 
-        // 실시간 데이터 어셈블링으로 좋아요 수 포함
-        var assembledPosts = this.assemblePostResult(
-                postIdList,
-            new PageImpl<>(posts.stream()
-                    .filter(post -> postIdList.contains(post.id().value()))
-                    .map(postResultConverter::convertToPostResult)
-                .toList()));
+        // 기간 내 공개 게시물 중 최소 조건(조회수 또는 댓글수)을 충족하는 게시물을 점수순으로 상위 N개만 선정
+        var winnerIds = postDomainRepository.findTopScoredPostIdsInPeriod(
+                from,
+                to,
+                postScoreCalculator.weights(),
+                postConfiguration.getMinViewCount(),
+                postConfiguration.getMinCommentCount(),
+                postConfiguration.getWeeklyBestLimit()
+        );
+        if (winnerIds.isEmpty()) {
+            log.info("[WEEKLY BEST] No posts qualified for weekly best");
+            return List.of();
+        }
+
+        // 선정된 게시물만 캐시 우선으로 조회/보강하며, 점수 순서를 유지한다
+        var weeklyBestPosts = this.getPostsByPostIdList(winnerIds);
 
-        var weeklyBestPosts = assembledPosts.getContent().stream()
-                .map(postResult -> new ScoredPostResult(postResult, postScoreCalculator.calculate(postResult)))
-                .sorted((a, b) -> Double.compare(b.score(), a.score())) // 점수 내림차순 정렬
-                .limit(10) // 상위 10개
-                .map(ScoredPostResult::postResult)
-                .toList();
-        
         log.info("[WEEKLY BEST] Found {} weekly best posts", weeklyBestPosts.size());
         return weeklyBestPosts;
     }
@@ -340,7 +563,7 @@ public class PostQueryService {
         }
         
         // 북마크된 게시물 ID로 실제 게시물 조회
-        var bookmarkedPosts = postDomainRepository.findPostsByIdList(bookmarkedPostIds);
+        var bookmarkedPosts = postDomainRepository.findPostSummariesByIdList(bookmarkedPostIds);
         
         if (bookmarkedPosts.isEmpty()) {
             log.warn("[BOOKMARK POSTS] No posts found for bookmarked IDs: {}", bookmarkedPostIds);
@@ -353,14 +576,9 @@ public class PostQueryService {
                 .toList();
         
         // 실시간 데이터 어셈블링 (좋아요, 댓글 등)
-        var assembledResults = this.assemblePostResult(bookmarkedPostIds, new PageImpl<>(postResults));
+        var assembledResults = this.assemblePostResult(PostResultCache.View.SUMMARY, bookmarkedPostIds, new PageImpl<>(postResults)).results();
         
         log.info("[BOOKMARK POSTS] Successfully retrieved {} bookmarked posts for user: {}", assembledResults.getContent().size(), userId);
         return assembledResults.getContent();
     }
-
-    /**
-     * 점수가 포함된 게시물 결과를 위한 내부 레코드
-     */
-    private record ScoredPostResult(PostResult postResult, double score) {}
 }
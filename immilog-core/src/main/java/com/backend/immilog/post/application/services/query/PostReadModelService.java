@@ -3,6 +3,7 @@ package com.backend.immilog.post.application.services.query;
 import com.backend.immilog.post.application.dto.out.PostResult;
 import com.backend.immilog.post.application.mapper.PostResultConverter;
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.post.Post;
 import com.backend.immilog.post.infrastructure.jdbc.PostJdbcRepository;
 import com.backend.immilog.shared.application.query.PageRequest;
 import com.backend.immilog.shared.application.query.PagedResult;
@@ -10,6 +11,7 @@ import com.backend.immilog.shared.application.query.QueryCriteria;
 import com.backend.immilog.shared.application.query.ReadModelService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,7 +21,8 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 public class PostReadModelService implements ReadModelService<PostResult, String> {
-    
+    private static final int MAX_CRITERIA_RESULTS = 1000;
+
     private final PostJdbcRepository postJdbcRepository;
     private final PostResultConverter postResultConverter;
 
@@ -52,10 +55,7 @@ public class PostReadModelService implements ReadModelService<PostResult, String
     public List<PostResult> findByCriteria(QueryCriteria criteria) {
         log.debug("Finding posts by criteria: {}", criteria);
         
-        var posts = buildDynamicQuery(criteria);
-        return posts.stream()
-                .map(postResultConverter::convertToPostResult)
-                .toList();
+        return toPostResults(buildDynamicQuery(criteria));
     }
     
     @Override
@@ -68,11 +68,7 @@ public class PostReadModelService implements ReadModelService<PostResult, String
             return PagedResult.empty(pageRequest);
         }
         
-        var posts = buildDynamicQueryWithPaging(criteria, pageRequest);
-        var postResults = posts.stream()
-                .map(postResultConverter::convertToPostResult)
-                .toList();
-        
+        var postResults = toPostResults(buildDynamicQueryWithPaging(criteria, pageRequest));
         return PagedResult.of(postResults, pageRequest, totalCount);
     }
     
@@ -99,9 +95,7 @@ public class PostReadModelService implements ReadModelService<PostResult, String
                 .sortDesc("viewCount")
                 .sortDesc("createdAt");
         
-        return findByCriteria(criteria).stream()
-                .limit(limit)
-                .toList();
+        return toPostResults(buildDynamicQuery(criteria, limit, 0L));
     }
     
     public List<PostResult> findRecentPosts(int limit) {
@@ -110,9 +104,7 @@ public class PostReadModelService implements ReadModelService<PostResult, String
                 .equals("isPublic", "Y")
                 .sortByCreatedAtDesc();
         
-        return findByCriteria(criteria).stream()
-                .limit(limit)
-                .toList();
+        return toPostResults(buildDynamicQuery(criteria, limit, 0L));
     }
     
     public List<PostResult> findPostsByBadge(Badge badge, int limit) {
@@ -121,9 +113,7 @@ public class PostReadModelService implements ReadModelService<PostResult, String
                 .equals("badge", badge)
                 .sortByCreatedAtDesc();
         
-        return findByCriteria(criteria).stream()
-                .limit(limit)
-                .toList();
+        return toPostResults(buildDynamicQuery(criteria, limit, 0L));
     }
     
     public PagedResult<PostResult> findPostsByUserId(String userId, PageRequest pageRequest) {
@@ -135,44 +125,46 @@ public class PostReadModelService implements ReadModelService<PostResult, String
         return findPagedByCriteria(criteria, pageRequest);
     }
     
-    private List<com.backend.immilog.post.domain.model.post.Post> buildDynamicQuery(QueryCriteria criteria) {
-        try {
-            log.debug("Building dynamic query with criteria: {}", criteria);
-            
-            return postJdbcRepository.getAllPosts();
-        } catch (Exception e) {
-            log.error("Failed to build dynamic query", e);
-            return List.of();
-        }
+    private List<PostResult> toPostResults(List<Post> posts) {
+        return posts.stream()
+                .map(postResultConverter::convertToPostResult)
+                .toList();
     }
-    
-    private List<com.backend.immilog.post.domain.model.post.Post> buildDynamicQueryWithPaging(QueryCriteria criteria, PageRequest pageRequest) {
+
+    /**
+     * 페이지 없이 조회할 때도 이전 전체 조회와 같은 최대 건수로 제한합니다.
+     */
+    private List<Post> buildDynamicQuery(QueryCriteria criteria) {
+        return buildDynamicQuery(criteria, MAX_CRITERIA_RESULTS, 0L);
+    }
+
+    private List<Post> buildDynamicQuery(
+            QueryCriteria criteria,
+            int limit,
+            long offset
+    ) {
         try {
-            log.debug("Building dynamic query with paging - criteria: {}, pageRequest: {}", criteria, pageRequest);
-            var allPosts = postJdbcRepository.getAllPosts();
-            
-            int offset = pageRequest.getPageNumber() * pageRequest.getPageSize();
-            int endIndex = Math.min(offset + pageRequest.getPageSize(), allPosts.size());
-            
-            if (offset >= allPosts.size()) {
-                return List.of();
-            }
-            
-            return allPosts.subList(offset, endIndex);
-        } catch (Exception e) {
-            log.error("Failed to build dynamic query with paging", e);
+            return postJdbcRepository.getPostsByCriteria(criteria, limit, offset);
+        } catch (DataAccessException e) {
+            log.error("Failed to query posts by criteria: {}", criteria, e);
             return List.of();
         }
     }
-    
+
+    private List<Post> buildDynamicQueryWithPaging(
+            QueryCriteria criteria,
+            PageRequest pageRequest
+    ) {
+        return buildDynamicQuery(criteria, pageRequest.getPageSize(), pageRequest.getOffset());
+    }
+
     private long buildCountQuery(QueryCriteria criteria) {
         try {
-            log.debug("Building count query with criteria: {}", criteria);
-            return postJdbcRepository.getAllPosts().size();
-        } catch (Exception e) {
-            log.error("Failed to build count query", e);
+            return postJdbcRepository.countPostsByCriteria(criteria);
+        } catch (DataAccessException e) {
+            log.error("Failed to count posts by criteria: {}", criteria, e);
             return 0L;
         }
     }
-    
+
 }
\ No newline at end of file
@@ -5,9 +5,12 @@ import com.backend.immilog.interaction.domain.model.InteractionType;
 import com.backend.immilog.interaction.domain.model.InteractionUser;
 import com.backend.immilog.interaction.domain.repositories.InteractionUserRepository;
 import com.backend.immilog.post.application.services.InteractionToggleService;
+import com.backend.immilog.post.application.services.PostTrendingService;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import com.backend.immilog.shared.enums.ContentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +30,8 @@ public interface BookmarkPostUseCase {
         private final InteractionToggleService interactionToggleService;
         private final InteractionUserRepository interactionUserRepository;
         private final PostDomainRepository postDomainRepository;
+        private final PostResultCache postResultCache;
+        private final PostTrendingService postTrendingService;
 
         @Override
         @Transactional
@@ -36,7 +41,10 @@ public interface BookmarkPostUseCase {
             
             var existingBookmark = findExistingBookmark(userId, postId);
 
-            return existingBookmark.map(this::handleExistingBookmark).orElseGet(() -> createNewBookmark(userId, postId));
+            var bookmarked = existingBookmark.map(this::handleExistingBookmark).orElseGet(() -> createNewBookmark(userId, postId));
+            postResultCache.evict(postId);
+            postTrendingService.record(postId, TrendingSignal.BOOKMARK, bookmarked ? 1 : -1);
+            return bookmarked;
         }
         
         private void validateInputs(String userId, String postId) {
@@ -1,8 +1,10 @@
 package com.backend.immilog.post.application.usecase;
 
+import com.backend.immilog.post.application.services.PostSearchIndexService;
 import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
 import com.backend.immilog.post.domain.service.PostDomainService;
 import com.backend.immilog.post.domain.model.post.PostId;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,8 @@ public interface DeletePostUseCase {
     class DeleterPost implements DeletePostUseCase {
         private final PostDomainService postDomainService;
         private final ContentResourceRepository contentResourceRepository;
+        private final PostSearchIndexService postSearchIndexService;
+        private final PostResultCache postResultCache;
 
         @Transactional
         public void deletePost(
@@ -28,6 +32,8 @@ public interface DeletePostUseCase {
         ) {
             postDomainService.deletePost(PostId.of(postId), userId);
             contentResourceRepository.deleteAllByContentId(postId);
+            postSearchIndexService.postDeleted(postId);
+            postResultCache.evict(postId);
         }
     }
 }
@@ -2,6 +2,9 @@ package com.backend.immilog.post.application.usecase;
 
 import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
 import com.backend.immilog.post.application.dto.in.PostUpdateCommand;
+import com.backend.immilog.post.application.services.PostResourceBundleService;
+import com.backend.immilog.post.application.services.PostSearchIndexService;
+import com.backend.immilog.post.application.services.PostViewCountService;
 import com.backend.immilog.post.application.services.command.BulkCommandService;
 import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
 import com.backend.immilog.post.domain.service.PostDomainService;
@@ -10,11 +13,10 @@ import com.backend.immilog.post.domain.model.resource.ResourceType;
 import com.backend.immilog.post.domain.model.post.PostId;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
-import com.backend.immilog.shared.aop.annotation.DistributedLock;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import com.backend.immilog.shared.enums.ContentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,10 @@ public interface UpdatePostUseCase {
         private final PostDomainService postDomainService;
         private final ContentResourceRepository contentResourceRepository;
         private final BulkCommandService bulkCommandService;
+        private final PostSearchIndexService postSearchIndexService;
+        private final PostResultCache postResultCache;
+        private final PostViewCountService postViewCountService;
+        private final PostResourceBundleService postResourceBundleService;
 
         @Transactional
         public void updatePost(
@@ -68,12 +74,12 @@ public interface UpdatePostUseCase {
                     command.addAttachments(),
                     ResourceType.ATTACHMENT
             );
+            postSearchIndexService.postChanged(postId);
+            postResultCache.evict(postId);
         }
 
-        @Async
-        @DistributedLock(key = "'viewPost:'", identifier = "#p0.toString()", expireTime = 5)
         public void increaseViewCount(String postId) {
-            postDomainService.incrementViewCount(PostId.of(postId));
+            postViewCountService.recordView(postId);
         }
 
         private void updateResource(
@@ -84,6 +90,13 @@ public interface UpdatePostUseCase {
         ) {
             this.deleteResourceIfExists(postId, deleteResources, resourceType);
             this.addResourceIfExists(postId, addResources, resourceType);
+            if (hasChanges(deleteResources) || hasChanges(addResources)) {
+                postResourceBundleService.evict(postId);
+            }
+        }
+
+        private static boolean hasChanges(List<String> resources) {
+            return resources != null && !resources.isEmpty();
         }
 
         private void deleteResourceIfExists(
@@ -2,12 +2,14 @@ package com.backend.immilog.post.application.usecase;
 
 import com.aventrix.jnanoid.jnanoid.NanoIdUtils;
 import com.backend.immilog.post.application.dto.in.PostUploadCommand;
+import com.backend.immilog.post.application.services.PostSearchIndexService;
 import com.backend.immilog.post.application.services.UserValidationService;
 import com.backend.immilog.post.application.services.command.BulkCommandService;
 import com.backend.immilog.post.domain.service.PostDomainService;
 import com.backend.immilog.post.domain.model.post.Post;
 import com.backend.immilog.post.domain.model.resource.ContentResource;
 import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.post.infrastructure.cache.PostFeedPageCache;
 import com.backend.immilog.shared.domain.service.UserDataProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +40,8 @@ public interface UploadPostUseCase {
         private final UserValidationService userValidationService;
         private final BulkCommandService bulkInsertRepository;
         private final UserDataProvider userDataProvider;
+        private final PostSearchIndexService postSearchIndexService;
+        private final PostFeedPageCache postFeedPageCache;
 
         @Override
         @Transactional
@@ -53,6 +57,8 @@ public interface UploadPostUseCase {
             final var newPost = createPost(postUploadCommand, userData);
             final var savedPost = postDomainService.createPost(newPost);
             this.insertAllPostResources(postUploadCommand, savedPost.id().value());
+            postSearchIndexService.postChanged(savedPost.id().value());
+            postFeedPageCache.invalidateFirstPages(savedPost.countryId());
         }
 
         private void insertAllPostResources(
@@ -1,10 +1,21 @@
 package com.backend.immilog.post.domain.events;
 
 import com.backend.immilog.shared.domain.event.CompensationEvent;
+import com.backend.immilog.shared.domain.event.OrderedEvent;
 
 import java.time.LocalDateTime;
 
-public abstract class PostCompensationEvent implements CompensationEvent {
+public abstract class PostCompensationEvent implements CompensationEvent, OrderedEvent {
+
+    public abstract String getPostId();
+
+    /**
+     * 같은 게시글에 대한 보상은 발행 순서대로 처리
+     */
+    @Override
+    public String orderingKey() {
+        return getPostId();
+    }
     
     /**
      * 댓글 수 증가 실패 시 보상 이벤트
@@ -1,6 +1,7 @@
 package com.backend.immilog.post.domain.events;
 
 import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.backend.immilog.shared.domain.event.RequestReplyEvent;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,7 @@ import java.util.List;
 
 public abstract class PostEvent implements DomainEvent {
 
-    public static class InteractionDataRequested extends PostEvent {
+    public static class InteractionDataRequested extends PostEvent implements RequestReplyEvent {
         @Getter
         private String requestId;
         @Getter
@@ -40,7 +41,7 @@ public abstract class PostEvent implements DomainEvent {
         }
     }
 
-    public static class BookmarkPostsRequested extends PostEvent {
+    public static class BookmarkPostsRequested extends PostEvent implements RequestReplyEvent {
         @Getter
         private String requestId;
         @Getter
@@ -71,7 +72,7 @@ public abstract class PostEvent implements DomainEvent {
 
     }
 
-    public static class UserDataRequested extends PostEvent {
+    public static class UserDataRequested extends PostEvent implements RequestReplyEvent {
         @Getter
         private String requestId;
         @Getter
@@ -99,7 +100,7 @@ public abstract class PostEvent implements DomainEvent {
 
     }
 
-    public static class CommentDataRequested extends PostEvent {
+    public static class CommentDataRequested extends PostEvent implements RequestReplyEvent {
         @Getter
         private String requestId;
         @Getter
@@ -3,4 +3,13 @@ package com.backend.immilog.post.domain.model.post;
 public enum Badge {
     HOT,
     WEEKLY_BEST,
+    ;
+
+    /**
+     * 이미 다른 배지가 있는 게시물에도 적용되는지 여부.
+     * HOT은 한 번 붙으면 해제되지 않으므로, 주간 베스트가 HOT을 덮어쓰지 못하면 해당 게시물이 주간 베스트에서 빠진다.
+     */
+    public boolean overridesOtherBadges() {
+        return this == WEEKLY_BEST;
+    }
 }
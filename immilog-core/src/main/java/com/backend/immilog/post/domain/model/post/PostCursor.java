@@ -0,0 +1,98 @@
+package com.backend.immilog.post.domain.model.post;
+
+import com.backend.immilog.post.exception.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.backend.immilog.post.exception.PostErrorCode.INVALID_CURSOR;
+
+/**
+ * 피드 키셋 페이지네이션 커서.
+ * 마지막으로 내려준 게시물의 (정렬 키, post_id)를 담으며, 클라이언트에는 불투명한 Base64 문자열로만 노출됩니다.
+ */
+public record PostCursor(
+        SortingMethods sortingMethod,
+        String sortKey,
+        String postId
+) {
+    private static final String DELIMITER = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public PostCursor {
+        if (sortingMethod == null || sortKey == null || postId == null || postId.isBlank()) {
+            throw new PostException(INVALID_CURSOR);
+        }
+        validateSortKey(sortingMethod, sortKey);
+    }
+
+    public static PostCursor of(
+            SortingMethods sortingMethod,
+            Object sortValue,
+            String postId
+    ) {
+        return new PostCursor(sortingMethod, String.valueOf(sortValue), postId);
+    }
+
+    public static PostCursor decode(
+            String encoded,
+            SortingMethods expectedSortingMethod
+    ) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        String raw;
+        try {
+            raw = new String(DECODER.decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new PostException(INVALID_CURSOR);
+        }
+        var parts = raw.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new PostException(INVALID_CURSOR);
+        }
+        SortingMethods sortingMethod;
+        try {
+            sortingMethod = SortingMethods.valueOf(parts[0]);
+        } catch (IllegalArgumentException e) {
+            throw new PostException(INVALID_CURSOR);
+        }
+        // 다른 정렬 기준으로 발급된 커서를 재사용하면 탐색 조건이 어긋나므로 거부한다
+        if (sortingMethod != expectedSortingMethod) {
+            throw new PostException(INVALID_CURSOR);
+        }
+        return new PostCursor(sortingMethod, parts[1], parts[2]);
+    }
+
+    public String encode() {
+        var raw = sortingMethod.name() + DELIMITER + sortKey + DELIMITER + postId;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * JDBC 파라미터로 바인딩할 정렬 키 값 (작성일 정렬은 LocalDateTime, 나머지는 long)
+     */
+    public Object sortValue() {
+        return sortingMethod == SortingMethods.CREATED_DATE
+                ? LocalDateTime.parse(sortKey)
+                : Long.parseLong(sortKey);
+    }
+
+    private static void validateSortKey(
+            SortingMethods sortingMethod,
+            String sortKey
+    ) {
+        try {
+            if (sortingMethod == SortingMethods.CREATED_DATE) {
+                LocalDateTime.parse(sortKey);
+            } else {
+                Long.parseLong(sortKey);
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new PostException(INVALID_CURSOR);
+        }
+    }
+}
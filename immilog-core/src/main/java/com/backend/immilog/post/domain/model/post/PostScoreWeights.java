@@ -0,0 +1,12 @@
+package com.backend.immilog.post.domain.model.post;
+
+/**
+ * 주간 베스트 점수 가중치. 점수 = 조회수 × view + 댓글수 × comment + 좋아요수 × like
+ */
+public record PostScoreWeights(
+        double view,
+        double comment,
+        double like
+) {
+    public static final PostScoreWeights DEFAULT = new PostScoreWeights(1.0, 3.0, 2.0);
+}
@@ -0,0 +1,16 @@
+package com.backend.immilog.post.domain.model.post;
+
+import java.util.List;
+
+/**
+ * 전체 건수 없이 다음 페이지 존재 여부만 담는 키셋 페이지 결과
+ */
+public record PostSlice(
+        List<Post> posts,
+        PostCursor nextCursor,
+        boolean hasNext
+) {
+    public static PostSlice empty() {
+        return new PostSlice(List.of(), null, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.backend.immilog.post.domain.model.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시물 하나의 태그와 첨부파일을 묶은 조회 모델. 목록용 번들은 태그 앞부분과 대표 첨부파일만 담습니다.
+ */
+public record PostResourceBundle(
+        String postId,
+        List<String> tags,
+        List<String> attachments
+) {
+    public static PostResourceBundle empty(String postId) {
+        return new PostResourceBundle(postId, new ArrayList<>(), new ArrayList<>());
+    }
+}
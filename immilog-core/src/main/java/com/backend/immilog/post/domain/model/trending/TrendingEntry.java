@@ -0,0 +1,10 @@
+package com.backend.immilog.post.domain.model.trending;
+
+/**
+ * 순위에 오른 게시물과 그 점수.
+ */
+public record TrendingEntry(
+        String postId,
+        double score
+) {
+}
@@ -0,0 +1,13 @@
+package com.backend.immilog.post.domain.model.trending;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과거 이력에서 읽은 사용자 행동 하나. 오프라인 재현에서 점수 모델을 검증할 때 사용합니다.
+ */
+public record TrendingEvent(
+        TrendingPostMeta post,
+        TrendingSignal signal,
+        LocalDateTime occurredAt
+) {
+}
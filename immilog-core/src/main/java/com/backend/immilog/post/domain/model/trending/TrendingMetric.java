@@ -0,0 +1,18 @@
+package com.backend.immilog.post.domain.model.trending;
+
+/**
+ * 트렌딩 순위의 종류. 순위마다 별도의 정렬 집합에 점수를 누적합니다.
+ */
+public enum TrendingMetric {
+    HOT("hot");
+
+    private final String key;
+
+    TrendingMetric(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+}
@@ -0,0 +1,14 @@
+package com.backend.immilog.post.domain.model.trending;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 점수를 나눠 담고 게시물 나이를 반영하는 데 필요한 게시물 정보.
+ */
+public record TrendingPostMeta(
+        String postId,
+        String countryId,
+        String category,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.backend.immilog.post.domain.model.trending;
+
+/**
+ * 게시물 하나에 더할 점수. countryId나 category가 없으면 해당 구분의 전체 순위에만 반영됩니다.
+ */
+public record TrendingScoreDelta(
+        String postId,
+        String countryId,
+        String category,
+        double score
+) {
+}
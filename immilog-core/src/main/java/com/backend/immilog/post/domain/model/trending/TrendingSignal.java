@@ -0,0 +1,24 @@
+package com.backend.immilog.post.domain.model.trending;
+
+import java.util.Map;
+
+/**
+ * 트렌딩 점수에 반영되는 사용자 행동과 순위별 가중치.
+ * 모든 행동은 인기(HOT) 순위에 반영되며, 가중치만 다릅니다.
+ */
+public enum TrendingSignal {
+    VIEW(Map.of(TrendingMetric.HOT, 1.0)),
+    LIKE(Map.of(TrendingMetric.HOT, 3.0)),
+    BOOKMARK(Map.of(TrendingMetric.HOT, 4.0)),
+    COMMENT(Map.of(TrendingMetric.HOT, 5.0));
+
+    private final Map<TrendingMetric, Double> weights;
+
+    TrendingSignal(Map<TrendingMetric, Double> weights) {
+        this.weights = weights;
+    }
+
+    public Map<TrendingMetric, Double> weights() {
+        return weights;
+    }
+}
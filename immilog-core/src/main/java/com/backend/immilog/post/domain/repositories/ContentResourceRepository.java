@@ -1,10 +1,12 @@
 package com.backend.immilog.post.domain.repositories;
 
 import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
 import com.backend.immilog.post.domain.model.resource.ResourceType;
 import com.backend.immilog.shared.enums.ContentType;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ContentResourceRepository {
     void deleteAllEntities(
@@ -22,4 +24,10 @@ public interface ContentResourceRepository {
             List<String> postIdList,
             ContentType contentType
     );
+
+    Map<String, PostResourceBundle> findBundlesByContentIdList(
+            List<String> postIdList,
+            int tagLimit,
+            int attachmentLimit
+    );
 }
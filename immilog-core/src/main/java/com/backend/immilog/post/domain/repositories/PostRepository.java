@@ -3,12 +3,17 @@ package com.backend.immilog.post.domain.repositories;
 import com.backend.immilog.post.domain.model.post.Badge;
 import com.backend.immilog.post.domain.model.post.Categories;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostScoreWeights;
+import com.backend.immilog.post.domain.model.post.PostSlice;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostRepository {
@@ -21,13 +26,17 @@ public interface PostRepository {
             Pageable pageable
     );
 
-    Post getPostDetail(String postId);
-
-    Page<Post> getPostsByKeyword(
-            String keyword,
-            Pageable pageable
+    PostSlice getPostsByCursor(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size
     );
 
+    Post getPostDetail(String postId);
+
     Page<Post> getPostsByUserId(
             String userId,
             Pageable pageable
@@ -36,10 +45,52 @@ public interface PostRepository {
     Post save(Post postEntity);
 
     List<Post> getPostsByPostIdList(List<String> postIdList);
+
+    List<Post> getPostSummariesByPostIdList(List<String> postIdList);
+
+    List<String> getPostIdsByBadge(Badge badge);
+
+    Map<String, TrendingPostMeta> getTrendingMetaByPostIds(List<String> postIds);
     
     Optional<Post> findById(String postId);
     
     List<Post> findByBadge(Badge badge);
 
-    List<Post> findPostsInPeriod(LocalDateTime from, LocalDateTime to);
+    List<String> getTopScoredPostIdsInPeriod(
+            LocalDateTime from,
+            LocalDateTime to,
+            PostScoreWeights weights,
+            int minViewCount,
+            int minCommentCount,
+            int limit
+    );
+
+    /**
+     * 배지를 적용하고, 적용된 게시물 ID를 반환합니다. 다른 배지를 덮어쓰지 않는 배지는 배지가 없는 게시물에만 적용합니다.
+     */
+    List<String> applyBadge(
+            List<String> postIds,
+            Badge badge
+    );
+
+    /**
+     * 해당 배지를 모두 해제하고, 해제된 게시물 ID를 반환합니다.
+     */
+    List<String> clearBadge(Badge badge);
+
+    /**
+     * since 이후 공개 게시물이 있는 국가를 게시물 수가 많은 순으로 조회합니다.
+     */
+    List<String> getCountryIdsWithPostsSince(
+            LocalDateTime since,
+            int limit
+    );
+
+    void adjustLikeCount(String postId, long delta);
+
+    int incrementViewCounts(Map<String, Long> deltasByPostId);
+
+    List<String> findPostIdsAfter(String lastPostId, int limit);
+
+    int reconcileLikeCounts(String fromPostId, String toPostId);
 }
\ No newline at end of file
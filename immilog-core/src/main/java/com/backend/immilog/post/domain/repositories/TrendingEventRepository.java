@@ -0,0 +1,18 @@
+package com.backend.immilog.post.domain.repositories;
+
+import com.backend.immilog.post.domain.model.trending.TrendingEvent;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface TrendingEventRepository {
+    /**
+     * 기간 안에 발생한 좋아요/북마크/댓글 이력을 발생 시각 순으로 하나씩 전달합니다.
+     * 조회는 집계 이력이 없어 포함되지 않습니다.
+     */
+    void forEachEventBetween(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<TrendingEvent> consumer
+    );
+}
@@ -0,0 +1,32 @@
+package com.backend.immilog.post.domain.repositories;
+
+import com.backend.immilog.post.domain.model.trending.TrendingEntry;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.model.trending.TrendingScoreDelta;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface TrendingPostRepository {
+    /**
+     * 해당 날짜 버킷의 전체/국가별/카테고리별/국가×카테고리별 순위에 점수를 더합니다.
+     */
+    void incrementScores(
+            TrendingMetric metric,
+            LocalDate day,
+            List<TrendingScoreDelta> deltas
+    );
+
+    /**
+     * 날짜 버킷마다 가중치를 곱해 합산한 순위에서 상위 게시물을 점수 내림차순으로 조회합니다.
+     * countryId나 category가 없으면 해당 구분의 전체 순위를 조회합니다.
+     */
+    List<TrendingEntry> findTopScores(
+            TrendingMetric metric,
+            String countryId,
+            String category,
+            Map<LocalDate, Double> bucketWeights,
+            int limit
+    );
+}
@@ -0,0 +1,14 @@
+package com.backend.immilog.post.domain.search;
+
+import java.util.List;
+
+public record PostSearchDocument(
+        String postId,
+        String title,
+        String content,
+        List<String> tags
+) {
+    public PostSearchDocument {
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+}
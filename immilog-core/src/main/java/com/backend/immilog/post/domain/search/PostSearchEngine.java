@@ -0,0 +1,25 @@
+package com.backend.immilog.post.domain.search;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시물 키워드 검색 백엔드.
+ * 구현체는 관련도 순으로 정렬된 결과와 제목/본문에서 검색어가 처음 나타나는 위치를 함께 반환합니다.
+ */
+public interface PostSearchEngine {
+
+    String name();
+
+    PostSearchPage search(String keyword, Pageable pageable);
+
+    /**
+     * 자체 색인을 유지하는 백엔드만 true를 반환하며, 이 경우 게시물 변경 시 index/remove가 호출됩니다.
+     */
+    default boolean maintainsOwnIndex() {
+        return false;
+    }
+
+    default void index(PostSearchDocument document) {}
+
+    default void remove(String postId) {}
+}
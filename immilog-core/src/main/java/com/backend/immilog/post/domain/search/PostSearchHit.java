@@ -0,0 +1,27 @@
+package com.backend.immilog.post.domain.search;
+
+/**
+ * 검색 결과 한 건. titleOffset/contentOffset은 검색어가 처음 나타나는 문자 위치이며, 일치하지 않으면 -1입니다.
+ */
+public record PostSearchHit(
+        String postId,
+        double score,
+        int titleOffset,
+        int contentOffset,
+        int matchLength
+) {
+    public static final int NO_MATCH = -1;
+
+    public static PostSearchHit of(
+            String postId,
+            double score,
+            String title,
+            String content,
+            String keyword
+    ) {
+        var titleMatch = SnippetLocator.locate(title, keyword);
+        var contentMatch = SnippetLocator.locate(content, keyword);
+        var matchLength = Math.max(titleMatch.length(), contentMatch.length());
+        return new PostSearchHit(postId, score, titleMatch.offset(), contentMatch.offset(), matchLength);
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.immilog.post.domain.search;
+
+import java.util.List;
+
+public record PostSearchPage(
+        List<PostSearchHit> hits,
+        long totalHits
+) {
+    public static PostSearchPage empty() {
+        return new PostSearchPage(List.of(), 0);
+    }
+}
@@ -0,0 +1,39 @@
+package com.backend.immilog.post.domain.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * 텍스트에서 검색어가 처음 나타나는 위치를 대소문자 구분 없이 찾습니다.
+ * 검색어 전체가 없으면 공백으로 나눈 단어 중 가장 앞에 나타나는 단어의 위치를 사용합니다.
+ */
+public final class SnippetLocator {
+
+    public record Match(int offset, int length) {
+        static final Match NONE = new Match(PostSearchHit.NO_MATCH, 0);
+    }
+
+    private SnippetLocator() {}
+
+    public static Match locate(
+            String text,
+            String keyword
+    ) {
+        if (text == null || text.isEmpty() || keyword == null || keyword.isBlank()) {
+            return Match.NONE;
+        }
+        var lowerText = text.toLowerCase(Locale.ROOT);
+        var lowerKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        var whole = lowerText.indexOf(lowerKeyword);
+        if (whole >= 0) {
+            return new Match(whole, lowerKeyword.length());
+        }
+        return Arrays.stream(lowerKeyword.split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> new Match(lowerText.indexOf(word), word.length()))
+                .filter(match -> match.offset() >= 0)
+                .min(Comparator.comparingInt(Match::offset))
+                .orElse(Match.NONE);
+    }
+}
@@ -2,68 +2,63 @@ package com.backend.immilog.post.domain.service;
 
 import com.backend.immilog.post.application.dto.out.PostResult;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
-import com.backend.immilog.post.application.services.query.PostQueryService;
 import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * 배지 적용/해제를 게시물 단위 조회·저장 없이 한 번의 UPDATE로 처리하고,
+ * 실제로 바뀐 게시물의 결과 캐시만 무효화합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BadgeManagementService {
     private final PostDomainRepository postDomainRepository;
-    private final PostQueryService postQueryService;
+    private final PostResultCache postResultCache;
 
-    public void clearBadge(Badge badge) {
-        log.info("[BADGE CLEAR] Clearing {} badges", badge);
-
-        var posts = postQueryService.findByBadge(badge);
-        posts.forEach(post -> {
-            var updatedPost = post.updateBadge(null);
-            postDomainRepository.save(updatedPost);
-        });
+    /**
+     * @return 배지가 해제된 게시물 ID
+     */
+    public List<String> clearBadge(Badge badge) {
+        var clearedIds = postDomainRepository.clearBadge(badge);
+        postResultCache.evictAll(clearedIds);
+        log.info("[BADGE CLEAR] Cleared {} badge from {} posts", badge, clearedIds.size());
+        return clearedIds;
     }
 
-    public void applyBadge(
+    /**
+     * 배지를 적용합니다. {@link Badge#overridesOtherBadges()}가 아니면 이미 다른 배지가 있는 게시물은 건너뜁니다.
+     *
+     * @return 배지가 적용된 게시물 ID
+     */
+    public List<String> applyBadge(
             List<PostResult> posts,
             Badge badge
     ) {
-        log.info("[BADGE APPLY] Updating {} posts with {} badge", posts.size(), badge);
-
-        posts.forEach(postResult -> {
-            try {
-                var post = postQueryService.getPostByIdOptional(postResult.postId());
-                if (post.isPresent()) {
-                    var updatedPost = post.get().updateBadge(badge);
-                    postDomainRepository.save(updatedPost);
-                    log.debug("[BADGE APPLY] Updated post {} with badge {}", postResult.postId(), badge);
-                } else {
-                    log.warn("[BADGE APPLY] Post not found: {}", postResult.postId());
-                }
-            } catch (Exception e) {
-                log.error("[BADGE APPLY] Failed to update badge for post: {}", postResult.postId(), e);
-            }
-        });
+        return applyBadgeToPostIds(posts.stream().map(PostResult::postId).toList(), badge);
     }
 
-    public List<PostResult> filterPostsWithoutBadge(List<PostResult> posts) {
-        return posts.stream()
-                .filter(postResult -> {
-                    var post = postQueryService.getPostByIdOptional(postResult.postId());
-                    if (post.isPresent()) {
-                        var currentBadge = post.get().badge();
-                        boolean hasNoBadge = currentBadge == null;
-                        if (!hasNoBadge) {
-                            log.debug("[BADGE FILTER] Post {} already has badge {}, skipping",
-                                    postResult.postId(), currentBadge);
-                        }
-                        return hasNoBadge;
-                    }
-                    return false;
-                })
-                .toList();
+    /**
+     * {@link #applyBadge(List, Badge)}와 같지만 게시물 ID로 적용합니다.
+     *
+     * @return 배지가 적용된 게시물 ID
+     */
+    public List<String> applyBadgeToPostIds(
+            List<String> candidateIds,
+            Badge badge
+    ) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        var postIds = candidateIds.stream().distinct().toList();
+        var appliedIds = postDomainRepository.applyBadge(postIds, badge);
+        postResultCache.evictAll(appliedIds);
+        log.info("[BADGE APPLY] Applied {} badge to {} of {} posts", badge, appliedIds.size(), postIds.size());
+        return appliedIds;
     }
-}
\ No newline at end of file
+}
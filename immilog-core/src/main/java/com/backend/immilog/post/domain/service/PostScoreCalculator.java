@@ -1,27 +1,33 @@
 package com.backend.immilog.post.domain.service;
 
 import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.domain.model.post.PostScoreWeights;
 import org.springframework.stereotype.Service;
 
 @Service
 public class PostScoreCalculator {
-    private static final double VIEW_WEIGHT = 1.0;
-    private static final double COMMENT_WEIGHT = 3.0;
-    private static final double LIKE_WEIGHT = 2.0;
+    private final PostScoreWeights weights = PostScoreWeights.DEFAULT;
+
+    /**
+     * 점수 계산에 쓰는 가중치. 주간 베스트는 같은 가중치로 DB에서 점수를 계산합니다.
+     */
+    public PostScoreWeights weights() {
+        return weights;
+    }
 
     public double calculate(PostResult post) {
         double score = 0.0;
 
         if (post.viewCount() != null) {
-            score += post.viewCount() * VIEW_WEIGHT;
+            score += post.viewCount() * weights.view();
         }
         if (post.commentCount() != null) {
-            score += post.commentCount() * COMMENT_WEIGHT;
+            score += post.commentCount() * weights.comment();
         }
         if (post.likeCount() != null) {
-            score += post.likeCount() * LIKE_WEIGHT;
+            score += post.likeCount() * weights.like();
         }
 
         return score;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.backend.immilog.post.domain.service.ranking;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 행동마다 반감기 기준으로 점수가 줄어드는 모델. 점수는 points × 2^(-(now - occurredAt) / halfLife) 입니다.
+ * 버킷에는 버킷 시작 시각 기준으로 키운 값(points × 2^((occurredAt - dayStart) / halfLife))을 더하고,
+ * 조회 시 버킷 가중치 2^(-(now - dayStart) / halfLife)를 곱하므로 저장된 값을 다시 쓰지 않고도 정확히 감쇠됩니다.
+ */
+public class ExponentialDecayRankingModel implements PostRankingModel {
+    private final double halfLifeHours;
+
+    public ExponentialDecayRankingModel(Duration halfLife) {
+        if (halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("Half-life must be positive: " + halfLife);
+        }
+        this.halfLifeHours = halfLife.toMillis() / 3_600_000.0;
+    }
+
+    @Override
+    public double bucketScore(
+            double points,
+            LocalDateTime occurredAt,
+            LocalDate bucketDay
+    ) {
+        var hoursIntoBucket = PostRankingModel.hoursBetween(bucketDay.atStartOfDay(), occurredAt);
+        return points * Math.pow(2, hoursIntoBucket / halfLifeHours);
+    }
+
+    @Override
+    public double bucketWeight(
+            LocalDate bucketDay,
+            LocalDateTime now
+    ) {
+        var bucketAgeHours = PostRankingModel.hoursBetween(bucketDay.atStartOfDay(), now);
+        return Math.pow(2, -bucketAgeHours / halfLifeHours);
+    }
+}
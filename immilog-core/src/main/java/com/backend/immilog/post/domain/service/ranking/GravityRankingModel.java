@@ -0,0 +1,55 @@
+package com.backend.immilog.post.domain.service.ranking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 집계 기간의 점수 합을 게시물 나이로 나누는 모델. 점수는 sum / (ageHours + 2)^gravity 입니다.
+ * 감쇠가 행동 시각이 아니라 게시물 작성 시각에 걸리므로, 오래된 게시물은 반응이 계속 들어와도 서서히 내려갑니다.
+ */
+public class GravityRankingModel implements PostRankingModel {
+    private final double gravity;
+
+    public GravityRankingModel(double gravity) {
+        if (gravity <= 0) {
+            throw new IllegalArgumentException("Gravity must be positive: " + gravity);
+        }
+        this.gravity = gravity;
+    }
+
+    @Override
+    public double bucketScore(
+            double points,
+            LocalDateTime occurredAt,
+            LocalDate bucketDay
+    ) {
+        return points;
+    }
+
+    @Override
+    public double bucketWeight(
+            LocalDate bucketDay,
+            LocalDateTime now
+    ) {
+        return 1.0;
+    }
+
+    @Override
+    public double finalScore(
+            double accumulated,
+            LocalDateTime postCreatedAt,
+            LocalDateTime now
+    ) {
+        var score = Math.max(0, accumulated);
+        if (postCreatedAt == null) {
+            return score;
+        }
+        var ageHours = Math.max(0, PostRankingModel.hoursBetween(postCreatedAt, now));
+        return score / Math.pow(ageHours + 2, gravity);
+    }
+
+    @Override
+    public boolean usesPostAge() {
+        return true;
+    }
+}
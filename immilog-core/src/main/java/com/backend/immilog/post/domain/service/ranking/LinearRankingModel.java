@@ -0,0 +1,27 @@
+package com.backend.immilog.post.domain.service.ranking;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 감쇠 없이 집계 기간 안의 점수를 그대로 더하는 모델.
+ */
+public class LinearRankingModel implements PostRankingModel {
+
+    @Override
+    public double bucketScore(
+            double points,
+            LocalDateTime occurredAt,
+            LocalDate bucketDay
+    ) {
+        return points;
+    }
+
+    @Override
+    public double bucketWeight(
+            LocalDate bucketDay,
+            LocalDateTime now
+    ) {
+        return 1.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.backend.immilog.post.domain.service.ranking;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 트렌딩 점수 계산 모델.
+ * 점수는 일 단위 버킷에 증분으로 누적되므로, 모델은 버킷에 더할 값과 버킷을 합칠 때의 가중치로 시간 감쇠를 표현합니다.
+ * 게시물 나이처럼 버킷만으로 표현할 수 없는 요소는 합산 이후 {@link #finalScore}에서 반영합니다.
+ */
+public interface PostRankingModel {
+
+    /**
+     * occurredAt에 발생한 points점을 bucketDay 버킷에 더할 값으로 변환합니다.
+     */
+    double bucketScore(
+            double points,
+            LocalDateTime occurredAt,
+            LocalDate bucketDay
+    );
+
+    /**
+     * now 시점에 bucketDay 버킷의 합계에 곱할 가중치를 반환합니다.
+     */
+    double bucketWeight(
+            LocalDate bucketDay,
+            LocalDateTime now
+    );
+
+    /**
+     * 버킷을 합산한 점수에 게시물 나이를 반영합니다. 나이를 쓰지 않는 모델은 0 미만만 잘라내고 그대로 반환합니다.
+     * 취소(좋아요 해제 등)는 원래 행동이 아니라 취소 시각 기준으로 기록되므로, 감쇠 모델에서는 합계가 음수로 남을 수 있습니다.
+     */
+    default double finalScore(
+            double accumulated,
+            LocalDateTime postCreatedAt,
+            LocalDateTime now
+    ) {
+        return Math.max(0, accumulated);
+    }
+
+    /**
+     * {@link #finalScore}가 게시물 작성 시각을 필요로 하는지 여부. 필요하면 후보를 넉넉히 읽어 다시 정렬합니다.
+     */
+    default boolean usesPostAge() {
+        return false;
+    }
+
+    static double hoursBetween(
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        return Duration.between(from, to).toMillis() / 3_600_000.0;
+    }
+}
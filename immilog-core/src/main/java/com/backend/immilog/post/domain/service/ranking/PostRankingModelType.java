@@ -0,0 +1,34 @@
+package com.backend.immilog.post.domain.service.ranking;
+
+import java.time.Duration;
+
+/**
+ * 설정으로 고를 수 있는 트렌딩 점수 모델.
+ * 버킷에 저장되는 값의 의미가 모델마다 다르므로 저장소 키에 모델 키를 포함해 서로 섞이지 않게 합니다.
+ */
+public enum PostRankingModelType {
+    LINEAR("linear"),
+    EXPONENTIAL("exp"),
+    GRAVITY("gravity");
+
+    private final String key;
+
+    PostRankingModelType(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public PostRankingModel create(
+            Duration halfLife,
+            double gravity
+    ) {
+        return switch (this) {
+            case LINEAR -> new LinearRankingModel();
+            case EXPONENTIAL -> new ExponentialDecayRankingModel(halfLife);
+            case GRAVITY -> new GravityRankingModel(gravity);
+        };
+    }
+}
@@ -20,7 +20,8 @@ public enum PostErrorCode implements ErrorCode {
     BADGE_NOT_FOUND(BAD_REQUEST, "뱃지 값이 비어있습니다."),
     POST_ALREADY_DELETED(BAD_REQUEST, "이미 삭제된 게시물입니다."),
     INVALID_PUBLIC_STATUS(BAD_REQUEST, "게시물의 공개 상태가 유효하지 않습니다."),
-    INVALID_POST_DATA(BAD_REQUEST, "게시물 데이터가 유효하지 않습니다.");
+    INVALID_POST_DATA(BAD_REQUEST, "게시물 데이터가 유효하지 않습니다."),
+    INVALID_CURSOR(BAD_REQUEST, "유효하지 않은 페이지 커서입니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,195 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.dto.out.PopularPostMenuSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 국가별 인기글 메뉴 스냅샷을 버전 단위로 Redis에 gzip 압축해 저장하고, 노드 메모리에 캐시해 제공합니다.
+ * 스냅샷은 post:popular-menu:{version}:{국가|ALL}에 모두 쓴 뒤 마지막에 현재 버전 포인터를 바꾸므로,
+ * 읽는 쪽은 항상 같은 재구성에서 만들어진 스냅샷만 봅니다. 이전 버전은 TTL로 만료됩니다.
+ * 포인터는 더 큰 버전으로만 바뀌므로 늦게 끝난 재구성이 최신 스냅샷을 되돌리지 않습니다.
+ * 재구성은 여러 노드에서 동시에 실행되지 않도록 소유자 값을 가진 잠금으로 보호합니다.
+ * 조회 시 현재 버전만 확인하고, 메모리에 있는 스냅샷의 버전과 같으면 Redis에서 본문을 다시 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class PopularPostMenuSnapshotStore {
+    private static final String KEY_PREFIX = "post:popular-menu:";
+    private static final String VERSION_SEQUENCE_KEY = KEY_PREFIX + "version-seq";
+    private static final String CURRENT_VERSION_KEY = KEY_PREFIX + "current";
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+    private static final String GLOBAL_SCOPE = "ALL";
+    private static final RedisScript<Long> ADVANCE_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if tonumber(ARGV[1]) > current then
+                redis.call('SET', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PostConfiguration postConfiguration;
+    private final Cache<String, PopularPostMenuSnapshot> localSnapshots;
+
+    public PopularPostMenuSnapshotStore(
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            PostConfiguration postConfiguration
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.postConfiguration = postConfiguration;
+        this.localSnapshots = Caffeine.newBuilder()
+                .maximumSize(postConfiguration.getPopularMenuMaxCountries() + 1L)
+                .build();
+    }
+
+    public long nextVersion() {
+        var version = stringRedisTemplate.opsForValue().increment(VERSION_SEQUENCE_KEY);
+        if (version == null) {
+            throw new IllegalStateException("Failed to allocate popular menu snapshot version");
+        }
+        return version;
+    }
+
+    /**
+     * 재구성 잠금을 시도합니다. 잠금은 popularMenuRebuildLockTtl이 지나면 스스로 풀리므로 재구성이 중단되어도 남지 않습니다.
+     */
+    public boolean tryAcquireRebuildLock(String owner) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(
+                REBUILD_LOCK_KEY,
+                owner,
+                postConfiguration.getPopularMenuRebuildLockTtl()
+        ));
+    }
+
+    /**
+     * 자신이 가진 잠금만 해제합니다. TTL이 지나 다른 노드가 가져간 잠금은 건드리지 않습니다.
+     */
+    public void releaseRebuildLock(String owner) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release popular menu rebuild lock: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 버전의 스냅샷을 모두 저장한 뒤 현재 버전보다 클 때만 현재 버전으로 공개합니다.
+     * 키는 국가 ID이며, 전체 국가 메뉴는 null 키로 전달합니다.
+     *
+     * @return 현재 버전으로 공개되었는지 여부
+     */
+    public boolean publish(
+            long version,
+            Map<String, PopularPostMenuSnapshot> snapshotsByCountry
+    ) {
+        var ttlSeconds = postConfiguration.getPopularMenuSnapshotTtl().toSeconds();
+        for (var entry : snapshotsByCountry.entrySet()) {
+            var key = snapshotKey(version, entry.getKey()).getBytes(StandardCharsets.UTF_8);
+            var value = compress(entry.getValue());
+            stringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.stringCommands().setEx(key, ttlSeconds, value));
+        }
+        var advanced = stringRedisTemplate.execute(ADVANCE_VERSION_SCRIPT, List.of(CURRENT_VERSION_KEY), String.valueOf(version));
+        if (!Long.valueOf(1L).equals(advanced)) {
+            log.info("Skipped publishing popular menu snapshot v{}, a newer version is already current", version);
+            return false;
+        }
+        log.info("Published popular menu snapshot v{} for {} scopes", version, snapshotsByCountry.size());
+        return true;
+    }
+
+    /**
+     * 현재 버전의 국가 스냅샷을 반환합니다. 국가 스냅샷이 없으면 전체 국가 스냅샷을 반환하며,
+     * 공개된 스냅샷이 없거나 Redis 장애 시에는 빈 값을 반환합니다.
+     */
+    public Optional<PopularPostMenuSnapshot> find(String countryId) {
+        try {
+            var current = stringRedisTemplate.opsForValue().get(CURRENT_VERSION_KEY);
+            if (current == null) {
+                return Optional.empty();
+            }
+            var version = Long.parseLong(current);
+            return load(version, countryId).or(() -> countryId == null ? Optional.empty() : load(version, null));
+        } catch (Exception e) {
+            log.warn("Failed to read popular menu snapshot for {}: {}", scopeOf(countryId), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<PopularPostMenuSnapshot> load(
+            long version,
+            String countryId
+    ) {
+        var scope = scopeOf(countryId);
+        var cached = localSnapshots.getIfPresent(scope);
+        if (cached != null && cached.version() == version) {
+            return Optional.of(cached);
+        }
+        var key = snapshotKey(version, countryId).getBytes(StandardCharsets.UTF_8);
+        var value = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        if (value == null) {
+            return Optional.empty();
+        }
+        var snapshot = decompress(value);
+        localSnapshots.put(scope, snapshot);
+        return Optional.of(snapshot);
+    }
+
+    private byte[] compress(PopularPostMenuSnapshot snapshot) {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            objectMapper.writeValue(gzip, snapshot);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compress popular menu snapshot", e);
+        }
+        return output.toByteArray();
+    }
+
+    private PopularPostMenuSnapshot decompress(byte[] value) {
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(value))) {
+            return objectMapper.readValue(gzip, PopularPostMenuSnapshot.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decompress popular menu snapshot", e);
+        }
+    }
+
+    private static String snapshotKey(
+            long version,
+            String countryId
+    ) {
+        return KEY_PREFIX + version + ":" + scopeOf(countryId);
+    }
+
+    private static String scopeOf(String countryId) {
+        return countryId == null || countryId.isBlank() ? GLOBAL_SCOPE : countryId;
+    }
+}
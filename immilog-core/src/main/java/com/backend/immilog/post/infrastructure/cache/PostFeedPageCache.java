@@ -0,0 +1,181 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.shared.infrastructure.event.EventNodeIdentifier;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 게시물 목록 페이지 캐시. 조회 조건(국가, 카테고리, 정렬, 공개 여부, 페이지)별로 post_id 목록과 전체 건수만 짧게 보관합니다.
+ * 같은 조건의 동시 요청은 진행 중인 조회 하나를 함께 기다리므로(single-flight) 캐시 만료 직후에도 DB 조회는 한 번만 발생합니다.
+ * 게시물 본문은 {@link PostResultCache}에서 따로 채웁니다.
+ */
+@Slf4j
+@Component
+public class PostFeedPageCache {
+    public static final String INVALIDATION_CHANNEL = "post-feed-page-invalidation";
+    private static final String DELIMITER = "|";
+    private static final String ALL_COUNTRIES = "ALL";
+
+    private final AsyncCache<FeedPageKey, FeedPage> pages;
+    private final RedisTemplate<String, Object> eventRedisTemplate;
+    private final EventNodeIdentifier eventNodeIdentifier;
+    private final Duration loadWaitTimeout;
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter loads;
+    private final Counter waitTimeouts;
+
+    public PostFeedPageCache(
+            PostConfiguration postConfiguration,
+            RedisTemplate<String, Object> eventRedisTemplate,
+            EventNodeIdentifier eventNodeIdentifier,
+            MeterRegistry meterRegistry
+    ) {
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(postConfiguration.getFeedPageCacheMaxSize())
+                .expireAfterWrite(postConfiguration.getFeedPageCacheTtl())
+                .buildAsync();
+        this.eventRedisTemplate = eventRedisTemplate;
+        this.eventNodeIdentifier = eventNodeIdentifier;
+        this.loadWaitTimeout = postConfiguration.getFeedPageLoadWaitTimeout();
+        this.hits = counter(meterRegistry, "hit");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.loads = counter(meterRegistry, "load");
+        this.waitTimeouts = counter(meterRegistry, "wait-timeout");
+    }
+
+    /**
+     * 캐시된 페이지를 반환하거나, 없으면 호출 스레드에서 loader를 한 번만 실행합니다.
+     * loader가 실패하면(Error 포함) 기다리던 요청 모두에 예외가 전달되고 항목은 캐시에서 제거됩니다.
+     * 진행 중인 조회를 기다리는 요청은 feedPageLoadWaitTimeout이 지나면 캐시를 거치지 않고 직접 조회합니다.
+     */
+    public FeedPage get(
+            FeedPageKey key,
+            Supplier<FeedPage> loader
+    ) {
+        var pending = new CompletableFuture<FeedPage>();
+        // 조회를 맵 잠금 밖에서 실행하기 위해 미완료 future를 먼저 등록하고, 등록에 성공한 요청만 조회한다
+        var existing = pages.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            (existing.isDone() ? hits : coalesced).increment();
+            return join(existing, loader);
+        }
+        loads.increment();
+        try {
+            var page = loader.get();
+            pending.complete(page);
+            return page;
+        } catch (Throwable t) {
+            pages.asMap().remove(key, pending);
+            pending.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * 국가에 새 게시물이 올라오면 해당 국가와 전체 국가 조건의 첫 페이지를 커밋 이후에 비우고 다른 노드에도 전파합니다.
+     * 이후 페이지는 TTL이 짧아 곧 갱신되므로 그대로 둡니다.
+     */
+    public void invalidateFirstPages(String countryId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAndBroadcast(countryId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAndBroadcast(countryId);
+            }
+        });
+    }
+
+    public void onRemoteInvalidation(String message) {
+        var parts = message.split("\\" + DELIMITER, 2);
+        if (parts.length != 2 || eventNodeIdentifier.isLocal(parts[0])) {
+            return;
+        }
+        invalidateLocal(parts[1]);
+    }
+
+    private void invalidateAndBroadcast(String countryId) {
+        invalidateLocal(countryId);
+        try {
+            eventRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, eventNodeIdentifier.getNodeId() + DELIMITER + countryId);
+        } catch (Exception e) {
+            log.warn("Failed to broadcast feed page invalidation for country {}: {}", countryId, e.getMessage());
+        }
+    }
+
+    private void invalidateLocal(String countryId) {
+        pages.asMap().keySet().removeIf(key -> key.pageNumber() == 0 && key.includesCountry(countryId));
+    }
+
+    private FeedPage join(
+            CompletableFuture<FeedPage> future,
+            Supplier<FeedPage> loader
+    ) {
+        try {
+            return future.get(loadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            waitTimeouts.increment();
+            log.warn("Timed out after {} waiting for in-flight feed page load, loading directly", loadWaitTimeout);
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Counter counter(
+            MeterRegistry meterRegistry,
+            String result
+    ) {
+        return Counter.builder("post.feed.page.cache").tag("result", result).register(meterRegistry);
+    }
+
+    public record FeedPageKey(
+            String countryId,
+            Categories category,
+            SortingMethods sortingMethod,
+            String isPublic,
+            int pageNumber,
+            int pageSize
+    ) {
+        boolean includesCountry(String newPostCountryId) {
+            return countryId == null || ALL_COUNTRIES.equals(countryId) || countryId.equals(newPostCountryId);
+        }
+    }
+
+    public record FeedPage(
+            List<String> postIds,
+            long totalElements
+    ) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
+import com.backend.immilog.shared.config.database.CacheNames;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물별 태그/첨부파일 번들의 Redis 캐시. 목록용과 상세용 번들은 {@link PostResultCache.View}로 구분해 저장합니다.
+ * 리소스가 수정되면 커밋 이후 두 가지 번들을 함께 지웁니다. Redis 장애 시에는 캐시 미스로 처리합니다.
+ */
+@Slf4j
+@Component
+public class PostResourceBundleCache {
+    private final Cache cache;
+    private final RedisCacheBatchOperations batchOperations;
+
+    public PostResourceBundleCache(
+            RedisCacheManager cacheManager,
+            RedisTemplate<String, Object> eventRedisTemplate
+    ) {
+        this.cache = cacheManager.getCache(CacheNames.POST_RESOURCE_BUNDLE);
+        this.batchOperations = new RedisCacheBatchOperations(cacheManager, CacheNames.POST_RESOURCE_BUNDLE, eventRedisTemplate);
+    }
+
+    /**
+     * 캐시에 있는 번들만 요청 순서대로 반환합니다. 없는 postId는 결과에 포함되지 않습니다. 번들은 MGET 한 번으로 읽습니다.
+     */
+    public Map<String, PostResourceBundle> getAll(
+            PostResultCache.View view,
+            Collection<String> postIds
+    ) {
+        var found = new LinkedHashMap<String, PostResourceBundle>();
+        try {
+            var keys = postIds.stream().map(view::key).distinct().toList();
+            var bundles = batchOperations.getAll(keys, PostResourceBundle.class);
+            for (var postId : postIds) {
+                var bundle = bundles.get(view.key(postId));
+                if (bundle != null) {
+                    found.put(postId, bundle);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read resource bundles from cache: {}", e.getMessage());
+        }
+        return found;
+    }
+
+    public void putAll(
+            PostResultCache.View view,
+            Collection<PostResourceBundle> bundles
+    ) {
+        try {
+            bundles.forEach(bundle -> cache.put(view.key(bundle.postId()), bundle));
+        } catch (Exception e) {
+            log.warn("Failed to write {} resource bundles to cache: {}", bundles.size(), e.getMessage());
+        }
+    }
+
+    public void evict(String postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(postId);
+            }
+        });
+    }
+
+    private void evictNow(String postId) {
+        try {
+            PostResultCache.View.keysOf(List.of(postId)).forEach(cache::evict);
+        } catch (Exception e) {
+            log.warn("Failed to evict resource bundle of post {}: {}", postId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.shared.config.database.CacheNames;
+import com.backend.immilog.shared.domain.service.ContentCacheInvalidator;
+import com.backend.immilog.shared.enums.ContentType;
+import com.backend.immilog.shared.infrastructure.event.EventNodeIdentifier;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시물 단건 조회 결과(PostResult)의 2단 캐시.
+ * L1은 노드별 Caffeine(크기/시간 제한), L2는 RedisCacheManager의 postResult 캐시입니다.
+ * 무효화는 커밋 이후 L1/L2에서 지우고, Redis Pub/Sub으로 다른 노드의 L1도 지우도록 전파합니다.
+ * 목록용 요약(본문 앞부분만 포함)과 상세 결과는 {@link View}로 구분해 따로 저장하고, 무효화는 두 가지를 함께 지웁니다.
+ * 요청 헤더 X-Post-Cache-Bypass: true 가 있으면 캐시를 읽지 않고 새로 조립한 결과로 캐시를 갱신합니다.
+ */
+@Slf4j
+@Component
+public class PostResultCache implements ContentCacheInvalidator {
+    public static final String INVALIDATION_CHANNEL = "post-result-cache-invalidation";
+    public static final String BYPASS_HEADER = "X-Post-Cache-Bypass";
+    private static final String DELIMITER = "|";
+    private static final String ID_SEPARATOR = ",";
+
+    private final Cache<String, PostResult> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final RedisCacheBatchOperations remoteBatch;
+    private final RedisTemplate<String, Object> eventRedisTemplate;
+    private final EventNodeIdentifier eventNodeIdentifier;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    public PostResultCache(
+            PostConfiguration postConfiguration,
+            RedisCacheManager cacheManager,
+            RedisTemplate<String, Object> eventRedisTemplate,
+            EventNodeIdentifier eventNodeIdentifier,
+            MeterRegistry meterRegistry
+    ) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(postConfiguration.getPostCacheMaxSize())
+                .expireAfterWrite(postConfiguration.getPostCacheLocalTtl())
+                .recordStats()
+                .build();
+        this.remoteCache = cacheManager.getCache(CacheNames.POST_RESULT);
+        this.remoteBatch = new RedisCacheBatchOperations(cacheManager, CacheNames.POST_RESULT, eventRedisTemplate);
+        this.eventRedisTemplate = eventRedisTemplate;
+        this.eventNodeIdentifier = eventNodeIdentifier;
+
+        // L1 적중/실패/퇴출은 Caffeine 통계로, L2와 무효화는 별도 카운터로 기록한다
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.result.l1");
+        this.remoteHits = counter(meterRegistry, "post.result.cache.l2", "result", "hit");
+        this.remoteMisses = counter(meterRegistry, "post.result.cache.l2", "result", "miss");
+        this.remoteErrors = counter(meterRegistry, "post.result.cache.l2", "result", "error");
+        this.localInvalidations = counter(meterRegistry, "post.result.cache.invalidations", "source", "local");
+        this.remoteInvalidations = counter(meterRegistry, "post.result.cache.invalidations", "source", "remote");
+    }
+
+    public Optional<PostResult> get(
+            View view,
+            String postId
+    ) {
+        if (isBypassRequested()) {
+            return Optional.empty();
+        }
+        var key = view.key(postId);
+        var local = localCache.getIfPresent(key);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        var remote = readRemote(key);
+        remote.ifPresent(result -> localCache.put(key, result));
+        return remote;
+    }
+
+    /**
+     * 캐시에 있는 결과만 요청 순서대로 반환합니다. 없는 postId는 결과에 포함되지 않습니다.
+     * L1에 없는 게시물은 L2에서 한 번에 읽어 L1을 채웁니다.
+     */
+    public Map<String, PostResult> getAll(
+            View view,
+            Collection<String> postIds
+    ) {
+        var found = new LinkedHashMap<String, PostResult>();
+        if (isBypassRequested()) {
+            return found;
+        }
+        var cached = new HashMap<String, PostResult>();
+        var missingKeys = new LinkedHashSet<String>();
+        for (var postId : postIds) {
+            var key = view.key(postId);
+            var local = localCache.getIfPresent(key);
+            if (local != null) {
+                cached.put(key, local);
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        readRemote(List.copyOf(missingKeys)).forEach((key, result) -> {
+            localCache.put(key, result);
+            cached.put(key, result);
+        });
+        for (var postId : postIds) {
+            var result = cached.get(view.key(postId));
+            if (result != null) {
+                found.put(postId, result);
+            }
+        }
+        return found;
+    }
+
+    public void put(
+            View view,
+            PostResult postResult
+    ) {
+        if (postResult == null || postResult.postId() == null) {
+            return;
+        }
+        var key = view.key(postResult.postId());
+        localCache.put(key, postResult);
+        try {
+            remoteCache.put(key, postResult);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Failed to write post {} to L2 cache: {}", postResult.postId(), e.getMessage());
+        }
+    }
+
+    /**
+     * DB에 반영한 조회수 증가분을 캐시된 결과의 조회수에 더합니다.
+     * 반영 전에는 캐시 값에 미반영 증가분을 더해 보여주므로, 캐시 값을 그대로 두면 반영 직후 조회수가 줄어 보입니다.
+     * L1은 이 노드의 항목만, L2는 읽은 뒤 바뀌지 않은 항목만 TTL을 유지한 채 고쳐 쓰며, 캐시에 없는 게시물은 건너뜁니다.
+     */
+    public void addViewCounts(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        var deltaByKey = new LinkedHashMap<String, Long>();
+        deltas.forEach((postId, delta) -> View.keysOf(List.of(postId)).forEach(key -> deltaByKey.put(key, delta)));
+        deltaByKey.forEach((key, delta) -> localCache.asMap().computeIfPresent(key, (k, result) -> withAddedViews(result, delta)));
+        try {
+            remoteBatch.updateAll(List.copyOf(deltaByKey.keySet()), PostResult.class, (key, result) -> withAddedViews(result, deltaByKey.get(key)));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Failed to add view counts for {} posts to L2 cache: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    public void evict(String postId) {
+        if (postId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAndBroadcast(postId);
+            return;
+        }
+        // 커밋 전에 지우면 동시 조회가 이전 값을 다시 채울 수 있으므로 커밋 이후에 지운다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAndBroadcast(postId);
+            }
+        });
+    }
+
+    /**
+     * 여러 게시물을 한 번에 무효화합니다. 다른 노드에는 메시지 하나로 전파하며, 트랜잭션 안에서는 커밋 이후에 지웁니다.
+     */
+    public void evictAll(Collection<String> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictAllAndBroadcast(postIds);
+            return;
+        }
+        var snapshot = List.copyOf(postIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictAllAndBroadcast(snapshot);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(
+            String contentId,
+            ContentType contentType
+    ) {
+        if (contentType == ContentType.POST) {
+            evict(contentId);
+        }
+    }
+
+    /**
+     * 다른 노드가 보낸 무효화 메시지를 받아 이 노드의 L1만 지웁니다. L2는 발행한 노드가 이미 지웠습니다.
+     */
+    public void onRemoteInvalidation(String message) {
+        var parts = message.split("\\" + DELIMITER, 2);
+        if (parts.length != 2 || eventNodeIdentifier.isLocal(parts[0])) {
+            return;
+        }
+        var postIds = List.of(parts[1].split(ID_SEPARATOR));
+        localCache.invalidateAll(View.keysOf(postIds));
+        remoteInvalidations.increment(postIds.size());
+    }
+
+    private void evictAndBroadcast(String postId) {
+        var keys = View.keysOf(List.of(postId));
+        localCache.invalidateAll(keys);
+        localInvalidations.increment();
+        try {
+            keys.forEach(remoteCache::evict);
+            eventRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, eventNodeIdentifier.getNodeId() + DELIMITER + postId);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Failed to invalidate post {} in L2 cache: {}", postId, e.getMessage());
+        }
+    }
+
+    private void evictAllAndBroadcast(Collection<String> postIds) {
+        var keys = View.keysOf(postIds);
+        localCache.invalidateAll(keys);
+        localInvalidations.increment(postIds.size());
+        try {
+            keys.forEach(remoteCache::evict);
+            eventRedisTemplate.convertAndSend(
+                    INVALIDATION_CHANNEL,
+                    eventNodeIdentifier.getNodeId() + DELIMITER + String.join(ID_SEPARATOR, postIds)
+            );
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Failed to invalidate {} posts in L2 cache: {}", postIds.size(), e.getMessage());
+        }
+    }
+
+    private Optional<PostResult> readRemote(String key) {
+        try {
+            var remote = remoteCache.get(key, PostResult.class);
+            (remote == null ? remoteMisses : remoteHits).increment();
+            return Optional.ofNullable(remote);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Failed to read {} from L2 cache: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, PostResult> readRemote(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            var remote = remoteBatch.getAll(keys, PostResult.class);
+            remoteHits.increment(remote.size());
+            remoteMisses.increment(keys.size() - remote.size());
+            return remote;
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Failed to read {} keys from L2 cache: {}", keys.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static PostResult withAddedViews(
+            PostResult postResult,
+            long delta
+    ) {
+        var viewCount = postResult.viewCount() == null ? 0L : postResult.viewCount();
+        return postResult.toBuilder().viewCount(viewCount + delta).build();
+    }
+
+    private static boolean isBypassRequested() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        return Boolean.parseBoolean(attributes.getRequest().getHeader(BYPASS_HEADER));
+    }
+
+    private static Counter counter(
+            MeterRegistry meterRegistry,
+            String name,
+            String tagKey,
+            String tagValue
+    ) {
+        return Counter.builder(name).tag(tagKey, tagValue).register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 저장하는 결과의 형태. 목록 조회는 본문 앞부분만 읽으므로 상세 결과와 같은 키를 쓰면 안 된다.
+     */
+    public enum View {
+        SUMMARY,
+        DETAIL;
+
+        String key(String postId) {
+            return name().toLowerCase() + ":" + postId;
+        }
+
+        static List<String> keysOf(Collection<String> postIds) {
+            return postIds.stream()
+                    .flatMap(postId -> Arrays.stream(values()).map(view -> view.key(postId)))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Configuration
+public class PostResultCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer postResultCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostResultCache postResultCache
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> postResultCache.onRemoteInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)
+                ),
+                new ChannelTopic(PostResultCache.INVALIDATION_CHANNEL)
+        );
+        log.info("Subscribed to post result cache invalidation channel: {}", PostResultCache.INVALIDATION_CHANNEL);
+        return container;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer postFeedPageCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostFeedPageCache postFeedPageCache
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> postFeedPageCache.onRemoteInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)
+                ),
+                new ChannelTopic(PostFeedPageCache.INVALIDATION_CHANNEL)
+        );
+        log.info("Subscribed to post feed page cache invalidation channel: {}", PostFeedPageCache.INVALIDATION_CHANNEL);
+        return container;
+    }
+}
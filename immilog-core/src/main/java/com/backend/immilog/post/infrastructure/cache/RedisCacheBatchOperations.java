@@ -0,0 +1,127 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * RedisCacheManager 캐시의 여러 키를 한 번에 읽고 고쳐 씁니다.
+ * Spring Cache는 키 단위 조회/저장만 제공하므로, 캐시 설정의 키 접두사와 직렬화 방식을 그대로 적용해 직접 다룹니다.
+ * 예외는 호출자에게 그대로 전달하며, 캐시 미스 처리 여부는 호출자가 정합니다.
+ */
+final class RedisCacheBatchOperations {
+    // 읽은 값이 그대로일 때만 바꿔 쓰고 남은 TTL은 유지한다. 그 사이 무효화되었거나 다른 값으로 채워진 키는 건너뛴다
+    private static final byte[] COMPARE_AND_SET_SCRIPT = """
+            local updated = 0
+            for i, key in ipairs(KEYS) do
+                if redis.call('GET', key) == ARGV[2 * i - 1] then
+                    redis.call('SET', key, ARGV[2 * i], 'KEEPTTL')
+                    updated = updated + 1
+                end
+            end
+            return updated
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final String cacheName;
+    private final RedisCacheConfiguration configuration;
+    private final RedisTemplate<String, ?> redisTemplate;
+
+    RedisCacheBatchOperations(
+            RedisCacheManager cacheManager,
+            String cacheName,
+            RedisTemplate<String, ?> redisTemplate
+    ) {
+        this.cacheName = cacheName;
+        this.configuration = cacheManager.getCacheConfigurations().get(cacheName);
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 캐시에 있는 값만 키 순서대로 반환합니다. 없는 키와 다른 타입의 값(null 표식 포함)은 결과에 포함되지 않습니다.
+     */
+    <T> Map<String, T> getAll(
+            List<String> keys,
+            Class<T> type
+    ) {
+        var found = new LinkedHashMap<String, T>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+        var rawKeys = keys.stream().map(this::rawKey).toArray(byte[][]::new);
+        var values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            var raw = values.get(i);
+            if (raw == null) {
+                continue;
+            }
+            var value = configuration.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+            if (type.isInstance(value)) {
+                found.put(keys.get(i), type.cast(value));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 캐시에 있는 값을 update로 바꿔 씁니다. MGET 한 번으로 읽고 스크립트 한 번으로 쓰며, 캐시에 없는 키는 건너뜁니다.
+     *
+     * @return 바꿔 쓴 키 수
+     */
+    <T> long updateAll(
+            List<String> keys,
+            Class<T> type,
+            BiFunction<String, T, T> update
+    ) {
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        var rawKeys = keys.stream().map(this::rawKey).toArray(byte[][]::new);
+        var values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+        if (values == null) {
+            return 0L;
+        }
+        var updateKeys = new ArrayList<byte[]>();
+        var updateArgs = new ArrayList<byte[]>();
+        for (int i = 0; i < keys.size(); i++) {
+            var raw = values.get(i);
+            if (raw == null) {
+                continue;
+            }
+            var value = configuration.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+            if (type.isInstance(value)) {
+                var updated = update.apply(keys.get(i), type.cast(value));
+                updateKeys.add(rawKeys[i]);
+                updateArgs.add(raw);
+                updateArgs.add(ByteUtils.getBytes(configuration.getValueSerializationPair().write(updated)));
+            }
+        }
+        if (updateKeys.isEmpty()) {
+            return 0L;
+        }
+        var numKeys = updateKeys.size();
+        updateKeys.addAll(updateArgs);
+        var keysAndArgs = updateKeys.toArray(byte[][]::new);
+        Long updated = redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(COMPARE_AND_SET_SCRIPT, ReturnType.INTEGER, numKeys, keysAndArgs));
+        return updated == null ? 0L : updated;
+    }
+
+    private byte[] rawKey(String key) {
+        var cacheKey = configuration.usePrefix() ? configuration.getKeyPrefixFor(cacheName) + key : key;
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(cacheKey));
+    }
+}
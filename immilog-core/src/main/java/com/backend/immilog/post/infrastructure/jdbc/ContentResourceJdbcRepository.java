@@ -1,12 +1,16 @@
 package com.backend.immilog.post.infrastructure.jdbc;
 
 import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
 import com.backend.immilog.post.domain.model.resource.ResourceType;
 import com.backend.immilog.shared.enums.ContentType;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Repository
@@ -80,4 +84,57 @@ public class ContentResourceJdbcRepository {
                 .query(ContentResource.class)
                 .list();
     }
+
+    /**
+     * 게시물별 태그/첨부파일을 DB에서 종류별 순번을 매겨 필요한 개수만 읽고, 게시물 단위 번들로 묶어 반환합니다.
+     * 리소스가 없는 게시물은 결과에 포함되지 않습니다.
+     */
+    public Map<String, PostResourceBundle> findBundlesByPostIdList(
+            List<String> postIdList,
+            int tagLimit,
+            int attachmentLimit
+    ) {
+        if (postIdList.isEmpty()) {
+            return Map.of();
+        }
+
+        String inClause = postIdList.stream()
+                .map(id -> "?")
+                .collect(Collectors.joining(", "));
+
+        String sql = """
+                SELECT r.content_id, r.resource_type, r.content
+                FROM (
+                    SELECT content_id, resource_type, content,
+                           ROW_NUMBER() OVER (PARTITION BY content_id, resource_type ORDER BY content_resource_id) AS rn
+                    FROM content_resource
+                    WHERE content_id IN (%s)
+                    AND content_type = ?
+                    AND resource_type IN ('TAG', 'ATTACHMENT')
+                ) r
+                WHERE r.rn <= CASE r.resource_type WHEN 'TAG' THEN ? ELSE ? END
+                ORDER BY r.content_id, r.resource_type, r.rn
+                """.formatted(inClause);
+
+        return jdbcClient.sql(sql)
+                .params(postIdList.toArray())
+                .param(ContentType.POST.name())
+                .param(tagLimit)
+                .param(attachmentLimit)
+                .query(RESOURCE_BUNDLE_EXTRACTOR);
+    }
+
+    private static final ResultSetExtractor<Map<String, PostResourceBundle>> RESOURCE_BUNDLE_EXTRACTOR = rs -> {
+        Map<String, PostResourceBundle> bundles = new LinkedHashMap<>();
+        while (rs.next()) {
+            var bundle = bundles.computeIfAbsent(rs.getString("content_id"), PostResourceBundle::empty);
+            var content = rs.getString("content");
+            if (ResourceType.TAG.name().equals(rs.getString("resource_type"))) {
+                bundle.tags().add(content);
+            } else {
+                bundle.attachments().add(content);
+            }
+        }
+        return bundles;
+    };
 }
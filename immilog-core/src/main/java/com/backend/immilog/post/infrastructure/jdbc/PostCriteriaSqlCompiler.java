@@ -0,0 +1,265 @@
+package com.backend.immilog.post.infrastructure.jdbc;
+
+import com.backend.immilog.shared.application.query.QueryCriteria;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * QueryCriteria를 post 테이블 대상의 파라미터 바인딩 SQL로 변환합니다.
+ * 필드명은 허용 목록의 컬럼으로만 치환하고 값은 모두 ? 로 바인딩하므로, 조건 문자열이 SQL에 그대로 들어가지 않습니다.
+ * 같은 형태(필드·연산자·IN 목록 길이·정렬)의 조건은 같은 SQL을 쓰므로 템플릿을 형태별로 캐시합니다.
+ * 상태 조건이 없으면 삭제되지 않은 게시물(NORMAL/MODIFIED/REPORTED)만 조회합니다.
+ */
+class PostCriteriaSqlCompiler {
+    private static final int TEMPLATE_CACHE_SIZE = 256;
+
+    private static final Map<String, String> COLUMNS = Map.ofEntries(
+            Map.entry("postId", "p.post_id"),
+            Map.entry("userId", "p.user_id"),
+            Map.entry("title", "p.title"),
+            Map.entry("content", "p.content"),
+            Map.entry("viewCount", "p.view_count"),
+            Map.entry("likeCount", "p.like_count"),
+            Map.entry("commentCount", "p.comment_count"),
+            Map.entry("region", "p.region"),
+            Map.entry("status", "p.status"),
+            Map.entry("countryId", "p.country_id"),
+            Map.entry("category", "p.category"),
+            Map.entry("isPublic", "p.is_public"),
+            Map.entry("badge", "p.badge"),
+            Map.entry("createdAt", "p.created_at"),
+            Map.entry("updatedAt", "p.updated_at")
+    );
+
+    private final String selectColumns;
+    private final Cache<String, Template> templates = Caffeine.newBuilder()
+            .maximumSize(TEMPLATE_CACHE_SIZE)
+            .build();
+
+    PostCriteriaSqlCompiler(String selectColumns) {
+        this.selectColumns = selectColumns;
+    }
+
+    CompiledQuery compileSelect(
+            QueryCriteria criteria,
+            int limit,
+            long offset
+    ) {
+        var conditions = conditionsOf(criteria);
+        var template = templates.get(shapeOf(conditions, criteria), shape -> compile(conditions, criteria));
+        var params = bind(conditions);
+        params.add(limit);
+        params.add(offset);
+        return new CompiledQuery(template.selectSql(), params);
+    }
+
+    CompiledQuery compileCount(QueryCriteria criteria) {
+        var conditions = conditionsOf(criteria);
+        var template = templates.get(shapeOf(conditions, criteria), shape -> compile(conditions, criteria));
+        return new CompiledQuery(template.countSql(), bind(conditions));
+    }
+
+    private Template compile(
+            List<Condition> conditions,
+            QueryCriteria criteria
+    ) {
+        var where = new StringJoiner(" AND ");
+        conditions.forEach(condition -> where.add(condition.toSql()));
+        if (conditions.stream().noneMatch(condition -> condition.field().equals("status"))) {
+            where.add("p.status <> 'DELETED'");
+        }
+
+        var orderBy = new StringJoiner(", ");
+        criteria.getSortOrders().forEach((field, order) -> orderBy.add(columnOf(field) + " " + order.name()));
+        if (!criteria.hasSortOrders()) {
+            orderBy.add("p.created_at DESC");
+        }
+        // 정렬 값이 같은 행의 순서를 고정해 페이지 사이에 중복/누락이 없도록 한다
+        orderBy.add("p.post_id DESC");
+
+        var selectSql = """
+                SELECT %s
+                FROM post p
+                WHERE %s
+                ORDER BY %s
+                LIMIT ? OFFSET ?
+                """.formatted(selectColumns, where, orderBy);
+        var countSql = """
+                SELECT COUNT(*)
+                FROM post p
+                WHERE %s
+                """.formatted(where);
+        return new Template(selectSql, countSql);
+    }
+
+    private static List<Object> bind(List<Condition> conditions) {
+        var params = new ArrayList<>();
+        conditions.forEach(condition -> condition.bindTo(params));
+        return params;
+    }
+
+    /**
+     * 조건 맵은 순서가 없으므로 키 순으로 정렬해 SQL과 바인딩 순서를 맞춥니다.
+     */
+    private static List<Condition> conditionsOf(QueryCriteria criteria) {
+        return criteria.getConditions().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> Condition.parse(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private static String shapeOf(
+            List<Condition> conditions,
+            QueryCriteria criteria
+    ) {
+        var shape = new StringJoiner(",");
+        conditions.forEach(condition -> shape.add(condition.shape()));
+        shape.add("|");
+        criteria.getSortOrders().forEach((field, order) -> shape.add(field + ":" + order.name()));
+        return shape.toString();
+    }
+
+    private static String columnOf(String field) {
+        var column = COLUMNS.get(field);
+        if (column == null) {
+            throw new IllegalArgumentException("Unsupported post query field: " + field);
+        }
+        return column;
+    }
+
+    private static Object toParam(Object value) {
+        return value instanceof Enum<?> e ? e.name() : value;
+    }
+
+    private static Collection<?> toCollection(
+            String key,
+            Object value
+    ) {
+        if (!(value instanceof Collection<?> values)) {
+            throw new IllegalArgumentException("Condition " + key + " requires a list value");
+        }
+        return values;
+    }
+
+    private record Condition(
+            String field,
+            Operator operator,
+            Object value
+    ) {
+        static Condition parse(
+                String key,
+                Object value
+        ) {
+            var separator = key.lastIndexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Malformed post query condition: " + key);
+            }
+            var field = key.substring(0, separator);
+            columnOf(field);
+            var operator = Operator.fromSuffix(key.substring(separator + 1));
+            if (operator == Operator.BETWEEN && toCollection(key, value).size() != 2) {
+                throw new IllegalArgumentException("Condition " + key + " requires exactly two values");
+            }
+            if (operator == Operator.IN || operator == Operator.NOT_IN) {
+                toCollection(key, value);
+            }
+            return new Condition(field, operator, value);
+        }
+
+        String shape() {
+            return switch (operator) {
+                case IN, NOT_IN -> field + "_" + operator.suffix + ":" + ((Collection<?>) value).size();
+                default -> field + "_" + operator.suffix;
+            };
+        }
+
+        String toSql() {
+            var column = columnOf(field);
+            return switch (operator) {
+                case EQ -> column + " = ?";
+                case NE -> column + " <> ?";
+                case GT -> column + " > ?";
+                case GTE -> column + " >= ?";
+                case LT -> column + " < ?";
+                case LTE -> column + " <= ?";
+                case LIKE -> column + " LIKE ?";
+                case BETWEEN -> column + " BETWEEN ? AND ?";
+                case NULL -> column + " IS NULL";
+                case NOT_NULL -> column + " IS NOT NULL";
+                case IN -> inClause(column, "IN", "1 = 0");
+                case NOT_IN -> inClause(column, "NOT IN", "1 = 1");
+            };
+        }
+
+        void bindTo(List<Object> params) {
+            switch (operator) {
+                case NULL, NOT_NULL -> {
+                }
+                case LIKE -> params.add("%" + value + "%");
+                case BETWEEN, IN, NOT_IN -> ((Collection<?>) value).forEach(v -> params.add(toParam(v)));
+                default -> params.add(toParam(value));
+            }
+        }
+
+        private String inClause(
+                String column,
+                String keyword,
+                String whenEmpty
+        ) {
+            var size = ((Collection<?>) value).size();
+            if (size == 0) {
+                return whenEmpty;
+            }
+            return column + " " + keyword + " (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+        }
+    }
+
+    private enum Operator {
+        EQ("eq"),
+        NE("ne"),
+        GT("gt"),
+        GTE("gte"),
+        LT("lt"),
+        LTE("lte"),
+        LIKE("like"),
+        IN("in"),
+        NOT_IN("nin"),
+        NULL("null"),
+        NOT_NULL("notnull"),
+        BETWEEN("between");
+
+        private final String suffix;
+
+        Operator(String suffix) {
+            this.suffix = suffix;
+        }
+
+        static Operator fromSuffix(String suffix) {
+            for (var operator : values()) {
+                if (operator.suffix.equals(suffix)) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported post query operator: " + suffix);
+        }
+    }
+
+    record CompiledQuery(
+            String sql,
+            List<Object> params
+    ) {
+    }
+
+    private record Template(
+            String selectSql,
+            String countSql
+    ) {
+    }
+}
@@ -3,10 +3,15 @@ package com.backend.immilog.post.infrastructure.jdbc;
 import com.backend.immilog.post.domain.model.post.Badge;
 import com.backend.immilog.post.domain.model.post.Categories;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostScoreWeights;
+import com.backend.immilog.post.domain.model.post.PostSlice;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
 import com.backend.immilog.post.infrastructure.jpa.entity.post.PostEntity;
 import com.backend.immilog.post.infrastructure.jpa.entity.post.PostInfoValue;
 import com.backend.immilog.post.infrastructure.jpa.entity.post.PostUserInfoValue;
+import com.backend.immilog.shared.application.query.QueryCriteria;
 import com.backend.immilog.shared.enums.ContentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -19,12 +24,31 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class PostJdbcRepository {
+    /**
+     * 목록 카드에 필요한 본문 앞부분 길이. 목록 쿼리는 본문 전체 대신 이 길이만큼만 읽습니다.
+     */
+    public static final int SUMMARY_CONTENT_LENGTH = 200;
+
+    // 목록용 프로젝션: 본문은 앞부분만 읽고, 이벤트로 다시 조회하는 유저 컬럼은 조인하지 않는다
+    private static final String SUMMARY_COLUMNS = """
+            p.post_id, p.user_id, p.title, LEFT(p.content, %d) AS content, p.view_count, p.region, p.status,
+            p.country_id, p.category, p.is_public, p.badge, p.comment_count, p.created_at, p.updated_at""".formatted(SUMMARY_CONTENT_LENGTH);
+
+    // 상세용 프로젝션: 본문 전체를 읽는다
+    private static final String DETAIL_COLUMNS = """
+            p.post_id, p.user_id, p.title, p.content, p.view_count, p.region, p.status,
+            p.country_id, p.category, p.is_public, p.badge, p.comment_count, p.created_at, p.updated_at""";
+
     private final JdbcClient jdbcClient;
+    private final PostCriteriaSqlCompiler criteriaCompiler = new PostCriteriaSqlCompiler(SUMMARY_COLUMNS);
 
     public PostJdbcRepository(JdbcClient jdbcClient) {
         this.jdbcClient = jdbcClient;
@@ -39,31 +63,18 @@ public class PostJdbcRepository {
     ) {
         List<String> conditions = new ArrayList<>();
         List<Object> params = new ArrayList<>();
-
-        conditions.add("p.is_public = ?");
-        params.add(isPublic);
-
-        if (category != null && category != Categories.ALL) {
-            conditions.add("p.category = ?");
-            params.add(category.name());
-        }
-
-        if (countryId != null && !countryId.equals("ALL")) {
-            conditions.add("p.country_id = ?");
-            params.add(countryId);
-        }
+        addFeedConditions(countryId, isPublic, category, conditions, params);
 
         String whereClause = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
         String orderByClause = getOrderByClause(sortingMethod);
 
         String sql = String.format("""
-                SELECT p.*, u.nickname, u.image_url
+                SELECT %s
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
                 %s
                 %s
                 LIMIT ? OFFSET ?
-                """, whereClause, orderByClause);
+                """, SUMMARY_COLUMNS, whereClause, orderByClause);
 
         params.add(pageable.getPageSize());
         params.add(pageable.getOffset());
@@ -76,7 +87,6 @@ public class PostJdbcRepository {
         String countSql = String.format("""
                 SELECT COUNT(*)
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
                 %s
                 """, whereClause);
 
@@ -90,18 +100,73 @@ public class PostJdbcRepository {
         return new PageImpl<>(posts, pageable, count);
     }
 
+    /**
+     * 키셋(seek) 방식 피드 조회.
+     * (정렬 키, post_id) 튜플보다 뒤에 있는 행만 읽고, size + 1건을 가져와 다음 페이지 여부를 판단하므로 COUNT 쿼리가 없습니다.
+     */
+    public PostSlice getPostsByCursor(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size
+    ) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        addFeedConditions(countryId, isPublic, category, conditions, params);
+
+        String sortKey = getSortKeyExpression(sortingMethod);
+        if (cursor != null) {
+            conditions.add("(" + sortKey + " < ? OR (" + sortKey + " = ? AND p.post_id < ?))");
+            params.add(cursor.sortValue());
+            params.add(cursor.sortValue());
+            params.add(cursor.postId());
+        }
+
+        String sql = String.format("""
+                SELECT %s, %s AS sort_key
+                FROM post p
+                WHERE %s
+                ORDER BY sort_key DESC, p.post_id DESC
+                LIMIT ?
+                """, SUMMARY_COLUMNS, sortKey, String.join(" AND ", conditions));
+        params.add(size + 1);
+
+        List<CursorRow> rows = jdbcClient.sql(sql)
+                .params(params.toArray())
+                .query((rs, rowNum) -> new CursorRow(
+                        POST_ENTITY_ROW_MAPPER.mapRow(rs, rowNum).toDomain(),
+                        getSortValue(rs, sortingMethod)
+                ))
+                .list();
+
+        if (rows.isEmpty()) {
+            return PostSlice.empty();
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<CursorRow> page = hasNext ? rows.subList(0, size) : rows;
+        CursorRow last = page.getLast();
+        PostCursor nextCursor = hasNext
+                ? PostCursor.of(sortingMethod, last.sortValue(), last.post().id().value())
+                : null;
+
+        List<Post> posts = page.stream().map(CursorRow::post).toList();
+        return new PostSlice(posts, nextCursor, hasNext);
+    }
+
     public Page<Post> getPostsByUserId(
             String userId,
             Pageable pageable
     ) {
         String sql = """
-                SELECT p.*, u.nickname, u.image_url
+                SELECT %s
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
                 WHERE p.user_id = ?
                 ORDER BY p.created_at DESC
                 LIMIT ? OFFSET ?
-                """;
+                """.formatted(SUMMARY_COLUMNS);
 
         List<PostEntity> postEntities = jdbcClient.sql(sql)
                 .param(userId)
@@ -113,7 +178,6 @@ public class PostJdbcRepository {
         int count = jdbcClient.sql("""
                         SELECT COUNT(*)
                         FROM post p
-                        LEFT JOIN user u ON p.user_id = u.user_id
                         WHERE p.user_id = ?
                         """)
                 .param(userId)
@@ -125,55 +189,12 @@ public class PostJdbcRepository {
         return new PageImpl<>(posts, pageable, count);
     }
 
-    public Page<Post> getPostsByKeyword(
-            String keyword,
-            Pageable pageable
-    ) {
-        String sql = """
-                SELECT DISTINCT p.*, u.nickname, u.image_url
-                FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
-                LEFT JOIN content_resource cr ON p.post_id = cr.content_id AND cr.content_type = 'POST' AND cr.resource_type = 'TAG'
-                WHERE p.content LIKE ? OR p.title LIKE ? OR cr.content LIKE ?
-                LIMIT ? OFFSET ?
-                """;
-
-        List<PostEntity> postEntities = jdbcClient.sql(sql)
-                .param("%" + keyword + "%")
-                .param("%" + keyword + "%")
-                .param("%" + keyword + "%")
-                .param(pageable.getPageSize())
-                .param(pageable.getOffset())
-                .query(POST_ENTITY_ROW_MAPPER)
-                .list();
-
-        String countSql = """
-                SELECT COUNT(DISTINCT p.post_id)
-                FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
-                LEFT JOIN content_resource cr ON p.post_id = cr.content_id AND cr.content_type = 'POST' AND cr.resource_type = 'TAG'
-                WHERE p.content LIKE ? OR p.title LIKE ? OR cr.content LIKE ?
-                """;
-
-        int count = jdbcClient.sql(countSql)
-                .param("%" + keyword + "%")
-                .param("%" + keyword + "%")
-                .param("%" + keyword + "%")
-                .query(Integer.class)
-                .single();
-
-        List<Post> posts = postEntities.stream().map(PostEntity::toDomain).toList();
-
-        return new PageImpl<>(posts, pageable, count);
-    }
-
     public Optional<Post> getSinglePost(String postId) {
         String sql = """
-                SELECT p.*, u.nickname, u.image_url
+                SELECT %s
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
                 WHERE p.post_id = ?
-                """;
+                """.formatted(DETAIL_COLUMNS);
 
         return jdbcClient.sql(sql)
                 .param(postId)
@@ -188,13 +209,12 @@ public class PostJdbcRepository {
             SortingMethods sortingMethods
     ) {
         String sql = String.format("""
-                SELECT p.*, u.nickname, u.image_url
+                SELECT %s
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
                 WHERE p.created_at BETWEEN ? AND ?
                 %s
                 LIMIT 10
-                """, getOrderByClause(sortingMethods));
+                """, SUMMARY_COLUMNS, getOrderByClause(sortingMethods));
 
         List<PostEntity> postEntities = jdbcClient.sql(sql)
                 .param(from)
@@ -206,17 +226,30 @@ public class PostJdbcRepository {
     }
 
     public List<Post> getPostsByPostIdList(List<String> postIdList) {
+        return getPostsByPostIdList(postIdList, DETAIL_COLUMNS);
+    }
+
+    /**
+     * 목록 카드용으로 본문 앞부분만 읽어 조회합니다.
+     */
+    public List<Post> getPostSummariesByPostIdList(List<String> postIdList) {
+        return getPostsByPostIdList(postIdList, SUMMARY_COLUMNS);
+    }
+
+    private List<Post> getPostsByPostIdList(
+            List<String> postIdList,
+            String columns
+    ) {
         if (postIdList.isEmpty()) {
             return List.of();
         }
 
         String inClause = String.join(",", postIdList.stream().map(id -> "?").toList());
         String sql = String.format("""
-                SELECT p.*, u.nickname, u.image_url
+                SELECT %s
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
                 WHERE p.post_id IN (%s)
-                """, inClause);
+                """, columns, inClause);
 
         List<PostEntity> postEntities = jdbcClient.sql(sql)
                 .params(postIdList.toArray())
@@ -227,42 +260,186 @@ public class PostJdbcRepository {
     }
 
     /**
-     * 특정 기간 내에 생성된 게시물을 조회합니다.
-     * 주간 베스트 선정을 위해 사용됩니다.
-     * 
-     * @param from 시작 날짜
-     * @param to 종료 날짜
-     * @return 기간 내 게시물 리스트
+     * 배지가 붙은 게시물의 ID만 최신순으로 조회합니다. 순위 계산처럼 본문이 필요 없는 작업에 사용합니다.
+     */
+    public List<String> getPostIdsByBadge(Badge badge) {
+        return jdbcClient.sql("""
+                        SELECT p.post_id
+                        FROM post p
+                        WHERE p.badge = ?
+                        ORDER BY p.created_at DESC
+                        """)
+                .param(badge.name())
+                .query(String.class)
+                .list();
+    }
+
+    /**
+     * since 이후 공개 게시물이 있는 국가를 게시물 수가 많은 순으로 limit개 조회합니다. 국가별 인기글 메뉴를 만들 때 사용합니다.
+     */
+    public List<String> getCountryIdsWithPostsSince(
+            LocalDateTime since,
+            int limit
+    ) {
+        return jdbcClient.sql("""
+                        SELECT p.country_id
+                        FROM post p
+                        WHERE p.is_public = 'Y'
+                          AND p.created_at >= ?
+                          AND p.country_id IS NOT NULL
+                        GROUP BY p.country_id
+                        ORDER BY COUNT(*) DESC
+                        LIMIT ?
+                        """)
+                .param(since)
+                .param(limit)
+                .query(String.class)
+                .list();
+    }
+
+    /**
+     * 배지를 한 번의 UPDATE로 적용하고, 실제로 적용된 게시물 ID를 반환합니다.
+     * 다른 배지를 덮어쓰지 않는 배지는 배지가 없는 게시물에만 적용하며, 같은 배지가 이미 있는 게시물은 건너뜁니다.
+     * MySQL은 UPDATE ... RETURNING을 지원하지 않으므로 대상 행을 FOR UPDATE로 잠가 ID를 읽은 뒤 같은 행만 갱신합니다.
      */
-    public List<Post> findPostsInPeriod(LocalDateTime from, LocalDateTime to) {
+    public List<String> applyBadge(
+            List<String> postIdList,
+            Badge badge
+    ) {
+        if (postIdList.isEmpty()) {
+            return List.of();
+        }
+        String inClause = String.join(", ", Collections.nCopies(postIdList.size(), "?"));
+        String badgeCondition = badge.overridesOtherBadges()
+                ? "(badge IS NULL OR badge <> ?)"
+                : "badge IS NULL";
+        List<String> badgeParams = badge.overridesOtherBadges() ? List.of(badge.name()) : List.of();
+        List<String> targetIds = jdbcClient.sql("""
+                        SELECT post_id
+                        FROM post
+                        WHERE post_id IN (%s)
+                          AND %s
+                        FOR UPDATE
+                        """.formatted(inClause, badgeCondition))
+                .params(postIdList.toArray())
+                .params(badgeParams)
+                .query(String.class)
+                .list();
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        jdbcClient.sql("""
+                        UPDATE post
+                        SET badge = ?
+                        WHERE post_id IN (%s)
+                          AND %s
+                        """.formatted(String.join(", ", Collections.nCopies(targetIds.size(), "?")), badgeCondition))
+                .param(badge.name())
+                .params(targetIds.toArray())
+                .params(badgeParams)
+                .update();
+        return targetIds;
+    }
+
+    /**
+     * 해당 배지를 한 번의 UPDATE로 모두 해제하고, 해제된 게시물 ID를 반환합니다.
+     */
+    public List<String> clearBadge(Badge badge) {
+        List<String> targetIds = jdbcClient.sql("""
+                        SELECT p.post_id
+                        FROM post p
+                        WHERE p.badge = ?
+                        FOR UPDATE
+                        """)
+                .param(badge.name())
+                .query(String.class)
+                .list();
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        jdbcClient.sql("""
+                        UPDATE post
+                        SET badge = NULL
+                        WHERE post_id IN (%s)
+                          AND badge = ?
+                        """.formatted(String.join(", ", Collections.nCopies(targetIds.size(), "?"))))
+                .params(targetIds.toArray())
+                .param(badge.name())
+                .update();
+        return targetIds;
+    }
+
+    /**
+     * 게시물별 국가/카테고리/작성 시각만 조회합니다. 트렌딩 점수를 국가·카테고리별 집합에 나눠 반영하고 게시물 나이를 계산할 때 사용합니다.
+     */
+    public Map<String, TrendingPostMeta> getTrendingMetaByPostIds(List<String> postIdList) {
+        if (postIdList.isEmpty()) {
+            return Map.of();
+        }
+        String inClause = String.join(", ", Collections.nCopies(postIdList.size(), "?"));
         String sql = """
-                SELECT p.*, u.nickname, u.image_url
+                SELECT p.post_id, p.country_id, p.category, p.created_at
                 FROM post p
-                LEFT JOIN user u ON p.user_id = u.user_id
-                WHERE p.created_at BETWEEN ? AND ?
-                  AND p.is_public = 'Y'
-                ORDER BY p.created_at DESC
-                """;
+                WHERE p.post_id IN (%s)
+                """.formatted(inClause);
 
-        List<PostEntity> postEntities = jdbcClient.sql(sql)
+        Map<String, TrendingPostMeta> metas = new HashMap<>();
+        jdbcClient.sql(sql)
+                .params(postIdList.toArray())
+                .query(rs -> {
+                    metas.put(rs.getString("post_id"), new TrendingPostMeta(
+                            rs.getString("post_id"),
+                            rs.getString("country_id"),
+                            rs.getString("category"),
+                            getNullableTimestamp(rs, "created_at")
+                    ));
+                });
+        return metas;
+    }
+
+    /**
+     * 기간 내 생성된 공개 게시물 중 최소 조건(조회수 또는 댓글수)을 충족하는 게시물을 점수순으로 limit개만 조회합니다.
+     * 좋아요 수는 비정규화된 like_count를 사용하므로 interaction_user를 다시 집계하지 않고, 점수 계산과 정렬이 모두 DB에서 끝납니다.
+     * 조회수/댓글수가 NULL인 행도 점수가 NULL이 되어 맨 뒤로 밀리지 않도록 0으로 취급합니다.
+     */
+    public List<String> findTopScoredPostIdsInPeriod(
+            LocalDateTime from,
+            LocalDateTime to,
+            PostScoreWeights weights,
+            int minViewCount,
+            int minCommentCount,
+            int limit
+    ) {
+        return jdbcClient.sql("""
+                        SELECT p.post_id
+                        FROM post p
+                        WHERE p.created_at BETWEEN ? AND ?
+                          AND p.is_public = 'Y'
+                          AND (p.view_count >= ? OR p.comment_count >= ?)
+                        ORDER BY COALESCE(p.view_count, 0) * ? + COALESCE(p.comment_count, 0) * ? + p.like_count * ? DESC,
+                                 p.created_at DESC
+                        LIMIT ?
+                        """)
                 .param(from)
                 .param(to)
-                .query(POST_ENTITY_ROW_MAPPER)
+                .param(minViewCount)
+                .param(minCommentCount)
+                .param(weights.view())
+                .param(weights.comment())
+                .param(weights.like())
+                .param(limit)
+                .query(String.class)
                 .list();
-
-        return postEntities.stream().map(PostEntity::toDomain).toList();
     }
     
     public List<Post> getAllPosts() {
         String sql = """
-            SELECT p.post_id, p.user_id, p.title, p.content, p.view_count, p.region,
-                   p.status, p.country_id, p.category, p.is_public, p.badge, 
-                   p.comment_count, p.created_at, p.updated_at
+            SELECT %s
             FROM post p
-            WHERE p.status = 'ACTIVE'
+            WHERE p.status <> 'DELETED'
             ORDER BY p.created_at DESC
             LIMIT 1000
-            """;
+            """.formatted(SUMMARY_COLUMNS);
 
         List<PostEntity> postEntities = jdbcClient.sql(sql)
                 .query(POST_ENTITY_ROW_MAPPER)
@@ -271,6 +448,31 @@ public class PostJdbcRepository {
         return postEntities.stream().map(PostEntity::toDomain).toList();
     }
 
+    /**
+     * QueryCriteria 조건과 정렬, LIMIT/OFFSET을 그대로 SQL에 반영해 필요한 행만 조회합니다.
+     */
+    public List<Post> getPostsByCriteria(
+            QueryCriteria criteria,
+            int limit,
+            long offset
+    ) {
+        var query = criteriaCompiler.compileSelect(criteria, limit, offset);
+        List<PostEntity> postEntities = jdbcClient.sql(query.sql())
+                .params(query.params())
+                .query(POST_ENTITY_ROW_MAPPER)
+                .list();
+
+        return postEntities.stream().map(PostEntity::toDomain).toList();
+    }
+
+    public long countPostsByCriteria(QueryCriteria criteria) {
+        var query = criteriaCompiler.compileCount(criteria);
+        return jdbcClient.sql(query.sql())
+                .params(query.params())
+                .query(Long.class)
+                .single();
+    }
+
     private static final RowMapper<PostEntity> POST_ENTITY_ROW_MAPPER = (rs, rowNum) -> {
         String id = rs.getString("post_id");
 
@@ -333,11 +535,143 @@ public class PostJdbcRepository {
         return rs.getTimestamp(columnName) != null ? rs.getTimestamp(columnName).toLocalDateTime() : null;
     }
 
+    public int adjustLikeCount(
+            String postId,
+            long delta
+    ) {
+        return jdbcClient.sql("""
+                        UPDATE post
+                        SET like_count = GREATEST(like_count + ?, 0)
+                        WHERE post_id = ?
+                        """)
+                .param(delta)
+                .param(postId)
+                .update();
+    }
+
+    /**
+     * 누적된 조회수 증가분을 한 번의 UPDATE ... CASE로 반영합니다. 애그리거트를 읽지 않고 현재 값에 더하므로 여러 노드가 동시에 반영해도 안전합니다.
+     */
+    public int incrementViewCounts(Map<String, Long> deltasByPostId) {
+        if (deltasByPostId.isEmpty()) {
+            return 0;
+        }
+        var cases = new StringBuilder();
+        var params = new ArrayList<Object>();
+        deltasByPostId.forEach((postId, delta) -> {
+            cases.append(" WHEN ? THEN ?");
+            params.add(postId);
+            params.add(delta);
+        });
+        params.addAll(deltasByPostId.keySet());
+        var placeholders = String.join(",", Collections.nCopies(deltasByPostId.size(), "?"));
+        var sql = """
+                UPDATE post
+                SET view_count = COALESCE(view_count, 0) + CASE post_id%s ELSE 0 END
+                WHERE post_id IN (%s)
+                """.formatted(cases, placeholders);
+        return jdbcClient.sql(sql)
+                .params(params.toArray())
+                .update();
+    }
+
+    public List<String> findPostIdsAfter(
+            String lastPostId,
+            int limit
+    ) {
+        return jdbcClient.sql("""
+                        SELECT p.post_id
+                        FROM post p
+                        WHERE p.post_id > ?
+                        ORDER BY p.post_id
+                        LIMIT ?
+                        """)
+                .param(lastPostId == null ? "" : lastPostId)
+                .param(limit)
+                .query(String.class)
+                .list();
+    }
+
+    /**
+     * [fromPostId, toPostId] 범위의 like_count를 interaction_user 집계값으로 맞추고, 보정된 행 수를 반환합니다.
+     */
+    public int reconcileLikeCounts(
+            String fromPostId,
+            String toPostId
+    ) {
+        return jdbcClient.sql("""
+                        UPDATE post p
+                        LEFT JOIN (
+                            SELECT iu.post_id, COUNT(*) AS cnt
+                            FROM interaction_user iu
+                            WHERE iu.post_id BETWEEN ? AND ?
+                              AND iu.post_type = 'POST'
+                              AND iu.interaction_type = 'LIKE'
+                              AND iu.interaction_status = 'ACTIVE'
+                            GROUP BY iu.post_id
+                        ) likes ON likes.post_id = p.post_id
+                        SET p.like_count = COALESCE(likes.cnt, 0)
+                        WHERE p.post_id BETWEEN ? AND ?
+                          AND p.like_count <> COALESCE(likes.cnt, 0)
+                        """)
+                .param(fromPostId)
+                .param(toPostId)
+                .param(fromPostId)
+                .param(toPostId)
+                .update();
+    }
+
+    private void addFeedConditions(
+            String countryId,
+            String isPublic,
+            Categories category,
+            List<String> conditions,
+            List<Object> params
+    ) {
+        conditions.add("p.is_public = ?");
+        params.add(isPublic);
+
+        if (category != null && category != Categories.ALL) {
+            conditions.add("p.category = ?");
+            params.add(category.name());
+        }
+
+        if (countryId != null && !countryId.equals("ALL")) {
+            conditions.add("p.country_id = ?");
+            params.add(countryId);
+        }
+    }
+
+    /**
+     * 커서 비교에 쓰는 정렬 키 표현식. NULL 카운트는 0으로 맞춰 튜플 비교가 항상 성립하도록 한다.
+     * like_count는 NOT NULL 비정규화 컬럼이라 그대로 비교해야 피드 인덱스 범위 스캔이 가능하다.
+     */
+    private String getSortKeyExpression(SortingMethods sortingMethod) {
+        return switch (sortingMethod) {
+            case CREATED_DATE -> "p.created_at";
+            case COMMENT_COUNT -> "COALESCE(p.comment_count, 0)";
+            case LIKE_COUNT -> "p.like_count";
+            case VIEW_COUNT -> "COALESCE(p.view_count, 0)";
+        };
+    }
+
+    private static Object getSortValue(
+            ResultSet rs,
+            SortingMethods sortingMethod
+    ) throws SQLException {
+        if (sortingMethod == SortingMethods.CREATED_DATE) {
+            return getNullableTimestamp(rs, "sort_key");
+        }
+        return rs.getLong("sort_key");
+    }
+
+    private record CursorRow(Post post, Object sortValue) {}
+
     private String getOrderByClause(SortingMethods sortingMethod) {
         String column = switch (sortingMethod) {
             case CREATED_DATE -> "p.created_at";
             case COMMENT_COUNT -> "p.comment_count";
-            case LIKE_COUNT -> "(SELECT COUNT(*) FROM interaction_user iu WHERE iu.post_id = p.post_id AND iu.interaction_type = 'LIKE' AND iu.interaction_status = 'ACTIVE')";
+            case LIKE_COUNT -> "p.like_count";
             case VIEW_COUNT -> "p.view_count";
         };
         return "ORDER BY " + column + " DESC ";
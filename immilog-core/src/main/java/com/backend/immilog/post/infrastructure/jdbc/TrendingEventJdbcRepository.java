@@ -0,0 +1,63 @@
+package com.backend.immilog.post.infrastructure.jdbc;
+
+import com.backend.immilog.post.domain.model.trending.TrendingEvent;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 트렌딩 점수 재현용 이력 조회.
+ * 좋아요/북마크는 interaction_user, 댓글은 comment 테이블에서 발생 시각과 함께 읽고 게시물 정보를 붙입니다.
+ * 취소된 좋아요/북마크와 삭제된 댓글은 현재 상태만 남아 있으므로 제외합니다.
+ */
+@Repository
+public class TrendingEventJdbcRepository {
+    private final JdbcClient jdbcClient;
+
+    public TrendingEventJdbcRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    public void forEachEventBetween(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<TrendingEvent> consumer
+    ) {
+        jdbcClient.sql("""
+                        SELECT e.post_id, p.country_id, p.category, p.created_at AS post_created_at,
+                               e.signal_type, e.occurred_at
+                        FROM (
+                            SELECT iu.post_id, iu.interaction_type AS signal_type, iu.created_at AS occurred_at
+                            FROM interaction_user iu
+                            WHERE iu.post_type = 'POST'
+                            AND iu.interaction_status = 'ACTIVE'
+                            AND iu.created_at >= ? AND iu.created_at < ?
+                            UNION ALL
+                            SELECT c.post_id, 'COMMENT' AS signal_type, c.created_at AS occurred_at
+                            FROM comment c
+                            WHERE c.status <> 'DELETED'
+                            AND c.created_at >= ? AND c.created_at < ?
+                        ) e
+                        JOIN post p ON p.post_id = e.post_id
+                        ORDER BY e.occurred_at
+                        """)
+                .params(from, to, from, to)
+                .query(rs -> {
+                    var postCreatedAt = rs.getTimestamp("post_created_at");
+                    consumer.accept(new TrendingEvent(
+                            new TrendingPostMeta(
+                                    rs.getString("post_id"),
+                                    rs.getString("country_id"),
+                                    rs.getString("category"),
+                                    postCreatedAt == null ? null : postCreatedAt.toLocalDateTime()
+                            ),
+                            TrendingSignal.valueOf(rs.getString("signal_type")),
+                            rs.getTimestamp("occurred_at").toLocalDateTime()
+                    ));
+                });
+    }
+}
@@ -11,7 +11,14 @@ import java.time.LocalDateTime;
 @DynamicUpdate
 @DynamicInsert
 @Entity
-@Table(name = "post")
+@Table(
+        name = "post",
+        indexes = {
+                @Index(name = "idx_post_feed_created", columnList = "country_id, is_public, created_at, post_id"),
+                @Index(name = "idx_post_feed_like", columnList = "country_id, category, is_public, like_count, post_id"),
+                @Index(name = "idx_post_public_created", columnList = "is_public, created_at")
+        }
+)
 public class PostEntity {
 
     @Id
@@ -38,6 +45,10 @@ public class PostEntity {
     @Column(name = "comment_count")
     private Long commentCount;
 
+    // 좋아요 토글 시 원자적 UPDATE로만 갱신하므로 엔티티 저장이 값을 덮어쓰지 않도록 읽기 전용으로 매핑한다
+    @Column(name = "like_count", insertable = false, updatable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long likeCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -10,7 +10,12 @@ import org.hibernate.annotations.DynamicUpdate;
 
 @DynamicUpdate
 @Entity
-@Table(name = "content_resource")
+@Table(
+        name = "content_resource",
+        indexes = {
+                @Index(name = "idx_content_resource_content", columnList = "content_id, content_type, resource_type, content_resource_id")
+        }
+)
 public class ContentResourceEntity {
     @Id
     @Column(name = "content_resource_id")
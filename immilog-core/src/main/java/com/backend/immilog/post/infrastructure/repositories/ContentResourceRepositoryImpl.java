@@ -1,6 +1,7 @@
 package com.backend.immilog.post.infrastructure.repositories;
 
 import com.backend.immilog.post.domain.model.resource.ContentResource;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
 import com.backend.immilog.post.domain.model.resource.ResourceType;
 import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
 import com.backend.immilog.post.infrastructure.jdbc.ContentResourceJdbcRepository;
@@ -10,6 +11,7 @@ import com.backend.immilog.shared.enums.ContentType;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class ContentResourceRepositoryImpl implements ContentResourceRepository {
@@ -59,4 +61,13 @@ public class ContentResourceRepositoryImpl implements ContentResourceRepository
     ) {
         return contentResourceJdbcRepository.findAllByPostIdList(postIdList, contentType);
     }
+
+    @Override
+    public Map<String, PostResourceBundle> findBundlesByContentIdList(
+            List<String> postIdList,
+            int tagLimit,
+            int attachmentLimit
+    ) {
+        return contentResourceJdbcRepository.findBundlesByPostIdList(postIdList, tagLimit, attachmentLimit);
+    }
 }
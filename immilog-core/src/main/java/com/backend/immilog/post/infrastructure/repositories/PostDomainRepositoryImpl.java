@@ -3,7 +3,11 @@ package com.backend.immilog.post.infrastructure.repositories;
 import com.backend.immilog.post.domain.model.post.Badge;
 import com.backend.immilog.post.domain.model.post.Categories;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostScoreWeights;
+import com.backend.immilog.post.domain.model.post.PostSlice;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +15,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -55,11 +60,22 @@ public class PostDomainRepositoryImpl implements PostDomainRepository {
     }
 
     @Override
-    public Page<Post> findPostsByKeyword(
-            String keyword,
-            Pageable pageable
+    public PostSlice findPostsByCursor(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size
     ) {
-        return postRepositoryImpl.getPostsByKeyword(keyword, pageable);
+        return postRepositoryImpl.getPostsByCursor(
+                countryId,
+                sortingMethod,
+                isPublic,
+                category,
+                cursor,
+                size
+        );
     }
 
     @Override
@@ -75,13 +91,76 @@ public class PostDomainRepositoryImpl implements PostDomainRepository {
         return postRepositoryImpl.getPostsByPostIdList(postIdList);
     }
 
+    @Override
+    public List<Post> findPostSummariesByIdList(List<String> postIdList) {
+        return postRepositoryImpl.getPostSummariesByPostIdList(postIdList);
+    }
+
+    @Override
+    public List<String> findPostIdsByBadge(Badge badge) {
+        return postRepositoryImpl.getPostIdsByBadge(badge);
+    }
+
+    @Override
+    public Map<String, TrendingPostMeta> findTrendingMetaByIdList(List<String> postIds) {
+        return postRepositoryImpl.getTrendingMetaByPostIds(postIds);
+    }
+
     @Override
     public List<Post> findByBadge(Badge badge) {
         return postRepositoryImpl.findByBadge(badge);
     }
 
     @Override
-    public List<Post> findPostsInPeriod(LocalDateTime from, LocalDateTime to) {
-        return postRepositoryImpl.findPostsInPeriod(from, to);
+    public List<String> findTopScoredPostIdsInPeriod(
+            LocalDateTime from,
+            LocalDateTime to,
+            PostScoreWeights weights,
+            int minViewCount,
+            int minCommentCount,
+            int limit
+    ) {
+        return postRepositoryImpl.getTopScoredPostIdsInPeriod(from, to, weights, minViewCount, minCommentCount, limit);
+    }
+
+    @Override
+    public List<String> applyBadge(
+            List<String> postIds,
+            Badge badge
+    ) {
+        return postRepositoryImpl.applyBadge(postIds, badge);
+    }
+
+    @Override
+    public List<String> clearBadge(Badge badge) {
+        return postRepositoryImpl.clearBadge(badge);
+    }
+
+    @Override
+    public List<String> findCountryIdsWithPostsSince(
+            LocalDateTime since,
+            int limit
+    ) {
+        return postRepositoryImpl.getCountryIdsWithPostsSince(since, limit);
+    }
+
+    @Override
+    public void adjustLikeCount(String postId, long delta) {
+        postRepositoryImpl.adjustLikeCount(postId, delta);
+    }
+
+    @Override
+    public int incrementViewCounts(Map<String, Long> deltasByPostId) {
+        return postRepositoryImpl.incrementViewCounts(deltasByPostId);
+    }
+
+    @Override
+    public List<String> findPostIdsAfter(String lastPostId, int limit) {
+        return postRepositoryImpl.findPostIdsAfter(lastPostId, limit);
+    }
+
+    @Override
+    public int reconcileLikeCounts(String fromPostId, String toPostId) {
+        return postRepositoryImpl.reconcileLikeCounts(fromPostId, toPostId);
     }
 }
\ No newline at end of file
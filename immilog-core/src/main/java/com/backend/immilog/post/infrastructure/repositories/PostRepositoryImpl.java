@@ -3,7 +3,11 @@ package com.backend.immilog.post.infrastructure.repositories;
 import com.backend.immilog.post.domain.model.post.Badge;
 import com.backend.immilog.post.domain.model.post.Categories;
 import com.backend.immilog.post.domain.model.post.Post;
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.PostScoreWeights;
+import com.backend.immilog.post.domain.model.post.PostSlice;
 import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
 import com.backend.immilog.post.domain.repositories.PostRepository;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.backend.immilog.post.exception.PostErrorCode.POST_NOT_FOUND;
@@ -50,6 +55,24 @@ public class PostRepositoryImpl implements PostRepository {
         );
     }
 
+    @Override
+    public PostSlice getPostsByCursor(
+            String countryId,
+            SortingMethods sortingMethod,
+            String isPublic,
+            Categories category,
+            PostCursor cursor,
+            int size
+    ) {
+        return postJdbcRepository.getPostsByCursor(
+                countryId,
+                sortingMethod,
+                isPublic,
+                category,
+                cursor,
+                size
+        );
+    }
 
     @Override
     public Post getPostDetail(String postId) {
@@ -58,14 +81,6 @@ public class PostRepositoryImpl implements PostRepository {
                 .orElseThrow(() -> new PostException(POST_NOT_FOUND));
     }
 
-    @Override
-    public Page<Post> getPostsByKeyword(
-            String keyword,
-            Pageable pageable
-    ) {
-        return postJdbcRepository.getPostsByKeyword(keyword, pageable);
-    }
-
     @Override
     public Page<Post> getPostsByUserId(
             String userId,
@@ -83,6 +98,21 @@ public class PostRepositoryImpl implements PostRepository {
     public List<Post> getPostsByPostIdList(List<String> postIdList) {
         return postJdbcRepository.getPostsByPostIdList(postIdList);
     }
+
+    @Override
+    public List<Post> getPostSummariesByPostIdList(List<String> postIdList) {
+        return postJdbcRepository.getPostSummariesByPostIdList(postIdList);
+    }
+
+    @Override
+    public List<String> getPostIdsByBadge(Badge badge) {
+        return postJdbcRepository.getPostIdsByBadge(badge);
+    }
+
+    @Override
+    public Map<String, TrendingPostMeta> getTrendingMetaByPostIds(List<String> postIds) {
+        return postJdbcRepository.getTrendingMetaByPostIds(postIds);
+    }
     
     @Override
     public Optional<Post> findById(String postId) {
@@ -98,7 +128,55 @@ public class PostRepositoryImpl implements PostRepository {
     }
     
     @Override
-    public List<Post> findPostsInPeriod(LocalDateTime from, LocalDateTime to) {
-        return postJdbcRepository.findPostsInPeriod(from, to);
+    public List<String> getTopScoredPostIdsInPeriod(
+            LocalDateTime from,
+            LocalDateTime to,
+            PostScoreWeights weights,
+            int minViewCount,
+            int minCommentCount,
+            int limit
+    ) {
+        return postJdbcRepository.findTopScoredPostIdsInPeriod(from, to, weights, minViewCount, minCommentCount, limit);
+    }
+
+    @Override
+    public List<String> applyBadge(
+            List<String> postIds,
+            Badge badge
+    ) {
+        return postJdbcRepository.applyBadge(postIds, badge);
+    }
+
+    @Override
+    public List<String> clearBadge(Badge badge) {
+        return postJdbcRepository.clearBadge(badge);
+    }
+
+    @Override
+    public List<String> getCountryIdsWithPostsSince(
+            LocalDateTime since,
+            int limit
+    ) {
+        return postJdbcRepository.getCountryIdsWithPostsSince(since, limit);
+    }
+
+    @Override
+    public void adjustLikeCount(String postId, long delta) {
+        postJdbcRepository.adjustLikeCount(postId, delta);
+    }
+
+    @Override
+    public int incrementViewCounts(Map<String, Long> deltasByPostId) {
+        return postJdbcRepository.incrementViewCounts(deltasByPostId);
+    }
+
+    @Override
+    public List<String> findPostIdsAfter(String lastPostId, int limit) {
+        return postJdbcRepository.findPostIdsAfter(lastPostId, limit);
+    }
+
+    @Override
+    public int reconcileLikeCounts(String fromPostId, String toPostId) {
+        return postJdbcRepository.reconcileLikeCounts(fromPostId, toPostId);
     }
 }
@@ -0,0 +1,27 @@
+package com.backend.immilog.post.infrastructure.repositories;
+
+import com.backend.immilog.post.domain.model.trending.TrendingEvent;
+import com.backend.immilog.post.domain.repositories.TrendingEventRepository;
+import com.backend.immilog.post.infrastructure.jdbc.TrendingEventJdbcRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+@Repository
+public class TrendingEventRepositoryImpl implements TrendingEventRepository {
+    private final TrendingEventJdbcRepository trendingEventJdbcRepository;
+
+    public TrendingEventRepositoryImpl(TrendingEventJdbcRepository trendingEventJdbcRepository) {
+        this.trendingEventJdbcRepository = trendingEventJdbcRepository;
+    }
+
+    @Override
+    public void forEachEventBetween(
+            LocalDateTime from,
+            LocalDateTime to,
+            Consumer<TrendingEvent> consumer
+    ) {
+        trendingEventJdbcRepository.forEachEventBetween(from, to, consumer);
+    }
+}
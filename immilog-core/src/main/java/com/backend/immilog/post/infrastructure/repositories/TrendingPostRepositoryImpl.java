@@ -0,0 +1,141 @@
+package com.backend.immilog.post.infrastructure.repositories;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingEntry;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.model.trending.TrendingScoreDelta;
+import com.backend.immilog.post.domain.repositories.TrendingPostRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 정렬 집합 기반 트렌딩 순위 저장소.
+ * 점수는 post:trending:{모델}:{순위}:{국가|ALL}:{카테고리|ALL}:{yyyyMMdd} 형태의 일 단위 버킷에 ZINCRBY로 누적하고,
+ * 조회 시 최근 버킷에 가중치를 곱해 ZUNIONSTORE로 합친 결과를 짧게 보관한 뒤 ZREVRANGE로 읽습니다.
+ * 버킷 값의 의미는 점수 모델마다 다르므로 모델 키로 구분합니다.
+ */
+@Repository
+public class TrendingPostRepositoryImpl implements TrendingPostRepository {
+    private static final String KEY_PREFIX = "post:trending:";
+    private static final String GLOBAL_SCOPE = "ALL";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostConfiguration postConfiguration;
+
+    public TrendingPostRepositoryImpl(
+            StringRedisTemplate stringRedisTemplate,
+            PostConfiguration postConfiguration
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postConfiguration = postConfiguration;
+    }
+
+    @Override
+    public void incrementScores(
+            TrendingMetric metric,
+            LocalDate day,
+            List<TrendingScoreDelta> deltas
+    ) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 버킷은 집계 기간이 지나면 스스로 만료되므로 별도의 정리 작업이 필요 없다
+        var bucketTtl = Duration.ofDays(postConfiguration.getTrendingWindowDays() + 1L);
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                var redis = (RedisOperations<String, String>) operations;
+                var touchedKeys = new HashSet<String>();
+                for (var delta : deltas) {
+                    for (var countryScope : scopesOf(delta.countryId())) {
+                        for (var categoryScope : scopesOf(delta.category())) {
+                            var key = bucketKey(metric, countryScope, categoryScope, day);
+                            redis.opsForZSet().incrementScore(key, delta.postId(), delta.score());
+                            touchedKeys.add(key);
+                        }
+                    }
+                }
+                touchedKeys.forEach(key -> redis.expire(key, bucketTtl));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public List<TrendingEntry> findTopScores(
+            TrendingMetric metric,
+            String countryId,
+            String category,
+            Map<LocalDate, Double> bucketWeights,
+            int limit
+    ) {
+        if (bucketWeights.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        var countryScope = scopeOf(countryId);
+        var categoryScope = scopeOf(category);
+        var days = new ArrayList<>(bucketWeights.keySet());
+        var latest = days.stream().max(LocalDate::compareTo).orElseThrow();
+        var windowKey = modelPrefix() + metric.key() + ":" + countryScope + ":" + categoryScope
+                + ":window:" + latest.format(BUCKET_FORMAT) + ":" + days.size();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(windowKey))) {
+            var bucketKeys = days.stream()
+                    .map(day -> bucketKey(metric, countryScope, categoryScope, day))
+                    .toList();
+            var weights = Weights.of(days.stream().mapToDouble(bucketWeights::get).toArray());
+            stringRedisTemplate.opsForZSet().unionAndStore(
+                    bucketKeys.getFirst(),
+                    bucketKeys.subList(1, bucketKeys.size()),
+                    windowKey,
+                    Aggregate.SUM,
+                    weights
+            );
+            stringRedisTemplate.expire(windowKey, postConfiguration.getTrendingWindowSnapshotTtl());
+        }
+        var tuples = stringRedisTemplate.opsForZSet().reverseRangeWithScores(windowKey, 0, limit - 1L);
+        if (tuples == null) {
+            return List.of();
+        }
+        return tuples.stream()
+                .filter(tuple -> tuple.getValue() != null && tuple.getScore() != null)
+                .map(tuple -> new TrendingEntry(tuple.getValue(), tuple.getScore()))
+                .toList();
+    }
+
+    private String bucketKey(
+            TrendingMetric metric,
+            String countryScope,
+            String categoryScope,
+            LocalDate day
+    ) {
+        return modelPrefix() + metric.key() + ":" + countryScope + ":" + categoryScope + ":" + day.format(BUCKET_FORMAT);
+    }
+
+    private String modelPrefix() {
+        return KEY_PREFIX + postConfiguration.getRankingModel().key() + ":";
+    }
+
+    private static List<String> scopesOf(String value) {
+        var scope = scopeOf(value);
+        return GLOBAL_SCOPE.equals(scope) ? List.of(GLOBAL_SCOPE) : List.of(GLOBAL_SCOPE, scope);
+    }
+
+    private static String scopeOf(String value) {
+        return value == null || value.isBlank() ? GLOBAL_SCOPE : value;
+    }
+}
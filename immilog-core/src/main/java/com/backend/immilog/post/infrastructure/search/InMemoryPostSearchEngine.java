@@ -0,0 +1,180 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import com.backend.immilog.post.domain.search.PostSearchDocument;
+import com.backend.immilog.post.domain.search.PostSearchEngine;
+import com.backend.immilog.post.domain.search.PostSearchHit;
+import com.backend.immilog.post.domain.search.PostSearchPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내 역색인 검색 백엔드.
+ * 제목(가중치 2.0), 태그(1.5), 본문(1.0)의 가중 토큰 빈도를 post_id별로 저장하고, k1로 포화시킨 TF에 IDF를 곱해 점수를 매깁니다.
+ * BM25와 달리 문서 길이 정규화(b, 평균 문서 길이)는 하지 않으므로 긴 본문이 불리하지 않습니다.
+ * 모든 검색어 토큰을 포함한 게시물만 결과에 포함됩니다. 토큰은 {@link SearchTokenizer} 기준이라
+ * 한글/한자/가나는 2-gram 단위로 부분 일치하지만 라틴 문자는 단어 단위로만 일치합니다("coff"는 "coffee"와 일치하지 않음).
+ * 색인은 노드마다 메모리에 있으므로 게시물 변경은 PostSearchIndexService를 통해 모든 노드에 전파됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = InMemoryPostSearchEngine.NAME)
+public class InMemoryPostSearchEngine implements PostSearchEngine {
+    public static final String NAME = "in-memory";
+
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final double TAG_WEIGHT = 1.5;
+    private static final double CONTENT_WEIGHT = 1.0;
+    private static final double K1 = 1.2;
+
+    private final Map<String, Map<String, Double>> postings = new HashMap<>();
+    private final Map<String, IndexedDocument> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean maintainsOwnIndex() {
+        return true;
+    }
+
+    @Override
+    public void index(PostSearchDocument document) {
+        var termWeights = new HashMap<String, Double>();
+        addTerms(termWeights, document.title(), TITLE_WEIGHT);
+        addTerms(termWeights, document.content(), CONTENT_WEIGHT);
+        document.tags().forEach(tag -> addTerms(termWeights, tag, TAG_WEIGHT));
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.postId());
+            termWeights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.postId(), weight));
+            documents.put(document.postId(), new IndexedDocument(document.title(), document.content(), termWeights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public PostSearchPage search(
+            String keyword,
+            Pageable pageable
+    ) {
+        var queryTerms = new LinkedHashSet<>(SearchTokenizer.tokenize(keyword));
+        if (queryTerms.isEmpty()) {
+            return PostSearchPage.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            var ranked = rank(queryTerms);
+            var from = (int) Math.min(pageable.getOffset(), ranked.size());
+            var to = Math.min(from + pageable.getPageSize(), ranked.size());
+            var hits = ranked.subList(from, to).stream()
+                    .map(scored -> {
+                        var document = documents.get(scored.postId());
+                        return PostSearchHit.of(scored.postId(), scored.score(), document.title(), document.content(), keyword);
+                    })
+                    .toList();
+            return new PostSearchPage(hits, ranked.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ScoredPost> rank(Set<String> queryTerms) {
+        // 가장 희소한 토큰의 게시물 목록부터 교집합을 구해 후보를 줄인다
+        var termPostings = new ArrayList<Map<String, Double>>();
+        for (var term : queryTerms) {
+            var posting = postings.get(term);
+            if (posting == null) {
+                return List.of();
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        var documentCount = documents.size();
+        var scores = new HashMap<String, Double>();
+        for (var postId : termPostings.getFirst().keySet()) {
+            var score = 0.0;
+            var matchesAll = true;
+            for (var posting : termPostings) {
+                var weight = posting.get(postId);
+                if (weight == null) {
+                    matchesAll = false;
+                    break;
+                }
+                var idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                score += idf * (weight * (K1 + 1)) / (weight + K1);
+            }
+            if (matchesAll) {
+                scores.put(postId, score);
+            }
+        }
+
+        return scores.entrySet().stream()
+                .map(entry -> new ScoredPost(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(ScoredPost::score).reversed()
+                        .thenComparing(ScoredPost::postId, Comparator.reverseOrder()))
+                .toList();
+    }
+
+    private void removeInternal(String postId) {
+        var previous = documents.remove(postId);
+        if (previous == null) {
+            return;
+        }
+        for (var term : previous.terms()) {
+            var posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(postId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addTerms(
+            Map<String, Double> termWeights,
+            String text,
+            double weight
+    ) {
+        for (var term : SearchTokenizer.tokenize(text)) {
+            termWeights.merge(term, weight, Double::sum);
+        }
+    }
+
+    private record IndexedDocument(String title, String content, Set<String> terms) {}
+
+    private record ScoredPost(String postId, double score) {}
+}
@@ -0,0 +1,146 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import com.backend.immilog.post.domain.search.PostSearchEngine;
+import com.backend.immilog.post.domain.search.PostSearchHit;
+import com.backend.immilog.post.domain.search.PostSearchPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 인덱스를 사용하는 검색 백엔드.
+ * 게시물 제목/본문과 태그를 각각 MATCH ... AGAINST로 조회한 뒤 post_id 기준으로 점수를 합산해 정렬합니다.
+ * MATCH는 OR 조건에서 인덱스를 쓰지 못하므로 두 조회를 UNION ALL로 합칩니다.
+ * FULLTEXT 인덱스는 db/post_search_fulltext_indexes.sql로 배포 전에 적용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.search.engine", havingValue = MySqlFullTextPostSearchEngine.NAME, matchIfMissing = true)
+public class MySqlFullTextPostSearchEngine implements PostSearchEngine {
+    public static final String NAME = "mysql";
+
+    static final String POST_FULLTEXT_INDEX = "ft_post_title_content";
+    static final String TAG_FULLTEXT_INDEX = "ft_content_resource_content";
+
+    private static final String MATCHES_SQL = """
+            SELECT p.post_id,
+                   MATCH(p.title, p.content) AGAINST (? IN NATURAL LANGUAGE MODE) AS score
+            FROM post p
+            WHERE MATCH(p.title, p.content) AGAINST (? IN NATURAL LANGUAGE MODE)
+              AND p.status <> 'DELETED'
+            UNION ALL
+            SELECT cr.content_id AS post_id,
+                   MATCH(cr.content) AGAINST (? IN NATURAL LANGUAGE MODE) AS score
+            FROM content_resource cr
+            JOIN post tp ON tp.post_id = cr.content_id AND tp.status <> 'DELETED'
+            WHERE MATCH(cr.content) AGAINST (? IN NATURAL LANGUAGE MODE)
+              AND cr.content_type = 'POST'
+              AND cr.resource_type = 'TAG'
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final boolean createIndexes;
+
+    public MySqlFullTextPostSearchEngine(
+            JdbcClient jdbcClient,
+            @Value("${post.search.create-indexes:false}") boolean createIndexes
+    ) {
+        this.jdbcClient = jdbcClient;
+        this.createIndexes = createIndexes;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public PostSearchPage search(
+            String keyword,
+            Pageable pageable
+    ) {
+        if (keyword == null || keyword.isBlank()) {
+            return PostSearchPage.empty();
+        }
+        var query = keyword.trim();
+
+        var hits = jdbcClient.sql("""
+                        SELECT p.post_id, p.title, p.content, ranked.score
+                        FROM (
+                            SELECT matches.post_id, SUM(matches.score) AS score
+                            FROM (%s) matches
+                            GROUP BY matches.post_id
+                            ORDER BY score DESC, matches.post_id DESC
+                            LIMIT ? OFFSET ?
+                        ) ranked
+                        JOIN post p ON p.post_id = ranked.post_id
+                        ORDER BY ranked.score DESC, p.post_id DESC
+                        """.formatted(MATCHES_SQL))
+                .params(query, query, query, query, pageable.getPageSize(), pageable.getOffset())
+                .query((rs, rowNum) -> PostSearchHit.of(
+                        rs.getString("post_id"),
+                        rs.getDouble("score"),
+                        rs.getString("title"),
+                        rs.getString("content"),
+                        query
+                ))
+                .list();
+
+        var total = jdbcClient.sql("""
+                        SELECT COUNT(DISTINCT matches.post_id)
+                        FROM (%s) matches
+                        """.formatted(MATCHES_SQL))
+                .params(query, query, query, query)
+                .query(Long.class)
+                .single();
+
+        return new PostSearchPage(hits, total);
+    }
+
+    /**
+     * post.search.create-indexes=true이면 기동 시 FULLTEXT 인덱스가 없을 때 ngram 파서로 생성합니다. JPA @Index로는 FULLTEXT/파서를 지정할 수 없습니다.
+     * 첫 FULLTEXT 인덱스 추가는 테이블을 재구성하며 DML을 막으므로 테스트/로컬 환경에서만 켜고,
+     * 운영 DB에는 db/post_search_fulltext_indexes.sql을 별도 작업으로 적용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureFullTextIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        createIndexIfMissing("post", POST_FULLTEXT_INDEX, "title, content");
+        createIndexIfMissing("content_resource", TAG_FULLTEXT_INDEX, "content");
+    }
+
+    private void createIndexIfMissing(
+            String table,
+            String indexName,
+            String columns
+    ) {
+        try {
+            var exists = jdbcClient.sql("""
+                            SELECT COUNT(*)
+                            FROM information_schema.statistics
+                            WHERE table_schema = DATABASE()
+                              AND table_name = ?
+                              AND index_name = ?
+                            """)
+                    .params(table, indexName)
+                    .query(Integer.class)
+                    .single() > 0;
+            if (exists) {
+                return;
+            }
+            jdbcClient.sql("ALTER TABLE %s ADD FULLTEXT INDEX %s (%s) WITH PARSER ngram"
+                            .formatted(table, indexName, columns))
+                    .update();
+            log.info("Created FULLTEXT index {} on {}({})", indexName, table, columns);
+        } catch (Exception e) {
+            log.warn("Failed to ensure FULLTEXT index {} on {}: {}", indexName, table, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import com.backend.immilog.post.application.services.PostSearchIndexService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 인메모리 검색 백엔드를 쓸 때만 노드 간 색인 변경 채널을 구독합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "post.search.engine", havingValue = InMemoryPostSearchEngine.NAME)
+public class PostSearchConfig {
+
+    @Bean
+    public RedisMessageListenerContainer postSearchIndexListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            PostSearchIndexService postSearchIndexService
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new PostSearchIndexListener(postSearchIndexService),
+                new ChannelTopic(PostSearchIndexService.INDEX_CHANNEL)
+        );
+        log.info("Subscribed to search index channel: {}", PostSearchIndexService.INDEX_CHANNEL);
+        return container;
+    }
+}
@@ -0,0 +1,28 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import com.backend.immilog.post.application.services.PostSearchIndexService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발생한 게시물 변경을 받아 이 노드의 인메모리 색인에 반영합니다.
+ */
+@Slf4j
+public class PostSearchIndexListener implements MessageListener {
+
+    private final PostSearchIndexService postSearchIndexService;
+
+    public PostSearchIndexListener(PostSearchIndexService postSearchIndexService) {
+        this.postSearchIndexService = postSearchIndexService;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var body = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("Received search index change: {}", body);
+        postSearchIndexService.applyRemoteChange(body);
+    }
+}
@@ -0,0 +1,46 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 인메모리 색인용 토크나이저.
+ * 공백/구두점으로 단어를 나누고, 한글·한자·가나가 포함된 단어는 MySQL ngram 파서와 같은 2-gram으로 쪼갭니다.
+ * 라틴 문자 단어는 소문자 단어 그대로 사용합니다.
+ */
+final class SearchTokenizer {
+    private static final int NGRAM_SIZE = 2;
+
+    private SearchTokenizer() {}
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        var tokens = new ArrayList<String>();
+        for (var word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (!containsCjk(word) || word.length() <= NGRAM_SIZE) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + NGRAM_SIZE <= word.length(); i++) {
+                tokens.add(word.substring(i, i + NGRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean containsCjk(String word) {
+        return word.codePoints().anyMatch(codePoint -> {
+            var script = Character.UnicodeScript.of(codePoint);
+            return script == Character.UnicodeScript.HANGUL
+                    || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA
+                    || script == Character.UnicodeScript.KATAKANA;
+        });
+    }
+}
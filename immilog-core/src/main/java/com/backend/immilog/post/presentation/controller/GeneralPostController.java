@@ -98,6 +98,20 @@ public class GeneralPostController {
         return ResponseEntity.ok(PostPageResponse.of(pagedPosts));
     }
 
+    @GetMapping("/feed")
+    @Operation(summary = "게시물 피드 조회", description = "커서 기반으로 게시물 목록을 조회합니다. 응답의 nextCursor를 다음 요청에 전달합니다.")
+    public ResponseEntity<PostFeedResponse> getPostFeed(
+            @Parameter(description = "국가") @RequestParam(value = "country", required = false) String countryId,
+            @Parameter(description = "정렬 방식") @RequestParam(value = "sort", required = false) SortingMethods sort,
+            @Parameter(description = "공개 여부") @RequestParam(value = "isPublic", required = false) String isPublic,
+            @Parameter(description = "카테고리") @RequestParam(value = "category", required = false) Categories category,
+            @Parameter(description = "다음 페이지 커서") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(value = "size", required = false) Integer size
+    ) {
+        var feed = postQueryService.getPostFeed(countryId, sort, isPublic, category, cursor, size);
+        return ResponseEntity.ok(PostFeedResponse.of(feed));
+    }
+
     @GetMapping("/{postId}")
     @Operation(summary = "게시물 상세 조회", description = "게시물 상세 정보를 조회합니다.")
     public ResponseEntity<PostDetailResponse> getPost(
@@ -5,7 +5,6 @@ import com.backend.immilog.post.application.dto.out.PostResult;
 import com.backend.immilog.post.application.services.query.PostPopularService;
 import com.backend.immilog.shared.annotation.CurrentUser;
 import com.backend.immilog.shared.application.gateway.ApiGatewayService;
-import com.backend.immilog.shared.application.gateway.DataEnrichmentRequest;
 import com.backend.immilog.shared.application.gateway.EnrichedResult;
 import com.backend.immilog.shared.enums.ContentType;
 import com.backend.immilog.shared.model.AuthenticatedUser;
@@ -36,11 +35,12 @@ public class PopularPostController {
     @GetMapping("/popular")
     @Operation(
             summary = "향상된 인기글 메뉴 조회",
-            description = "HOT 게시물과 주간베스트 게시물을 사용자 정보, 상호작용 정보와 함께 조회합니다."
+            description = "HOT 게시물과 주간베스트 게시물을 조회합니다. 작성자와 좋아요/댓글/조회 수는 스냅샷에 포함되어 있고, "
+                    + "includeInteractionData가 true이면 로그인 사용자의 상호작용 여부만 요청마다 조회합니다. country를 지정하면 해당 국가 메뉴를 조회합니다."
     )
     public ResponseEntity<EnrichedPopularPostMenuResponse> getEnrichedPopularPostMenu(
             @CurrentUser AuthenticatedUser currentUser,
-            @RequestParam(defaultValue = "true") boolean includeUserData,
+            @RequestParam(value = "country", required = false) String countryId,
             @RequestParam(defaultValue = "true") boolean includeInteractionData
     ) {
 
@@ -48,25 +48,12 @@ public class PopularPostController {
                 currentUser != null ? currentUser.userId() : "anonymous");
 
         try {
-            var baseResponse = postPopularService.getPopularPostMenu();
+            var baseResponse = postPopularService.getPopularPostMenu(countryId);
+            var viewerId = viewerIdOf(currentUser, includeInteractionData);
 
-            var enrichmentRequest = DataEnrichmentRequest.builder()
-                    .userId(currentUser != null ? currentUser.userId() : null)
-                    .contentType(ContentType.POST);
+            var hotPostsFuture = attachViewerInteractions(baseResponse.hot(), viewerId);
 
-            if (includeUserData) {
-                enrichmentRequest.includeUserData();
-            }
-            if (includeInteractionData) {
-                enrichmentRequest.includeInteractionData();
-                enrichmentRequest.includeUserInteraction();
-            }
-
-            var request = enrichmentRequest.build();
-
-            var hotPostsFuture = enrichPostResults(baseResponse.hot(), request);
-
-            var weeklyBestFuture = enrichPostResults(baseResponse.weeklyBest(), request);
+            var weeklyBestFuture = attachViewerInteractions(baseResponse.weeklyBest(), viewerId);
 
             var combinedFuture = hotPostsFuture.thenCombine(
                     weeklyBestFuture,
@@ -77,7 +64,7 @@ public class PopularPostController {
                                 .weeklyBest(enrichedWeekly)
                                 .totalHotPosts(enrichedHot.size())
                                 .totalWeeklyBest(enrichedWeekly.size())
-                                .enrichmentIncluded(includeUserData || includeInteractionData)
+                                .enrichmentIncluded(viewerId != null)
                                 .currentUserId(currentUser != null ? currentUser.userId() : null)
                                 .build();
                     });
@@ -89,7 +76,7 @@ public class PopularPostController {
         } catch (Exception e) {
             log.error("Error getting enriched popular post menu", e);
 
-            var baseResponse = postPopularService.getPopularPostMenu();
+            var baseResponse = postPopularService.getPopularPostMenu(countryId);
             var fallbackResponse = EnrichedPopularPostMenuResponse.fallback(
                     baseResponse.hot(),
                     baseResponse.weeklyBest(),
@@ -103,19 +90,19 @@ public class PopularPostController {
     @GetMapping("/popular/hot")
     @Operation(
             summary = "HOT 게시물 조회",
-            description = "HOT 게시물만을 향상된 데이터와 함께 조회합니다."
+            description = "HOT 게시물만 조회합니다. 로그인 사용자의 상호작용 여부만 요청마다 조회합니다."
     )
     public ResponseEntity<List<EnrichedResult<PostResult>>> getEnrichedHotPosts(
             @CurrentUser AuthenticatedUser currentUser,
-            @RequestParam(defaultValue = "true") boolean includeUserData,
+            @RequestParam(value = "country", required = false) String countryId,
             @RequestParam(defaultValue = "true") boolean includeInteractionData
     ) {
 
         try {
-            var baseResponse = postPopularService.getPopularPostMenu();
-            var request = buildEnrichmentRequest(currentUser, includeUserData, includeInteractionData);
+            var baseResponse = postPopularService.getPopularPostMenu(countryId);
+            var viewerId = viewerIdOf(currentUser, includeInteractionData);
 
-            var enrichedPosts = enrichPostResults(baseResponse.hot(), request).get(3, TimeUnit.SECONDS);
+            var enrichedPosts = attachViewerInteractions(baseResponse.hot(), viewerId).get(3, TimeUnit.SECONDS);
 
             return ResponseEntity.ok(enrichedPosts);
 
@@ -128,19 +115,19 @@ public class PopularPostController {
     @GetMapping("/popular/weekly")
     @Operation(
             summary = "주간베스트 게시물 조회",
-            description = "주간베스트 게시물만을 향상된 데이터와 함께 조회합니다."
+            description = "주간베스트 게시물만 조회합니다. 로그인 사용자의 상호작용 여부만 요청마다 조회합니다."
     )
     public ResponseEntity<List<EnrichedResult<PostResult>>> getEnrichedWeeklyBestPosts(
             @CurrentUser AuthenticatedUser currentUser,
-            @RequestParam(defaultValue = "true") boolean includeUserData,
+            @RequestParam(value = "country", required = false) String countryId,
             @RequestParam(defaultValue = "true") boolean includeInteractionData
     ) {
 
         try {
-            var baseResponse = postPopularService.getPopularPostMenu();
-            var request = buildEnrichmentRequest(currentUser, includeUserData, includeInteractionData);
+            var baseResponse = postPopularService.getPopularPostMenu(countryId);
+            var viewerId = viewerIdOf(currentUser, includeInteractionData);
 
-            var enrichedPosts = enrichPostResults(baseResponse.weeklyBest(), request).get(3, TimeUnit.SECONDS);
+            var enrichedPosts = attachViewerInteractions(baseResponse.weeklyBest(), viewerId).get(3, TimeUnit.SECONDS);
 
             return ResponseEntity.ok(enrichedPosts);
 
@@ -151,32 +138,20 @@ public class PopularPostController {
     }
 
     // Private helper methods
-    private CompletableFuture<List<EnrichedResult<PostResult>>> enrichPostResults(
+    // 작성자와 좋아요/댓글/조회 수는 스냅샷의 PostResult에 이미 있으므로, 요청마다 조회하는 것은 현재 사용자의 상호작용뿐이다
+    private CompletableFuture<List<EnrichedResult<PostResult>>> attachViewerInteractions(
             List<PostResult> posts,
-            DataEnrichmentRequest request
+            String viewerId
     ) {
 
-        return apiGatewayService.enrichDataListAsync(posts, request);
+        return apiGatewayService.enrichUserInteractionListAsync(posts, PostResult::postId, viewerId, ContentType.POST);
     }
 
-    private DataEnrichmentRequest buildEnrichmentRequest(
+    private static String viewerIdOf(
             AuthenticatedUser currentUser,
-            boolean includeUserData,
             boolean includeInteractionData
     ) {
 
-        var builder = DataEnrichmentRequest.builder()
-                .userId(currentUser != null ? currentUser.userId() : null)
-                .contentType(ContentType.POST);
-
-        if (includeUserData) {
-            builder.includeUserData();
-        }
-        if (includeInteractionData) {
-            builder.includeInteractionData();
-            builder.includeUserInteraction();
-        }
-
-        return builder.build();
+        return includeInteractionData && currentUser != null ? currentUser.userId() : null;
     }
 }
\ No newline at end of file
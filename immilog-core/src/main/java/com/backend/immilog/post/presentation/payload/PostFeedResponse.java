@@ -0,0 +1,26 @@
+package com.backend.immilog.post.presentation.payload;
+
+import com.backend.immilog.post.application.dto.out.PostFeedResult;
+import com.backend.immilog.post.application.dto.out.PostResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+public record PostFeedResponse(
+        @Schema(description = "상태 코드", example = "200") Integer status,
+        @Schema(description = "메시지", example = "success") String message,
+        @Schema(description = "게시글 리스트") List<PostInformation> data,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor,
+        @Schema(description = "다음 페이지 존재 여부", example = "true") Boolean hasNext
+) {
+    public static PostFeedResponse of(PostFeedResult result) {
+        return new PostFeedResponse(
+                HttpStatus.OK.value(),
+                "success",
+                result.posts().stream().map(PostResult::toInfraDTO).toList(),
+                result.nextCursor(),
+                result.hasNext()
+        );
+    }
+}
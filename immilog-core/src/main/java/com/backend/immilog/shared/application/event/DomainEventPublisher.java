@@ -2,6 +2,7 @@ package com.backend.immilog.shared.application.event;
 
 import com.backend.immilog.shared.domain.event.DomainEvent;
 import com.backend.immilog.shared.domain.event.DomainEvents;
+import com.backend.immilog.shared.infrastructure.event.LocalEventDispatcher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -12,9 +13,14 @@ import java.util.List;
 public class DomainEventPublisher {
 
     private final EventPublisher eventPublisher;
+    private final LocalEventDispatcher localEventDispatcher;
 
-    public DomainEventPublisher(EventPublisher eventPublisher) {
+    public DomainEventPublisher(
+            EventPublisher eventPublisher,
+            LocalEventDispatcher localEventDispatcher
+    ) {
         this.eventPublisher = eventPublisher;
+        this.localEventDispatcher = localEventDispatcher;
     }
 
     public void publishEvents() {
@@ -51,6 +57,10 @@ public class DomainEventPublisher {
     
     public void publishDomainEvent(DomainEvent event) {
         try {
+            if (localEventDispatcher.dispatch(event)) {
+                log.debug("Dispatched domain event in-process: {}", event.getClass().getSimpleName());
+                return;
+            }
             log.debug("Publishing domain event: {}", event.getClass().getSimpleName());
             eventPublisher.publishDomainEvent(event);
         } catch (Exception e) {
@@ -3,6 +3,7 @@ package com.backend.immilog.shared.application.gateway;
 import com.backend.immilog.shared.application.query.PagedResult;
 import com.backend.immilog.shared.domain.service.InteractionDataProvider;
 import com.backend.immilog.shared.domain.service.UserDataProvider;
+import com.backend.immilog.shared.enums.ContentType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -90,10 +92,37 @@ public class ApiGatewayService {
                 .map(item -> enrichDataAsync(item, request))
                 .toList();
 
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> futures.stream()
-                        .map(CompletableFuture::join)
-                        .toList());
+        return joinAll(futures);
+    }
+
+    /**
+     * 작성자와 집계 정보가 이미 담긴 목록에 현재 사용자의 상호작용만 항목별로 조회해 붙입니다.
+     * userId가 없으면 조회하지 않고 기본 데이터만 담아 반환합니다.
+     */
+    public <T> CompletableFuture<List<EnrichedResult<T>>> enrichUserInteractionListAsync(
+            List<T> baseDataList,
+            Function<T, String> contentIdOf,
+            String userId,
+            ContentType contentType
+    ) {
+        if (userId == null) {
+            return CompletableFuture.completedFuture(baseDataList.stream()
+                    .map(item -> EnrichedResult.<T>builder().baseData(item).build())
+                    .toList());
+        }
+
+        log.debug("Starting user interaction enrichment for {} items", baseDataList.size());
+
+        var futures = baseDataList.stream()
+                .map(item -> enrichDataAsync(item, DataEnrichmentRequest.builder()
+                        .userId(userId)
+                        .contentId(contentIdOf.apply(item))
+                        .contentType(contentType)
+                        .includeUserInteraction()
+                        .build()))
+                .toList();
+
+        return joinAll(futures);
     }
 
     public <T> CompletableFuture<PagedResult<EnrichedResult<T>>> enrichPagedDataAsync(
@@ -150,4 +179,11 @@ public class ApiGatewayService {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    private static <T> CompletableFuture<List<EnrichedResult<T>>> joinAll(List<CompletableFuture<EnrichedResult<T>>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(v -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .toList());
+    }
+}
@@ -2,6 +2,7 @@ package com.backend.immilog.shared.application.query;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -12,7 +13,8 @@ import java.util.Map;
 public class QueryCriteria {
     
     private final Map<String, Object> conditions = new HashMap<>();
-    private final Map<String, SortOrder> sortOrders = new HashMap<>();
+    // 다중 정렬은 지정한 순서대로 적용되어야 하므로 삽입 순서를 유지한다
+    private final Map<String, SortOrder> sortOrders = new LinkedHashMap<>();
     
     public enum SortOrder {
         ASC, DESC
@@ -130,7 +132,7 @@ public class QueryCriteria {
     }
     
     public Map<String, SortOrder> getSortOrders() {
-        return new HashMap<>(sortOrders);
+        return new LinkedHashMap<>(sortOrders);
     }
     
     public boolean hasConditions() {
@@ -0,0 +1,18 @@
+package com.backend.immilog.shared.config.database;
+
+import java.time.Duration;
+
+/**
+ * RedisCacheManager에 등록되는 캐시 이름과 캐시별 TTL
+ */
+public final class CacheNames {
+    // 게시물 단건 조회 결과 (PostResult) L2 캐시
+    public static final String POST_RESULT = "postResult";
+    public static final Duration POST_RESULT_TTL = Duration.ofMinutes(10);
+
+    // 게시물별 태그/첨부파일 번들 (PostResourceBundle)
+    public static final String POST_RESOURCE_BUNDLE = "postResourceBundle";
+    public static final Duration POST_RESOURCE_BUNDLE_TTL = Duration.ofHours(1);
+
+    private CacheNames() {}
+}
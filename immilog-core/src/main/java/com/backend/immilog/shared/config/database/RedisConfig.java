@@ -18,6 +18,7 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -65,6 +66,8 @@ public class RedisConfig {
         return RedisCacheManager
                 .builder(RedisCacheWriter.lockingRedisCacheWriter(redisConnectionFactory))
                 .cacheDefaults(cacheConfiguration)
+                .withCacheConfiguration(CacheNames.POST_RESULT, cacheConfiguration.entryTtl(CacheNames.POST_RESULT_TTL))
+                .withCacheConfiguration(CacheNames.POST_RESOURCE_BUNDLE, cacheConfiguration.entryTtl(CacheNames.POST_RESOURCE_BUNDLE_TTL))
                 .build();
     }
 
@@ -79,6 +82,20 @@ public class RedisConfig {
         return template;
     }
     
+    /**
+     * 이벤트 스트림 전용 템플릿. 바이너리 코덱 본문을 그대로 싣기 위해 해시 값은 byte[]로 다룹니다.
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> eventStreamRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
     @Bean(name = "eventObjectMapper")
     public ObjectMapper eventObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
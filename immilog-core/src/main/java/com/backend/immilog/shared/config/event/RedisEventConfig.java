@@ -1,5 +1,8 @@
 package com.backend.immilog.shared.config.event;
 
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import com.backend.immilog.shared.infrastructure.event.EventNodeIdentifier;
+import com.backend.immilog.shared.infrastructure.event.EventReplyListener;
 import com.backend.immilog.shared.infrastructure.event.RedisStreamsPushEventListener;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
@@ -11,9 +14,11 @@ import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
-import org.springframework.data.redis.stream.Subscription;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -33,19 +38,28 @@ public class RedisEventConfig implements DisposableBean {
     public static final String DOMAIN_EVENT_GROUP = "domain-event-handlers";
     public static final String COMPENSATION_EVENT_GROUP = "compensation-event-handlers";
 
+    // 재시도 한도를 넘긴 메시지를 보관하는 dead-letter 스트림 접미사 (원본 스트림 이름 뒤에 붙음)
+    public static final String DEAD_LETTER_STREAM_SUFFIX = ":dead-letter";
+
+    // 요청/응답 이벤트의 완료 신호를 요청 노드로 전달하는 Pub/Sub 채널 (노드 ID가 뒤에 붙음)
+    public static final String EVENT_REPLY_CHANNEL_PREFIX = "event-replies:";
+
     @Value("${spring.application.name:immilog}")
     private String applicationName;
     
     private final RedisTemplate<String, Object> eventRedisTemplate;
     private final RedisStreamsPushEventListener eventListener;
+    private final EventBusProperties.Consumer consumerProperties;
     private StreamMessageListenerContainer listenerContainer;
 
     public RedisEventConfig(
             RedisTemplate<String, Object> eventRedisTemplate,
-            RedisStreamsPushEventListener eventListener
+            RedisStreamsPushEventListener eventListener,
+            EventBusProperties eventBusProperties
     ) {
         this.eventRedisTemplate = eventRedisTemplate;
         this.eventListener = eventListener;
+        this.consumerProperties = eventBusProperties.consumer();
     }
 
     @PostConstruct
@@ -64,8 +78,12 @@ public class RedisEventConfig implements DisposableBean {
         StreamMessageListenerContainer.StreamMessageListenerContainerOptions options = 
             StreamMessageListenerContainer.StreamMessageListenerContainerOptions
                 .builder()
-                .batchSize(10)
+                .batchSize(consumerProperties.batchSize())
                 .pollTimeout(Duration.ofSeconds(1))
+                // 코덱으로 인코딩된 바이너리 본문을 손실 없이 읽도록 해시 값은 byte[]로 역직렬화
+                .keySerializer(RedisSerializer.string())
+                .hashKeySerializer(RedisSerializer.string())
+                .hashValueSerializer(RedisSerializer.byteArray())
                 .build();
 
         StreamMessageListenerContainer container = 
@@ -76,21 +94,26 @@ public class RedisEventConfig implements DisposableBean {
 
         // 도메인 이벤트 스트림 구독 - Raw StreamListener 사용
         StreamListener rawListener = (StreamListener) eventListener;
-        
-        Subscription domainSubscription = container.receive(
-            Consumer.from(DOMAIN_EVENT_GROUP, consumerName),
-            StreamOffset.create(DOMAIN_EVENT_STREAM, ReadOffset.lastConsumed()),
-            rawListener
-        );
 
-        // 보상 이벤트 스트림 구독
-        Subscription compensationSubscription = container.receive(
-            Consumer.from(COMPENSATION_EVENT_GROUP, consumerName),
-            StreamOffset.create(COMPENSATION_EVENT_STREAM, ReadOffset.lastConsumed()),
-            rawListener
-        );
+        // 스트림마다 concurrency 개의 consumer를 두어 폴링을 병렬화 (각 구독은 별도 폴링 스레드에서 동작)
+        for (int i = 0; i < consumerProperties.concurrency(); i++) {
+            String indexedConsumerName = consumerName + "-" + i;
+
+            container.receive(
+                Consumer.from(DOMAIN_EVENT_GROUP, indexedConsumerName),
+                StreamOffset.create(DOMAIN_EVENT_STREAM, ReadOffset.lastConsumed()),
+                rawListener
+            );
+
+            // 보상 이벤트 스트림 구독
+            container.receive(
+                Consumer.from(COMPENSATION_EVENT_GROUP, indexedConsumerName),
+                StreamOffset.create(COMPENSATION_EVENT_STREAM, ReadOffset.lastConsumed()),
+                rawListener
+            );
+        }
 
-        log.info("Configured Redis Streams Push listeners with consumer: {}", consumerName);
+        log.info("Configured Redis Streams Push listeners with consumer: {} x{}", consumerName, consumerProperties.concurrency());
         
         this.listenerContainer = container;
         container.start();
@@ -99,6 +122,22 @@ public class RedisEventConfig implements DisposableBean {
         return container;
     }
 
+    @Bean
+    public RedisMessageListenerContainer eventReplyListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            EventReplyListener eventReplyListener,
+            EventNodeIdentifier eventNodeIdentifier
+    ) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                eventReplyListener,
+                new ChannelTopic(EVENT_REPLY_CHANNEL_PREFIX + eventNodeIdentifier.getNodeId())
+        );
+        log.info("Subscribed to event reply channel: {}", EVENT_REPLY_CHANNEL_PREFIX + eventNodeIdentifier.getNodeId());
+        return container;
+    }
+
     private String generateConsumerName() {
         try {
             String hostname = InetAddress.getLocalHost().getHostName();
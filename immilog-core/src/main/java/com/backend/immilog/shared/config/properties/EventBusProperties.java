@@ -0,0 +1,150 @@
+package com.backend.immilog.shared.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "event.bus")
+public record EventBusProperties(
+        LocalDispatch localDispatch,
+        Codec codec,
+        Consumer consumer,
+        Reclaim reclaim,
+        Retention retention
+) {
+
+    public EventBusProperties {
+        if (localDispatch == null) {
+            localDispatch = new LocalDispatch(true);
+        }
+        if (codec == null) {
+            codec = new Codec(null, null);
+        }
+        if (consumer == null) {
+            consumer = new Consumer(0, 0, 0, null);
+        }
+        if (reclaim == null) {
+            reclaim = new Reclaim(null, 0, null, 0, null);
+        }
+        if (retention == null) {
+            retention = new Retention(null, null);
+        }
+    }
+
+    public record LocalDispatch(
+            boolean enabled
+    ) {}
+
+    /**
+     * 발행 시 사용할 코덱 이름. streams에 스트림 이름별로 지정하면 기본값보다 우선합니다.
+     */
+    public record Codec(
+            String defaultCodec,
+            Map<String, String> streams
+    ) {
+        public Codec {
+            if (defaultCodec == null || defaultCodec.isBlank()) {
+                defaultCodec = "smile";
+            }
+            if (streams == null) {
+                streams = Map.of();
+            }
+        }
+    }
+
+    /**
+     * concurrency: 노드당 스트림별 consumer 수, maxInFlight: 동시에 처리하거나 대기할 수 있는 최대 메시지 수.
+     * maxInFlight에 도달하면 빈 자리가 생길 때까지 스트림 폴링이 멈춥니다.
+     */
+    public record Consumer(
+            int concurrency,
+            int maxInFlight,
+            int batchSize,
+            Duration shutdownTimeout
+    ) {
+        public Consumer {
+            if (concurrency <= 0) {
+                concurrency = 2;
+            }
+            if (maxInFlight <= 0) {
+                maxInFlight = 64;
+            }
+            if (batchSize <= 0) {
+                batchSize = 10;
+            }
+            if (shutdownTimeout == null) {
+                shutdownTimeout = Duration.ofSeconds(10);
+            }
+        }
+    }
+
+    /**
+     * 처리되지 않은 pending 메시지 회수 설정.
+     * n번째 재전달은 minIdle * 2^(n-1) (최대 maxBackoff) 만큼 방치된 뒤에 이루어지며,
+     * maxDeliveries를 넘긴 메시지는 dead-letter 스트림으로 옮깁니다.
+     * deadConsumerIdle 동안 활동이 없고 pending이 없는 consumer는 그룹에서 삭제합니다.
+     * 실행 주기는 스케줄러에서 event.bus.reclaim.interval, event.bus.reclaim.cleanup-interval 로 지정합니다.
+     */
+    public record Reclaim(
+            Duration minIdle,
+            int maxDeliveries,
+            Duration maxBackoff,
+            int batchSize,
+            Duration deadConsumerIdle
+    ) {
+        public Reclaim {
+            if (minIdle == null) {
+                minIdle = Duration.ofSeconds(30);
+            }
+            if (maxDeliveries <= 0) {
+                maxDeliveries = 5;
+            }
+            if (maxBackoff == null) {
+                maxBackoff = Duration.ofMinutes(10);
+            }
+            if (batchSize <= 0) {
+                batchSize = 100;
+            }
+            if (deadConsumerIdle == null) {
+                deadConsumerIdle = Duration.ofHours(1);
+            }
+        }
+
+        public Duration backoffFor(long deliveryCount) {
+            var exponent = Math.min(Math.max(deliveryCount - 1, 0), 20);
+            var backoff = minIdle.multipliedBy(1L << exponent);
+            return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+        }
+    }
+
+    /**
+     * 스트림 보존 설정. streams에 스트림 이름별로 지정하면 defaults 대신 사용합니다.
+     */
+    public record Retention(
+            StreamRetention defaults,
+            Map<String, StreamRetention> streams
+    ) {
+        public Retention {
+            if (defaults == null) {
+                defaults = new StreamRetention(100_000, Duration.ofHours(6));
+            }
+            if (streams == null) {
+                streams = Map.of();
+            }
+        }
+
+        public StreamRetention forStream(String streamName) {
+            return streams.getOrDefault(streamName, defaults);
+        }
+    }
+
+    /**
+     * maxLength: XADD 시 근사 MAXLEN 상한 (0이면 제한 없음),
+     * maxAge: 이보다 오래된 항목을 MINID로 정리 (null이면 정리하지 않음). 모든 그룹이 ACK한 항목만 정리됩니다.
+     */
+    public record StreamRetention(
+            long maxLength,
+            Duration maxAge
+    ) {}
+}
@@ -9,7 +9,8 @@ import org.springframework.context.annotation.Configuration;
         WebProperties.class,
         RedisProperties.class,
         GeocodeProperties.class,
-        EventProperties.class
+        EventProperties.class,
+        EventBusProperties.class
 })
 public class PropertiesConfig {
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.backend.immilog.shared.domain.event;
 
 import static com.backend.immilog.shared.domain.event.DomainEventTypes.INTERACTION_DATA_REQUESTED;
 
-public class BookmarkDataRequestedEvent extends StandardDomainEvent {
+public class BookmarkDataRequestedEvent extends StandardDomainEvent implements RequestReplyEvent {
 
     private final String requestId;
     private final String userId;
@@ -0,0 +1,39 @@
+package com.backend.immilog.shared.domain.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+import static com.backend.immilog.shared.domain.event.DomainEventTypes.COMMENT_COUNT_REQUESTED;
+
+/**
+ * 게시물별 댓글 수만 요청하는 이벤트. 목록 화면처럼 댓글 본문이 필요 없는 경우 {@link CommentDataRequestedEvent} 대신 사용합니다.
+ */
+@Getter
+public class CommentCountRequestedEvent extends StandardDomainEvent implements RequestReplyEvent {
+
+    private String requestId;
+    private List<String> postIds;
+    private String requestingDomain;
+
+    private CommentCountRequestedEvent() {
+        super();
+    }
+
+    public CommentCountRequestedEvent(
+            String requestId,
+            List<String> postIds,
+            String requestingDomain
+    ) {
+        super(COMMENT_COUNT_REQUESTED, postIds.isEmpty() ? null : postIds.get(0));
+        this.requestId = requestId;
+        this.postIds = postIds;
+        this.requestingDomain = requestingDomain;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CommentCountRequestedEvent{requestId='%s', postIds=%s, requestingDomain='%s'}",
+                requestId, postIds, requestingDomain);
+    }
+}
@@ -7,7 +7,7 @@ import java.util.List;
 import static com.backend.immilog.shared.domain.event.DomainEventTypes.COMMENT_DATA_REQUESTED;
 
 @Getter
-public class CommentDataRequestedEvent extends StandardDomainEvent {
+public class CommentDataRequestedEvent extends StandardDomainEvent implements RequestReplyEvent {
 
     private String requestId;
     private List<String> postIds;
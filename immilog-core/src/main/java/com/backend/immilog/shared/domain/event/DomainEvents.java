@@ -1,5 +1,6 @@
 package com.backend.immilog.shared.domain.event;
 
+import com.backend.immilog.shared.infrastructure.event.LocalEventDispatcher;
 import com.backend.immilog.shared.infrastructure.event.RedisEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeansException;
@@ -25,6 +26,11 @@ public class DomainEvents implements ApplicationContextAware {
     public static void raise(DomainEvent event) {
         try {
             if (applicationContext != null) {
+                var localDispatcher = applicationContext.getBean(LocalEventDispatcher.class);
+                if (localDispatcher.dispatch(event)) {
+                    log.debug("Dispatched domain event in-process: {}", event.getClass().getSimpleName());
+                    return;
+                }
                 RedisEventPublisher publisher = applicationContext.getBean(RedisEventPublisher.class);
                 publisher.publishDomainEvent(event);
                 log.debug("Immediately published domain event: {}", event.getClass().getSimpleName());
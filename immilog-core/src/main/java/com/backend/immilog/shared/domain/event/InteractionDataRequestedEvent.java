@@ -4,7 +4,7 @@ import java.util.List;
 
 import static com.backend.immilog.shared.domain.event.DomainEventTypes.INTERACTION_DATA_REQUESTED;
 
-public class InteractionDataRequestedEvent extends StandardDomainEvent {
+public class InteractionDataRequestedEvent extends StandardDomainEvent implements RequestReplyEvent {
 
     private final String requestId;
     private final List<String> contentIds;
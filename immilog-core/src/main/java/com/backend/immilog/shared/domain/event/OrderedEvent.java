@@ -0,0 +1,9 @@
+package com.backend.immilog.shared.domain.event;
+
+/**
+ * 같은 키를 가진 이벤트끼리 처리 순서가 보장되어야 하는 이벤트
+ * 이벤트 버스는 키가 다른 이벤트를 병렬로 처리하지만, 같은 키의 이벤트는 수신 순서대로 하나씩 처리한다
+ */
+public interface OrderedEvent extends DomainEvent {
+    String orderingKey();
+}
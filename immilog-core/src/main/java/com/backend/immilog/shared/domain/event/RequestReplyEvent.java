@@ -0,0 +1,9 @@
+package com.backend.immilog.shared.domain.event;
+
+/**
+ * 요청/응답 형태의 조회 이벤트
+ * 요청자가 requestId로 결과를 기다리는 이벤트로, 같은 JVM에 핸들러가 있으면 Redis를 거치지 않고 직접 처리될 수 있다
+ */
+public interface RequestReplyEvent extends DomainEvent {
+    String getRequestId();
+}
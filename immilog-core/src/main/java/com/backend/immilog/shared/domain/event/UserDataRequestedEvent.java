@@ -5,7 +5,7 @@ import java.util.List;
 
 import static com.backend.immilog.shared.domain.event.DomainEventTypes.USER_DATA_REQUESTED;
 
-public class UserDataRequestedEvent extends StandardDomainEvent {
+public class UserDataRequestedEvent extends StandardDomainEvent implements RequestReplyEvent {
 
     private final String requestId;
     private final List<String> userIds;
@@ -10,7 +10,7 @@ import static com.backend.immilog.shared.domain.event.DomainEventTypes.USER_DATA
  * 도메인 간 사용자 존재 여부 및 유효성 검증을 위한 표준 이벤트
  */
 @Getter
-public class UserValidationRequestedEvent extends StandardDomainEvent {
+public class UserValidationRequestedEvent extends StandardDomainEvent implements RequestReplyEvent {
     
     private final String requestId;
     private final String targetUserId;
@@ -0,0 +1,28 @@
+package com.backend.immilog.shared.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * 게시물별 정상 상태 댓글 수. 댓글이 없는 게시물은 포함되지 않을 수 있으며 0으로 취급합니다.
+ */
+public record CommentCounts(
+    @JsonProperty("countsByPostId") Map<String, Long> countsByPostId
+) {
+    public CommentCounts {
+        countsByPostId = countsByPostId == null ? Map.of() : Map.copyOf(countsByPostId);
+    }
+
+    public static CommentCounts empty() {
+        return new CommentCounts(Map.of());
+    }
+
+    public long countOf(String postId) {
+        return countsByPostId.getOrDefault(postId, 0L);
+    }
+
+    public int size() {
+        return countsByPostId.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.backend.immilog.shared.domain.service;
+
+import com.backend.immilog.shared.enums.ContentType;
+
+public interface ContentCacheInvalidator {
+
+    /**
+     * 콘텐츠 조회 캐시를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     */
+    void invalidate(String contentId, ContentType contentType);
+}
@@ -0,0 +1,12 @@
+package com.backend.immilog.shared.domain.service;
+
+import com.backend.immilog.shared.enums.ContentType;
+
+public interface ContentLikeCounter {
+
+    /**
+     * 콘텐츠의 비정규화된 좋아요 수를 delta만큼 조정합니다.
+     * 호출한 트랜잭션 안에서 실행되어 상호작용 저장과 함께 커밋되거나 롤백됩니다.
+     */
+    void adjustLikeCount(String contentId, ContentType contentType, long delta);
+}
@@ -0,0 +1,61 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.infrastructure.event.dto.DeadLetterEntry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * dead-letter 스트림 조회 및 재처리용 actuator 엔드포인트
+ * GET  /actuator/eventdeadletters/{stream}?count=50
+ * POST /actuator/eventdeadletters/{stream} {"count": 10}
+ * 운영 환경에서는 management.endpoints.web.exposure.include 에 명시한 경우에만 노출됩니다.
+ */
+@Component
+@Endpoint(id = "eventdeadletters")
+public class DeadLetterEventEndpoint {
+
+    private static final int DEFAULT_COUNT = 50;
+    private static final Set<String> STREAMS = Set.of(
+            RedisEventConfig.DOMAIN_EVENT_STREAM,
+            RedisEventConfig.COMPENSATION_EVENT_STREAM
+    );
+
+    private final DeadLetterEventStore deadLetterEventStore;
+
+    public DeadLetterEventEndpoint(DeadLetterEventStore deadLetterEventStore) {
+        this.deadLetterEventStore = deadLetterEventStore;
+    }
+
+    @ReadOperation
+    public List<DeadLetterEntry> deadLetters(
+            @Selector String stream,
+            @Nullable Integer count
+    ) {
+        return deadLetterEventStore.list(validate(stream), count == null ? DEFAULT_COUNT : count);
+    }
+
+    @WriteOperation
+    public Map<String, Object> replay(
+            @Selector String stream,
+            @Nullable Integer count
+    ) {
+        var replayed = deadLetterEventStore.replay(validate(stream), count == null ? DEFAULT_COUNT : count);
+        return Map.of("stream", stream, "replayed", replayed);
+    }
+
+    private static String validate(String stream) {
+        if (!STREAMS.contains(stream)) {
+            throw new IllegalArgumentException("Unknown event stream: " + stream);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,143 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import com.backend.immilog.shared.infrastructure.event.dto.DeadLetterEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재시도 한도를 넘긴 이벤트를 원본 스트림별 dead-letter 스트림에 보관하고, 원본 스트림으로 다시 발행합니다.
+ * dead-letter 레코드는 원본 필드(헤더, 코덱 본문)를 그대로 유지하므로 재발행된 메시지는 일반 메시지와 같이 처리됩니다.
+ * dead-letter 스트림은 consumer group이 없어 MINID 정리 대상이 아니므로, XADD 시 근사 MAXLEN으로만 길이를 제한합니다.
+ * 상한은 event.bus.retention.streams에 dead-letter 스트림 이름으로 따로 지정할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class DeadLetterEventStore {
+
+    private final RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+    private final EventBusProperties.Retention retentionProperties;
+
+    public DeadLetterEventStore(
+            RedisTemplate<String, byte[]> eventStreamRedisTemplate,
+            EventBusProperties eventBusProperties
+    ) {
+        this.eventStreamRedisTemplate = eventStreamRedisTemplate;
+        this.retentionProperties = eventBusProperties.retention();
+    }
+
+    public RecordId moveToDeadLetter(
+            String streamName,
+            String consumerGroup,
+            MapRecord<String, String, byte[]> record,
+            long deliveryCount
+    ) {
+        var fields = new HashMap<String, byte[]>(record.getValue());
+        fields.put(EventStreamRecord.DEAD_LETTER_ORIGINAL_ID, EventStreamRecord.bytes(record.getId().getValue()));
+        fields.put(EventStreamRecord.DEAD_LETTER_GROUP, EventStreamRecord.bytes(consumerGroup));
+        fields.put(EventStreamRecord.DEAD_LETTER_DELIVERY_COUNT, EventStreamRecord.bytes(Long.toString(deliveryCount)));
+        fields.put(EventStreamRecord.DEAD_LETTER_AT, EventStreamRecord.bytes(Long.toString(System.currentTimeMillis())));
+
+        var deadLetterId = add(deadLetterStreamOf(streamName), fields);
+        log.warn("Moved event to dead-letter stream: stream={}, recordId={}, eventType={}, deliveryCount={}",
+                streamName,
+                record.getId(),
+                EventStreamRecord.header(record.getValue(), EventStreamRecord.EVENT_TYPE),
+                deliveryCount);
+        return deadLetterId;
+    }
+
+    public List<DeadLetterEntry> list(
+            String streamName,
+            int count
+    ) {
+        return readDeadLetters(streamName, count).stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    /**
+     * 가장 오래된 dead-letter 메시지부터 count 개를 원본 스트림에 다시 발행하고 dead-letter 스트림에서 삭제합니다.
+     * 재발행에도 원본 스트림의 근사 MAXLEN을 적용하므로, 한 번에 많이 재발행해도 보존 설정 이상으로 길어지지 않습니다.
+     */
+    public int replay(
+            String streamName,
+            int count
+    ) {
+        var deadLetterStream = deadLetterStreamOf(streamName);
+        int replayed = 0;
+        for (var record : readDeadLetters(streamName, count)) {
+            var fields = new HashMap<String, byte[]>();
+            record.getValue().forEach((name, value) -> {
+                if (!name.startsWith(EventStreamRecord.DEAD_LETTER_PREFIX)) {
+                    fields.put(name, value);
+                }
+            });
+            add(streamName, fields);
+            eventStreamRedisTemplate.opsForStream().delete(deadLetterStream, record.getId());
+            replayed++;
+        }
+        log.info("Replayed {} dead-letter events to stream: {}", replayed, streamName);
+        return replayed;
+    }
+
+    private RecordId add(
+            String streamName,
+            Map<String, byte[]> fields
+    ) {
+        var maxLength = retentionProperties.forStream(streamName).maxLength();
+        var options = maxLength > 0
+                ? RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true)
+                : RedisStreamCommands.XAddOptions.none();
+
+        var rawFields = new HashMap<byte[], byte[]>(fields.size());
+        fields.forEach((name, value) -> rawFields.put(EventStreamRecord.bytes(name), value));
+        var record = StreamRecords.rawBytes(rawFields).withStreamKey(EventStreamRecord.bytes(streamName));
+
+        return eventStreamRedisTemplate.execute(
+                (RedisCallback<RecordId>) connection -> connection.streamCommands().xAdd(record, options)
+        );
+    }
+
+    public static String deadLetterStreamOf(String streamName) {
+        return streamName + RedisEventConfig.DEAD_LETTER_STREAM_SUFFIX;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<MapRecord<String, String, byte[]>> readDeadLetters(
+            String streamName,
+            int count
+    ) {
+        List records = eventStreamRedisTemplate.opsForStream()
+                .range(deadLetterStreamOf(streamName), Range.unbounded(), Limit.limit().count(count));
+        return records == null ? List.of() : (List<MapRecord<String, String, byte[]>>) records;
+    }
+
+    private DeadLetterEntry toEntry(MapRecord<String, String, byte[]> record) {
+        Map<String, byte[]> fields = record.getValue();
+        var deliveryCount = EventStreamRecord.header(fields, EventStreamRecord.DEAD_LETTER_DELIVERY_COUNT);
+        var deadLetteredAt = EventStreamRecord.header(fields, EventStreamRecord.DEAD_LETTER_AT);
+        return new DeadLetterEntry(
+                record.getId().getValue(),
+                EventStreamRecord.header(fields, EventStreamRecord.DEAD_LETTER_ORIGINAL_ID),
+                EventStreamRecord.header(fields, EventStreamRecord.MESSAGE_ID),
+                EventStreamRecord.header(fields, EventStreamRecord.EVENT_TYPE),
+                EventStreamRecord.header(fields, EventStreamRecord.DEAD_LETTER_GROUP),
+                deliveryCount == null ? 0 : Long.parseLong(deliveryCount),
+                deadLetteredAt == null ? 0 : Long.parseLong(deadLetteredAt)
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.backend.immilog.shared.domain.event.DomainEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 타입별로 등록된 DomainEventHandler를 보관합니다.
+ * Redis Streams 리스너와 로컬 디스패처가 같은 핸들러 목록을 공유합니다.
+ */
+@Slf4j
+@Component
+public class DomainEventHandlerRegistry {
+
+    private final ApplicationContext applicationContext;
+    private final Map<Class<? extends DomainEvent>, DomainEventHandler<? extends DomainEvent>> handlerCache = new ConcurrentHashMap<>();
+    private volatile boolean initialized = false;
+
+    public DomainEventHandlerRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<DomainEventHandler<DomainEvent>> findHandler(Class<? extends DomainEvent> eventType) {
+        initializeIfNecessary();
+        return Optional.ofNullable((DomainEventHandler<DomainEvent>) handlerCache.get(eventType));
+    }
+
+    public boolean hasHandler(Class<? extends DomainEvent> eventType) {
+        initializeIfNecessary();
+        return handlerCache.containsKey(eventType);
+    }
+
+    public Set<Class<? extends DomainEvent>> registeredEventTypes() {
+        initializeIfNecessary();
+        return Set.copyOf(handlerCache.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void initializeIfNecessary() {
+        if (initialized) {
+            return;
+        }
+        synchronized (this) {
+            if (initialized) {
+                return;
+            }
+            var handlers = applicationContext.getBeansOfType(DomainEventHandler.class);
+
+            for (var handler : handlers.values()) {
+                var eventType = handler.getEventType();
+                handlerCache.put(eventType, handler);
+
+                log.info("Registered event handler: {} for event type: {}",
+                        handler.getClass().getSimpleName(),
+                        eventType.getName());
+            }
+
+            log.info("Initialized {} domain event handlers", handlerCache.size());
+            initialized = true;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DomainEvents.raise부터 요청자가 결과를 받기까지의 이벤트 버스 구간별 지표를 기록합니다.
+ * <ul>
+ *     <li>event.bus.publish: 인코딩 + XADD 시간 (eventType, stream, outcome)</li>
+ *     <li>event.bus.stream.lag: 발행 시각부터 consumer가 디코딩하기까지의 지연 (eventType, stream)</li>
+ *     <li>event.bus.handler: 핸들러 실행 시간 (eventType, transport=redis|local, outcome)</li>
+ *     <li>event.bus.result.store: 결과 저장/조회 시간 (dataType, operation, path=local|redis)</li>
+ *     <li>event.bus.reply.wait: 요청자 대기 시간 히스토그램 (dataType, outcome=completed|timeout|failed)</li>
+ *     <li>event.bus.reply.timeouts / event.bus.reply.fallbacks: 타임아웃 및 빈 결과 대체 횟수 (dataType)</li>
+ * </ul>
+ */
+@Component
+public class EventBusMetrics {
+
+    // PostConfiguration.eventTimeout(2s) 기준 p99 알람을 걸 수 있도록 SLO 버킷을 함께 발행
+    private static final Duration[] REPLY_WAIT_SLOS = {
+            Duration.ofMillis(50),
+            Duration.ofMillis(100),
+            Duration.ofMillis(250),
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public EventBusMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordPublish(
+            String eventType,
+            String stream,
+            long startNanos,
+            boolean success
+    ) {
+        timer("event.bus.publish", "eventType", eventType, "stream", stream, "outcome", outcome(success))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLag(
+            String eventType,
+            String stream,
+            long publishedAtMillis
+    ) {
+        var lagMillis = Math.max(0L, System.currentTimeMillis() - publishedAtMillis);
+        timer("event.bus.stream.lag", "eventType", eventType, "stream", stream)
+                .record(lagMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void recordHandler(
+            String eventType,
+            String transport,
+            long startNanos,
+            boolean success
+    ) {
+        timer("event.bus.handler", "eventType", eventType, "transport", transport, "outcome", outcome(success))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResultStore(
+            String dataType,
+            String operation,
+            String path,
+            long startNanos
+    ) {
+        timer("event.bus.result.store", "dataType", dataType, "operation", operation, "path", path)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordReplyWait(
+            String dataType,
+            String outcome,
+            long startNanos
+    ) {
+        timers.computeIfAbsent(key("event.bus.reply.wait", "dataType", dataType, "outcome", outcome), ignored -> Timer.builder("event.bus.reply.wait")
+                        .description("Time a requester waits for a request/reply event result")
+                        .tags("dataType", dataType, "outcome", outcome)
+                        .publishPercentileHistogram()
+                        .serviceLevelObjectives(REPLY_WAIT_SLOS)
+                        .maximumExpectedValue(Duration.ofSeconds(5))
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if ("timeout".equals(outcome)) {
+            counter("event.bus.reply.timeouts", "dataType", dataType).increment();
+        }
+    }
+
+    public void countFallback(String dataType) {
+        counter("event.bus.reply.fallbacks", "dataType", dataType).increment();
+    }
+
+    private Timer timer(String name, String... tags) {
+        return timers.computeIfAbsent(key(name, tags), ignored -> Timer.builder(name)
+                .tags(tags)
+                .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String... tags) {
+        return counters.computeIfAbsent(key(name, tags), ignored -> Counter.builder(name)
+                .tags(tags)
+                .register(meterRegistry));
+    }
+
+    private static String key(String name, String... tags) {
+        for (int i = 0; i < tags.length; i++) {
+            if (tags[i] == null) {
+                tags[i] = "unknown";
+            }
+        }
+        return name + "|" + String.join("|", tags);
+    }
+
+    private static String outcome(boolean success) {
+        return success ? "success" : "failure";
+    }
+}
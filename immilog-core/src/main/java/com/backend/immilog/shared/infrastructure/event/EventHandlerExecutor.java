@@ -0,0 +1,87 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트림에서 수신한 이벤트 핸들러를 가상 스레드에서 병렬로 실행합니다.
+ * 순서 키가 있는 작업은 같은 키의 이전 작업이 끝난 뒤에 실행되고, 키가 없는 작업은 바로 실행됩니다.
+ * 실행 중이거나 대기 중인 작업 수는 maxInFlight로 제한되며, 한도에 도달하면 submit을 호출한 폴링 스레드가 대기합니다.
+ */
+@Slf4j
+@Component
+public class EventHandlerExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final Duration shutdownTimeout;
+
+    public EventHandlerExecutor(EventBusProperties eventBusProperties) {
+        var consumer = eventBusProperties.consumer();
+        this.maxInFlight = consumer.maxInFlight();
+        this.permits = new Semaphore(maxInFlight);
+        this.shutdownTimeout = consumer.shutdownTimeout();
+    }
+
+    public void submit(
+            String orderingKey,
+            Runnable task
+    ) throws InterruptedException {
+        permits.acquire();
+        // Error까지 잡아야 같은 키의 다음 작업이 건너뛰어지지 않고 허가도 반환된다
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error("Unhandled failure in event handler task", t);
+            } finally {
+                permits.release();
+            }
+        };
+
+        try {
+            if (orderingKey == null) {
+                executor.execute(guarded);
+                return;
+            }
+            var tail = tails.compute(orderingKey, (key, previous) -> previous == null
+                    ? CompletableFuture.runAsync(guarded, executor)
+                    : previous.exceptionally(failure -> null).thenRunAsync(guarded, executor));
+            tail.whenComplete((result, throwable) -> tails.remove(orderingKey, tail));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Event handler tasks did not finish within {}", shutdownTimeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
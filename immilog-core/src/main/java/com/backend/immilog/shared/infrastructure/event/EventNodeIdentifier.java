@@ -0,0 +1,41 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * 현재 JVM 인스턴스를 이벤트 버스 상에서 식별하는 노드 ID
+ * 요청/응답 이벤트의 응답을 요청을 보낸 노드로 되돌려 보내는 데 사용됩니다.
+ */
+@Slf4j
+@Component
+public class EventNodeIdentifier {
+
+    private final String nodeId;
+
+    public EventNodeIdentifier(@Value("${spring.application.name:immilog}") String applicationName) {
+        this.nodeId = applicationName + "-" + resolveHostname() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        log.info("Event bus node id: {}", nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isLocal(String nodeId) {
+        return this.nodeId.equals(nodeId);
+    }
+
+    private String resolveHostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
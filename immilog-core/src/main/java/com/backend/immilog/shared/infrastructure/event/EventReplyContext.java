@@ -0,0 +1,31 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+/**
+ * Redis Streams로 전달된 이벤트를 처리하는 동안 요청을 보낸 노드 ID를 보관합니다.
+ * 핸들러가 결과를 저장하면 EventResultStorageService가 이 값을 보고 응답 채널로 완료 신호를 보냅니다.
+ */
+public final class EventReplyContext {
+
+    private static final ThreadLocal<String> originNode = new ThreadLocal<>();
+
+    private EventReplyContext() {
+    }
+
+    public static void runWithOrigin(String nodeId, Runnable task) {
+        var previous = originNode.get();
+        originNode.set(nodeId);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                originNode.remove();
+            } else {
+                originNode.set(previous);
+            }
+        }
+    }
+
+    public static String currentOrigin() {
+        return originNode.get();
+    }
+}
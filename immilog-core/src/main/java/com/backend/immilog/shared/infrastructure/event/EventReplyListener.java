@@ -0,0 +1,30 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드가 이 노드의 요청에 대한 결과를 저장했다는 신호를 받아 대기 중인 Future를 완료합니다.
+ * 결과 자체는 Redis에 저장되어 있으므로 대기자는 완료 직후 Redis에서 읽어 갑니다.
+ */
+@Slf4j
+@Component
+public class EventReplyListener implements MessageListener {
+
+    private final EventResultStorageService eventResultStorageService;
+
+    public EventReplyListener(EventResultStorageService eventResultStorageService) {
+        this.eventResultStorageService = eventResultStorageService;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        var requestId = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("Received remote reply signal for requestId: {}", requestId);
+        eventResultStorageService.completeRemoteReply(requestId);
+    }
+}
@@ -1,8 +1,11 @@
 package com.backend.immilog.shared.infrastructure.event;
 
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.domain.model.CommentCounts;
 import com.backend.immilog.shared.domain.model.CommentData;
 import com.backend.immilog.shared.domain.model.InteractionData;
 import com.backend.immilog.shared.domain.model.UserData;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -11,9 +14,11 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -23,20 +28,30 @@ public class EventResultStorageService {
     private static final String BOOKMARK_DATA_KEY_PREFIX = "event:bookmark:";
     private static final String USER_DATA_KEY_PREFIX = "event:user:";
     private static final String COMMENT_DATA_KEY_PREFIX = "event:comment:";
+    private static final String COMMENT_COUNT_KEY_PREFIX = "event:comment-count:";
     private static final Duration TTL = Duration.ofMinutes(5); // 5분 TTL
 
     private final RedisTemplate<String, Object> eventRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final EventNodeIdentifier eventNodeIdentifier;
+    private final EventBusMetrics eventBusMetrics;
     
     // 이벤트 처리 완료를 기다리는 Future 맵
     private final ConcurrentHashMap<String, CompletableFuture<Void>> pendingEvents = new ConcurrentHashMap<>();
 
+    // 같은 JVM의 요청자에게 Redis를 거치지 않고 전달되는 결과
+    private final ConcurrentHashMap<String, Object> localResults = new ConcurrentHashMap<>();
+
     public EventResultStorageService(
             RedisTemplate<String, Object> eventRedisTemplate,
-            @Qualifier("eventObjectMapper") ObjectMapper objectMapper
+            @Qualifier("eventObjectMapper") ObjectMapper objectMapper,
+            EventNodeIdentifier eventNodeIdentifier,
+            EventBusMetrics eventBusMetrics
     ) {
         this.eventRedisTemplate = eventRedisTemplate;
         this.objectMapper = objectMapper;
+        this.eventNodeIdentifier = eventNodeIdentifier;
+        this.eventBusMetrics = eventBusMetrics;
     }
 
     public void storeInteractionData(
@@ -45,8 +60,7 @@ public class EventResultStorageService {
     ) {
         try {
             var key = INTERACTION_DATA_KEY_PREFIX + requestId;
-            var jsonValue = objectMapper.writeValueAsString(interactionDataList);
-            eventRedisTemplate.opsForValue().set(key, jsonValue, TTL.toSeconds(), TimeUnit.SECONDS);
+            writeResult(requestId, key, interactionDataList);
             log.info("Stored {} interaction data items with key: {}", interactionDataList.size(), key);
             
             // 이벤트 처리 완료 신호
@@ -64,8 +78,7 @@ public class EventResultStorageService {
     ) {
         try {
             var key = BOOKMARK_DATA_KEY_PREFIX + requestId;
-            var jsonValue = objectMapper.writeValueAsString(postIds);
-            eventRedisTemplate.opsForValue().set(key, jsonValue, TTL.toSeconds(), TimeUnit.SECONDS);
+            writeResult(requestId, key, postIds);
             log.info("Stored {} bookmark post IDs with key: {}", postIds.size(), key);
             
             // 이벤트 처리 완료 신호
@@ -83,8 +96,7 @@ public class EventResultStorageService {
     ) {
         try {
             var key = USER_DATA_KEY_PREFIX + requestId;
-            var jsonValue = objectMapper.writeValueAsString(userDataList);
-            eventRedisTemplate.opsForValue().set(key, jsonValue, TTL.toSeconds(), TimeUnit.SECONDS);
+            writeResult(requestId, key, userDataList);
             log.info("Stored {} user data items with key: {}", userDataList.size(), key);
             
             // 이벤트 처리 완료 신호
@@ -97,27 +109,47 @@ public class EventResultStorageService {
     }
 
     public List<InteractionData> getInteractionData(String requestId) {
+        return readInteractionData(requestId).orElse(List.of());
+    }
+
+    /**
+     * 결과가 없거나 읽지 못하면 빈 Optional을 반환하여, 실제로 비어 있는 결과와 구분할 수 있게 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<List<InteractionData>> readInteractionData(String requestId) {
         try {
             String key = INTERACTION_DATA_KEY_PREFIX + requestId;
-            Object result = eventRedisTemplate.opsForValue().get(key);
+            var localResult = takeLocalResult(requestId, key);
+            if (localResult != null) {
+                return Optional.of((List<InteractionData>) localResult);
+            }
+
+            Object result = readResult(key);
             
             if (result instanceof String jsonString) {
-                return objectMapper.readValue(jsonString, 
-                        objectMapper.getTypeFactory().constructCollectionType(List.class, InteractionData.class));
+                return Optional.of(objectMapper.readValue(jsonString, 
+                        objectMapper.getTypeFactory().constructCollectionType(List.class, InteractionData.class)));
             }
             
             log.warn("No interaction data found for requestId: {}", requestId);
-            return List.of();
+            eventBusMetrics.countFallback("interaction");
+            return Optional.empty();
         } catch (Exception e) {
             log.error("Failed to retrieve interaction data for requestId: {}", requestId, e);
-            return List.of();
+            return Optional.empty();
         }
     }
 
+    @SuppressWarnings("unchecked")
     public List<String> getBookmarkData(String requestId) {
         try {
             var key = BOOKMARK_DATA_KEY_PREFIX + requestId;
-            var result = eventRedisTemplate.opsForValue().get(key);
+            var localResult = takeLocalResult(requestId, key);
+            if (localResult != null) {
+                return (List<String>) localResult;
+            }
+
+            var result = readResult(key);
             
             if (result instanceof String jsonString) {
                 return objectMapper.readValue(
@@ -127,6 +159,7 @@ public class EventResultStorageService {
             }
             
             log.warn("No bookmark data found for requestId: {}", requestId);
+            eventBusMetrics.countFallback("bookmark");
             return List.of();
         } catch (Exception e) {
             log.error("Failed to retrieve bookmark data for requestId: {}", requestId, e);
@@ -135,22 +168,36 @@ public class EventResultStorageService {
     }
 
     public List<UserData> getUserData(String requestId) {
+        return readUserData(requestId).orElse(List.of());
+    }
+
+    /**
+     * 결과가 없거나 읽지 못하면 빈 Optional을 반환하여, 실제로 비어 있는 결과와 구분할 수 있게 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<List<UserData>> readUserData(String requestId) {
         try {
             var key = USER_DATA_KEY_PREFIX + requestId;
-            var result = eventRedisTemplate.opsForValue().get(key);
+            var localResult = takeLocalResult(requestId, key);
+            if (localResult != null) {
+                return Optional.of((List<UserData>) localResult);
+            }
+
+            var result = readResult(key);
             
             if (result instanceof String jsonString) {
-                return objectMapper.readValue(
+                return Optional.of(objectMapper.readValue(
                         jsonString,
                         objectMapper.getTypeFactory().constructCollectionType(List.class, UserData.class)
-                );
+                ));
             }
             
             log.warn("No user data found for requestId: {}", requestId);
-            return List.of();
+            eventBusMetrics.countFallback("user");
+            return Optional.empty();
         } catch (Exception e) {
             log.error("Failed to retrieve user data for requestId: {}", requestId, e);
-            return List.of();
+            return Optional.empty();
         }
     }
 
@@ -168,6 +215,124 @@ public class EventResultStorageService {
         return future;
     }
 
+    /**
+     * 요청자가 같은 JVM에서 대기 중이면 결과를 메모리로 넘기고, 아니면 Redis에 저장합니다.
+     * 대기 중인 Future의 존재 확인과 로컬 결과 등록을 원자적으로 수행하여, 타임아웃으로 떠난 요청의 결과가 남지 않도록 합니다.
+     */
+    private void writeResult(String requestId, String key, Object value) throws JsonProcessingException {
+        var startNanos = System.nanoTime();
+        var waitingLocally = pendingEvents.computeIfPresent(requestId, (id, future) -> {
+            localResults.put(key, value);
+            return future;
+        });
+        if (waitingLocally != null) {
+            log.debug("Handed off result in-process for key: {}", key);
+            eventBusMetrics.recordResultStore(dataTypeOf(key), "write", "local", startNanos);
+            return;
+        }
+        var jsonValue = objectMapper.writeValueAsString(value);
+        eventRedisTemplate.opsForValue().set(key, jsonValue, TTL.toSeconds(), TimeUnit.SECONDS);
+        eventBusMetrics.recordResultStore(dataTypeOf(key), "write", "redis", startNanos);
+        notifyOriginNode(requestId);
+    }
+
+    /**
+     * 저장된 결과를 Redis에서 읽습니다. 지표 태그를 위해 조회 시간을 함께 기록합니다.
+     */
+    private Object readResult(String key) {
+        var startNanos = System.nanoTime();
+        var result = eventRedisTemplate.opsForValue().get(key);
+        eventBusMetrics.recordResultStore(dataTypeOf(key), "read", "redis", startNanos);
+        return result;
+    }
+
+    private static String dataTypeOf(String key) {
+        if (key.startsWith(USER_DATA_KEY_PREFIX)) {
+            return "user";
+        } else if (key.startsWith(INTERACTION_DATA_KEY_PREFIX) || key.startsWith("interaction_data_")) {
+            return "interaction";
+        } else if (key.startsWith(BOOKMARK_DATA_KEY_PREFIX)) {
+            return "bookmark";
+        } else if (key.startsWith(COMMENT_DATA_KEY_PREFIX) || key.startsWith("comment_data_")) {
+            return "comment";
+        } else if (key.startsWith(COMMENT_COUNT_KEY_PREFIX)) {
+            return "commentCount";
+        } else if (key.startsWith("user_validation_")) {
+            return "userValidation";
+        }
+        return "other";
+    }
+
+    /**
+     * 다른 노드에서 발행된 요청이면 요청 노드의 응답 채널로 완료 신호를 보내 타임아웃까지 기다리지 않게 합니다.
+     */
+    private void notifyOriginNode(String requestId) {
+        var originNode = EventReplyContext.currentOrigin();
+        if (originNode == null || eventNodeIdentifier.isLocal(originNode)) {
+            return;
+        }
+        try {
+            eventRedisTemplate.convertAndSend(RedisEventConfig.EVENT_REPLY_CHANNEL_PREFIX + originNode, requestId);
+            log.debug("Sent reply signal for requestId: {} to node: {}", requestId, originNode);
+        } catch (Exception e) {
+            log.warn("Failed to send reply signal for requestId: {} to node: {}", requestId, originNode, e);
+        }
+    }
+
+    /**
+     * 다른 노드가 결과를 Redis에 저장했다는 신호를 받아 대기 중인 요청을 깨웁니다
+     */
+    public void completeRemoteReply(String requestId) {
+        completeEventProcessing(requestId);
+    }
+
+    /**
+     * 메모리로 전달된 결과를 꺼냅니다. 대기 Future도 함께 정리하여 이후 도착한 결과가 메모리에 쌓이지 않도록 합니다.
+     */
+    private Object takeLocalResult(String requestId, String key) {
+        pendingEvents.remove(requestId);
+        return localResults.remove(key);
+    }
+
+    private void awaitEventProcessing(
+            String requestId,
+            CompletableFuture<Void> future,
+            Duration timeout
+    ) throws Exception {
+        try {
+            future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            pendingEvents.remove(requestId);
+        }
+    }
+
+    /**
+     * 등록된 Future가 있으면 완료를 기다리고, 대기 시간을 결과(completed/timeout/failed)별로 기록합니다.
+     */
+    private void awaitReply(
+            String dataType,
+            String requestId,
+            Duration timeout
+    ) throws Exception {
+        var future = pendingEvents.get(requestId);
+        if (future == null) {
+            return;
+        }
+        var startNanos = System.nanoTime();
+        var outcome = "completed";
+        try {
+            awaitEventProcessing(requestId, future, timeout);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            throw e;
+        } catch (Exception e) {
+            outcome = "failed";
+            throw e;
+        } finally {
+            eventBusMetrics.recordReplyWait(dataType, outcome, startNanos);
+        }
+    }
+
     /**
      * 이벤트 처리 완료 신호를 보냅니다
      */
@@ -194,16 +359,21 @@ public class EventResultStorageService {
      * 이벤트 처리 완료를 기다리고 결과를 조회합니다
      */
     public List<InteractionData> waitForInteractionData(String requestId, Duration timeout) {
+        return awaitInteractionData(requestId, timeout).orElse(List.of());
+    }
+
+    /**
+     * 이벤트 처리 완료를 기다리고 결과를 조회합니다. 응답 시간 초과, 실패, 결과 없음은 빈 Optional로 반환합니다.
+     */
+    public Optional<List<InteractionData>> awaitInteractionData(String requestId, Duration timeout) {
         try {
-            var future = pendingEvents.get(requestId);
-            if (future != null) {
-                future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            }
-            return getInteractionData(requestId);
+            awaitReply("interaction", requestId, timeout);
         } catch (Exception e) {
             log.error("Failed to wait for interaction data processing: {}", requestId, e);
-            return List.of();
+            eventBusMetrics.countFallback("interaction");
+            return Optional.empty();
         }
+        return readInteractionData(requestId);
     }
 
     /**
@@ -211,13 +381,11 @@ public class EventResultStorageService {
      */
     public List<String> waitForBookmarkData(String requestId, Duration timeout) {
         try {
-            var future = pendingEvents.get(requestId);
-            if (future != null) {
-                future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            }
+            awaitReply("bookmark", requestId, timeout);
             return getBookmarkData(requestId);
         } catch (Exception e) {
             log.error("Failed to wait for bookmark data processing: {}", requestId, e);
+            eventBusMetrics.countFallback("bookmark");
             return List.of();
         }
     }
@@ -226,16 +394,21 @@ public class EventResultStorageService {
      * 이벤트 처리 완료를 기다리고 유저 데이터를 조회합니다
      */
     public List<UserData> waitForUserData(String requestId, Duration timeout) {
+        return awaitUserData(requestId, timeout).orElse(List.of());
+    }
+
+    /**
+     * 이벤트 처리 완료를 기다리고 유저 데이터를 조회합니다. 응답 시간 초과, 실패, 결과 없음은 빈 Optional로 반환합니다.
+     */
+    public Optional<List<UserData>> awaitUserData(String requestId, Duration timeout) {
         try {
-            var future = pendingEvents.get(requestId);
-            if (future != null) {
-                future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            }
-            return getUserData(requestId);
+            awaitReply("user", requestId, timeout);
         } catch (Exception e) {
             log.error("Failed to wait for user data processing: {}", requestId, e);
-            return List.of();
+            eventBusMetrics.countFallback("user");
+            return Optional.empty();
         }
+        return readUserData(requestId);
     }
     
     public void storeCommentData(
@@ -244,8 +417,7 @@ public class EventResultStorageService {
     ) {
         try {
             var key = COMMENT_DATA_KEY_PREFIX + requestId;
-            var jsonValue = objectMapper.writeValueAsString(commentDataList);
-            eventRedisTemplate.opsForValue().set(key, jsonValue, TTL.toSeconds(), TimeUnit.SECONDS);
+            writeResult(requestId, key, commentDataList);
             log.info("Stored {} comment data items with key: {}", commentDataList.size(), key);
             
             completeEventProcessing(requestId);
@@ -255,10 +427,16 @@ public class EventResultStorageService {
         }
     }
     
+    @SuppressWarnings("unchecked")
     public List<CommentData> getCommentData(String requestId) {
         try {
             var key = COMMENT_DATA_KEY_PREFIX + requestId;
-            var result = eventRedisTemplate.opsForValue().get(key);
+            var localResult = takeLocalResult(requestId, key);
+            if (localResult != null) {
+                return (List<CommentData>) localResult;
+            }
+
+            var result = readResult(key);
             
             if (result instanceof String jsonString) {
                 return objectMapper.readValue(
@@ -268,6 +446,7 @@ public class EventResultStorageService {
             }
             
             log.warn("No comment data found for requestId: {}", requestId);
+            eventBusMetrics.countFallback("comment");
             return List.of();
         } catch (Exception e) {
             log.error("Failed to retrieve comment data for requestId: {}", requestId, e);
@@ -277,29 +456,87 @@ public class EventResultStorageService {
     
     public List<CommentData> waitForCommentData(String requestId, Duration timeout) {
         try {
-            var future = pendingEvents.get(requestId);
-            if (future != null) {
-                future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
-            }
+            awaitReply("comment", requestId, timeout);
             return getCommentData(requestId);
         } catch (Exception e) {
             log.error("Failed to wait for comment data processing: {}", requestId, e);
+            eventBusMetrics.countFallback("comment");
             return List.of();
         }
     }
     
+    public void storeCommentCounts(
+            String requestId,
+            CommentCounts commentCounts
+    ) {
+        try {
+            var key = COMMENT_COUNT_KEY_PREFIX + requestId;
+            writeResult(requestId, key, commentCounts);
+            log.info("Stored comment counts for {} posts with key: {}", commentCounts.size(), key);
+
+            completeEventProcessing(requestId);
+        } catch (Exception e) {
+            log.error("Failed to store comment counts for requestId: {}", requestId, e);
+            failEventProcessing(requestId, e);
+        }
+    }
+
+    public CommentCounts getCommentCounts(String requestId) {
+        return readCommentCounts(requestId).orElse(CommentCounts.empty());
+    }
+
+    private Optional<CommentCounts> readCommentCounts(String requestId) {
+        try {
+            var key = COMMENT_COUNT_KEY_PREFIX + requestId;
+            var localResult = takeLocalResult(requestId, key);
+            if (localResult instanceof CommentCounts commentCounts) {
+                return Optional.of(commentCounts);
+            }
+
+            var result = readResult(key);
+
+            if (result instanceof String jsonString) {
+                return Optional.of(objectMapper.readValue(jsonString, CommentCounts.class));
+            }
+
+            log.warn("No comment counts found for requestId: {}", requestId);
+            eventBusMetrics.countFallback("commentCount");
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Failed to retrieve comment counts for requestId: {}", requestId, e);
+            return Optional.empty();
+        }
+    }
+
+    public CommentCounts waitForCommentCounts(String requestId, Duration timeout) {
+        return awaitCommentCounts(requestId, timeout).orElse(CommentCounts.empty());
+    }
+
+    /**
+     * 댓글 수 응답을 기다립니다. 응답 시간 초과, 실패, 결과 없음은 빈 Optional로 반환합니다.
+     */
+    public Optional<CommentCounts> awaitCommentCounts(String requestId, Duration timeout) {
+        try {
+            awaitReply("commentCount", requestId, timeout);
+        } catch (Exception e) {
+            log.error("Failed to wait for comment count processing: {}", requestId, e);
+            eventBusMetrics.countFallback("commentCount");
+            return Optional.empty();
+        }
+        return readCommentCounts(requestId);
+    }
+
     // 일반적인 결과 저장 메소드 (다양한 타입 지원)
     public <T> void storeResult(String key, T result) {
         try {
             log.info("Storing result for key: {}, type: {}", key, result.getClass().getSimpleName());
             
-            var jsonValue = objectMapper.writeValueAsString(result);
-            eventRedisTemplate.opsForValue().set(key, jsonValue, TTL.toSeconds(), TimeUnit.SECONDS);
+            // 키에서 requestId 추출 (comment_data_, interaction_data_, user_validation_ 등의 접두사 제거)
+            String requestId = extractRequestIdFromKey(key);
+            writeResult(requestId, key, result);
             
             log.info("Successfully stored result for key: {}", key);
             
-            // 키에서 requestId 추출 (comment_data_, interaction_data_, user_validation_ 등의 접두사 제거)
-            String requestId = extractRequestIdFromKey(key);
             var future = pendingEvents.remove(requestId);
             if (future != null) {
                 future.complete(null);
@@ -338,6 +575,8 @@ public class EventResultStorageService {
             return key.substring(USER_DATA_KEY_PREFIX.length());
         } else if (key.startsWith(COMMENT_DATA_KEY_PREFIX)) {
             return key.substring(COMMENT_DATA_KEY_PREFIX.length());
+        } else if (key.startsWith(COMMENT_COUNT_KEY_PREFIX)) {
+            return key.substring(COMMENT_COUNT_KEY_PREFIX.length());
         }
         
         // 접두사가 없으면 키 자체가 requestId일 가능성이 있음
@@ -345,9 +584,15 @@ public class EventResultStorageService {
     }
     
     // 일반적인 결과 조회 메소드 (타입 안전성 보장)
+    @SuppressWarnings("unchecked")
     public <T> T getResult(String key, Class<T> type) {
         try {
-            var result = eventRedisTemplate.opsForValue().get(key);
+            var localResult = takeLocalResult(extractRequestIdFromKey(key), key);
+            if (localResult != null && (type == Object.class || type.isInstance(localResult))) {
+                return (T) localResult;
+            }
+
+            var result = readResult(key);
             if (result != null) {
                 if (result instanceof String jsonString) {
                     if (type == Object.class) {
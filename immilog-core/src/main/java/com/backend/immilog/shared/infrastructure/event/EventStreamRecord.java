@@ -0,0 +1,62 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 스트림 레코드의 필드 구성입니다.
+ * 헤더(messageId, eventType, originNode, publishedAt, codec)와 코덱으로 인코딩된 이벤트 본문(event)을
+ * 한 단계의 필드 맵으로 저장합니다. codec 헤더가 없는 레코드는 이전 JSON 봉투 포맷입니다.
+ */
+public final class EventStreamRecord {
+
+    public static final String EVENT = "event";
+    public static final String MESSAGE_ID = "messageId";
+    public static final String EVENT_TYPE = "eventType";
+    public static final String ORIGIN_NODE = "originNode";
+    public static final String PUBLISHED_AT = "publishedAt";
+    public static final String CODEC = "codec";
+
+    // dead-letter 스트림으로 옮길 때 덧붙이는 필드 (재처리 시 제거됨)
+    public static final String DEAD_LETTER_PREFIX = "deadLetter.";
+    public static final String DEAD_LETTER_ORIGINAL_ID = DEAD_LETTER_PREFIX + "originalId";
+    public static final String DEAD_LETTER_GROUP = DEAD_LETTER_PREFIX + "group";
+    public static final String DEAD_LETTER_DELIVERY_COUNT = DEAD_LETTER_PREFIX + "deliveryCount";
+    public static final String DEAD_LETTER_AT = DEAD_LETTER_PREFIX + "at";
+
+    private EventStreamRecord() {
+    }
+
+    public static Map<String, byte[]> fields(
+            String messageId,
+            String eventType,
+            String originNode,
+            long publishedAt,
+            String codec,
+            byte[] payload
+    ) {
+        var fields = new HashMap<String, byte[]>(8);
+        fields.put(EVENT, payload);
+        fields.put(MESSAGE_ID, bytes(messageId));
+        fields.put(EVENT_TYPE, bytes(eventType));
+        fields.put(PUBLISHED_AT, bytes(Long.toString(publishedAt)));
+        fields.put(CODEC, bytes(codec));
+        if (originNode != null) {
+            fields.put(ORIGIN_NODE, bytes(originNode));
+        }
+        return fields;
+    }
+
+    public static String header(
+            Map<String, byte[]> fields,
+            String name
+    ) {
+        var value = fields.get(name);
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    public static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
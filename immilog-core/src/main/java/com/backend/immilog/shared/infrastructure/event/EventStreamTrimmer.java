@@ -0,0 +1,162 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 이벤트 스트림에서 maxAge보다 오래된 항목을 MINID로 정리하고, 스트림 길이와 메모리 사용량을 게이지로 노출합니다.
+ * 정리 기준 ID는 모든 consumer group의 가장 오래된 pending 항목과 마지막 전달 ID보다 앞설 수 없으므로
+ * 아직 전달되지 않았거나 ACK되지 않은 항목은 maxAge가 지나도 남습니다.
+ */
+@Slf4j
+@Component
+public class EventStreamTrimmer {
+
+    private static final List<String> STREAMS = List.of(
+            RedisEventConfig.DOMAIN_EVENT_STREAM,
+            RedisEventConfig.COMPENSATION_EVENT_STREAM
+    );
+
+    private final RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+    private final EventBusProperties.Retention retentionProperties;
+    private final Map<String, AtomicLong> streamLengths;
+    private final Map<String, AtomicLong> streamMemoryBytes;
+    private final Map<String, Counter> trimmedCounters;
+
+    public EventStreamTrimmer(
+            RedisTemplate<String, byte[]> eventStreamRedisTemplate,
+            EventBusProperties eventBusProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventStreamRedisTemplate = eventStreamRedisTemplate;
+        this.retentionProperties = eventBusProperties.retention();
+
+        var lengths = new HashMap<String, AtomicLong>();
+        var memory = new HashMap<String, AtomicLong>();
+        var trimmed = new HashMap<String, Counter>();
+        for (var stream : monitoredStreams()) {
+            lengths.put(stream, new AtomicLong());
+            memory.put(stream, new AtomicLong());
+            Gauge.builder("event.bus.stream.length", lengths.get(stream), AtomicLong::get)
+                    .description("Number of entries in the event stream")
+                    .tag("stream", stream)
+                    .register(meterRegistry);
+            Gauge.builder("event.bus.stream.memory", memory.get(stream), AtomicLong::get)
+                    .description("Memory used by the event stream key (MEMORY USAGE)")
+                    .baseUnit("bytes")
+                    .tag("stream", stream)
+                    .register(meterRegistry);
+        }
+        for (var stream : STREAMS) {
+            trimmed.put(stream, Counter.builder("event.bus.stream.trimmed")
+                    .description("Entries removed from the event stream by MINID trimming")
+                    .tag("stream", stream)
+                    .register(meterRegistry));
+        }
+        this.streamLengths = Map.copyOf(lengths);
+        this.streamMemoryBytes = Map.copyOf(memory);
+        this.trimmedCounters = Map.copyOf(trimmed);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.bus.retention.trim-interval:PT1M}",
+            initialDelayString = "${event.bus.retention.trim-interval:PT1M}"
+    )
+    public void trimStreams() {
+        for (var stream : STREAMS) {
+            try {
+                trim(stream);
+            } catch (Exception e) {
+                log.error("Failed to trim event stream: {}", stream, e);
+            }
+        }
+        for (var stream : monitoredStreams()) {
+            try {
+                recordUsage(stream);
+            } catch (Exception e) {
+                log.warn("Failed to read event stream usage: {}", stream, e);
+            }
+        }
+    }
+
+    void trim(String streamName) {
+        var maxAge = retentionProperties.forStream(streamName).maxAge();
+        if (maxAge == null) {
+            return;
+        }
+
+        var ageMinId = RecordId.of(System.currentTimeMillis() - maxAge.toMillis(), 0);
+        var safeMinId = oldestUnacknowledgedId(streamName);
+        var minId = safeMinId != null && compare(safeMinId, ageMinId) < 0 ? safeMinId : ageMinId;
+
+        var trimmed = eventStreamRedisTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute(
+                "XTRIM",
+                EventStreamRecord.bytes(streamName),
+                EventStreamRecord.bytes("MINID"),
+                EventStreamRecord.bytes("~"),
+                EventStreamRecord.bytes(minId.getValue())
+        ));
+        if (trimmed != null && trimmed > 0) {
+            trimmedCounters.get(streamName).increment(trimmed);
+            log.debug("Trimmed {} entries from stream {} below {}", trimmed, streamName, minId);
+        }
+    }
+
+    /**
+     * 모든 그룹에 대해 (가장 오래된 pending ID, 없으면 마지막 전달 ID) 중 가장 작은 값.
+     * 이 ID 미만의 항목은 모든 그룹에 전달되고 ACK된 상태입니다.
+     */
+    private RecordId oldestUnacknowledgedId(String streamName) {
+        var streamOperations = eventStreamRedisTemplate.opsForStream();
+        RecordId oldest = null;
+        for (var group : streamOperations.groups(streamName).stream().toList()) {
+            var candidate = RecordId.of(group.lastDeliveredId());
+            if (group.pendingCount() > 0) {
+                var summary = streamOperations.pending(streamName, group.groupName());
+                var minPendingId = summary.minMessageId();
+                if (minPendingId != null) {
+                    candidate = RecordId.of(minPendingId);
+                }
+            }
+            if (oldest == null || compare(candidate, oldest) < 0) {
+                oldest = candidate;
+            }
+        }
+        return oldest;
+    }
+
+    private void recordUsage(String streamName) {
+        var length = eventStreamRedisTemplate.opsForStream().size(streamName);
+        streamLengths.get(streamName).set(length == null ? 0 : length);
+
+        var memory = eventStreamRedisTemplate.execute((RedisCallback<Long>) connection ->
+                (Long) connection.execute("MEMORY", EventStreamRecord.bytes("USAGE"), EventStreamRecord.bytes(streamName)));
+        streamMemoryBytes.get(streamName).set(memory == null ? 0 : memory);
+    }
+
+    private static List<String> monitoredStreams() {
+        return STREAMS.stream()
+                .flatMap(stream -> Stream.of(stream, DeadLetterEventStore.deadLetterStreamOf(stream)))
+                .toList();
+    }
+
+    private static int compare(RecordId left, RecordId right) {
+        var byTimestamp = Long.compare(left.getTimestamp(), right.getTimestamp());
+        return byTimestamp != 0 ? byTimestamp : Long.compare(left.getSequence(), right.getSequence());
+    }
+}
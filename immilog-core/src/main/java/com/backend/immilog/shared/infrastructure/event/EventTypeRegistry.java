@@ -0,0 +1,101 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.domain.event.DomainEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스트림 레코드의 eventType 헤더에 쓰이는 짧은 타입 ID와 이벤트 클래스를 매핑합니다.
+ * 타입 ID는 패키지를 제외한 바이너리 클래스명(예: PostEvent$InteractionDataRequested)이며,
+ * 핸들러가 등록된 이벤트만 역직렬화 대상이므로 핸들러 레지스트리로부터 매핑을 만듭니다.
+ * 이름이 겹치는 클래스와 이전 포맷의 FQCN 헤더는 FQCN으로 처리합니다.
+ */
+@Slf4j
+@Component
+public class EventTypeRegistry {
+
+    private final DomainEventHandlerRegistry handlerRegistry;
+    private final Map<Class<?>, String> typeIds = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Class<? extends DomainEvent>>> resolvedTypes = new ConcurrentHashMap<>();
+    private volatile Map<String, Class<? extends DomainEvent>> registeredTypes;
+    private volatile Set<String> ambiguousTypeIds;
+
+    public EventTypeRegistry(DomainEventHandlerRegistry handlerRegistry) {
+        this.handlerRegistry = handlerRegistry;
+    }
+
+    public String typeIdOf(Class<? extends DomainEvent> eventType) {
+        initializeIfNecessary();
+        return typeIds.computeIfAbsent(eventType, type -> {
+            var shortId = shortTypeId(type);
+            return ambiguousTypeIds.contains(shortId) ? type.getName() : shortId;
+        });
+    }
+
+    public Optional<Class<? extends DomainEvent>> resolve(String typeId) {
+        if (typeId == null) {
+            return Optional.empty();
+        }
+        initializeIfNecessary();
+        var registered = registeredTypes.get(typeId);
+        if (registered != null) {
+            return Optional.of(registered);
+        }
+        return resolvedTypes.computeIfAbsent(typeId, this::loadByClassName);
+    }
+
+    private Optional<Class<? extends DomainEvent>> loadByClassName(String className) {
+        if (className.indexOf('.') < 0) {
+            return Optional.empty();
+        }
+        try {
+            var type = Class.forName(className);
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                log.warn("Event class {} is not a DomainEvent", className);
+                return Optional.empty();
+            }
+            return Optional.of(type.asSubclass(DomainEvent.class));
+        } catch (ClassNotFoundException e) {
+            log.warn("Unknown event class: {}", className);
+            return Optional.empty();
+        }
+    }
+
+    private void initializeIfNecessary() {
+        if (registeredTypes != null) {
+            return;
+        }
+        synchronized (this) {
+            if (registeredTypes != null) {
+                return;
+            }
+            var types = new HashMap<String, Class<? extends DomainEvent>>();
+            var ambiguous = new HashSet<String>();
+            for (var eventType : handlerRegistry.registeredEventTypes()) {
+                var shortId = shortTypeId(eventType);
+                var previous = types.putIfAbsent(shortId, eventType);
+                if (previous != null && previous != eventType) {
+                    log.warn("Event type id '{}' is shared by {} and {}, falling back to class names",
+                            shortId, previous.getName(), eventType.getName());
+                    ambiguous.add(shortId);
+                }
+                types.put(eventType.getName(), eventType);
+            }
+            ambiguous.forEach(types::remove);
+            this.ambiguousTypeIds = Set.copyOf(ambiguous);
+            this.registeredTypes = Map.copyOf(types);
+        }
+    }
+
+    private static String shortTypeId(Class<?> type) {
+        var name = type.getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
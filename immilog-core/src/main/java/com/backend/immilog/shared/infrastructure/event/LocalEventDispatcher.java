@@ -0,0 +1,67 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.backend.immilog.shared.domain.event.RequestReplyEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청/응답 이벤트의 핸들러가 같은 JVM에 등록되어 있으면 Redis Streams를 거치지 않고 직접 호출합니다.
+ * 핸들러는 EventResultStorageService에 결과를 저장하고, 대기 중인 요청자는 메모리에서 바로 결과를 받습니다.
+ * 프로세스 경계를 넘어야 하는 일반 도메인 이벤트와 보상 이벤트는 여전히 Redis Streams로 발행됩니다.
+ */
+@Slf4j
+@Component
+public class LocalEventDispatcher {
+
+    private final DomainEventHandlerRegistry handlerRegistry;
+    private final EventBusProperties eventBusProperties;
+    private final EventTypeRegistry eventTypeRegistry;
+    private final EventBusMetrics eventBusMetrics;
+
+    public LocalEventDispatcher(
+            DomainEventHandlerRegistry handlerRegistry,
+            EventBusProperties eventBusProperties,
+            EventTypeRegistry eventTypeRegistry,
+            EventBusMetrics eventBusMetrics
+    ) {
+        this.handlerRegistry = handlerRegistry;
+        this.eventBusProperties = eventBusProperties;
+        this.eventTypeRegistry = eventTypeRegistry;
+        this.eventBusMetrics = eventBusMetrics;
+    }
+
+    /**
+     * 로컬에서 처리 가능한 이벤트면 핸들러를 호출하고 true를 반환합니다.
+     * false가 반환되면 호출자는 Redis Streams 경로로 이벤트를 발행해야 합니다.
+     */
+    public boolean dispatch(DomainEvent event) {
+        if (!eventBusProperties.localDispatch().enabled() || !(event instanceof RequestReplyEvent requestReplyEvent)) {
+            return false;
+        }
+
+        var handler = handlerRegistry.findHandler(event.getClass());
+        if (handler.isEmpty()) {
+            return false;
+        }
+
+        var startNanos = System.nanoTime();
+        var success = false;
+        try {
+            handler.get().handle(event);
+            success = true;
+            log.debug("Dispatched {} locally with requestId: {}",
+                    event.getClass().getSimpleName(),
+                    requestReplyEvent.getRequestId());
+            return true;
+        } catch (Exception e) {
+            log.warn("Local dispatch failed for {} with requestId: {}, falling back to Redis Streams",
+                    event.getClass().getSimpleName(),
+                    requestReplyEvent.getRequestId(), e);
+            return false;
+        } finally {
+            eventBusMetrics.recordHandler(eventTypeRegistry.typeIdOf(event.getClass()), "local", startNanos, success);
+        }
+    }
+}
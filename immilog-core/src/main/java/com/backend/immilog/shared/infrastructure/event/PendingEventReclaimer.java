@@ -0,0 +1,202 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ACK되지 않고 방치된 pending 메시지를 회수하여 다시 처리합니다.
+ * 핸들러 예외로 ACK되지 않은 메시지와 재시작으로 이름이 바뀐 이전 consumer에 남은 메시지가 모두 대상입니다.
+ * 재전달 간격은 전달 횟수에 따라 지수적으로 늘어나고, 한도를 넘긴 메시지는 dead-letter 스트림으로 옮긴 뒤 ACK합니다.
+ * XCLAIM에 최소 idle 시간을 지정하므로 여러 노드가 동시에 회수해도 한 메시지는 한 노드만 가져갑니다.
+ */
+@Slf4j
+@Component
+public class PendingEventReclaimer {
+
+    private static final int MAX_SCAN_PAGES = 10;
+
+    private final RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+    private final RedisStreamsPushEventListener eventListener;
+    private final DeadLetterEventStore deadLetterEventStore;
+    private final EventBusProperties.Reclaim reclaimProperties;
+    private final String reclaimerName;
+
+    public PendingEventReclaimer(
+            RedisTemplate<String, byte[]> eventStreamRedisTemplate,
+            RedisStreamsPushEventListener eventListener,
+            DeadLetterEventStore deadLetterEventStore,
+            EventNodeIdentifier eventNodeIdentifier,
+            EventBusProperties eventBusProperties
+    ) {
+        this.eventStreamRedisTemplate = eventStreamRedisTemplate;
+        this.eventListener = eventListener;
+        this.deadLetterEventStore = deadLetterEventStore;
+        this.reclaimProperties = eventBusProperties.reclaim();
+        this.reclaimerName = eventNodeIdentifier.getNodeId() + "-reclaimer";
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.bus.reclaim.interval:PT15S}",
+            initialDelayString = "${event.bus.reclaim.interval:PT15S}"
+    )
+    public void reclaimPendingEvents() {
+        reclaim(RedisEventConfig.DOMAIN_EVENT_STREAM, RedisEventConfig.DOMAIN_EVENT_GROUP);
+        reclaim(RedisEventConfig.COMPENSATION_EVENT_STREAM, RedisEventConfig.COMPENSATION_EVENT_GROUP);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.bus.reclaim.cleanup-interval:PT10M}",
+            initialDelayString = "${event.bus.reclaim.cleanup-interval:PT10M}"
+    )
+    public void removeDeadConsumers() {
+        removeDeadConsumers(RedisEventConfig.DOMAIN_EVENT_STREAM, RedisEventConfig.DOMAIN_EVENT_GROUP);
+        removeDeadConsumers(RedisEventConfig.COMPENSATION_EVENT_STREAM, RedisEventConfig.COMPENSATION_EVENT_GROUP);
+    }
+
+    void reclaim(
+            String streamName,
+            String consumerGroup
+    ) {
+        try {
+            var duePendingMessages = findDuePendingMessages(streamName, consumerGroup);
+            if (duePendingMessages.isEmpty()) {
+                return;
+            }
+
+            var deliveryCounts = new HashMap<RecordId, Long>();
+            var retryIds = new ArrayList<RecordId>();
+            var exhaustedIds = new ArrayList<RecordId>();
+            for (var pendingMessage : duePendingMessages) {
+                deliveryCounts.put(pendingMessage.getId(), pendingMessage.getTotalDeliveryCount());
+                if (pendingMessage.getTotalDeliveryCount() >= reclaimProperties.maxDeliveries()) {
+                    exhaustedIds.add(pendingMessage.getId());
+                } else {
+                    retryIds.add(pendingMessage.getId());
+                }
+            }
+
+            var deadLettered = deadLetter(streamName, consumerGroup, exhaustedIds, deliveryCounts);
+
+            var retried = claim(streamName, consumerGroup, retryIds);
+            retried.forEach(eventListener::onMessage);
+
+            log.info("Reclaimed pending events: stream={}, retried={}, deadLettered={}",
+                    streamName, retried.size(), deadLettered);
+        } catch (Exception e) {
+            log.error("Failed to reclaim pending events: stream={}, group={}", streamName, consumerGroup, e);
+        }
+    }
+
+    void removeDeadConsumers(
+            String streamName,
+            String consumerGroup
+    ) {
+        try {
+            var deadConsumerIdleMillis = reclaimProperties.deadConsumerIdle().toMillis();
+            eventStreamRedisTemplate.opsForStream().consumers(streamName, consumerGroup).stream()
+                    .filter(consumer -> consumer.idleTimeMs() >= deadConsumerIdleMillis)
+                    // pending이 남은 consumer는 회수가 끝난 뒤 다음 주기에 삭제
+                    .filter(consumer -> consumer.pendingCount() == 0)
+                    .forEach(consumer -> {
+                        eventStreamRedisTemplate.opsForStream()
+                                .deleteConsumer(streamName, Consumer.from(consumerGroup, consumer.consumerName()));
+                        log.info("Removed dead consumer: stream={}, group={}, consumer={}, idle={}ms",
+                                streamName, consumerGroup, consumer.consumerName(), consumer.idleTimeMs());
+                    });
+        } catch (Exception e) {
+            log.error("Failed to remove dead consumers: stream={}, group={}", streamName, consumerGroup, e);
+        }
+    }
+
+    // 전달 횟수별 백오프 이상 방치된 메시지를 오래된 순으로 최대 batchSize 개까지 찾음
+    private List<PendingMessage> findDuePendingMessages(
+            String streamName,
+            String consumerGroup
+    ) {
+        var batchSize = reclaimProperties.batchSize();
+        var due = new ArrayList<PendingMessage>();
+        Range<String> range = Range.unbounded();
+
+        for (int page = 0; page < MAX_SCAN_PAGES && due.size() < batchSize; page++) {
+            var pendingMessages = eventStreamRedisTemplate.opsForStream()
+                    .pending(streamName, consumerGroup, range, batchSize);
+            if (pendingMessages.isEmpty()) {
+                break;
+            }
+
+            for (var pendingMessage : pendingMessages) {
+                var backoff = reclaimProperties.backoffFor(pendingMessage.getTotalDeliveryCount());
+                if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(backoff) >= 0 && due.size() < batchSize) {
+                    due.add(pendingMessage);
+                }
+            }
+
+            if (pendingMessages.size() < batchSize) {
+                break;
+            }
+            var lastId = pendingMessages.get(pendingMessages.size() - 1).getIdAsString();
+            range = Range.rightUnbounded(Range.Bound.exclusive(lastId));
+        }
+        return due;
+    }
+
+    private int deadLetter(
+            String streamName,
+            String consumerGroup,
+            List<RecordId> recordIds,
+            Map<RecordId, Long> deliveryCounts
+    ) {
+        if (recordIds.isEmpty()) {
+            return 0;
+        }
+        var claimed = claim(streamName, consumerGroup, recordIds);
+        for (var record : claimed) {
+            deadLetterEventStore.moveToDeadLetter(
+                    streamName,
+                    consumerGroup,
+                    record,
+                    deliveryCounts.getOrDefault(record.getId(), 0L)
+            );
+            eventStreamRedisTemplate.opsForStream().acknowledge(streamName, consumerGroup, record.getId());
+        }
+        return claimed.size();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<MapRecord<String, String, byte[]>> claim(
+            String streamName,
+            String consumerGroup,
+            List<RecordId> recordIds
+    ) {
+        if (recordIds.isEmpty()) {
+            return List.of();
+        }
+        List<MapRecord> claimed = (List) eventStreamRedisTemplate.opsForStream().claim(
+                streamName,
+                consumerGroup,
+                reclaimerName,
+                reclaimProperties.minIdle(),
+                recordIds.toArray(RecordId[]::new)
+        );
+        if (claimed == null) {
+            return List.of();
+        }
+        return claimed.stream()
+                .map(record -> (MapRecord<String, String, byte[]>) record.withStreamKey(streamName))
+                .toList();
+    }
+}
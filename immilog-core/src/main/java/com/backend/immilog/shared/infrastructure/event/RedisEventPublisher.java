@@ -2,17 +2,18 @@ package com.backend.immilog.shared.infrastructure.event;
 
 import com.backend.immilog.shared.application.event.EventPublisher;
 import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
 import com.backend.immilog.shared.domain.event.DomainEvent;
-import com.backend.immilog.shared.infrastructure.event.dto.RedisEventMessage;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.backend.immilog.shared.infrastructure.event.codec.EventCodecRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStreamCommands;
 import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -21,37 +22,39 @@ import java.util.UUID;
 @Component
 public class RedisEventPublisher implements EventPublisher {
 
-    private final RedisTemplate<String, Object> eventRedisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+    private final EventCodecRegistry codecRegistry;
+    private final EventTypeRegistry eventTypeRegistry;
+    private final EventNodeIdentifier eventNodeIdentifier;
+    private final EventBusProperties.Retention retentionProperties;
+    private final EventBusMetrics eventBusMetrics;
 
     public RedisEventPublisher(
-            RedisTemplate<String, Object> eventRedisTemplate,
-            @Qualifier("eventObjectMapper") ObjectMapper objectMapper
+            RedisTemplate<String, byte[]> eventStreamRedisTemplate,
+            EventCodecRegistry codecRegistry,
+            EventTypeRegistry eventTypeRegistry,
+            EventNodeIdentifier eventNodeIdentifier,
+            EventBusProperties eventBusProperties,
+            EventBusMetrics eventBusMetrics
     ) {
-        this.eventRedisTemplate = eventRedisTemplate;
-        this.objectMapper = objectMapper;
+        this.eventStreamRedisTemplate = eventStreamRedisTemplate;
+        this.codecRegistry = codecRegistry;
+        this.eventTypeRegistry = eventTypeRegistry;
+        this.eventNodeIdentifier = eventNodeIdentifier;
+        this.retentionProperties = eventBusProperties.retention();
+        this.eventBusMetrics = eventBusMetrics;
     }
 
     public void publishDomainEvent(DomainEvent event) {
         try {
-            RedisEventMessage eventMessage = createEventMessage(event);
-            String eventJson = objectMapper.writeValueAsString(eventMessage);
-
-            // Redis Streams에 메시지 추가 (Map 형태로)
-            Map<String, String> fields = new HashMap<>();
-            fields.put("event", eventJson);
-            fields.put("messageId", eventMessage.messageId());
-            fields.put("eventType", eventMessage.eventType());
-
-            RecordId recordId = eventRedisTemplate.opsForStream()
-                    .add(RedisEventConfig.DOMAIN_EVENT_STREAM, fields);
+            RecordId recordId = publish(RedisEventConfig.DOMAIN_EVENT_STREAM, event);
 
             log.debug("Published domain event: {} to stream: {} with recordId: {}",
-                    event.getClass().getSimpleName(), 
+                    event.getClass().getSimpleName(),
                     RedisEventConfig.DOMAIN_EVENT_STREAM,
                     recordId);
 
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("Failed to serialize domain event: {}", event.getClass().getSimpleName(), e);
             throw new RuntimeException("Failed to publish domain event", e);
         } catch (Exception e) {
@@ -62,24 +65,14 @@ public class RedisEventPublisher implements EventPublisher {
 
     public void publishCompensationEvent(DomainEvent event) {
         try {
-            RedisEventMessage eventMessage = createEventMessage(event);
-            String eventJson = objectMapper.writeValueAsString(eventMessage);
-
-            // Redis Streams에 메시지 추가 (Map 형태로)
-            Map<String, String> fields = new HashMap<>();
-            fields.put("event", eventJson);
-            fields.put("messageId", eventMessage.messageId());
-            fields.put("eventType", eventMessage.eventType());
-
-            RecordId recordId = eventRedisTemplate.opsForStream()
-                    .add(RedisEventConfig.COMPENSATION_EVENT_STREAM, fields);
+            RecordId recordId = publish(RedisEventConfig.COMPENSATION_EVENT_STREAM, event);
 
             log.debug("Published compensation event: {} to stream: {} with recordId: {}",
                     event.getClass().getSimpleName(),
                     RedisEventConfig.COMPENSATION_EVENT_STREAM,
                     recordId);
 
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("Failed to serialize compensation event: {}", event.getClass().getSimpleName(), e);
             throw new RuntimeException("Failed to publish compensation event", e);
         } catch (Exception e) {
@@ -88,12 +81,48 @@ public class RedisEventPublisher implements EventPublisher {
         }
     }
 
-    private RedisEventMessage createEventMessage(DomainEvent event) throws JsonProcessingException {
-        return new RedisEventMessage(
-                UUID.randomUUID().toString(),
-                event.getClass().getName(),
-                objectMapper.writeValueAsString(event),
-                LocalDateTime.now()
+    // 이벤트 본문은 스트림에 설정된 코덱으로 한 번만 인코딩하고, 메타데이터는 헤더 필드로 함께 저장
+    private RecordId publish(
+            String streamName,
+            DomainEvent event
+    ) throws IOException {
+        var startNanos = System.nanoTime();
+        var eventType = eventTypeRegistry.typeIdOf(event.getClass());
+        var success = false;
+        try {
+            var codec = codecRegistry.forStream(streamName);
+            var fields = EventStreamRecord.fields(
+                    UUID.randomUUID().toString(),
+                    eventType,
+                    eventNodeIdentifier.getNodeId(),
+                    System.currentTimeMillis(),
+                    codec.name(),
+                    codec.encode(event)
+            );
+            var recordId = add(streamName, fields);
+            success = true;
+            return recordId;
+        } finally {
+            eventBusMetrics.recordPublish(eventType, streamName, startNanos, success);
+        }
+    }
+
+    // 스트림 길이가 무한히 늘지 않도록 XADD 시 근사 MAXLEN(~)으로 함께 정리
+    private RecordId add(
+            String streamName,
+            Map<String, byte[]> fields
+    ) {
+        var maxLength = retentionProperties.forStream(streamName).maxLength();
+        var options = maxLength > 0
+                ? RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true)
+                : RedisStreamCommands.XAddOptions.none();
+
+        var rawFields = new HashMap<byte[], byte[]>(fields.size());
+        fields.forEach((name, value) -> rawFields.put(EventStreamRecord.bytes(name), value));
+        var record = StreamRecords.rawBytes(rawFields).withStreamKey(EventStreamRecord.bytes(streamName));
+
+        return eventStreamRedisTemplate.execute(
+                (RedisCallback<RecordId>) connection -> connection.streamCommands().xAdd(record, options)
         );
     }
-}
\ No newline at end of file
+}
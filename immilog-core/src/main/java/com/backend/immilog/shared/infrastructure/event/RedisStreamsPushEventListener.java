@@ -2,146 +2,208 @@ package com.backend.immilog.shared.infrastructure.event;
 
 import com.backend.immilog.shared.config.event.RedisEventConfig;
 import com.backend.immilog.shared.domain.event.DomainEvent;
-import com.backend.immilog.shared.domain.event.DomainEventHandler;
+import com.backend.immilog.shared.domain.event.OrderedEvent;
+import com.backend.immilog.shared.infrastructure.event.codec.EventCodecRegistry;
 import com.backend.immilog.shared.infrastructure.event.dto.RedisEventMessage;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationContext;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
-public class RedisStreamsPushEventListener implements StreamListener<String, MapRecord<String, String, String>> {
+public class RedisStreamsPushEventListener implements StreamListener<String, MapRecord<String, String, byte[]>> {
 
     private final ObjectMapper objectMapper;
-    private final ApplicationContext applicationContext;
+    private final DomainEventHandlerRegistry handlerRegistry;
+    private final EventCodecRegistry codecRegistry;
+    private final EventTypeRegistry eventTypeRegistry;
+    private final EventHandlerExecutor handlerExecutor;
+    private final EventBusMetrics eventBusMetrics;
     private final RedisTemplate<String, Object> eventRedisTemplate;
-    private final Map<Class<? extends DomainEvent>, DomainEventHandler<? extends DomainEvent>> handlerCache = new ConcurrentHashMap<>();
 
     public RedisStreamsPushEventListener(
             @Qualifier("eventObjectMapper") ObjectMapper objectMapper,
-            ApplicationContext applicationContext,
+            DomainEventHandlerRegistry handlerRegistry,
+            EventCodecRegistry codecRegistry,
+            EventTypeRegistry eventTypeRegistry,
+            EventHandlerExecutor handlerExecutor,
+            EventBusMetrics eventBusMetrics,
             RedisTemplate<String, Object> eventRedisTemplate
     ) {
         this.objectMapper = objectMapper;
-        this.applicationContext = applicationContext;
+        this.handlerRegistry = handlerRegistry;
+        this.codecRegistry = codecRegistry;
+        this.eventTypeRegistry = eventTypeRegistry;
+        this.handlerExecutor = handlerExecutor;
+        this.eventBusMetrics = eventBusMetrics;
         this.eventRedisTemplate = eventRedisTemplate;
-        initializeHandlers();
     }
 
+    /**
+     * 폴링 스레드에서는 레코드 디코딩만 수행하고, 핸들러 실행과 ACK는 EventHandlerExecutor에 위임합니다.
+     * 실행기가 가득 차면 이 메서드가 대기하므로 해당 consumer의 폴링도 함께 멈춥니다.
+     */
     @Override
-    public void onMessage(MapRecord<String, String, String> record) {
+    public void onMessage(MapRecord<String, String, byte[]> record) {
         try {
             var streamName = record.getStream();
             var consumerGroup = determineConsumerGroup(streamName);
 
-            log.info("Received message from stream: {}, recordId: {}", streamName, record.getId());
+            log.debug("Received message from stream: {}, recordId: {}", streamName, record.getId());
 
-            // 이벤트 처리
-            processEventMessage(record);
-            
-            // 메시지 처리 완료 후 ACK (자동 ACK가 비활성화된 경우)
-            acknowledgeMessage(record, consumerGroup);
-            
+            var receivedEvent = decodeEventMessage(record);
+            if (receivedEvent == null) {
+                acknowledgeMessage(record, consumerGroup);
+                return;
+            }
+
+            handlerExecutor.submit(orderingKeyOf(receivedEvent.event()), () -> {
+                try {
+                    dispatch(receivedEvent);
+
+                    // 메시지 처리 완료 후 ACK (자동 ACK가 비활성화된 경우)
+                    acknowledgeMessage(record, consumerGroup);
+                } catch (Exception e) {
+                    log.error("Failed to process stream message: streamName={}, recordId={}", streamName, record.getId(), e);
+                }
+            });
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for event handler capacity: recordId={}", record.getId());
         } catch (Exception e) {
             log.error("Failed to process stream message: streamName={}, recordId={}", record.getStream(), record.getId(), e);
         }
     }
 
-    private void processEventMessage(MapRecord<String, String, String> record) {
+    private ReceivedEvent decodeEventMessage(MapRecord<String, String, byte[]> record) {
         try {
             var fields = record.getValue();
-            var eventJson = fields.get("event");
-            var messageId = fields.get("messageId");
-            
-            if (eventJson == null) {
+            var payload = fields.get(EventStreamRecord.EVENT);
+
+            if (payload == null) {
                 log.warn("No event field found in stream record: {}", record.getId());
-                return;
+                return null;
             }
 
-            log.info("Processing event JSON: {}", eventJson);
-            log.info("Event JSON type: {}", eventJson.getClass().getName());
-            log.info("Event JSON length: {}", eventJson.length());
-            log.info("First 100 chars: {}", eventJson.length() > 100 ? eventJson.substring(0, 100) + "..." : eventJson);
-            
-            // JSON 문자열이 이스케이프된 상태인지 확인
-            if (eventJson.startsWith("\"") && eventJson.endsWith("\"")) {
-                log.warn("Event JSON appears to be double-encoded (starts and ends with quotes)");
-                // 이스케이프된 JSON 문자열을 언이스케이프
-                try {
-                    eventJson = objectMapper.readValue(eventJson, String.class);
-                    log.info("Unescaped JSON: {}", eventJson);
-                } catch (Exception e) {
-                    log.error("Failed to unescape JSON", e);
-                }
-            }
-            
-            RedisEventMessage eventMessage = objectMapper.readValue(eventJson, RedisEventMessage.class);
-            
-            // 이벤트 타입에 따른 처리
             boolean isCompensation = record.getStream().equals(RedisEventConfig.COMPENSATION_EVENT_STREAM);
-            
-            processEventMessage(eventMessage, isCompensation);
-            
+
+            var codecName = EventStreamRecord.header(fields, EventStreamRecord.CODEC);
+            if (codecName == null) {
+                return decodeLegacyEventMessage(payload, isCompensation);
+            }
+
+            var messageId = EventStreamRecord.header(fields, EventStreamRecord.MESSAGE_ID);
+            var typeId = EventStreamRecord.header(fields, EventStreamRecord.EVENT_TYPE);
+            var publishedAt = EventStreamRecord.header(fields, EventStreamRecord.PUBLISHED_AT);
+            if (publishedAt != null) {
+                eventBusMetrics.recordLag(typeId, record.getStream(), Long.parseLong(publishedAt));
+            }
+
+            // 핸들러가 없는 이벤트는 본문을 디코딩하지 않음
+            var eventClass = eventTypeRegistry.resolve(typeId).orElse(null);
+            if (eventClass == null) {
+                log.warn("No handler found for event type: {}", typeId);
+                return null;
+            }
+
+            var event = codecRegistry.byName(codecName).decode(payload, eventClass);
+            return new ReceivedEvent(
+                    event,
+                    typeId,
+                    messageId,
+                    EventStreamRecord.header(fields, EventStreamRecord.ORIGIN_NODE),
+                    isCompensation
+            );
+
         } catch (Exception e) {
             log.error("Failed to process event message from record: {}", record.getId(), e);
             throw new RuntimeException("Event processing failed", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void processEventMessage(RedisEventMessage eventMessage, boolean isCompensation) {
-        try {
-            // 이벤트 타입으로 클래스 로드
-            var eventClass = Class.forName(eventMessage.eventType());
+    /**
+     * codec 헤더가 도입되기 전에 적재된 JSON 봉투(RedisEventMessage) 레코드를 처리합니다.
+     */
+    private ReceivedEvent decodeLegacyEventMessage(
+            byte[] payload,
+            boolean isCompensation
+    ) throws Exception {
+        var eventJson = new String(payload, StandardCharsets.UTF_8);
+
+        // JSON 문자열이 이스케이프된 상태인지 확인
+        if (eventJson.startsWith("\"") && eventJson.endsWith("\"")) {
+            eventJson = objectMapper.readValue(eventJson, String.class);
+        }
 
-            if (!DomainEvent.class.isAssignableFrom(eventClass)) {
-                log.warn("Event class {} is not a DomainEvent", eventClass.getName());
-                return;
-            }
+        var eventMessage = objectMapper.readValue(eventJson, RedisEventMessage.class);
+        var eventClass = eventTypeRegistry.resolve(eventMessage.eventType()).orElse(null);
+        if (eventClass == null) {
+            log.warn("No handler found for event type: {}", eventMessage.eventType());
+            return null;
+        }
 
-            // JSON에서 이벤트 객체로 역직렬화
-            var event = (DomainEvent) objectMapper.readValue(eventMessage.payload(), eventClass);
+        var event = objectMapper.readValue(eventMessage.payload(), eventClass);
+        return new ReceivedEvent(
+                event,
+                eventTypeRegistry.typeIdOf(eventClass),
+                eventMessage.messageId(),
+                eventMessage.originNode(),
+                isCompensation
+        );
+    }
 
-            // 캐시된 핸들러 조회
-            var handler = (DomainEventHandler<DomainEvent>) handlerCache.get(event.getClass());
+    private void dispatch(ReceivedEvent receivedEvent) {
+        var event = receivedEvent.event();
 
-            if (handler != null) {
-                log.info("Processing {} event: {} with messageId: {}",
-                        isCompensation ? "compensation" : "domain",
-                        event.getClass().getSimpleName(),
-                        eventMessage.messageId());
+        // 등록된 핸들러 조회
+        var handler = handlerRegistry.findHandler(event.getClass()).orElse(null);
 
-                handler.handle(event);
+        if (handler == null) {
+            log.warn("No handler found for event type: {}", event.getClass().getName());
+            return;
+        }
 
-                log.info("Successfully processed {} event: {} with messageId: {}",
-                        isCompensation ? "compensation" : "domain",
-                        event.getClass().getSimpleName(),
-                        eventMessage.messageId());
-            } else {
-                log.warn("No handler found for event type: {}", event.getClass().getName());
-            }
+        log.debug("Processing {} event: {} with messageId: {}",
+                receivedEvent.compensation() ? "compensation" : "domain",
+                event.getClass().getSimpleName(),
+                receivedEvent.messageId());
 
+        var startNanos = System.nanoTime();
+        var success = false;
+        try {
+            EventReplyContext.runWithOrigin(receivedEvent.originNode(), () -> handler.handle(event));
+            success = true;
         } catch (Exception e) {
-            log.error("Failed to process event message: {} with messageId: {}", 
-                    eventMessage.eventType(), eventMessage.messageId(), e);
-            throw new RuntimeException("Event processing failed", e);
+            log.error("Failed to process event message: {} with messageId: {}",
+                    event.getClass().getSimpleName(), receivedEvent.messageId(), e);
+            throw e;
+        } finally {
+            eventBusMetrics.recordHandler(receivedEvent.eventType(), "redis", startNanos, success);
         }
+
+        log.debug("Successfully processed {} event: {} with messageId: {}",
+                receivedEvent.compensation() ? "compensation" : "domain",
+                event.getClass().getSimpleName(),
+                receivedEvent.messageId());
+    }
+
+    private static String orderingKeyOf(DomainEvent event) {
+        return event instanceof OrderedEvent orderedEvent ? orderedEvent.orderingKey() : null;
     }
 
-    private void acknowledgeMessage(MapRecord<String, String, String> record, String consumerGroup) {
+    private void acknowledgeMessage(MapRecord<String, String, byte[]> record, String consumerGroup) {
         try {
             var streamName = record.getStream();
             eventRedisTemplate.opsForStream().acknowledge(Objects.requireNonNull(streamName), consumerGroup, record.getId());
-            log.info("Acknowledged message: stream={}, group={}, recordId={}", streamName, consumerGroup, record.getId());
+            log.debug("Acknowledged message: stream={}, group={}, recordId={}", streamName, consumerGroup, record.getId());
         } catch (Exception e) {
             log.error("Failed to acknowledge message: stream={}, group={}, recordId={}", record.getStream(), consumerGroup, record.getId(), e);
         }
@@ -157,19 +219,11 @@ public class RedisStreamsPushEventListener implements StreamListener<String, Map
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void initializeHandlers() {
-        var handlers = applicationContext.getBeansOfType(DomainEventHandler.class);
-
-        for (var handler : handlers.values()) {
-            var eventType = handler.getEventType();
-            handlerCache.put(eventType, handler);
-
-            log.info("Registered event handler: {} for event type: {},",
-                    handler.getClass().getSimpleName(),
-                    eventType.getName());
-        }
-
-        log.info("Initialized {} domain event handlers for Redis Streams Push", handlerCache.size());
-    }
-}
\ No newline at end of file
+    private record ReceivedEvent(
+            DomainEvent event,
+            String eventType,
+            String messageId,
+            String originNode,
+            boolean compensation
+    ) {}
+}
@@ -0,0 +1,18 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.backend.immilog.shared.domain.event.DomainEvent;
+
+import java.io.IOException;
+
+/**
+ * Redis Streams에 실리는 도메인 이벤트 본문을 직렬화/역직렬화합니다.
+ * 코덱 이름은 스트림 레코드의 codec 헤더에 기록되어 소비 측에서 같은 코덱을 선택하는 데 사용됩니다.
+ */
+public interface EventCodec {
+
+    String name();
+
+    byte[] encode(DomainEvent event) throws IOException;
+
+    <T extends DomainEvent> T decode(byte[] payload, Class<T> eventType) throws IOException;
+}
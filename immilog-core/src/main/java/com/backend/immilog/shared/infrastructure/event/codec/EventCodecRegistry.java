@@ -0,0 +1,47 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이름으로 코덱을 찾고, 스트림별로 설정된 발행용 코덱을 결정합니다.
+ * 소비 측은 레코드의 codec 헤더를 기준으로 코덱을 고르므로 스트림 설정을 바꿔도 이미 적재된 메시지를 읽을 수 있습니다.
+ */
+@Slf4j
+@Component
+public class EventCodecRegistry {
+
+    private final Map<String, EventCodec> codecs;
+    private final EventBusProperties.Codec codecProperties;
+
+    public EventCodecRegistry(
+            List<EventCodec> codecs,
+            EventBusProperties eventBusProperties
+    ) {
+        this.codecs = codecs.stream().collect(Collectors.toUnmodifiableMap(EventCodec::name, Function.identity()));
+        this.codecProperties = eventBusProperties.codec();
+
+        // 설정 오류는 첫 발행 시점이 아니라 기동 시점에 드러나도록 검증
+        byName(codecProperties.defaultCodec());
+        codecProperties.streams().values().forEach(this::byName);
+        log.info("Event codecs: default={}, overrides={}", codecProperties.defaultCodec(), codecProperties.streams());
+    }
+
+    public EventCodec forStream(String streamName) {
+        return byName(codecProperties.streams().getOrDefault(streamName, codecProperties.defaultCodec()));
+    }
+
+    public EventCodec byName(String name) {
+        var codec = codecs.get(name);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown event codec: " + name);
+        }
+        return codec;
+    }
+}
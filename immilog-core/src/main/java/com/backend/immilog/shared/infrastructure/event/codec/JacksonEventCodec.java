@@ -0,0 +1,28 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+
+public abstract class JacksonEventCodec implements EventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    protected JacksonEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] encode(DomainEvent event) throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Override
+    public <T extends DomainEvent> T decode(
+            byte[] payload,
+            Class<T> eventType
+    ) throws IOException {
+        return objectMapper.readValue(payload, eventType);
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JsonEventCodec extends JacksonEventCodec {
+
+    public static final String NAME = "json";
+
+    public JsonEventCodec(@Qualifier("eventObjectMapper") ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
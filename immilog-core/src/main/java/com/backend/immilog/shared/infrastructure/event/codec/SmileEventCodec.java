@@ -0,0 +1,30 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson Smile 기반의 바이너리 코덱입니다.
+ * 필드명 공유(back-reference)로 같은 키가 반복되는 목록형 이벤트에서 JSON보다 페이로드가 작습니다.
+ */
+@Component
+public class SmileEventCodec extends JacksonEventCodec {
+
+    public static final String NAME = "smile";
+
+    public SmileEventCodec() {
+        super(SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .build());
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+}
@@ -0,0 +1,12 @@
+package com.backend.immilog.shared.infrastructure.event.dto;
+
+public record DeadLetterEntry(
+        String id,
+        String originalId,
+        String messageId,
+        String eventType,
+        String group,
+        long deliveryCount,
+        long deadLetteredAt
+) {
+}
@@ -28,17 +28,32 @@ public class RedisEventMessage {
     @JsonProperty("publishedAt")
     private final LocalDateTime publishedAt;
     
+    @Schema(description = "이벤트를 발행한 노드 ID (요청/응답 이벤트의 응답 경로)", example = "immilog-host-1a2b3c4d")
+    @JsonProperty("originNode")
+    private final String originNode;
+    
+    public RedisEventMessage(
+            String messageId,
+            String eventType,
+            String payload,
+            LocalDateTime publishedAt
+    ) {
+        this(messageId, eventType, payload, publishedAt, null);
+    }
+    
     @JsonCreator
     public RedisEventMessage(
             @JsonProperty("messageId") String messageId,
             @JsonProperty("eventType") String eventType,
             @JsonProperty("payload") String payload,
-            @JsonProperty("publishedAt") LocalDateTime publishedAt
+            @JsonProperty("publishedAt") LocalDateTime publishedAt,
+            @JsonProperty("originNode") String originNode
     ) {
         this.messageId = messageId;
         this.eventType = eventType;
         this.payload = payload;
         this.publishedAt = publishedAt;
+        this.originNode = originNode;
     }
     
     public String messageId() {
@@ -56,4 +71,8 @@ public class RedisEventMessage {
     public LocalDateTime publishedAt() {
         return publishedAt;
     }
+    
+    public String originNode() {
+        return originNode;
+    }
 }
\ No newline at end of file
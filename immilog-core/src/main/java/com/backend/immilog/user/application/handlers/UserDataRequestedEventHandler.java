@@ -2,9 +2,8 @@ package com.backend.immilog.user.application.handlers;
 
 import com.backend.immilog.post.domain.events.PostEvent;
 import com.backend.immilog.shared.domain.event.DomainEventHandler;
-import com.backend.immilog.shared.domain.model.UserData;
 import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
-import com.backend.immilog.user.domain.repositories.UserRepository;
+import com.backend.immilog.user.application.services.UserDataBatchLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -14,7 +13,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UserDataRequestedEventHandler implements DomainEventHandler<PostEvent.UserDataRequested> {
 
-    private final UserRepository userRepository;
+    private final UserDataBatchLoader userDataBatchLoader;
     private final EventResultStorageService eventResultStorageService;
 
     @Override
@@ -22,23 +21,7 @@ public class UserDataRequestedEventHandler implements DomainEventHandler<PostEve
         log.info("Processing UserDataRequested event for requestId: {}, userIds: {}", event.getRequestId(), event.getUserIds());
         
         try {
-            var userDataList = event.getUserIds().stream()
-                    .map(userId -> {
-                        try {
-                            var user = userRepository.findById(userId);
-                            return new UserData(
-                                    user.getUserId().value(),
-                                    user.getNickname(),
-                                    user.getImageUrl(),
-                                    user.getCountryId(),
-                                    user.getRegion()
-                            );
-                        } catch (Exception e) {
-                            log.warn("Failed to get user data for userId: {}", userId, e);
-                            return new UserData(userId, "Unknown", null, null, null);
-                        }
-                    })
-                    .toList();
+            var userDataList = userDataBatchLoader.load(event.getUserIds());
             
             eventResultStorageService.storeUserData(event.getRequestId(), userDataList);
             log.info("Successfully processed and stored {} user data records with requestId: {}", userDataList.size(), event.getRequestId());
@@ -0,0 +1,169 @@
+package com.backend.immilog.user.application.services;
+
+import com.backend.immilog.shared.domain.model.UserData;
+import com.backend.immilog.user.domain.model.User;
+import com.backend.immilog.user.domain.repositories.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 짧은 시간 창 안에 들어온 유저 데이터 요청을 하나로 모아 중복 없는 단일 IN 조회로 처리합니다.
+ * 게시물 목록, 댓글 트리, 인기 메뉴가 거의 동시에 겹치는 userId를 요청하는 경우 user 테이블 조회 수를 크게 줄입니다.
+ */
+@Slf4j
+@Service
+public class UserDataBatchLoader {
+
+    private final UserRepository userRepository;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final Duration loadTimeout;
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary coalescedRequestSummary;
+    private final Timer waitTimer;
+
+    private final ConcurrentLinkedQueue<PendingLoad> pendingLoads = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("user-data-batch-flusher").daemon().factory()
+    );
+    private final ExecutorService queryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public UserDataBatchLoader(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.data.batch.window:3ms}") Duration batchWindow,
+            @Value("${user.data.batch.max-size:500}") int maxBatchSize,
+            @Value("${user.data.batch.load-timeout:2s}") Duration loadTimeout
+    ) {
+        this.userRepository = userRepository;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.loadTimeout = loadTimeout;
+        this.batchSizeSummary = DistributionSummary.builder("user.data.batch.size")
+                .description("Distinct userIds loaded per coalesced batch")
+                .register(meterRegistry);
+        this.coalescedRequestSummary = DistributionSummary.builder("user.data.batch.requests")
+                .description("User data requests merged into one batch")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("user.data.batch.wait")
+                .description("Time a user data request waited for its batch to complete")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청한 userId 순서대로 유저 데이터를 반환합니다. 조회되지 않은 유저는 "Unknown"으로 채웁니다.
+     */
+    public List<UserData> load(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        if (batchWindow.isZero()) {
+            return slice(userIds, loadUserData(new LinkedHashSet<>(userIds)));
+        }
+
+        var pendingLoad = new PendingLoad(userIds, new CompletableFuture<>(), System.nanoTime());
+        pendingLoads.add(pendingLoad);
+        if (flushScheduled.compareAndSet(false, true)) {
+            flushScheduler.schedule(this::flush, batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            return pendingLoad.future().get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Batched user data load failed for userIds: {}, falling back to direct load", userIds, e);
+            return slice(userIds, loadUserData(new LinkedHashSet<>(userIds)));
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        var batch = new ArrayList<PendingLoad>();
+        PendingLoad pendingLoad;
+        while ((pendingLoad = pendingLoads.poll()) != null) {
+            batch.add(pendingLoad);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        queryExecutor.execute(() -> completeBatch(batch));
+    }
+
+    private void completeBatch(List<PendingLoad> batch) {
+        var distinctUserIds = batch.stream()
+                .flatMap(load -> load.userIds().stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        try {
+            var userDataById = loadUserData(distinctUserIds);
+            batchSizeSummary.record(distinctUserIds.size());
+            coalescedRequestSummary.record(batch.size());
+            log.debug("Loaded {} distinct users for {} coalesced requests", distinctUserIds.size(), batch.size());
+
+            for (var load : batch) {
+                load.future().complete(slice(load.userIds(), userDataById));
+                waitTimer.record(System.nanoTime() - load.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (Exception e) {
+            log.error("Failed to load user data batch of {} users", distinctUserIds.size(), e);
+            batch.forEach(load -> load.future().completeExceptionally(e));
+        }
+    }
+
+    private Map<String, UserData> loadUserData(LinkedHashSet<String> userIds) {
+        var ids = new ArrayList<>(userIds);
+        var users = new ArrayList<User>(ids.size());
+        for (int from = 0; from < ids.size(); from += maxBatchSize) {
+            users.addAll(userRepository.findAllByIds(ids.subList(from, Math.min(from + maxBatchSize, ids.size()))));
+        }
+        return users.stream()
+                .map(user -> new UserData(
+                        user.getUserId().value(),
+                        user.getNickname(),
+                        user.getImageUrl(),
+                        user.getCountryId(),
+                        user.getRegion()
+                ))
+                .collect(Collectors.toMap(UserData::userId, Function.identity(), (existing, replacement) -> existing));
+    }
+
+    private List<UserData> slice(List<String> userIds, Map<String, UserData> userDataById) {
+        return userIds.stream()
+                .map(userId -> userDataById.getOrDefault(userId, new UserData(userId, "Unknown", null, null, null)))
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushScheduler.shutdown();
+        queryExecutor.shutdown();
+    }
+
+    private record PendingLoad(
+            List<String> userIds,
+            CompletableFuture<List<UserData>> future,
+            long enqueuedAtNanos
+    ) {}
+}
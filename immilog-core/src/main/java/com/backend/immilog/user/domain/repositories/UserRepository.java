@@ -3,6 +3,7 @@ package com.backend.immilog.user.domain.repositories;
 import com.backend.immilog.user.domain.model.User;
 import com.backend.immilog.user.domain.model.UserId;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -15,6 +16,8 @@ public interface UserRepository {
 
     User findById(String userId);
 
+    List<User> findAllByIds(List<String> userIds);
+
     User save(User user);
 
     boolean existsByEmail(String email);
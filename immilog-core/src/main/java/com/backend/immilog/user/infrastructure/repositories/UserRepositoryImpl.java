@@ -9,6 +9,7 @@ import com.backend.immilog.user.infrastructure.jpa.UserJpaEntity;
 import com.backend.immilog.user.infrastructure.jpa.UserJpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -47,6 +48,17 @@ public class UserRepositoryImpl implements UserRepository {
                 .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
     }
 
+    @Override
+    public List<User> findAllByIds(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllById(userIds)
+                .stream()
+                .map(UserJpaEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public User save(User user) {
         UserJpaEntity entity;
@@ -0,0 +1,13 @@
+-- MySqlFullTextPostSearchEngine이 사용하는 FULLTEXT(ngram parser) 인덱스.
+-- 애플리케이션은 기본 설정(post.search.create-indexes=false)에서 이 인덱스를 만들지 않으므로 배포 전에 한 번 적용합니다.
+--
+-- InnoDB 테이블에 첫 FULLTEXT 인덱스를 추가하면 FTS_DOC_ID 컬럼이 추가되면서 테이블이 재구성되고,
+-- 그동안 DML이 막힙니다. 운영 DB에는 트래픽이 적은 시간에 한 노드에서만 적용하거나
+-- pt-online-schema-change / gh-ost 같은 온라인 스키마 변경 도구로 적용합니다.
+-- 적용 여부는 information_schema.statistics에서 index_name으로 확인할 수 있습니다.
+
+ALTER TABLE post
+    ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
+
+ALTER TABLE content_resource
+    ADD FULLTEXT INDEX ft_content_resource_content (content) WITH PARSER ngram;
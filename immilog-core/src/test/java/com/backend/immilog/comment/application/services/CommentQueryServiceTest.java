@@ -0,0 +1,64 @@
+package com.backend.immilog.comment.application.services;
+
+import com.backend.immilog.comment.domain.repositories.CommentRepository;
+import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CommentQueryService")
+@ExtendWith(MockitoExtension.class)
+class CommentQueryServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private CommentHierarchyService commentHierarchyService;
+
+    @Mock
+    private EventResultStorageService eventResultStorageService;
+
+    @InjectMocks
+    private CommentQueryService commentQueryService;
+
+    @Nested
+    @DisplayName("댓글 수 조회")
+    class CommentCounts {
+
+        @Test
+        @DisplayName("여러 게시물의 댓글 수를 한 번의 집계 쿼리로 조회하고 댓글이 없는 게시물은 0으로 채운다")
+        void countsInSingleQuery() {
+            when(commentRepository.countCommentsByPostIds(List.of("post1", "post2", "post3")))
+                    .thenReturn(Map.of("post1", 3L, "post3", 1L));
+
+            var result = commentQueryService.getCommentCountsByPostIds(List.of("post1", "post2", "post3", "post1"));
+
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("post1", 3L, "post2", 0L, "post3", 1L));
+            verify(commentRepository, times(1)).countCommentsByPostIds(anyList());
+            verify(commentRepository, never()).findCommentsByPostId(anyString());
+        }
+
+        @Test
+        @DisplayName("단건 댓글 수도 집계 쿼리를 사용한다")
+        void countsSinglePost() {
+            when(commentRepository.countCommentsByPostIds(List.of("post1"))).thenReturn(Map.of());
+
+            var result = commentQueryService.getCommentCountByPostId("post1");
+
+            assertThat(result).isZero();
+            verify(commentRepository, never()).findCommentsByPostId(anyString());
+        }
+    }
+}
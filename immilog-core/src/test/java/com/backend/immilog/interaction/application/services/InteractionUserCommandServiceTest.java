@@ -7,6 +7,8 @@ import com.backend.immilog.interaction.domain.repositories.InteractionUserReposi
 import com.backend.immilog.interaction.domain.service.InteractionDomainService;
 import com.backend.immilog.interaction.exception.InteractionErrorCode;
 import com.backend.immilog.interaction.exception.InteractionException;
+import com.backend.immilog.shared.domain.service.ContentCacheInvalidator;
+import com.backend.immilog.shared.domain.service.ContentLikeCounter;
 import com.backend.immilog.shared.enums.ContentType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,9 +26,13 @@ class InteractionUserCommandServiceTest {
 
     private final InteractionUserRepository mockInteractionUserRepository = mock(InteractionUserRepository.class);
     private final InteractionDomainService mockInteractionDomainService = mock(InteractionDomainService.class);
+    private final ContentLikeCounter mockContentLikeCounter = mock(ContentLikeCounter.class);
+    private final ContentCacheInvalidator mockContentCacheInvalidator = mock(ContentCacheInvalidator.class);
     private final InteractionUserCommandService interactionUserCommandService = new InteractionUserCommandService(
             mockInteractionUserRepository,
-            mockInteractionDomainService
+            mockInteractionDomainService,
+            mockContentLikeCounter,
+            mockContentCacheInvalidator
     );
 
     @Nested
@@ -122,6 +128,60 @@ class InteractionUserCommandServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("좋아요 수 갱신 테스트")
+    class LikeCountTest {
+
+        @Test
+        @DisplayName("새 좋아요를 누르면 좋아요 수를 1 증가시킨다")
+        void incrementLikeCountOnNewLike() {
+            InteractionUser newLike = InteractionUser.createLike("user123", "post456", ContentType.POST);
+            when(mockInteractionUserRepository.findByUserIdAndInteractionTypeAndContentTypeAndPostId(
+                    "user123", InteractionType.LIKE, ContentType.POST, "post456"
+            )).thenReturn(Optional.empty());
+
+            interactionUserCommandService.toggleInteraction(newLike);
+
+            verify(mockContentLikeCounter).adjustLikeCount("post456", ContentType.POST, 1);
+            verify(mockContentCacheInvalidator).invalidate("post456", ContentType.POST);
+        }
+
+        @Test
+        @DisplayName("활성 좋아요를 토글하면 좋아요 수를 1 감소시킨다")
+        void decrementLikeCountOnUnlike() {
+            InteractionUser request = InteractionUser.createLike("user123", "post456", ContentType.POST);
+            InteractionUser existingLike = InteractionUser.builder()
+                    .id("interaction123")
+                    .userId("user123")
+                    .postId("post456")
+                    .contentType(ContentType.POST)
+                    .interactionType(InteractionType.LIKE)
+                    .interactionStatus(InteractionStatus.ACTIVE)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            when(mockInteractionUserRepository.findByUserIdAndInteractionTypeAndContentTypeAndPostId(
+                    "user123", InteractionType.LIKE, ContentType.POST, "post456"
+            )).thenReturn(Optional.of(existingLike));
+
+            interactionUserCommandService.toggleInteraction(request);
+
+            verify(mockContentLikeCounter).adjustLikeCount("post456", ContentType.POST, -1);
+        }
+
+        @Test
+        @DisplayName("북마크 토글은 좋아요 수를 변경하지 않는다")
+        void bookmarkDoesNotChangeLikeCount() {
+            InteractionUser bookmark = InteractionUser.createBookmark("user123", "post456", ContentType.POST);
+            when(mockInteractionUserRepository.findByUserIdAndInteractionTypeAndContentTypeAndPostId(
+                    "user123", InteractionType.BOOKMARK, ContentType.POST, "post456"
+            )).thenReturn(Optional.empty());
+
+            interactionUserCommandService.toggleInteraction(bookmark);
+
+            verifyNoInteractions(mockContentLikeCounter);
+        }
+    }
+
     @Nested
     @DisplayName("상호작용 삭제 테스트")
     class DeleteInteractionTest {
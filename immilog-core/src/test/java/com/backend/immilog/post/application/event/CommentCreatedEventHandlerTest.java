@@ -3,11 +3,14 @@ package com.backend.immilog.post.application.event;
 import com.backend.immilog.comment.domain.event.CommentCreatedEvent;
 import com.backend.immilog.post.domain.service.PostDomainService;
 import com.backend.immilog.post.domain.model.post.PostId;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
 import com.backend.immilog.shared.config.properties.EventProperties;
 import com.backend.immilog.shared.domain.event.DomainEvents;
+import com.backend.immilog.post.application.services.PostTrendingService;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -33,6 +36,12 @@ class CommentCreatedEventHandlerTest {
     @Mock
     private EventProperties eventProperties;
 
+    @Mock
+    private PostResultCache postResultCache;
+
+    @Mock
+    private PostTrendingService postTrendingService;
+
     @InjectMocks
     private CommentCreatedEventHandler commentCreatedEventHandler;
 
@@ -55,6 +64,7 @@ class CommentCreatedEventHandlerTest {
             commentCreatedEventHandler.handle(testEvent);
 
             verify(postDomainService).incrementCommentCount(PostId.of("post123"));
+            verify(postTrendingService).record("post123", TrendingSignal.COMMENT, 1);
         }
 
         @Test
@@ -5,6 +5,7 @@ import com.backend.immilog.post.domain.events.PostCompensationEvent;
 import com.backend.immilog.post.domain.model.post.*;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,6 +29,9 @@ class PostCompensationEventHandlerTest {
     @Mock
     private PostDomainService postDomainService;
 
+    @Mock
+    private PostResultCache postResultCache;
+
     @InjectMocks
     private PostCompensationEventHandler postCompensationEventHandler;
 
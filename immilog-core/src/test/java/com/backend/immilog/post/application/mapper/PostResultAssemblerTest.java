@@ -0,0 +1,77 @@
+package com.backend.immilog.post.application.mapper;
+
+import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.domain.model.UserData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostResultAssembler 테스트")
+class PostResultAssemblerTest {
+
+    private final PostResultAssembler postResultAssembler = new PostResultAssembler();
+
+    @Test
+    @DisplayName("유저, 인터랙션, 리소스, 댓글 수를 한 번에 조립한다")
+    void assembleAllDimensions() {
+        // given
+        var postResult = PostResult.builder()
+                .postId("post1")
+                .userId("user1")
+                .viewCount(10L)
+                .likeCount(0L)
+                .commentCount(0L)
+                .tags(new ArrayList<>())
+                .attachments(new ArrayList<>())
+                .likeUsers(new ArrayList<>())
+                .bookmarkUsers(new ArrayList<>())
+                .build();
+        var userData = new UserData("user1", "nickname", "http://image.url", "KR", "Seoul");
+        var interactions = List.of(
+                new InteractionData("i1", "post1", "user2", "ACTIVE", "LIKE", "POST"),
+                new InteractionData("i2", "post1", "user3", "ACTIVE", "BOOKMARK", "POST"),
+                new InteractionData("i3", "post1", "user4", "INACTIVE", "LIKE", "POST")
+        );
+        var resources = new PostResourceBundle("post1", List.of("tag"), List.of("http://file.url"));
+
+        // when
+        var result = postResultAssembler.assemble(postResult, userData, interactions, resources, 3L);
+
+        // then
+        assertThat(result.userNickname()).isEqualTo("nickname");
+        assertThat(result.userProfileUrl()).isEqualTo("http://image.url");
+        assertThat(result.likeUsers()).containsExactly("user2");
+        assertThat(result.bookmarkUsers()).containsExactly("user3");
+        assertThat(result.likeCount()).isEqualTo(1L);
+        assertThat(result.tags()).containsExactly("tag");
+        assertThat(result.attachments()).containsExactly("http://file.url");
+        assertThat(result.commentCount()).isEqualTo(3L);
+        assertThat(result.viewCount()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("보강 데이터가 없으면 기존 값을 유지하고 카운트만 반영한다")
+    void assembleWithoutEnrichmentData() {
+        // given
+        var postResult = PostResult.builder()
+                .postId("post1")
+                .userId("user1")
+                .userNickname("original")
+                .build();
+
+        // when
+        var result = postResultAssembler.assemble(postResult, null, List.of(), null, 0L);
+
+        // then
+        assertThat(result.userNickname()).isEqualTo("original");
+        assertThat(result.likeUsers()).isEmpty();
+        assertThat(result.likeCount()).isZero();
+        assertThat(result.commentCount()).isZero();
+    }
+}
@@ -0,0 +1,50 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.services.query.PostQueryService;
+import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.service.BadgeManagementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostBadgeService")
+class PostBadgeServiceTest {
+
+    @Mock
+    private PostQueryService postQueryService;
+    @Mock
+    private BadgeManagementService badgeManagementService;
+    @Mock
+    private PostTrendingService postTrendingService;
+    @Mock
+    private PostConfiguration postConfiguration;
+
+    @InjectMocks
+    private PostBadgeService postBadgeService;
+
+    @Test
+    @DisplayName("HOT 배지는 트렌딩 순위의 전체 국가 상위 게시물에 적용한다")
+    void appliesHotBadgesFromTrendingRanking() {
+        // given
+        when(postConfiguration.getPopularPostLimit()).thenReturn(5);
+        when(postTrendingService.topPostIds(TrendingMetric.HOT, null, null, 5)).thenReturn(List.of("post2", "post1"));
+        when(badgeManagementService.applyBadgeToPostIds(List.of("post2", "post1"), Badge.HOT)).thenReturn(List.of("post2"));
+
+        // when
+        postBadgeService.updatePostBadges();
+
+        // then
+        verify(badgeManagementService).applyBadgeToPostIds(List.of("post2", "post1"), Badge.HOT);
+        verifyNoInteractions(postQueryService);
+    }
+}
@@ -0,0 +1,72 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.shared.enums.ContentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostLikeCountService")
+class PostLikeCountServiceTest {
+
+    @Mock
+    private PostDomainRepository postDomainRepository;
+    @Mock
+    private PostConfiguration postConfiguration;
+    @Mock
+    private PostTrendingService postTrendingService;
+
+    @InjectMocks
+    private PostLikeCountService postLikeCountService;
+
+    @Test
+    @DisplayName("게시물 좋아요 수를 증감한다")
+    void adjustPostLikeCount() {
+        // when
+        postLikeCountService.adjustLikeCount("post123", ContentType.POST, -1);
+
+        // then
+        verify(postDomainRepository).adjustLikeCount("post123", -1);
+        verify(postTrendingService).record("post123", TrendingSignal.LIKE, -1);
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요는 게시물 좋아요 수에 반영하지 않는다")
+    void ignoreCommentLike() {
+        // when
+        postLikeCountService.adjustLikeCount("comment123", ContentType.COMMENT, 1);
+
+        // then
+        verifyNoInteractions(postDomainRepository, postTrendingService);
+    }
+
+    @Test
+    @DisplayName("post_id 범위 배치로 나누어 좋아요 수를 재계산한다")
+    void reconcileInBatches() {
+        // given
+        when(postConfiguration.getLikeCountReconcileBatchSize()).thenReturn(2);
+        when(postDomainRepository.findPostIdsAfter(isNull(), eq(2))).thenReturn(List.of("a", "b"));
+        when(postDomainRepository.findPostIdsAfter("b", 2)).thenReturn(List.of("c"));
+        when(postDomainRepository.reconcileLikeCounts("a", "b")).thenReturn(1);
+        when(postDomainRepository.reconcileLikeCounts("c", "c")).thenReturn(0);
+
+        // when
+        var repaired = postLikeCountService.reconcileLikeCounts();
+
+        // then
+        assertThat(repaired).isEqualTo(1);
+        verify(postDomainRepository, times(2)).findPostIdsAfter(any(), eq(2));
+    }
+}
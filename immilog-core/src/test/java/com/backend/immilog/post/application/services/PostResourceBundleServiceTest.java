@@ -0,0 +1,89 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
+import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.post.infrastructure.cache.PostResourceBundleCache;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostResourceBundleService")
+class PostResourceBundleServiceTest {
+
+    @Mock
+    private ContentResourceRepository contentResourceRepository;
+    @Mock
+    private PostResourceBundleCache postResourceBundleCache;
+    @Mock
+    private PostConfiguration postConfiguration;
+
+    @InjectMocks
+    private PostResourceBundleService postResourceBundleService;
+
+    @Test
+    @DisplayName("목록 조회는 캐시에 없는 게시물만 목록용 개수 제한으로 읽고, 리소스가 없는 게시물은 빈 번들로 캐시한다")
+    void loadsMissingSummaryBundles() {
+        // given
+        var cached = new PostResourceBundle("post1", List.of("cached"), List.of());
+        var loaded = new PostResourceBundle("post2", List.of("tag"), List.of("thumb.png"));
+        when(postResourceBundleCache.getAll(PostResultCache.View.SUMMARY, List.of("post1", "post2", "post3")))
+                .thenReturn(Map.of("post1", cached));
+        when(postConfiguration.getListTagLimit()).thenReturn(5);
+        when(postConfiguration.getListAttachmentLimit()).thenReturn(1);
+        when(contentResourceRepository.findBundlesByContentIdList(List.of("post2", "post3"), 5, 1))
+                .thenReturn(Map.of("post2", loaded));
+
+        // when
+        var result = postResourceBundleService.getBundles(PostResultCache.View.SUMMARY, List.of("post1", "post2", "post3"));
+
+        // then
+        assertThat(result).containsEntry("post1", cached)
+                .containsEntry("post2", loaded)
+                .containsEntry("post3", PostResourceBundle.empty("post3"));
+        verify(postResourceBundleCache).putAll(PostResultCache.View.SUMMARY, List.of(loaded, PostResourceBundle.empty("post3")));
+    }
+
+    @Test
+    @DisplayName("상세 조회는 개수 제한 없이 전체 리소스를 읽는다")
+    void loadsDetailBundlesWithoutLimit() {
+        // given
+        when(contentResourceRepository.findBundlesByContentIdList(List.of("post1"), Integer.MAX_VALUE, Integer.MAX_VALUE))
+                .thenReturn(Map.of());
+
+        // when
+        var result = postResourceBundleService.getBundles(PostResultCache.View.DETAIL, List.of("post1"));
+
+        // then
+        assertThat(result).containsOnlyKeys("post1");
+        verifyNoInteractions(postConfiguration);
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB를 조회하지 않는다")
+    void skipsDatabaseWhenAllCached() {
+        // given
+        var cached = PostResourceBundle.empty("post1");
+        when(postResourceBundleCache.getAll(PostResultCache.View.SUMMARY, List.of("post1")))
+                .thenReturn(Map.of("post1", cached));
+
+        // when
+        var result = postResourceBundleService.getBundles(PostResultCache.View.SUMMARY, List.of("post1"));
+
+        // then
+        assertThat(result).containsEntry("post1", cached);
+        verify(contentResourceRepository, never()).findBundlesByContentIdList(anyList(), anyInt(), anyInt());
+    }
+}
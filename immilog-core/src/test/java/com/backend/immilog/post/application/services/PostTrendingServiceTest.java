@@ -0,0 +1,154 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingEntry;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
+import com.backend.immilog.post.domain.model.trending.TrendingScoreDelta;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.domain.repositories.TrendingPostRepository;
+import com.backend.immilog.post.domain.service.ranking.PostRankingModelType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostTrendingService")
+class PostTrendingServiceTest {
+
+    private final TrendingPostRepository trendingPostRepository = mock(TrendingPostRepository.class);
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+
+    private PostTrendingService postTrendingService;
+
+    @BeforeEach
+    void setUp() {
+        postTrendingService = serviceWith(PostRankingModelType.LINEAR);
+    }
+
+    private PostTrendingService serviceWith(PostRankingModelType rankingModel) {
+        var postConfiguration = new PostConfiguration();
+        postConfiguration.setRankingModel(rankingModel);
+        return new PostTrendingService(trendingPostRepository, postDomainRepository, postConfiguration);
+    }
+
+    private static TrendingPostMeta meta(
+            String postId,
+            String countryId,
+            LocalDateTime createdAt
+    ) {
+        return new TrendingPostMeta(postId, countryId, "GREEN_CARD", createdAt);
+    }
+
+    @Test
+    @DisplayName("조회는 가중치를 곱해 인기 순위에 국가·카테고리와 함께 반영한다")
+    void recordsViewsToBothMetrics() {
+        // given
+        when(postDomainRepository.findTrendingMetaByIdList(anyList()))
+                .thenReturn(Map.of("post1", meta("post1", "KR", null)));
+
+        // when
+        postTrendingService.recordAll(Map.of("post1", 3L), TrendingSignal.VIEW);
+
+        // then
+        var expected = List.of(new TrendingScoreDelta("post1", "KR", "GREEN_CARD", 3.0));
+        verify(trendingPostRepository).incrementScores(eq(TrendingMetric.HOT), any(LocalDate.class), eq(expected));
+        verifyNoMoreInteractions(trendingPostRepository);
+    }
+
+    @Test
+    @DisplayName("취소는 음수 점수로 반영하고 게시물 정보는 한 번만 조회한다")
+    void cancelsWithNegativeScoreAndCachesMeta() {
+        // given
+        when(postDomainRepository.findTrendingMetaByIdList(List.of("post1")))
+                .thenReturn(Map.of("post1", meta("post1", "JP", null)));
+
+        // when
+        postTrendingService.record("post1", TrendingSignal.LIKE, 1);
+        postTrendingService.record("post1", TrendingSignal.LIKE, -1);
+
+        // then
+        verify(trendingPostRepository).incrementScores(TrendingMetric.HOT, LocalDate.now(), List.of(new TrendingScoreDelta("post1", "JP", "GREEN_CARD", 3.0)));
+        verify(trendingPostRepository).incrementScores(TrendingMetric.HOT, LocalDate.now(), List.of(new TrendingScoreDelta("post1", "JP", "GREEN_CARD", -3.0)));
+        verify(trendingPostRepository, times(2)).incrementScores(any(), any(), anyList());
+        verify(postDomainRepository, times(1)).findTrendingMetaByIdList(anyList());
+    }
+
+    @Test
+    @DisplayName("지수 감쇠 모델은 버킷 시작 이후 경과 시간만큼 키운 점수를 더한다")
+    void scalesScoreIntoBucketForExponentialModel() {
+        // given
+        postTrendingService = serviceWith(PostRankingModelType.EXPONENTIAL);
+        when(postDomainRepository.findTrendingMetaByIdList(anyList()))
+                .thenReturn(Map.of("post1", meta("post1", "KR", null)));
+
+        // when
+        postTrendingService.record("post1", TrendingSignal.COMMENT, 1);
+
+        // then
+        verify(trendingPostRepository).incrementScores(
+                eq(TrendingMetric.HOT),
+                any(LocalDate.class),
+                argThat(deltas -> deltas.size() == 1 && deltas.getFirst().score() >= 5.0 && deltas.getFirst().score() < 10.0)
+        );
+    }
+
+    @Test
+    @DisplayName("Redis 장애는 원래 작업에 전파하지 않는다")
+    void swallowsRepositoryFailures() {
+        // given
+        doThrow(new IllegalStateException("redis down"))
+                .when(trendingPostRepository).incrementScores(any(), any(), anyList());
+
+        // when
+        postTrendingService.record("post1", TrendingSignal.COMMENT, 1);
+
+        // then
+        when(trendingPostRepository.findTopScores(any(), any(), any(), anyMap(), anyInt()))
+                .thenThrow(new IllegalStateException("redis down"));
+        assertThat(postTrendingService.topPostIds(TrendingMetric.HOT, null, null, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인기 순위는 설정된 기간의 버킷 가중치로 조회하고 최소 점수 미만은 제외한다")
+    void readsTopPostsWithConfiguredWindow() {
+        // given
+        when(trendingPostRepository.findTopScores(eq(TrendingMetric.HOT), eq("KR"), eq("GREEN_CARD"), argThat(weights -> weights.size() == 30), eq(5)))
+                .thenReturn(List.of(new TrendingEntry("post2", 20.0), new TrendingEntry("post1", 7.0), new TrendingEntry("post3", 2.0)));
+
+        // when
+        var result = postTrendingService.topPostIds(TrendingMetric.HOT, "KR", "GREEN_CARD", 5);
+
+        // then
+        assertThat(result).containsExactly("post2", "post1");
+    }
+
+    @Test
+    @DisplayName("중력 모델은 후보를 넉넉히 읽어 게시물 나이로 다시 정렬한다")
+    void reranksByPostAgeForGravityModel() {
+        // given
+        postTrendingService = serviceWith(PostRankingModelType.GRAVITY);
+        var now = LocalDateTime.now();
+        when(trendingPostRepository.findTopScores(eq(TrendingMetric.HOT), isNull(), isNull(), anyMap(), eq(100)))
+                .thenReturn(List.of(new TrendingEntry("old", 5_000.0), new TrendingEntry("new", 300.0)));
+        when(postDomainRepository.findTrendingMetaByIdList(anyList())).thenReturn(Map.of(
+                "old", meta("old", "KR", now.minusDays(20)),
+                "new", meta("new", "KR", now.minusHours(3))
+        ));
+
+        // when
+        var result = postTrendingService.topPostIds(TrendingMetric.HOT, null, null, 5);
+
+        // then
+        assertThat(result).containsExactly("new");
+    }
+}
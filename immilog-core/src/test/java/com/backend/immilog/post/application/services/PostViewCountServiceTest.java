@@ -0,0 +1,113 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCountService")
+class PostViewCountServiceTest {
+
+    @Mock
+    private PostDomainRepository postDomainRepository;
+    @Mock
+    private PostConfiguration postConfiguration;
+    @Mock
+    private PostTrendingService postTrendingService;
+    @Mock
+    private PostResultCache postResultCache;
+
+    @InjectMocks
+    private PostViewCountService postViewCountService;
+
+    @Test
+    @DisplayName("조회는 메모리에만 누적되고 반영 전까지 증가분을 조회할 수 있다")
+    void recordsViewsInMemory() {
+        // when
+        postViewCountService.recordView("post1");
+        postViewCountService.recordView("post1");
+
+        // then
+        assertThat(postViewCountService.pendingViews("post1")).isEqualTo(2);
+        assertThat(postViewCountService.pendingViews("post2")).isZero();
+        verifyNoInteractions(postDomainRepository);
+    }
+
+    @Test
+    @DisplayName("누적된 증가분을 한 번의 배치로 반영하고 트렌딩 순위와 캐시된 조회수에 더한다")
+    void flushesInSingleBatch() {
+        // given
+        when(postConfiguration.getViewCountFlushBatchSize()).thenReturn(500);
+        postViewCountService.recordView("post1");
+        postViewCountService.recordView("post1");
+        postViewCountService.recordView("post2");
+
+        // when
+        var flushed = postViewCountService.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(2);
+        verify(postDomainRepository).incrementViewCounts(Map.of("post1", 2L, "post2", 1L));
+        verify(postTrendingService).recordAll(Map.of("post1", 2L, "post2", 1L), TrendingSignal.VIEW);
+        verify(postResultCache).addViewCounts(Map.of("post1", 2L, "post2", 1L));
+        verify(postResultCache, never()).evictAll(anyCollection());
+        assertThat(postViewCountService.pendingViews("post1")).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 크기를 넘으면 나누어 반영한다")
+    void splitsIntoBatches() {
+        // given
+        when(postConfiguration.getViewCountFlushBatchSize()).thenReturn(2);
+        postViewCountService.recordView("post1");
+        postViewCountService.recordView("post2");
+        postViewCountService.recordView("post3");
+
+        // when
+        postViewCountService.flush();
+
+        // then
+        verify(postDomainRepository, times(2)).incrementViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 다시 누적해 다음 주기에 재시도한다")
+    void rebuffersOnFailure() {
+        // given
+        when(postConfiguration.getViewCountFlushBatchSize()).thenReturn(500);
+        when(postDomainRepository.incrementViewCounts(anyMap())).thenThrow(new RuntimeException("db down"));
+        postViewCountService.recordView("post1");
+
+        // when
+        var flushed = postViewCountService.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(postViewCountService.pendingViews("post1")).isEqualTo(1);
+        verifyNoInteractions(postResultCache, postTrendingService);
+    }
+
+    @Test
+    @DisplayName("누적된 증가분이 없으면 DB에 접근하지 않는다")
+    void skipsWhenNothingPending() {
+        // when
+        var flushed = postViewCountService.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        verifyNoInteractions(postDomainRepository, postResultCache);
+    }
+}
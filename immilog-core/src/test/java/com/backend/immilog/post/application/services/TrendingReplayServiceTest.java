@@ -0,0 +1,121 @@
+package com.backend.immilog.post.application.services;
+
+import com.backend.immilog.post.application.dto.in.TrendingReplayCommand;
+import com.backend.immilog.post.domain.model.trending.TrendingEvent;
+import com.backend.immilog.post.domain.model.trending.TrendingPostMeta;
+import com.backend.immilog.post.domain.model.trending.TrendingSignal;
+import com.backend.immilog.post.domain.repositories.TrendingEventRepository;
+import com.backend.immilog.post.domain.service.ranking.PostRankingModelType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrendingReplayService")
+class TrendingReplayServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 3, 11, 0, 0);
+
+    @Mock
+    private TrendingEventRepository trendingEventRepository;
+
+    @InjectMocks
+    private TrendingReplayService trendingReplayService;
+
+    private void givenEvents(List<TrendingEvent> events) {
+        doAnswer(invocation -> {
+            Consumer<TrendingEvent> consumer = invocation.getArgument(2);
+            events.forEach(consumer);
+            return null;
+        }).when(trendingEventRepository).forEachEventBetween(any(), any(), any());
+    }
+
+    private static TrendingEvent event(
+            String postId,
+            String countryId,
+            TrendingSignal signal,
+            LocalDateTime occurredAt
+    ) {
+        return new TrendingEvent(new TrendingPostMeta(postId, countryId, "GREEN_CARD", FROM), signal, occurredAt);
+    }
+
+    private static TrendingReplayCommand command(
+            PostRankingModelType model,
+            Map<TrendingSignal, Double> weights,
+            String countryId
+    ) {
+        return new TrendingReplayCommand(FROM, TO, model, Duration.ofHours(24), 1.8, weights, countryId, null, 0, 10);
+    }
+
+    @Test
+    @DisplayName("선형 모델은 운영 가중치로 합산해 점수 내림차순으로 반환한다")
+    void replaysWithProductionWeights() {
+        // given
+        givenEvents(List.of(
+                event("post1", "KR", TrendingSignal.LIKE, FROM.plusDays(1)),
+                event("post2", "KR", TrendingSignal.COMMENT, FROM.plusDays(2)),
+                event("post1", "KR", TrendingSignal.BOOKMARK, FROM.plusDays(3))
+        ));
+
+        // when
+        var result = trendingReplayService.replay(command(PostRankingModelType.LINEAR, Map.of(), null));
+
+        // then
+        assertThat(result).extracting("postId").containsExactly("post1", "post2");
+        assertThat(result.getFirst().score()).isEqualTo(7.0);
+        assertThat(result.get(1).score()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("지정한 가중치와 국가 범위로 다시 계산한다")
+    void replaysWithOverriddenWeightsAndScope() {
+        // given
+        givenEvents(List.of(
+                event("post1", "KR", TrendingSignal.LIKE, FROM.plusDays(1)),
+                event("post2", "KR", TrendingSignal.COMMENT, FROM.plusDays(2)),
+                event("post3", "JP", TrendingSignal.COMMENT, FROM.plusDays(2))
+        ));
+
+        // when
+        var result = trendingReplayService.replay(
+                command(PostRankingModelType.LINEAR, Map.of(TrendingSignal.LIKE, 10.0), "KR")
+        );
+
+        // then
+        assertThat(result).extracting("postId").containsExactly("post1", "post2");
+        assertThat(result.getFirst().score()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("지수 감쇠 모델은 재현 종료 시점 기준으로 감쇠한 점수를 계산한다")
+    void decaysToReplayEnd() {
+        // given
+        givenEvents(List.of(
+                event("old", "KR", TrendingSignal.COMMENT, TO.minusDays(3)),
+                event("recent", "KR", TrendingSignal.LIKE, TO.minusHours(12))
+        ));
+
+        // when
+        var result = trendingReplayService.replay(command(PostRankingModelType.EXPONENTIAL, Map.of(), null));
+
+        // then
+        assertThat(result).extracting("postId").containsExactly("recent", "old");
+        assertThat(result.getFirst().score()).isCloseTo(3.0 / Math.sqrt(2), within(1e-9));
+        assertThat(result.get(1).score()).isCloseTo(5.0 / 8, within(1e-9));
+    }
+}
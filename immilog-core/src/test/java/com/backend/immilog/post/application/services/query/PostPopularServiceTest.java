@@ -0,0 +1,194 @@
+package com.backend.immilog.post.application.services.query;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.dto.out.PopularPostMenuSnapshot;
+import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.application.dto.out.PostResultBatch;
+import com.backend.immilog.post.application.services.PostTrendingService;
+import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.model.trending.TrendingMetric;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.infrastructure.cache.PopularPostMenuSnapshotStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostPopularService")
+class PostPopularServiceTest {
+
+    private final PostQueryService postQueryService = mock(PostQueryService.class);
+    private final PostTrendingService postTrendingService = mock(PostTrendingService.class);
+    private final PostDomainRepository postDomainRepository = mock(PostDomainRepository.class);
+    private final PopularPostMenuSnapshotStore popularPostMenuSnapshotStore = mock(PopularPostMenuSnapshotStore.class);
+
+    private PostPopularService postPopularService;
+
+    @BeforeEach
+    void setUp() {
+        var postConfiguration = new PostConfiguration();
+        postConfiguration.setPopularPostLimit(2);
+        postPopularService = new PostPopularService(
+                postQueryService,
+                postTrendingService,
+                postDomainRepository,
+                popularPostMenuSnapshotStore,
+                postConfiguration
+        );
+    }
+
+    private static PostResultBatch batch(PostResult... posts) {
+        return new PostResultBatch(List.of(posts), false);
+    }
+
+    private static PostResult post(
+            String postId,
+            String country
+    ) {
+        return PostResult.builder().postId(postId).country(country).build();
+    }
+
+    @Test
+    @DisplayName("공개된 스냅샷이 있으면 게시물을 조회하지 않고 그대로 반환한다")
+    void servesPublishedSnapshot() {
+        // given
+        var snapshot = new PopularPostMenuSnapshot(3L, "KR", List.of(post("hot1", "KR")), List.of(post("best1", "KR")), LocalDateTime.now());
+        when(popularPostMenuSnapshotStore.find("KR")).thenReturn(Optional.of(snapshot));
+
+        // when
+        var result = postPopularService.getPopularPostMenu("KR");
+
+        // then
+        assertThat(result.hot()).extracting(PostResult::postId).containsExactly("hot1");
+        assertThat(result.weeklyBest()).extracting(PostResult::postId).containsExactly("best1");
+        verifyNoInteractions(postQueryService, postTrendingService);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 HOT과 주간 베스트 게시물을 한 번에 조회해 조립한다")
+    void assemblesMenuWithoutSnapshot() {
+        // given
+        when(popularPostMenuSnapshotStore.find(null)).thenReturn(Optional.empty());
+        when(postTrendingService.topPostIds(TrendingMetric.HOT, null, null, 2)).thenReturn(List.of("hot1", "hot2"));
+        when(postQueryService.findPostIdsByBadge(Badge.WEEKLY_BEST)).thenReturn(List.of("best1", "best2", "best3"));
+        when(postQueryService.getPostBatchByPostIdList(anyList())).thenReturn(batch(
+                post("hot1", "KR"), post("hot2", "JP"), post("best1", "KR"), post("best2", "JP"), post("best3", "KR")
+        ));
+
+        // when
+        var result = postPopularService.getPopularPostMenu();
+
+        // then
+        assertThat(result.hot()).extracting(PostResult::postId).containsExactly("hot1", "hot2");
+        assertThat(result.weeklyBest()).extracting(PostResult::postId).containsExactly("best1", "best2");
+        verify(postQueryService, times(1)).getPostBatchByPostIdList(anyList());
+    }
+
+    @Test
+    @DisplayName("재구성은 전체/국가별 메뉴를 한 번의 조회로 만들어 같은 버전으로 공개한다")
+    @SuppressWarnings("unchecked")
+    void rebuildsSnapshotsPerCountry() {
+        // given
+        when(postDomainRepository.findCountryIdsWithPostsSince(any(LocalDateTime.class), eq(50)))
+                .thenReturn(List.of("KR", "JP"));
+        when(postTrendingService.topPostIds(TrendingMetric.HOT, null, null, 2)).thenReturn(List.of("hot1", "hot2"));
+        when(postTrendingService.topPostIds(TrendingMetric.HOT, "KR", null, 2)).thenReturn(List.of("hot1"));
+        when(postTrendingService.topPostIds(TrendingMetric.HOT, "JP", null, 2)).thenReturn(List.of());
+        when(postQueryService.findPostIdsByBadge(Badge.WEEKLY_BEST)).thenReturn(List.of("best1", "best2"));
+        when(postQueryService.getPostBatchByPostIdList(anyList())).thenReturn(batch(
+                post("hot1", "KR"), post("hot2", "US"), post("best1", "KR"), post("best2", "US")
+        ));
+        when(popularPostMenuSnapshotStore.nextVersion()).thenReturn(7L);
+        when(popularPostMenuSnapshotStore.tryAcquireRebuildLock(anyString())).thenReturn(true);
+
+        // when
+        postPopularService.rebuildMenuSnapshot();
+
+        // then
+        var captor = ArgumentCaptor.forClass(Map.class);
+        verify(popularPostMenuSnapshotStore).publish(eq(7L), captor.capture());
+        var snapshots = (Map<String, PopularPostMenuSnapshot>) captor.getValue();
+        assertThat(snapshots).containsOnlyKeys(null, "KR", "JP");
+        assertThat(snapshots.values()).allMatch(snapshot -> snapshot.version() == 7L);
+        assertThat(snapshots.get("KR").hot()).extracting(PostResult::postId).containsExactly("hot1");
+        assertThat(snapshots.get("KR").weeklyBest()).extracting(PostResult::postId).containsExactly("best1");
+        assertThat(snapshots.get("JP").hot()).extracting(PostResult::postId).containsExactly("hot1", "hot2");
+        assertThat(snapshots.get("JP").weeklyBest()).extracting(PostResult::postId).containsExactly("best1", "best2");
+        verify(postQueryService, times(1)).getPostBatchByPostIdList(anyList());
+        verify(popularPostMenuSnapshotStore).releaseRebuildLock(anyString());
+    }
+
+    @Test
+    @DisplayName("보강 소스가 빈 결과로 대체되면 스냅샷을 공개하지 않고 잠금은 반환한다")
+    void skipsPublishWhenEnrichmentDegraded() {
+        // given
+        when(popularPostMenuSnapshotStore.tryAcquireRebuildLock(anyString())).thenReturn(true);
+        when(postDomainRepository.findCountryIdsWithPostsSince(any(LocalDateTime.class), eq(50))).thenReturn(List.of());
+        when(postTrendingService.topPostIds(TrendingMetric.HOT, null, null, 2)).thenReturn(List.of("hot1"));
+        when(postQueryService.findPostIdsByBadge(Badge.WEEKLY_BEST)).thenReturn(List.of());
+        when(postQueryService.getPostBatchByPostIdList(anyList()))
+                .thenReturn(new PostResultBatch(List.of(post("hot1", "KR")), true));
+
+        // when
+        postPopularService.rebuildMenuSnapshot();
+
+        // then
+        verify(popularPostMenuSnapshotStore, never()).nextVersion();
+        verify(popularPostMenuSnapshotStore, never()).publish(anyLong(), anyMap());
+        verify(popularPostMenuSnapshotStore).releaseRebuildLock(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 재구성 잠금을 가지고 있으면 재구성하지 않는다")
+    void skipsRebuildWithoutLock() {
+        // given
+        when(popularPostMenuSnapshotStore.tryAcquireRebuildLock(anyString())).thenReturn(false);
+
+        // when
+        postPopularService.rebuildMenuSnapshot();
+
+        // then
+        verify(popularPostMenuSnapshotStore, never()).nextVersion();
+        verify(popularPostMenuSnapshotStore, never()).publish(anyLong(), anyMap());
+        verifyNoInteractions(postQueryService, postTrendingService, postDomainRepository);
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 현재 스냅샷이 아직 새로우면 재구성하지 않는다")
+    void skipsRefreshWhenSnapshotIsFresh() {
+        // given
+        var snapshot = new PopularPostMenuSnapshot(3L, null, List.of(), List.of(), LocalDateTime.now().minusSeconds(10));
+        when(popularPostMenuSnapshotStore.find(null)).thenReturn(Optional.of(snapshot));
+
+        // when
+        postPopularService.refreshMenuSnapshotIfStale();
+
+        // then
+        verify(popularPostMenuSnapshotStore, never()).tryAcquireRebuildLock(anyString());
+    }
+
+    @Test
+    @DisplayName("주기 갱신은 현재 스냅샷이 오래되었으면 재구성한다")
+    void rebuildsWhenSnapshotIsStale() {
+        // given
+        var snapshot = new PopularPostMenuSnapshot(3L, null, List.of(), List.of(), LocalDateTime.now().minusMinutes(10));
+        when(popularPostMenuSnapshotStore.find(null)).thenReturn(Optional.of(snapshot));
+        when(popularPostMenuSnapshotStore.tryAcquireRebuildLock(anyString())).thenReturn(true);
+        when(popularPostMenuSnapshotStore.nextVersion()).thenReturn(4L);
+
+        // when
+        postPopularService.refreshMenuSnapshotIfStale();
+
+        // then
+        verify(popularPostMenuSnapshotStore).publish(eq(4L), anyMap());
+    }
+}
@@ -1,21 +1,33 @@
 package com.backend.immilog.post.application.services.query;
 
+import com.backend.immilog.post.application.config.PostConfiguration;
 import com.backend.immilog.post.application.dto.out.PostResult;
 import com.backend.immilog.post.application.mapper.PostResultAssembler;
 import com.backend.immilog.post.application.mapper.PostResultConverter;
 import com.backend.immilog.post.application.services.PostCommentDataService;
+import com.backend.immilog.post.application.services.PostResourceBundleService;
+import com.backend.immilog.post.application.services.PostViewCountService;
 import com.backend.immilog.post.domain.model.post.*;
-import com.backend.immilog.post.domain.repositories.ContentResourceRepository;
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
 import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.domain.search.PostSearchEngine;
+import com.backend.immilog.post.domain.search.PostSearchHit;
+import com.backend.immilog.post.domain.search.PostSearchPage;
 import com.backend.immilog.post.domain.service.PostScoreCalculator;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.post.infrastructure.cache.PostFeedPageCache;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
+import com.backend.immilog.shared.domain.model.CommentCounts;
+import com.backend.immilog.shared.domain.model.InteractionData;
+import com.backend.immilog.shared.domain.model.UserData;
 import com.backend.immilog.shared.enums.ContentType;
 import com.backend.immilog.shared.infrastructure.DataRepository;
 import com.backend.immilog.shared.infrastructure.event.EventResultStorageService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,8 +38,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,7 +60,7 @@ class PostQueryServiceTest {
     @Mock
     private DataRepository redisDataRepository;
     @Mock
-    private ContentResourceRepository contentResourceRepository;
+    private PostResourceBundleService postResourceBundleService;
     @Mock
     private PostResultAssembler postResultAssembler;
     @Mock
@@ -55,6 +71,16 @@ class PostQueryServiceTest {
     private PostResultConverter postResultConverter;
     @Mock
     private PostScoreCalculator postScoreCalculator;
+    @Mock
+    private PostConfiguration postConfiguration;
+    @Mock
+    private PostSearchEngine postSearchEngine;
+    @Mock
+    private PostResultCache postResultCache;
+    @Mock
+    private PostFeedPageCache postFeedPageCache;
+    @Mock
+    private PostViewCountService postViewCountService;
 
     @InjectMocks
     private PostQueryService postQueryService;
@@ -68,6 +94,8 @@ class PostQueryServiceTest {
         testPost = createTestPost();
         testPostResult = createTestPostResult();
         testPageable = PageRequest.of(0, 10);
+        lenient().when(postConfiguration.getEnrichmentTimeout()).thenReturn(Duration.ofSeconds(3));
+        lenient().when(postConfiguration.getEventTimeout()).thenReturn(Duration.ofSeconds(2));
     }
 
     @Nested
@@ -127,6 +155,7 @@ class PostQueryServiceTest {
             Page<Post> postsPage = new PageImpl<>(List.of(testPost), testPageable, 1);
             Page<PostResult> postResultsPage = new PageImpl<>(List.of(testPostResult), testPageable, 1);
 
+            mockFeedPageCacheMiss();
             when(postDomainRepository.findPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.QNA, testPageable))
                     .thenReturn(postsPage);
             when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
@@ -135,24 +164,54 @@ class PostQueryServiceTest {
             Page<PostResult> result = postQueryService.getPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.QNA, testPageable);
 
             assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getTotalElements()).isEqualTo(1);
             verify(postDomainRepository).findPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.QNA, testPageable);
+            verify(postDomainRepository, never()).findPostSummariesByIdList(anyList());
+            verify(postResultCache).put(PostResultCache.View.SUMMARY, testPostResult);
+        }
+
+        @Test
+        @DisplayName("페이지 캐시 적중 시 목록 조회 없이 게시물 캐시로 조립")
+        void getPostsFromFeedPageCache() {
+            var key = new PostFeedPageCache.FeedPageKey("KR", Categories.QNA, SortingMethods.CREATED_DATE, "Y", 0, 10);
+            when(postFeedPageCache.get(eq(key), any())).thenReturn(new PostFeedPageCache.FeedPage(List.of("post123"), 42));
+            when(postResultCache.getAll(PostResultCache.View.SUMMARY, List.of("post123"))).thenReturn(Map.of("post123", testPostResult));
+
+            Page<PostResult> result = postQueryService.getPosts("KR", SortingMethods.CREATED_DATE, "Y", Categories.QNA, testPageable);
+
+            assertThat(result.getContent()).containsExactly(testPostResult);
+            assertThat(result.getTotalElements()).isEqualTo(42);
+            verifyNoInteractions(postDomainRepository, eventResultStorageService);
         }
 
         @Test
         @DisplayName("키워드 검색 성공")
         void getPostsByKeywordSuccess() {
-            Page<Post> postsPage = new PageImpl<>(List.of(testPost), testPageable, 1);
             Page<PostResult> postResultsPage = new PageImpl<>(List.of(testPostResult), testPageable, 1);
+            PostSearchHit hit = new PostSearchHit("post123", 1.5, 0, 5, 4);
 
-            when(postDomainRepository.findPostsByKeyword("java", testPageable)).thenReturn(postsPage);
+            when(postSearchEngine.search("java", testPageable)).thenReturn(new PostSearchPage(List.of(hit), 1));
+            when(postDomainRepository.findPostsByIdList(List.of("post123"))).thenReturn(List.of(testPost));
             when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
-            when(postResultAssembler.assembleKeywords(testPostResult, "java")).thenReturn(testPostResult);
+            when(postResultAssembler.assembleKeywords(testPostResult, "java", hit)).thenReturn(testPostResult);
             mockAssemblePostResult(postResultsPage);
 
             Page<PostResult> result = postQueryService.getPostsByKeyword("java", testPageable);
 
             assertThat(result.getContent()).hasSize(1);
-            verify(postResultAssembler).assembleKeywords(testPostResult, "java");
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            verify(postResultAssembler).assembleKeywords(testPostResult, "java", hit);
+        }
+
+        @Test
+        @DisplayName("검색 결과가 없으면 게시물 조회와 보강 없이 빈 페이지 반환")
+        void getPostsByKeywordNoHits() {
+            when(postSearchEngine.search("없는검색어", testPageable)).thenReturn(PostSearchPage.empty());
+
+            Page<PostResult> result = postQueryService.getPostsByKeyword("없는검색어", testPageable);
+
+            assertThat(result.getContent()).isEmpty();
+            verifyNoInteractions(postDomainRepository, eventResultStorageService);
         }
 
         @Test
@@ -172,6 +231,62 @@ class PostQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 기반 피드 조회")
+    class GetPostFeed {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 인코딩된 커서를 반환")
+        void getPostFeedWithNextCursor() {
+            // given
+            var nextCursor = PostCursor.of(SortingMethods.CREATED_DATE, LocalDateTime.of(2024, 1, 1, 10, 0), "post123");
+            when(postConfiguration.getMaxFeedPageSize()).thenReturn(50);
+            when(postDomainRepository.findPostsByCursor("KR", SortingMethods.CREATED_DATE, "Y", Categories.QNA, null, 10))
+                    .thenReturn(new PostSlice(List.of(testPost), nextCursor, true));
+            when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
+            mockAssemblePostResult(new PageImpl<>(List.of(testPostResult)));
+
+            // when
+            var result = postQueryService.getPostFeed("KR", null, "Y", Categories.QNA, null, 10);
+
+            // then
+            assertThat(result.posts()).containsExactly(testPostResult);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(PostCursor.decode(result.nextCursor(), SortingMethods.CREATED_DATE)).isEqualTo(nextCursor);
+        }
+
+        @Test
+        @DisplayName("요청 크기가 최대값을 넘으면 최대값으로 제한하고, 빈 결과는 보강 없이 반환")
+        void getPostFeedClampsPageSize() {
+            // given
+            when(postConfiguration.getMaxFeedPageSize()).thenReturn(50);
+            when(postDomainRepository.findPostsByCursor(any(), eq(SortingMethods.VIEW_COUNT), any(), any(), any(), eq(50)))
+                    .thenReturn(PostSlice.empty());
+
+            // when
+            var result = postQueryService.getPostFeed("KR", SortingMethods.VIEW_COUNT, "Y", Categories.ALL, null, 500);
+
+            // then
+            assertThat(result.posts()).isEmpty();
+            assertThat(result.nextCursor()).isNull();
+            assertThat(result.hasNext()).isFalse();
+            verifyNoInteractions(eventResultStorageService);
+        }
+
+        @Test
+        @DisplayName("다른 정렬 기준의 커서를 전달하면 예외 발생")
+        void getPostFeedWithMismatchedCursor() {
+            // given
+            var cursor = PostCursor.of(SortingMethods.VIEW_COUNT, 100L, "post123").encode();
+
+            // when & then
+            assertThatThrownBy(() -> postQueryService.getPostFeed("KR", SortingMethods.CREATED_DATE, "Y", Categories.ALL, cursor, 10))
+                    .isInstanceOf(PostException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+
     @Nested
     @DisplayName("게시물 상세 조회")
     class GetPostDetail {
@@ -188,6 +303,30 @@ class PostQueryServiceTest {
             PostResult result = postQueryService.getPostDetail("post123");
 
             assertThat(result).isEqualTo(testPostResult);
+            verify(postResultCache).put(PostResultCache.View.DETAIL, testPostResult);
+        }
+
+        @Test
+        @DisplayName("캐시에 있으면 DB 조회와 보강 없이 반환")
+        void getPostDetailFromCache() {
+            when(postResultCache.get(PostResultCache.View.DETAIL, "post123")).thenReturn(Optional.of(testPostResult));
+
+            PostResult result = postQueryService.getPostDetail("post123");
+
+            assertThat(result).isEqualTo(testPostResult);
+            verifyNoInteractions(postDomainRepository, eventResultStorageService);
+        }
+
+        @Test
+        @DisplayName("아직 반영되지 않은 조회수 증가분을 더해 반환")
+        void getPostDetailAddsPendingViews() {
+            var cachedResult = testPostResult.toBuilder().viewCount(10L).build();
+            when(postResultCache.get(PostResultCache.View.DETAIL, "post123")).thenReturn(Optional.of(cachedResult));
+            when(postViewCountService.pendingViews("post123")).thenReturn(3L);
+
+            PostResult result = postQueryService.getPostDetail("post123");
+
+            assertThat(result.viewCount()).isEqualTo(13L);
         }
 
         @Test
@@ -251,31 +390,159 @@ class PostQueryServiceTest {
         @Test
         @DisplayName("게시물 ID 리스트로 조회 성공")
         void getPostsByPostIdListSuccess() {
-            List<String> postIds = List.of("post1", "post2");
+            List<String> postIds = List.of("post123", "post2");
             List<Post> posts = List.of(testPost);
             Page<PostResult> postResultsPage = new PageImpl<>(List.of(testPostResult));
 
-            when(postDomainRepository.findPostsByIdList(postIds)).thenReturn(posts);
+            when(postDomainRepository.findPostSummariesByIdList(postIds)).thenReturn(posts);
             when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
             mockAssemblePostResult(postResultsPage);
 
             List<PostResult> result = postQueryService.getPostsByPostIdList(postIds);
 
             assertThat(result).hasSize(1);
-            verify(postDomainRepository).findPostsByIdList(postIds);
+            verify(postDomainRepository).findPostSummariesByIdList(postIds);
+            verify(postResultCache).put(PostResultCache.View.SUMMARY, testPostResult);
+        }
+
+        @Test
+        @DisplayName("캐시에 없는 게시물만 조회하고 요청 순서대로 반환")
+        void getPostsByPostIdListPartiallyCached() {
+            PostResult cachedResult = testPostResult.toBuilder().postId("cached1").build();
+            List<String> postIds = List.of("cached1", "post123");
+            Page<PostResult> postResultsPage = new PageImpl<>(List.of(testPostResult));
+
+            when(postResultCache.getAll(PostResultCache.View.SUMMARY, postIds)).thenReturn(Map.of("cached1", cachedResult));
+            when(postDomainRepository.findPostSummariesByIdList(List.of("post123"))).thenReturn(List.of(testPost));
+            when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
+            mockAssemblePostResult(postResultsPage);
+
+            List<PostResult> result = postQueryService.getPostsByPostIdList(postIds);
+
+            assertThat(result).containsExactly(cachedResult, testPostResult);
         }
 
         @Test
         @DisplayName("빈 ID 리스트로 조회")
         void getPostsByEmptyIdList() {
             List<String> emptyIds = Collections.emptyList();
-            List<Post> posts = Collections.emptyList();
-
-            when(postDomainRepository.findPostsByIdList(emptyIds)).thenReturn(posts);
 
             List<PostResult> result = postQueryService.getPostsByPostIdList(emptyIds);
 
             assertThat(result).isEmpty();
+            verify(postDomainRepository, never()).findPostSummariesByIdList(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("보강 조회 마감 시각")
+    class EnrichmentDeadline {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @AfterEach
+        void releaseBlockedSources() {
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("마감 시각을 넘긴 보강 소스만 기본값으로 대체하고 나머지 결과는 그대로 사용한다")
+        void slowSourceFallsBackToDefault() {
+            // given
+            var bundle = new PostResourceBundle("post123", List.of("tag"), List.of());
+            var interaction = new InteractionData("i1", "post123", "user9", "ACTIVE", "LIKE", "POST");
+            when(postConfiguration.getEnrichmentTimeout()).thenReturn(Duration.ofMillis(100));
+            when(postDomainRepository.findPostSummariesByIdList(List.of("post123"))).thenReturn(List.of(testPost));
+            when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
+            when(eventResultStorageService.generateRequestId("user")).thenReturn("user-req-123");
+            when(eventResultStorageService.generateRequestId("interaction")).thenReturn("interaction-req-123");
+            when(eventResultStorageService.awaitUserData(eq("user-req-123"), any())).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(List.of(new UserData("user123", "nick", null, "KR", "Seoul")));
+            });
+            when(eventResultStorageService.awaitInteractionData(eq("interaction-req-123"), any())).thenReturn(Optional.of(List.of(interaction)));
+            when(postCommentDataService.findCommentCounts(anyList())).thenReturn(Optional.of(new CommentCounts(Map.of("post123", 7L))));
+            when(postResourceBundleService.getBundles(PostResultCache.View.SUMMARY, List.of("post123"))).thenReturn(Map.of("post123", bundle));
+            when(postResultAssembler.assemble(any(PostResult.class), any(), anyList(), any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            var result = postQueryService.getPostsByPostIdList(List.of("post123"));
+
+            // then
+            assertThat(result).hasSize(1);
+            verify(postResultAssembler).assemble(testPostResult, null, List.of(interaction), bundle, 7L);
+            verify(postResultCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("이벤트 응답 대기가 시간 초과되어 빈 결과를 받은 소스가 있으면 조립 결과를 캐시에 넣지 않는다")
+        void innerWaitTimeoutIsNotCached() {
+            // given
+            when(postDomainRepository.findPostSummariesByIdList(List.of("post123"))).thenReturn(List.of(testPost));
+            when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
+            when(eventResultStorageService.generateRequestId(anyString())).thenReturn("req-123");
+            when(eventResultStorageService.awaitUserData(any(), any())).thenReturn(Optional.empty());
+            when(eventResultStorageService.awaitInteractionData(any(), any())).thenReturn(Optional.of(List.of()));
+            when(postCommentDataService.findCommentCounts(anyList())).thenReturn(Optional.of(CommentCounts.empty()));
+            when(postResultAssembler.assemble(any(PostResult.class), any(), anyList(), any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            var result = postQueryService.getPostBatchByPostIdList(List.of("post123"));
+
+            // then
+            assertThat(result.posts()).containsExactly(testPostResult);
+            assertThat(result.degraded()).isTrue();
+            verify(postResultCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("상세 조회도 보강 소스가 빈 결과로 대체되면 캐시에 넣지 않는다")
+        void degradedDetailIsNotCached() {
+            // given
+            when(postDomainRepository.findById("post123")).thenReturn(Optional.of(testPost));
+            when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
+            when(eventResultStorageService.generateRequestId(anyString())).thenReturn("req-123");
+            when(eventResultStorageService.awaitUserData(any(), any())).thenReturn(Optional.of(List.of()));
+            when(eventResultStorageService.awaitInteractionData(any(), any())).thenReturn(Optional.of(List.of()));
+            when(postCommentDataService.findCommentCounts(anyList())).thenReturn(Optional.empty());
+            when(postResultAssembler.assemble(any(PostResult.class), any(), anyList(), any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            var result = postQueryService.getPostDetail("post123");
+
+            // then
+            assertThat(result).isEqualTo(testPostResult);
+            verify(postResultCache, never()).put(any(), any());
+        }
+
+        @Test
+        @DisplayName("모든 보강 소스는 하나의 마감 시각을 공유하므로 느린 소스가 여럿이어도 대기 시간이 늘어나지 않는다")
+        void sourcesShareSingleDeadline() {
+            // given
+            when(postConfiguration.getEnrichmentTimeout()).thenReturn(Duration.ofMillis(200));
+            when(postDomainRepository.findPostSummariesByIdList(List.of("post123"))).thenReturn(List.of(testPost));
+            when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
+            when(eventResultStorageService.generateRequestId(anyString())).thenReturn("req-123");
+            when(eventResultStorageService.awaitUserData(any(), any())).thenAnswer(invocation -> blockUntilReleased(Optional.of(List.of())));
+            when(eventResultStorageService.awaitInteractionData(any(), any())).thenAnswer(invocation -> blockUntilReleased(Optional.of(List.of())));
+            when(postCommentDataService.findCommentCounts(anyList())).thenAnswer(invocation -> blockUntilReleased(Optional.of(CommentCounts.empty())));
+            when(postResourceBundleService.getBundles(any(), anyList())).thenAnswer(invocation -> blockUntilReleased(Map.of()));
+            when(postResultAssembler.assemble(any(PostResult.class), any(), anyList(), any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            var startedAt = System.nanoTime();
+            var result = postQueryService.getPostsByPostIdList(List.of("post123"));
+            var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(elapsed).isLessThan(Duration.ofMillis(600));
+            verify(postResultAssembler).assemble(testPostResult, null, List.of(), null, 0L);
+        }
+
+        private <T> T blockUntilReleased(T value) throws InterruptedException {
+            release.await(5, TimeUnit.SECONDS);
+            return value;
         }
     }
 
@@ -323,38 +590,42 @@ class PostQueryServiceTest {
     class WeeklyBestPosts {
 
         @Test
-        @DisplayName("주간 베스트 게시물 조회 성공")
+        @DisplayName("DB에서 선정한 상위 게시물만 보강해 점수 순서대로 반환")
         void getWeeklyBestPostsSuccess() {
             LocalDateTime from = LocalDateTime.now().minusDays(7);
             LocalDateTime to = LocalDateTime.now();
-            List<Post> posts = List.of(testPost);
             Page<PostResult> postResultsPage = new PageImpl<>(List.of(testPostResult));
 
-            when(postDomainRepository.findPostsInPeriod(from, to)).thenReturn(posts);
+            when(postScoreCalculator.weights()).thenReturn(PostScoreWeights.DEFAULT);
+            when(postConfiguration.getMinViewCount()).thenReturn(10);
+            when(postConfiguration.getMinCommentCount()).thenReturn(2);
+            when(postConfiguration.getWeeklyBestLimit()).thenReturn(10);
+            when(postDomainRepository.findTopScoredPostIdsInPeriod(from, to, PostScoreWeights.DEFAULT, 10, 2, 10))
+                    .thenReturn(List.of("post123"));
+            when(postDomainRepository.findPostSummariesByIdList(List.of("post123"))).thenReturn(List.of(testPost));
             when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
-            when(postScoreCalculator.calculate(testPostResult)).thenReturn(100.0);
             mockAssemblePostResult(postResultsPage);
 
             List<PostResult> result = postQueryService.getWeeklyBestPosts(from, to);
 
-            assertThat(result).isNotNull();
-            verify(postDomainRepository).findPostsInPeriod(from, to);
-            verify(postScoreCalculator).calculate(testPostResult);
+            assertThat(result).containsExactly(testPostResult);
+            verify(postScoreCalculator, never()).calculate(any());
         }
 
         @Test
-        @DisplayName("조건에 맞지 않는 게시물 제외")
-        void getWeeklyBestPostsFilterConditions() {
+        @DisplayName("조건을 충족하는 게시물이 없으면 보강 조회를 하지 않음")
+        void getWeeklyBestPostsWithoutCandidates() {
             LocalDateTime from = LocalDateTime.now().minusDays(7);
             LocalDateTime to = LocalDateTime.now();
-            Post lowViewPost = createLowEngagementPost();
-            List<Post> posts = List.of(lowViewPost);
 
-            when(postDomainRepository.findPostsInPeriod(from, to)).thenReturn(posts);
+            when(postDomainRepository.findTopScoredPostIdsInPeriod(eq(from), eq(to), any(), anyInt(), anyInt(), anyInt()))
+                    .thenReturn(List.of());
 
             List<PostResult> result = postQueryService.getWeeklyBestPosts(from, to);
 
-            assertThat(result).isNotNull();
+            assertThat(result).isEmpty();
+            verify(postDomainRepository, never()).findPostSummariesByIdList(anyList());
+            verifyNoInteractions(eventResultStorageService);
         }
     }
 
@@ -374,7 +645,7 @@ class PostQueryServiceTest {
             when(eventResultStorageService.generateRequestId("bookmark")).thenReturn("bookmark-req-123");
             when(eventResultStorageService.waitForBookmarkData(eq("bookmark-req-123"), any()))
                     .thenReturn(bookmarkedPostIds);
-            when(postDomainRepository.findPostsByIdList(bookmarkedPostIds)).thenReturn(posts);
+            when(postDomainRepository.findPostSummariesByIdList(bookmarkedPostIds)).thenReturn(posts);
             when(postResultConverter.convertToPostResult(testPost)).thenReturn(testPostResult);
             mockAssemblePostResult(postResultsPage);
 
@@ -401,18 +672,19 @@ class PostQueryServiceTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void mockFeedPageCacheMiss() {
+        when(postFeedPageCache.get(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<PostFeedPageCache.FeedPage>) invocation.getArgument(1)).get());
+    }
+
     private void mockAssemblePostResult(Page<PostResult> expectedResult) {
         when(eventResultStorageService.generateRequestId("user")).thenReturn("user-req-123");
         when(eventResultStorageService.generateRequestId("interaction")).thenReturn("interaction-req-123");
-        when(eventResultStorageService.waitForUserData(eq("user-req-123"), any())).thenReturn(Collections.emptyList());
-        when(eventResultStorageService.waitForInteractionData(eq("interaction-req-123"), any())).thenReturn(Collections.emptyList());
-        when(postCommentDataService.getCommentData(anyList())).thenReturn(Collections.emptyList());
-        when(contentResourceRepository.findAllByContentIdList(anyList(), any())).thenReturn(Collections.emptyList());
-        when(postResultAssembler.assembleUserData(any(PostResult.class), isNull())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(postResultAssembler.assembleInteractionData(any(PostResult.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(postResultAssembler.assembleResources(any(PostResult.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(postResultAssembler.assembleLikeCount(any(PostResult.class), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
-        when(postResultAssembler.assembleCommentCount(any(PostResult.class), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventResultStorageService.awaitUserData(eq("user-req-123"), any())).thenReturn(Optional.of(Collections.emptyList()));
+        when(eventResultStorageService.awaitInteractionData(eq("interaction-req-123"), any())).thenReturn(Optional.of(Collections.emptyList()));
+        when(postCommentDataService.findCommentCounts(anyList())).thenReturn(Optional.of(CommentCounts.empty()));
+        when(postResultAssembler.assemble(any(PostResult.class), isNull(), anyList(), isNull(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     private Post createTestPost() {
@@ -429,24 +701,6 @@ class PostQueryServiceTest {
         );
     }
 
-    private Post createLowEngagementPost() {
-        Post post = new Post(
-                PostId.of("post456"),
-                new PostUserInfo("user123"),
-                PostInfo.of("Low Engagement Post", "Content", "KR", "Seoul"),
-                Categories.QNA,
-                PublicStatus.PUBLIC,
-                null,
-                CommentCount.of(1L),
-                LocalDateTime.now(),
-                LocalDateTime.now()
-        );
-        for(int i = 0 ; i < 5 ; i++){
-            post.increaseViewCount();
-        }
-        return post;
-    }
-
     private PostResult createTestPostResult() {
         return PostResult.builder()
                 .postId("post123")
@@ -1,12 +1,14 @@
 package com.backend.immilog.post.application.usecase;
 
 import com.backend.immilog.post.application.dto.in.PostUploadCommand;
+import com.backend.immilog.post.application.services.PostSearchIndexService;
 import com.backend.immilog.post.application.services.UserValidationService;
 import com.backend.immilog.post.application.services.command.BulkCommandService;
 import com.backend.immilog.post.domain.service.PostDomainService;
 import com.backend.immilog.post.domain.model.post.*;
 import com.backend.immilog.post.exception.PostErrorCode;
 import com.backend.immilog.post.exception.PostException;
+import com.backend.immilog.post.infrastructure.cache.PostFeedPageCache;
 import com.backend.immilog.shared.domain.service.UserDataProvider;
 import com.backend.immilog.shared.domain.model.UserData;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +45,12 @@ class CreatePostUseCaseTest {
     @Mock
     private UserDataProvider userDataProvider;
 
+    @Mock
+    private PostSearchIndexService postSearchIndexService;
+
+    @Mock
+    private PostFeedPageCache postFeedPageCache;
+
     @InjectMocks
     private UploadPostUseCase.UploaderPost uploadPostUseCase;
 
@@ -81,6 +89,7 @@ class CreatePostUseCaseTest {
             verify(userValidationService).validateUser("user123");
             verify(postDomainService).createPost(any(Post.class));
             verify(bulkCommandService).saveAll(anyList(), anyString(), any());
+            verify(postFeedPageCache).invalidateFirstPages(savedPost.countryId());
         }
 
         @Test
@@ -0,0 +1,18 @@
+package com.backend.immilog.post.domain.model;
+
+import com.backend.immilog.post.domain.model.post.Badge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Badge")
+class BadgeTest {
+
+    @Test
+    @DisplayName("주간 베스트는 HOT 배지를 덮어쓰고, HOT은 다른 배지를 덮어쓰지 않는다")
+    void onlyWeeklyBestOverridesOtherBadges() {
+        assertThat(Badge.WEEKLY_BEST.overridesOtherBadges()).isTrue();
+        assertThat(Badge.HOT.overridesOtherBadges()).isFalse();
+    }
+}
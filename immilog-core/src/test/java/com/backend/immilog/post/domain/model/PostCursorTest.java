@@ -0,0 +1,64 @@
+package com.backend.immilog.post.domain.model;
+
+import com.backend.immilog.post.domain.model.post.PostCursor;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.post.exception.PostErrorCode;
+import com.backend.immilog.post.exception.PostException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PostCursor Value Object")
+class PostCursorTest {
+
+    @Test
+    @DisplayName("작성일 커서를 인코딩 후 디코딩하면 같은 값으로 복원")
+    void roundTripCreatedDateCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        PostCursor cursor = PostCursor.of(SortingMethods.CREATED_DATE, createdAt, "V1StGXR8_Z5jdHi6B-myT");
+
+        PostCursor decoded = PostCursor.decode(cursor.encode(), SortingMethods.CREATED_DATE);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.sortValue()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("카운트 정렬 커서의 정렬 키는 long으로 바인딩")
+    void countCursorSortValueIsLong() {
+        PostCursor cursor = PostCursor.of(SortingMethods.LIKE_COUNT, 42L, "post123");
+
+        PostCursor decoded = PostCursor.decode(cursor.encode(), SortingMethods.LIKE_COUNT);
+
+        assertThat(decoded.sortValue()).isEqualTo(42L);
+        assertThat(decoded.postId()).isEqualTo("post123");
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지를 의미하므로 null 반환")
+    void blankCursorMeansFirstPage() {
+        assertThat(PostCursor.decode(null, SortingMethods.CREATED_DATE)).isNull();
+        assertThat(PostCursor.decode("", SortingMethods.CREATED_DATE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Base64가 아니거나 형식이 잘못된 커서는 예외 발생")
+    void malformedCursorThrows() {
+        String notANumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("VIEW_COUNT|abc|post123".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PostCursor.decode("!!not-base64!!", SortingMethods.CREATED_DATE))
+                .isInstanceOf(PostException.class)
+                .extracting("errorCode")
+                .isEqualTo(PostErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> PostCursor.decode(notANumber, SortingMethods.VIEW_COUNT))
+                .isInstanceOf(PostException.class)
+                .extracting("errorCode")
+                .isEqualTo(PostErrorCode.INVALID_CURSOR);
+    }
+}
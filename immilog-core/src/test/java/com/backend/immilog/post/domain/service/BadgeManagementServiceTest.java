@@ -0,0 +1,79 @@
+package com.backend.immilog.post.domain.service;
+
+import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.post.domain.repositories.PostDomainRepository;
+import com.backend.immilog.post.infrastructure.cache.PostResultCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BadgeManagementService")
+class BadgeManagementServiceTest {
+
+    @Mock
+    private PostDomainRepository postDomainRepository;
+    @Mock
+    private PostResultCache postResultCache;
+
+    @InjectMocks
+    private BadgeManagementService badgeManagementService;
+
+    private static PostResult postResult(String postId) {
+        return PostResult.builder().postId(postId).build();
+    }
+
+    @Test
+    @DisplayName("배지 적용은 한 번의 일괄 갱신으로 처리하고 실제로 적용된 게시물만 캐시에서 지운다")
+    void appliesBadgeInBulk() {
+        // given
+        when(postDomainRepository.applyBadge(List.of("post1", "post2", "post3"), Badge.HOT))
+                .thenReturn(List.of("post1", "post3"));
+
+        // when
+        var result = badgeManagementService.applyBadge(
+                List.of(postResult("post1"), postResult("post2"), postResult("post3"), postResult("post1")),
+                Badge.HOT
+        );
+
+        // then
+        assertThat(result).containsExactly("post1", "post3");
+        verify(postDomainRepository, times(1)).applyBadge(anyList(), eq(Badge.HOT));
+        verify(postResultCache).evictAll(List.of("post1", "post3"));
+    }
+
+    @Test
+    @DisplayName("적용할 게시물이 없으면 DB를 갱신하지 않는다")
+    void skipsEmptyApply() {
+        // when
+        var result = badgeManagementService.applyBadge(List.of(), Badge.WEEKLY_BEST);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(postDomainRepository, postResultCache);
+    }
+
+    @Test
+    @DisplayName("배지 해제는 한 번의 일괄 갱신으로 처리하고 해제된 게시물을 캐시에서 지운다")
+    void clearsBadgeInBulk() {
+        // given
+        when(postDomainRepository.clearBadge(Badge.WEEKLY_BEST)).thenReturn(List.of("post1", "post2"));
+
+        // when
+        var result = badgeManagementService.clearBadge(Badge.WEEKLY_BEST);
+
+        // then
+        assertThat(result).containsExactly("post1", "post2");
+        verify(postResultCache).evictAll(List.of("post1", "post2"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.backend.immilog.post.domain.service.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("PostRankingModel")
+class PostRankingModelTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Nested
+    @DisplayName("지수 감쇠 모델")
+    class ExponentialDecay {
+        private final PostRankingModel model = new ExponentialDecayRankingModel(Duration.ofHours(24));
+
+        @Test
+        @DisplayName("버킷 점수와 버킷 가중치의 곱은 발생 이후 반감기마다 절반이 된다")
+        void halvesEveryHalfLife() {
+            // given
+            var occurredAt = DAY.atTime(18, 0);
+            var stored = model.bucketScore(10, occurredAt, DAY);
+
+            // when
+            var afterOneHalfLife = stored * model.bucketWeight(DAY, occurredAt.plusHours(24));
+            var afterTwoHalfLives = stored * model.bucketWeight(DAY, occurredAt.plusHours(48));
+
+            // then
+            assertThat(stored * model.bucketWeight(DAY, occurredAt)).isCloseTo(10.0, within(1e-9));
+            assertThat(afterOneHalfLife).isCloseTo(5.0, within(1e-9));
+            assertThat(afterTwoHalfLives).isCloseTo(2.5, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("같은 시점에서는 최근 행동이 오래된 행동보다 높은 점수를 받는다")
+        void favorsRecentActivity() {
+            // given
+            var now = DAY.plusDays(3).atTime(12, 0);
+            var oldDay = DAY;
+            var recentDay = DAY.plusDays(3);
+
+            // when
+            var old = model.bucketScore(10, oldDay.atTime(12, 0), oldDay) * model.bucketWeight(oldDay, now);
+            var recent = model.bucketScore(1, recentDay.atTime(11, 0), recentDay) * model.bucketWeight(recentDay, now);
+
+            // then
+            assertThat(old).isCloseTo(1.25, within(1e-9));
+            assertThat(recent).isGreaterThan(0.97).isLessThan(1.0);
+        }
+
+        @Test
+        @DisplayName("좋아요 후 반감기가 지나 취소하면 합계는 음수로 남지만 최종 점수는 0이다")
+        void likeThenUnlikeDoesNotGoBelowZero() {
+            // given
+            var likedAt = DAY.atTime(12, 0);
+            var unlikedAt = likedAt.plusHours(24);
+            var unlikeDay = unlikedAt.toLocalDate();
+            var now = unlikedAt.plusHours(1);
+
+            // when
+            var accumulated = model.bucketScore(3, likedAt, DAY) * model.bucketWeight(DAY, now)
+                    + model.bucketScore(-3, unlikedAt, unlikeDay) * model.bucketWeight(unlikeDay, now);
+
+            // then
+            assertThat(accumulated).isNegative();
+            assertThat(model.finalScore(accumulated, null, now)).isZero();
+        }
+
+        @Test
+        @DisplayName("반감기는 양수여야 한다")
+        void rejectsNonPositiveHalfLife() {
+            assertThatThrownBy(() -> new ExponentialDecayRankingModel(Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("중력 모델")
+    class Gravity {
+        private final PostRankingModel model = new GravityRankingModel(1.8);
+
+        @Test
+        @DisplayName("합산 점수를 (게시물 나이 + 2)^gravity로 나눈다")
+        void dividesByAge() {
+            // given
+            var now = DAY.atTime(12, 0);
+
+            // when
+            var fresh = model.finalScore(100, now, now);
+            var dayOld = model.finalScore(100, now.minusHours(22), now);
+
+            // then
+            assertThat(model.usesPostAge()).isTrue();
+            assertThat(fresh).isCloseTo(100 / Math.pow(2, 1.8), within(1e-9));
+            assertThat(dayOld).isCloseTo(100 / Math.pow(24, 1.8), within(1e-9));
+        }
+
+        @Test
+        @DisplayName("작성 시각을 모르면 합산 점수를 그대로 쓴다")
+        void keepsScoreWithoutCreatedAt() {
+            assertThat(model.finalScore(42, null, LocalDateTime.now())).isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("합산 점수가 음수이면 0으로 본다")
+        void clampsNegativeScore() {
+            // given
+            var now = DAY.atTime(12, 0);
+
+            // when & then
+            assertThat(model.finalScore(-3, now.minusHours(5), now)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("선형 모델은 시간과 무관하게 점수를 그대로 더한다")
+    void linearModelKeepsPoints() {
+        // given
+        PostRankingModel model = PostRankingModelType.LINEAR.create(Duration.ofHours(24), 1.8);
+
+        // when & then
+        assertThat(model.bucketScore(7, DAY.atTime(23, 0), DAY)).isEqualTo(7);
+        assertThat(model.bucketWeight(DAY, DAY.plusDays(20).atStartOfDay())).isEqualTo(1);
+        assertThat(model.finalScore(7, DAY.atStartOfDay(), DAY.plusDays(20).atStartOfDay())).isEqualTo(7);
+    }
+}
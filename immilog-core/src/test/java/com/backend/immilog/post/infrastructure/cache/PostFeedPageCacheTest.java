@@ -0,0 +1,185 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.domain.model.post.Categories;
+import com.backend.immilog.post.domain.model.post.SortingMethods;
+import com.backend.immilog.shared.infrastructure.event.EventNodeIdentifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostFeedPageCache 테스트")
+class PostFeedPageCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> eventRedisTemplate = mock(RedisTemplate.class);
+    private final EventNodeIdentifier eventNodeIdentifier = mock(EventNodeIdentifier.class);
+
+    private PostFeedPageCache postFeedPageCache;
+
+    @BeforeEach
+    void setUp() {
+        postFeedPageCache = new PostFeedPageCache(
+                new PostConfiguration(),
+                eventRedisTemplate,
+                eventNodeIdentifier,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 조건의 동시 요청은 조회를 한 번만 실행한다")
+    void coalescesConcurrentLoads() throws Exception {
+        // given
+        var key = key("KR", 0);
+        var loadCount = new AtomicInteger();
+        var loaderStarted = new CountDownLatch(1);
+        var releaseLoader = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(8);
+        var futures = new ArrayList<CompletableFuture<PostFeedPageCache.FeedPage>>();
+
+        // when
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> postFeedPageCache.get(key, () -> {
+                    loadCount.incrementAndGet();
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return new PostFeedPageCache.FeedPage(List.of("post1", "post2"), 2);
+                }), executor));
+            }
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            releaseLoader.countDown();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().postIds()).containsExactly("post1", "post2"));
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 캐시에 남기지 않고 다음 요청에서 다시 조회한다")
+    void failedLoadIsNotCached() {
+        // given
+        var key = key("KR", 0);
+
+        // when & then
+        assertThatThrownBy(() -> postFeedPageCache.get(key, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        var page = postFeedPageCache.get(key, () -> new PostFeedPageCache.FeedPage(List.of("post1"), 1));
+        assertThat(page.postIds()).containsExactly("post1");
+    }
+
+    @Test
+    @DisplayName("조회가 Error로 실패해도 항목을 제거해 다음 요청이 다시 조회한다")
+    void errorLoadIsNotCached() {
+        // given
+        var key = key("KR", 0);
+
+        // when & then
+        assertThatThrownBy(() -> postFeedPageCache.get(key, () -> {
+            throw new AssertionError("loader failure");
+        })).isInstanceOf(AssertionError.class);
+        var result = postFeedPageCache.get(key, () -> page("post1"));
+        assertThat(result.postIds()).containsExactly("post1");
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회가 대기 시간을 넘기면 기다리던 요청은 직접 조회한다")
+    void waiterLoadsDirectlyAfterTimeout() throws Exception {
+        // given
+        var configuration = new PostConfiguration();
+        configuration.setFeedPageLoadWaitTimeout(Duration.ofMillis(50));
+        postFeedPageCache = new PostFeedPageCache(configuration, eventRedisTemplate, eventNodeIdentifier, new SimpleMeterRegistry());
+        var key = key("KR", 0);
+        var loaderStarted = new CountDownLatch(1);
+        var releaseLoader = new CountDownLatch(1);
+        var slowLoad = CompletableFuture.supplyAsync(() -> postFeedPageCache.get(key, () -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return page("slow");
+        }));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        var result = postFeedPageCache.get(key, () -> page("direct"));
+
+        // then
+        assertThat(result.postIds()).containsExactly("direct");
+        releaseLoader.countDown();
+        assertThat(slowLoad.get(5, TimeUnit.SECONDS).postIds()).containsExactly("slow");
+    }
+
+    @Test
+    @DisplayName("새 게시물은 해당 국가와 전체 국가의 첫 페이지만 무효화한다")
+    void invalidatesOnlyFirstPagesOfCountry() {
+        // given
+        when(eventNodeIdentifier.getNodeId()).thenReturn("node-a");
+        postFeedPageCache.get(key("KR", 0), () -> page("kr-0"));
+        postFeedPageCache.get(key("KR", 1), () -> page("kr-1"));
+        postFeedPageCache.get(key("ALL", 0), () -> page("all-0"));
+        postFeedPageCache.get(key("JP", 0), () -> page("jp-0"));
+
+        // when
+        postFeedPageCache.invalidateFirstPages("KR");
+
+        // then
+        assertThat(postFeedPageCache.get(key("KR", 0), () -> page("reloaded")).postIds()).containsExactly("reloaded");
+        assertThat(postFeedPageCache.get(key("ALL", 0), () -> page("reloaded")).postIds()).containsExactly("reloaded");
+        assertThat(postFeedPageCache.get(key("KR", 1), () -> page("reloaded")).postIds()).containsExactly("kr-1");
+        assertThat(postFeedPageCache.get(key("JP", 0), () -> page("reloaded")).postIds()).containsExactly("jp-0");
+        verify(eventRedisTemplate).convertAndSend(PostFeedPageCache.INVALIDATION_CHANNEL, "node-a|KR");
+    }
+
+    @Test
+    @DisplayName("자기 노드가 보낸 무효화 메시지는 무시한다")
+    void ignoresOwnBroadcast() {
+        // given
+        postFeedPageCache.get(key("KR", 0), () -> page("kr-0"));
+        when(eventNodeIdentifier.isLocal("node-a")).thenReturn(true);
+
+        // when
+        postFeedPageCache.onRemoteInvalidation("node-a|KR");
+
+        // then
+        assertThat(postFeedPageCache.get(key("KR", 0), () -> page("reloaded")).postIds()).containsExactly("kr-0");
+    }
+
+    private PostFeedPageCache.FeedPageKey key(
+            String countryId,
+            int pageNumber
+    ) {
+        return new PostFeedPageCache.FeedPageKey(countryId, Categories.ALL, SortingMethods.CREATED_DATE, "Y", pageNumber, 10);
+    }
+
+    private PostFeedPageCache.FeedPage page(String postId) {
+        return new PostFeedPageCache.FeedPage(List.of(postId), 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
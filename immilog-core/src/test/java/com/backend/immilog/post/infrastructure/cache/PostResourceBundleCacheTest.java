@@ -0,0 +1,89 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.domain.model.resource.PostResourceBundle;
+import com.backend.immilog.shared.config.database.CacheNames;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostResourceBundleCache 테스트")
+class PostResourceBundleCacheTest {
+
+    private final RedisCacheManager cacheManager = mock(RedisCacheManager.class);
+    private final Cache cache = mock(Cache.class);
+    private final RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> eventRedisTemplate = mock(RedisTemplate.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+
+    private PostResourceBundleCache postResourceBundleCache;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheNames.POST_RESOURCE_BUNDLE)).thenReturn(cache);
+        when(cacheManager.getCacheConfigurations()).thenReturn(Map.of(CacheNames.POST_RESOURCE_BUNDLE, cacheConfiguration));
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(eventRedisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        postResourceBundleCache = new PostResourceBundleCache(cacheManager, eventRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("여러 게시물의 번들을 MGET 한 번으로 읽고 캐시에 있는 번들만 요청 순서대로 반환한다")
+    void readsBundlesInOneCall() {
+        // given
+        var first = new PostResourceBundle("post1", List.of("tag1"), List.of("file1"));
+        var third = new PostResourceBundle("post3", List.of(), List.of());
+        when(stringCommands.mGet(any(byte[][].class))).thenReturn(Arrays.asList(serialize(first), null, serialize(third)));
+
+        // when
+        var result = postResourceBundleCache.getAll(PostResultCache.View.SUMMARY, List.of("post1", "post2", "post3"));
+
+        // then
+        assertThat(result).containsExactly(entry("post1", first), entry("post3", third));
+        verify(stringCommands, times(1)).mGet(rawKey("summary:post1"), rawKey("summary:post2"), rawKey("summary:post3"));
+        verify(cache, never()).get(anyString(), eq(PostResourceBundle.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 빈 결과를 반환한다")
+    void readFailureIsTreatedAsMiss() {
+        // given
+        when(stringCommands.mGet(any(byte[][].class))).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        var result = postResourceBundleCache.getAll(PostResultCache.View.DETAIL, List.of("post1"));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private byte[] serialize(PostResourceBundle bundle) {
+        return ByteUtils.getBytes(cacheConfiguration.getValueSerializationPair().write(bundle));
+    }
+
+    private byte[] rawKey(String key) {
+        return (cacheConfiguration.getKeyPrefixFor(CacheNames.POST_RESOURCE_BUNDLE) + key).getBytes(StandardCharsets.UTF_8);
+    }
+}
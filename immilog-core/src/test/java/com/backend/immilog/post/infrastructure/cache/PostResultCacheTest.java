@@ -0,0 +1,285 @@
+package com.backend.immilog.post.infrastructure.cache;
+
+import com.backend.immilog.post.application.config.PostConfiguration;
+import com.backend.immilog.post.application.dto.out.PostResult;
+import com.backend.immilog.shared.config.database.CacheNames;
+import com.backend.immilog.shared.enums.ContentType;
+import com.backend.immilog.shared.infrastructure.event.EventNodeIdentifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostResultCache 테스트")
+class PostResultCacheTest {
+
+    private final RedisCacheManager cacheManager = mock(RedisCacheManager.class);
+    private final Cache remoteCache = mock(Cache.class);
+    private final RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> eventRedisTemplate = mock(RedisTemplate.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+    private final RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+    private final EventNodeIdentifier eventNodeIdentifier = mock(EventNodeIdentifier.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PostResultCache postResultCache;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheNames.POST_RESULT)).thenReturn(remoteCache);
+        when(cacheManager.getCacheConfigurations()).thenReturn(Map.of(CacheNames.POST_RESULT, cacheConfiguration));
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        when(eventRedisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        postResultCache = new PostResultCache(
+                new PostConfiguration(),
+                cacheManager,
+                eventRedisTemplate,
+                eventNodeIdentifier,
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 L2에서 읽고 L1을 채운다")
+    void readsThroughRemoteCache() {
+        // given
+        var postResult = postResult("post1");
+        when(remoteCache.get("detail:post1", PostResult.class)).thenReturn(postResult);
+
+        // when
+        var first = postResultCache.get(PostResultCache.View.DETAIL, "post1");
+        var second = postResultCache.get(PostResultCache.View.DETAIL, "post1");
+
+        // then
+        assertThat(first).contains(postResult);
+        assertThat(second).contains(postResult);
+        verify(remoteCache, times(1)).get("detail:post1", PostResult.class);
+        assertThat(meterRegistry.counter("post.result.cache.l2", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 게시물 조회는 L1에 없는 게시물만 L2에서 한 번에 읽고 L1을 채운다")
+    void getAllReadsMissingKeysInOneCall() {
+        // given
+        var cached = postResult("post1");
+        var remote = postResult("post2");
+        postResultCache.put(PostResultCache.View.SUMMARY, cached);
+        when(stringCommands.mGet(any(byte[][].class))).thenReturn(Arrays.asList(serialize(remote), null));
+
+        // when
+        var first = postResultCache.getAll(PostResultCache.View.SUMMARY, List.of("post1", "post2", "post3"));
+        var second = postResultCache.get(PostResultCache.View.SUMMARY, "post2");
+
+        // then
+        assertThat(first).containsExactly(entry("post1", cached), entry("post2", remote));
+        assertThat(second).contains(remote);
+        verify(stringCommands, times(1)).mGet(rawKey("summary:post2"), rawKey("summary:post3"));
+        verify(remoteCache, never()).get(anyString(), eq(PostResult.class));
+        assertThat(meterRegistry.counter("post.result.cache.l2", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("post.result.cache.l2", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 게시물 조회 중 L2 장애가 나면 L1 결과만 반환한다")
+    void getAllRemoteFailureReturnsLocalOnly() {
+        // given
+        var cached = postResult("post1");
+        postResultCache.put(PostResultCache.View.SUMMARY, cached);
+        when(stringCommands.mGet(any(byte[][].class))).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        var result = postResultCache.getAll(PostResultCache.View.SUMMARY, List.of("post1", "post2"));
+
+        // then
+        assertThat(result).containsOnlyKeys("post1");
+        assertThat(meterRegistry.counter("post.result.cache.l2", "result", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영한 조회수 증가분을 L1 항목과 L2에 있는 항목의 조회수에 더한다")
+    void addViewCountsPatchesCachedEntries() {
+        // given
+        var local = postResult("post1").toBuilder().viewCount(10L).build();
+        var remote = postResult("post1").toBuilder().viewCount(7L).build();
+        postResultCache.put(PostResultCache.View.DETAIL, local);
+        when(stringCommands.mGet(any(byte[][].class))).thenReturn(Arrays.asList(null, serialize(remote)));
+
+        // when
+        postResultCache.addViewCounts(Map.of("post1", 3L));
+
+        // then
+        assertThat(postResultCache.get(PostResultCache.View.DETAIL, "post1")).get()
+                .extracting(PostResult::viewCount)
+                .isEqualTo(13L);
+        verify(stringCommands).mGet(rawKey("summary:post1"), rawKey("detail:post1"));
+        verify(scriptingCommands).eval(
+                any(byte[].class),
+                eq(ReturnType.INTEGER),
+                eq(1),
+                eq(rawKey("detail:post1")),
+                eq(serialize(remote)),
+                eq(serialize(remote.toBuilder().viewCount(10L).build()))
+        );
+    }
+
+    @Test
+    @DisplayName("조회수를 더하다 L2 장애가 나도 L1 항목은 갱신하고 예외를 전파하지 않는다")
+    void addViewCountsRemoteFailureKeepsLocal() {
+        // given
+        postResultCache.put(PostResultCache.View.SUMMARY, postResult("post1").toBuilder().viewCount(1L).build());
+        when(stringCommands.mGet(any(byte[][].class))).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        postResultCache.addViewCounts(Map.of("post1", 2L));
+
+        // then
+        assertThat(postResultCache.get(PostResultCache.View.SUMMARY, "post1")).get()
+                .extracting(PostResult::viewCount)
+                .isEqualTo(3L);
+        assertThat(meterRegistry.counter("post.result.cache.l2", "result", "error").count()).isEqualTo(1);
+        verifyNoInteractions(scriptingCommands);
+    }
+
+    @Test
+    @DisplayName("L2 장애 시 빈 결과를 반환하고 오류 카운터를 올린다")
+    void remoteFailureIsTreatedAsMiss() {
+        // given
+        when(remoteCache.get("detail:post1", PostResult.class)).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        var result = postResultCache.get(PostResultCache.View.DETAIL, "post1");
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.counter("post.result.cache.l2", "result", "error").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 무효화는 즉시 L1/L2에서 지우고 다른 노드에 전파한다")
+    void evictRemovesBothTiersAndBroadcasts() {
+        // given
+        when(eventNodeIdentifier.getNodeId()).thenReturn("node-a");
+        postResultCache.put(PostResultCache.View.DETAIL, postResult("post1"));
+
+        // when
+        postResultCache.evict("post1");
+
+        // then
+        verify(remoteCache).evict("summary:post1");
+        verify(remoteCache).evict("detail:post1");
+        verify(eventRedisTemplate).convertAndSend(PostResultCache.INVALIDATION_CHANNEL, "node-a|post1");
+        assertThat(postResultCache.get(PostResultCache.View.DETAIL, "post1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 일괄 무효화는 커밋 이후에 지우고 메시지 하나로 전파한다")
+    void evictAllDefersUntilCommit() {
+        // given
+        when(eventNodeIdentifier.getNodeId()).thenReturn("node-a");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            postResultCache.evictAll(List.of("post1", "post2"));
+
+            // then
+            verifyNoInteractions(eventRedisTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(remoteCache).evict("summary:post2");
+        verify(remoteCache).evict("detail:post1");
+        verify(eventRedisTemplate).convertAndSend(PostResultCache.INVALIDATION_CHANNEL, "node-a|post1,post2");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 L1만 지우고 자기 노드 메시지는 무시한다")
+    void remoteInvalidationSkipsLocalNode() {
+        // given
+        postResultCache.put(PostResultCache.View.DETAIL, postResult("post1"));
+        postResultCache.put(PostResultCache.View.DETAIL, postResult("post2"));
+        when(eventNodeIdentifier.isLocal("node-a")).thenReturn(true);
+        when(eventNodeIdentifier.isLocal("node-b")).thenReturn(false);
+
+        // when
+        postResultCache.onRemoteInvalidation("node-a|post1");
+        postResultCache.onRemoteInvalidation("node-b|post2");
+
+        // then
+        assertThat(postResultCache.getAll(PostResultCache.View.DETAIL, List.of("post1", "post2"))).containsOnlyKeys("post1");
+        verify(remoteCache, never()).evict(anyString());
+    }
+
+    @Test
+    @DisplayName("요약 결과와 상세 결과는 서로 다른 키로 저장한다")
+    void summaryAndDetailAreStoredSeparately() {
+        // given
+        var summary = postResult("post1").toBuilder().content("Test").build();
+        postResultCache.put(PostResultCache.View.SUMMARY, summary);
+
+        // when
+        var detail = postResultCache.get(PostResultCache.View.DETAIL, "post1");
+
+        // then
+        assertThat(detail).isEmpty();
+        assertThat(postResultCache.get(PostResultCache.View.SUMMARY, "post1")).contains(summary);
+        verify(remoteCache).put("summary:post1", summary);
+    }
+
+    @Test
+    @DisplayName("게시물이 아닌 콘텐츠의 무효화 요청은 무시한다")
+    void ignoresNonPostContent() {
+        // when
+        postResultCache.invalidate("comment1", ContentType.COMMENT);
+
+        // then
+        verifyNoInteractions(remoteCache, eventRedisTemplate);
+    }
+
+    private byte[] serialize(PostResult postResult) {
+        return ByteUtils.getBytes(cacheConfiguration.getValueSerializationPair().write(postResult));
+    }
+
+    private byte[] rawKey(String key) {
+        return (cacheConfiguration.getKeyPrefixFor(CacheNames.POST_RESULT) + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private PostResult postResult(String postId) {
+        return PostResult.builder()
+                .postId(postId)
+                .title("Test Title")
+                .content("Test Content")
+                .build();
+    }
+}
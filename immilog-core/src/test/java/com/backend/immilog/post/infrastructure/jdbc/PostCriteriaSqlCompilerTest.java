@@ -0,0 +1,98 @@
+package com.backend.immilog.post.infrastructure.jdbc;
+
+import com.backend.immilog.post.domain.model.post.Badge;
+import com.backend.immilog.shared.application.query.QueryCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostCriteriaSqlCompiler 테스트")
+class PostCriteriaSqlCompilerTest {
+
+    private final PostCriteriaSqlCompiler compiler = new PostCriteriaSqlCompiler("p.post_id");
+
+    @Test
+    @DisplayName("조건과 다중 정렬, 페이지를 바인딩 파라미터가 있는 SQL로 변환한다")
+    void compilesConditionsSortsAndPaging() {
+        // given
+        var criteria = QueryCriteria.create()
+                .greaterThan("viewCount", 50)
+                .equals("badge", Badge.HOT)
+                .sortDesc("viewCount")
+                .sortDesc("createdAt");
+
+        // when
+        var query = compiler.compileSelect(criteria, 10, 20L);
+
+        // then
+        assertThat(query.sql())
+                .contains("WHERE p.badge = ? AND p.view_count > ? AND p.status <> 'DELETED'")
+                .contains("ORDER BY p.view_count DESC, p.created_at DESC, p.post_id DESC")
+                .contains("LIMIT ? OFFSET ?");
+        assertThat(query.params()).containsExactly("HOT", 50, 10, 20L);
+    }
+
+    @Test
+    @DisplayName("IN, BETWEEN, LIKE, NULL 조건을 변환하고 상태 조건이 있으면 기본 상태 조건을 넣지 않는다")
+    void compilesListAndNullOperators() {
+        // given
+        var from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        var to = from.plusDays(7);
+        var criteria = QueryCriteria.create()
+                .in("countryId", List.of("KR", "JP"))
+                .createdBetween(from, to)
+                .like("title", "visa")
+                .isNull("badge")
+                .equals("status", "DELETED");
+
+        // when
+        var query = compiler.compileCount(criteria);
+
+        // then
+        assertThat(query.sql())
+                .contains("p.badge IS NULL")
+                .contains("p.country_id IN (?, ?)")
+                .contains("p.created_at BETWEEN ? AND ?")
+                .contains("p.title LIKE ?")
+                .contains("p.status = ?")
+                .doesNotContain("p.status <> 'DELETED'");
+        assertThat(query.params()).containsExactly("KR", "JP", from, to, "DELETED", "%visa%");
+    }
+
+    @Test
+    @DisplayName("형태가 같은 조건은 캐시된 SQL을 재사용하고 값만 다르게 바인딩한다")
+    void reusesTemplateForSameShape() {
+        // when
+        var first = compiler.compileSelect(QueryCriteria.create().equals("userId", "user1"), 10, 0L);
+        var second = compiler.compileSelect(QueryCriteria.create().equals("userId", "user2"), 10, 0L);
+
+        // then
+        assertThat(second.sql()).isSameAs(first.sql());
+        assertThat(second.params()).containsExactly("user2", 10, 0L);
+    }
+
+    @Test
+    @DisplayName("빈 IN 목록은 결과가 없는 조건으로 변환한다")
+    void emptyInListMatchesNothing() {
+        // when
+        var query = compiler.compileCount(QueryCriteria.create().in("postId", List.of()));
+
+        // then
+        assertThat(query.sql()).contains("1 = 0");
+        assertThat(query.params()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 필드나 연산자는 거부한다")
+    void rejectsUnknownFieldsAndOperators() {
+        assertThatThrownBy(() -> compiler.compileCount(QueryCriteria.create().equals("password; DROP TABLE post", "x")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> compiler.compileCount(QueryCriteria.create().sortAsc("nickname")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
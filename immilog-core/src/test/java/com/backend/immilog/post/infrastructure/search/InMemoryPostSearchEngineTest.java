@@ -0,0 +1,98 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import com.backend.immilog.post.domain.search.PostSearchDocument;
+import com.backend.immilog.post.domain.search.PostSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryPostSearchEngine 테스트")
+class InMemoryPostSearchEngineTest {
+
+    private InMemoryPostSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryPostSearchEngine();
+        engine.index(new PostSearchDocument("post1", "캐나다 비자 신청 후기", "워크퍼밋 비자 준비 과정을 정리했습니다.", List.of("비자")));
+        engine.index(new PostSearchDocument("post2", "토론토 집 구하기", "렌트 계약 전에 비자 상태를 확인하세요.", List.of()));
+        engine.index(new PostSearchDocument("post3", "Vancouver coffee", "Best coffee shops downtown", List.of("coffee")));
+    }
+
+    @Test
+    @DisplayName("한글 검색어는 2-gram으로 매칭되고 제목/태그 일치가 더 높은 점수를 받는다")
+    void ranksTitleAndTagMatchesHigher() {
+        // when
+        var page = engine.search("비자", PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.totalHits()).isEqualTo(2);
+        assertThat(page.hits()).extracting(PostSearchHit::postId).containsExactly("post1", "post2");
+    }
+
+    @Test
+    @DisplayName("제목과 본문의 일치 위치를 스니펫 오프셋으로 반환한다")
+    void returnsSnippetOffsets() {
+        // when
+        var hit = engine.search("비자", PageRequest.of(0, 10)).hits().getFirst();
+
+        // then
+        assertThat(hit.titleOffset()).isEqualTo(4);
+        assertThat(hit.contentOffset()).isEqualTo(5);
+        assertThat(hit.matchLength()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("영문 검색은 대소문자를 구분하지 않고, 일치하지 않는 필드는 -1 오프셋을 반환한다")
+    void matchesLatinWordsCaseInsensitively() {
+        // when
+        var page = engine.search("COFFEE", PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.hits()).extracting(PostSearchHit::postId).containsExactly("post3");
+        assertThat(page.hits().getFirst().titleOffset()).isEqualTo(10);
+        assertThat(engine.search("렌트", PageRequest.of(0, 10)).hits().getFirst().titleOffset())
+                .isEqualTo(PostSearchHit.NO_MATCH);
+    }
+
+    @Test
+    @DisplayName("모든 검색어 토큰을 포함한 게시물만 반환한다")
+    void requiresAllTerms() {
+        // when
+        var page = engine.search("비자 신청", PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.hits()).extracting(PostSearchHit::postId).containsExactly("post1");
+    }
+
+    @Test
+    @DisplayName("재색인과 삭제가 이전 토큰을 제거한다")
+    void reindexAndRemoveDropStaleTerms() {
+        // when
+        engine.index(new PostSearchDocument("post1", "캐나다 여행", "여행 일정 공유", List.of()));
+        engine.remove("post2");
+
+        // then
+        assertThat(engine.search("비자", PageRequest.of(0, 10)).hits()).isEmpty();
+        assertThat(engine.search("여행", PageRequest.of(0, 10)).hits())
+                .extracting(PostSearchHit::postId)
+                .containsExactly("post1");
+        assertThat(engine.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이지 범위를 벗어나면 빈 결과와 전체 건수를 반환한다")
+    void pagesBeyondResults() {
+        // when
+        var page = engine.search("비자", PageRequest.of(1, 10));
+
+        // then
+        assertThat(page.hits()).isEmpty();
+        assertThat(page.totalHits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,172 @@
+package com.backend.immilog.post.infrastructure.search;
+
+import com.backend.immilog.post.domain.search.PostSearchHit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("MySqlFullTextPostSearchEngine 테스트")
+class MySqlFullTextPostSearchEngineTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcClient jdbcClient;
+    private static MySqlFullTextPostSearchEngine engine;
+
+    @BeforeAll
+    static void setUp() {
+        jdbcClient = JdbcClient.create(new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+        jdbcClient.sql("""
+                CREATE TABLE post (
+                    post_id VARCHAR(32) PRIMARY KEY,
+                    title VARCHAR(255),
+                    content TEXT,
+                    status VARCHAR(20) NOT NULL
+                ) DEFAULT CHARSET = utf8mb4
+                """).update();
+        jdbcClient.sql("""
+                CREATE TABLE content_resource (
+                    content_resource_id VARCHAR(32) PRIMARY KEY,
+                    content_id VARCHAR(32),
+                    content_type VARCHAR(20),
+                    resource_type VARCHAR(20),
+                    content VARCHAR(255)
+                ) DEFAULT CHARSET = utf8mb4
+                """).update();
+
+        // post1은 제목/본문/태그, post2는 본문, post3은 태그로만 일치하고 post4는 삭제된 게시물이다
+        post("post1", "캐나다 비자 신청 후기", "워크퍼밋 비자 준비 과정을 정리했습니다.", "NORMAL");
+        post("post2", "토론토 집 구하기", "렌트 계약 전에 비자 상태를 확인하세요.", "NORMAL");
+        post("post3", "이민 준비 체크리스트", "서류와 일정을 정리했습니다.", "NORMAL");
+        post("post4", "삭제된 비자 질문", "비자 관련 질문입니다.", "DELETED");
+        post("post5", "밴쿠버 커피", "다운타운 카페 추천", "NORMAL");
+        post("post6", "Vancouver coffee", "Best coffee shops downtown", "NORMAL");
+        resource("r1", "post1", "POST", "TAG", "비자");
+        resource("r2", "post3", "POST", "TAG", "비자");
+        resource("r3", "post4", "POST", "TAG", "비자");
+        resource("r4", "post3", "POST", "ATTACHMENT", "비자.pdf");
+        resource("r5", "post2", "POST", "TAG", "렌트");
+        resource("r6", "post5", "POST", "TAG", "커피");
+        resource("r7", "post6", "POST", "TAG", "coffee");
+
+        engine = new MySqlFullTextPostSearchEngine(jdbcClient, true);
+        engine.ensureFullTextIndexes();
+    }
+
+    @Test
+    @DisplayName("제목/본문과 태그 일치를 post_id별로 합산해 정렬하고 삭제된 게시물은 제외한다")
+    void mergesPostAndTagScores() {
+        // when
+        var page = engine.search("비자", PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.hits()).extracting(PostSearchHit::postId).containsExactlyInAnyOrder("post1", "post2", "post3");
+        assertThat(page.hits().getFirst().postId()).isEqualTo("post1");
+        assertThat(page.hits()).extracting(PostSearchHit::score).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("전체 건수는 두 조회에 모두 일치한 게시물을 한 번만 센다")
+    void countsDistinctPosts() {
+        // when
+        var page = engine.search("비자", PageRequest.of(0, 1));
+
+        // then
+        assertThat(page.totalHits()).isEqualTo(3);
+        assertThat(page.hits()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("페이지를 넘겨도 게시물이 중복되거나 빠지지 않는다")
+    void pagesWithoutDuplicates() {
+        // when
+        var first = engine.search("비자", PageRequest.of(0, 2));
+        var second = engine.search("비자", PageRequest.of(1, 2));
+
+        // then
+        var postIds = new ArrayList<String>();
+        first.hits().forEach(hit -> postIds.add(hit.postId()));
+        second.hits().forEach(hit -> postIds.add(hit.postId()));
+        assertThat(first.hits()).hasSize(2);
+        assertThat(second.hits()).hasSize(1);
+        assertThat(postIds).containsExactlyInAnyOrder("post1", "post2", "post3");
+        assertThat(second.totalHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일치 위치를 스니펫 오프셋으로 반환하고, 일치하지 않는 필드는 -1을 반환한다")
+    void returnsSnippetOffsets() {
+        // when
+        var hit = engine.search("렌트", PageRequest.of(0, 10)).hits().getFirst();
+
+        // then
+        assertThat(hit.postId()).isEqualTo("post2");
+        assertThat(hit.titleOffset()).isEqualTo(PostSearchHit.NO_MATCH);
+        assertThat(hit.contentOffset()).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 조회하지 않고 빈 결과를 반환한다")
+    void blankKeywordReturnsEmpty() {
+        // when
+        var page = engine.search("  ", PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.hits()).isEmpty();
+        assertThat(page.totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("FULLTEXT 인덱스가 이미 있으면 다시 만들지 않는다")
+    void ensureFullTextIndexesIsIdempotent() {
+        // when
+        engine.ensureFullTextIndexes();
+
+        // then
+        var indexCount = jdbcClient.sql("""
+                        SELECT COUNT(DISTINCT index_name)
+                        FROM information_schema.statistics
+                        WHERE table_schema = DATABASE()
+                          AND index_name IN (?, ?)
+                        """)
+                .params(MySqlFullTextPostSearchEngine.POST_FULLTEXT_INDEX, MySqlFullTextPostSearchEngine.TAG_FULLTEXT_INDEX)
+                .query(Integer.class)
+                .single();
+        assertThat(indexCount).isEqualTo(2);
+    }
+
+    private static void post(
+            String postId,
+            String title,
+            String content,
+            String status
+    ) {
+        jdbcClient.sql("INSERT INTO post (post_id, title, content, status) VALUES (?, ?, ?, ?)")
+                .params(postId, title, content, status)
+                .update();
+    }
+
+    private static void resource(
+            String resourceId,
+            String contentId,
+            String contentType,
+            String resourceType,
+            String content
+    ) {
+        jdbcClient.sql("INSERT INTO content_resource (content_resource_id, content_id, content_type, resource_type, content) VALUES (?, ?, ?, ?, ?)")
+                .params(resourceId, contentId, contentType, resourceType, content)
+                .update();
+    }
+}
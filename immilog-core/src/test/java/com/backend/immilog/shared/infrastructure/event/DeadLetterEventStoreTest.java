@@ -0,0 +1,161 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterEventStore 테스트")
+class DeadLetterEventStoreTest {
+
+    private static final String STREAM = RedisEventConfig.DOMAIN_EVENT_STREAM;
+
+    @Mock
+    private RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    @BeforeEach
+    void setUp() {
+        when(redisConnection.streamCommands()).thenReturn(streamCommands);
+        when(eventStreamRedisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(redisConnection));
+        when(streamCommands.xAdd(any(MapRecord.class), any(RedisStreamCommands.XAddOptions.class)))
+                .thenReturn(RecordId.of("1234567890-0"));
+    }
+
+    @Test
+    @DisplayName("dead-letter 스트림에도 근사 MAXLEN을 적용하고 원본 필드와 dead-letter 정보를 함께 저장한다")
+    void movesWithApproximateMaxLength() {
+        // given
+        var deadLetterEventStore = new DeadLetterEventStore(eventStreamRedisTemplate, properties(Map.of()));
+
+        // when
+        deadLetterEventStore.moveToDeadLetter(STREAM, "post-group", originalRecord(), 5);
+
+        // then
+        var recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        var optionsCaptor = ArgumentCaptor.forClass(RedisStreamCommands.XAddOptions.class);
+        verify(streamCommands).xAdd(recordCaptor.capture(), optionsCaptor.capture());
+
+        var record = recordCaptor.getValue();
+        assertThat(new String((byte[]) record.getStream(), StandardCharsets.UTF_8))
+                .isEqualTo(DeadLetterEventStore.deadLetterStreamOf(STREAM));
+        Map<String, byte[]> fields = fieldsOf(record);
+        assertThat(fields).containsEntry("event", new byte[]{1, 2, 3});
+        assertThat(EventStreamRecord.header(fields, EventStreamRecord.DEAD_LETTER_GROUP)).isEqualTo("post-group");
+        assertThat(EventStreamRecord.header(fields, EventStreamRecord.DEAD_LETTER_DELIVERY_COUNT)).isEqualTo("5");
+        assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo(1000L);
+        assertThat(optionsCaptor.getValue().isApproximateTrimming()).isTrue();
+    }
+
+    @Test
+    @DisplayName("dead-letter 스트림 이름으로 지정한 보존 설정을 우선 사용한다")
+    void usesDeadLetterStreamRetention() {
+        // given
+        var deadLetterStream = DeadLetterEventStore.deadLetterStreamOf(STREAM);
+        var deadLetterEventStore = new DeadLetterEventStore(
+                eventStreamRedisTemplate,
+                properties(Map.of(deadLetterStream, new EventBusProperties.StreamRetention(50, null)))
+        );
+
+        // when
+        deadLetterEventStore.moveToDeadLetter(STREAM, "post-group", originalRecord(), 5);
+
+        // then
+        var optionsCaptor = ArgumentCaptor.forClass(RedisStreamCommands.XAddOptions.class);
+        verify(streamCommands).xAdd(any(MapRecord.class), optionsCaptor.capture());
+        assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("재발행은 원본 스트림의 근사 MAXLEN을 적용하고 dead-letter 정보를 제외한 필드만 다시 발행한다")
+    @SuppressWarnings("unchecked")
+    void replaysWithSourceStreamMaxLength() {
+        // given
+        var deadLetterStream = DeadLetterEventStore.deadLetterStreamOf(STREAM);
+        var deadLetterEventStore = new DeadLetterEventStore(
+                eventStreamRedisTemplate,
+                properties(Map.of(STREAM, new EventBusProperties.StreamRetention(200, null)))
+        );
+        StreamOperations<String, Object, Object> streamOperations = mock(StreamOperations.class);
+        when(eventStreamRedisTemplate.opsForStream()).thenReturn(streamOperations);
+        var deadLetter = StreamRecords.<String, String, byte[]>mapBacked(Map.of(
+                        "event", new byte[]{1, 2, 3},
+                        EventStreamRecord.DEAD_LETTER_GROUP, EventStreamRecord.bytes("post-group")
+                ))
+                .withStreamKey(deadLetterStream)
+                .withId(RecordId.of("2000-0"));
+        when(streamOperations.range(eq(deadLetterStream), any(), any())).thenReturn((List) List.of(deadLetter));
+
+        // when
+        var replayed = deadLetterEventStore.replay(STREAM, 10);
+
+        // then
+        var recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        var optionsCaptor = ArgumentCaptor.forClass(RedisStreamCommands.XAddOptions.class);
+        verify(streamCommands).xAdd(recordCaptor.capture(), optionsCaptor.capture());
+        assertThat(replayed).isEqualTo(1);
+        assertThat(new String((byte[]) recordCaptor.getValue().getStream(), StandardCharsets.UTF_8)).isEqualTo(STREAM);
+        assertThat(fieldsOf(recordCaptor.getValue())).containsOnlyKeys("event");
+        assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo(200L);
+        assertThat(optionsCaptor.getValue().isApproximateTrimming()).isTrue();
+        verify(streamOperations, never()).add(anyString(), anyMap());
+        verify(streamOperations).delete(deadLetterStream, RecordId.of("2000-0"));
+    }
+
+    private static EventBusProperties properties(Map<String, EventBusProperties.StreamRetention> streams) {
+        return new EventBusProperties(
+                null,
+                null,
+                null,
+                null,
+                new EventBusProperties.Retention(new EventBusProperties.StreamRetention(1000, Duration.ofHours(1)), streams)
+        );
+    }
+
+    private static MapRecord<String, String, byte[]> originalRecord() {
+        return StreamRecords.<String, String, byte[]>mapBacked(Map.of("event", new byte[]{1, 2, 3}))
+                .withStreamKey(STREAM)
+                .withId(RecordId.of("1000-0"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, byte[]> fieldsOf(MapRecord<?, ?, ?> record) {
+        var fields = new HashMap<String, byte[]>();
+        ((Map<byte[], byte[]>) record.getValue())
+                .forEach((name, value) -> fields.put(new String(name, StandardCharsets.UTF_8), value));
+        return fields;
+    }
+}
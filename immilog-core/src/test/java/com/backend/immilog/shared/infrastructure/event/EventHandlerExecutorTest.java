@@ -0,0 +1,140 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventHandlerExecutor 테스트")
+class EventHandlerExecutorTest {
+
+    private EventHandlerExecutor eventHandlerExecutor;
+
+    @AfterEach
+    void tearDown() {
+        eventHandlerExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 순서 키의 작업은 제출 순서대로 하나씩 실행된다")
+    void sameKeyRunsInOrder() throws Exception {
+        // given
+        eventHandlerExecutor = new EventHandlerExecutor(properties(16));
+        var executed = new CopyOnWriteArrayList<Integer>();
+        var done = new CountDownLatch(10);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            int sequence = i;
+            eventHandlerExecutor.submit("post1", () -> {
+                sleep(5 - sequence % 5);
+                executed.add(sequence);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    @DisplayName("핸들러가 Error를 던져도 같은 키의 다음 작업은 실행되고 허가는 반환된다")
+    void errorDoesNotBlockSameKey() throws Exception {
+        // given
+        eventHandlerExecutor = new EventHandlerExecutor(properties(2));
+        var done = new CountDownLatch(1);
+
+        // when
+        eventHandlerExecutor.submit("post1", () -> {
+            throw new AssertionError("handler failure");
+        });
+        eventHandlerExecutor.submit("post1", done::countDown);
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(eventHandlerExecutor.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 작업이 있어도 다른 키의 작업은 기다리지 않는다")
+    void differentKeysRunInParallel() throws Exception {
+        // given
+        eventHandlerExecutor = new EventHandlerExecutor(properties(16));
+        var slowRelease = new CountDownLatch(1);
+        var fastDone = new CountDownLatch(1);
+
+        // when
+        eventHandlerExecutor.submit("post1", () -> await(slowRelease));
+        eventHandlerExecutor.submit(null, fastDone::countDown);
+
+        // then
+        assertThat(fastDone.await(1, TimeUnit.SECONDS)).isTrue();
+        slowRelease.countDown();
+    }
+
+    @Test
+    @DisplayName("처리 중인 작업이 maxInFlight에 도달하면 제출이 대기한다")
+    void blocksWhenFull() throws Exception {
+        // given
+        eventHandlerExecutor = new EventHandlerExecutor(properties(2));
+        var release = new CountDownLatch(1);
+        eventHandlerExecutor.submit(null, () -> await(release));
+        eventHandlerExecutor.submit(null, () -> await(release));
+        var submitted = new AtomicBoolean(false);
+
+        // when
+        var submitter = Executors.newSingleThreadExecutor();
+        submitter.submit(() -> {
+            eventHandlerExecutor.submit(null, () -> {});
+            submitted.set(true);
+            return null;
+        });
+
+        // then
+        Thread.sleep(100);
+        assertThat(submitted).isFalse();
+        assertThat(eventHandlerExecutor.inFlight()).isEqualTo(2);
+
+        release.countDown();
+        submitter.shutdown();
+        assertThat(submitter.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(submitted).isTrue();
+    }
+
+    private static EventBusProperties properties(int maxInFlight) {
+        return new EventBusProperties(
+                null,
+                null,
+                new EventBusProperties.Consumer(1, maxInFlight, 10, Duration.ofSeconds(1)),
+                null,
+                null
+        );
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.domain.model.UserData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventResultStorageService 테스트")
+class EventResultStorageServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> eventRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final EventNodeIdentifier eventNodeIdentifier = new EventNodeIdentifier("immilog");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventResultStorageService eventResultStorageService;
+
+    @BeforeEach
+    void setUp() {
+        eventResultStorageService = new EventResultStorageService(
+                eventRedisTemplate,
+                new ObjectMapper(),
+                eventNodeIdentifier,
+                new EventBusMetrics(meterRegistry)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 JVM에서 대기 중인 요청은 Redis를 거치지 않고 결과를 받는다")
+    void storeUserData_handsOffInProcess() {
+        // given
+        var requestId = "user_1";
+        var userData = List.of(new UserData("user1", "nickname", null, "KR", "Seoul"));
+        eventResultStorageService.registerEventProcessing(requestId);
+
+        // when
+        eventResultStorageService.storeUserData(requestId, userData);
+        var result = eventResultStorageService.waitForUserData(requestId, Duration.ofMillis(100));
+
+        // then
+        assertThat(result).isEqualTo(userData);
+        verifyNoInteractions(eventRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 없으면 결과를 Redis에 저장한다")
+    void storeUserData_writesToRedisWhenNoLocalWaiter() {
+        // given
+        when(eventRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        eventResultStorageService.storeUserData("user_2", List.of());
+
+        // then
+        verify(valueOperations).set(eq("event:user:user_2"), anyString(), anyLong(), any());
+        verify(eventRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 요청이면 결과 저장 후 요청 노드의 응답 채널로 완료 신호를 보낸다")
+    void storeUserData_notifiesOriginNode() {
+        // given
+        when(eventRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        EventReplyContext.runWithOrigin("other-node",
+                () -> eventResultStorageService.storeUserData("user_3", List.of()));
+
+        // then
+        verify(valueOperations).set(eq("event:user:user_3"), anyString(), anyLong(), any());
+        verify(eventRedisTemplate).convertAndSend("event-replies:other-node", "user_3");
+    }
+
+    @Test
+    @DisplayName("응답 신호를 받으면 대기 중인 요청이 완료된다")
+    void completeRemoteReply_completesPendingFuture() {
+        // given
+        var future = eventResultStorageService.registerEventProcessing("user_4");
+
+        // when
+        eventResultStorageService.completeRemoteReply("user_4");
+
+        // then
+        assertThat(future).isCompleted();
+    }
+
+    @Test
+    @DisplayName("메모리로 전달된 일반 결과를 키로 조회한다")
+    void storeResult_handsOffInProcess() {
+        // given
+        var requestId = "comment_1";
+        eventResultStorageService.registerEventProcessing(requestId);
+
+        // when
+        eventResultStorageService.storeResult("comment_data_" + requestId, List.of("comment"));
+        var result = eventResultStorageService.getResult("comment_data_" + requestId, Object.class);
+
+        // then
+        assertThat(result).isEqualTo(List.of("comment"));
+        verifyNoInteractions(eventRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("결과가 제한 시간 내에 오지 않으면 타임아웃과 빈 결과 대체를 기록한다")
+    void waitForUserData_recordsTimeout() {
+        // given
+        eventResultStorageService.registerEventProcessing("user_5");
+
+        // when
+        var result = eventResultStorageService.waitForUserData("user_5", Duration.ofMillis(10));
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.get("event.bus.reply.timeouts").tag("dataType", "user").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("event.bus.reply.fallbacks").tag("dataType", "user").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("event.bus.reply.wait").tag("outcome", "timeout").timer().count()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,135 @@
+package com.backend.immilog.shared.infrastructure.event;
+
+import com.backend.immilog.shared.config.event.RedisEventConfig;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingEventReclaimer 테스트")
+class PendingEventReclaimerTest {
+
+    private static final String STREAM = RedisEventConfig.DOMAIN_EVENT_STREAM;
+    private static final String GROUP = RedisEventConfig.DOMAIN_EVENT_GROUP;
+
+    @Mock
+    private RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private RedisStreamsPushEventListener eventListener;
+
+    @Mock
+    private DeadLetterEventStore deadLetterEventStore;
+
+    private PendingEventReclaimer pendingEventReclaimer;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new EventBusProperties(
+                null,
+                null,
+                null,
+                new EventBusProperties.Reclaim(Duration.ofSeconds(30), 3, Duration.ofMinutes(10), 100, Duration.ofHours(1)),
+                null
+        );
+        pendingEventReclaimer = new PendingEventReclaimer(
+                eventStreamRedisTemplate,
+                eventListener,
+                deadLetterEventStore,
+                new EventNodeIdentifier("immilog"),
+                properties
+        );
+        when(eventStreamRedisTemplate.opsForStream()).thenReturn(streamOperations);
+    }
+
+    @Test
+    @DisplayName("백오프가 지난 pending 메시지를 회수하여 리스너로 다시 처리한다")
+    void retryDuePendingMessage() {
+        // given
+        var recordId = RecordId.of("1-0");
+        givenPending(new PendingMessage(recordId, Consumer.from(GROUP, "old-consumer"), Duration.ofSeconds(31), 1));
+        var record = record(recordId);
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), any(String.class), eq(Duration.ofSeconds(30)), eq(recordId)))
+                .thenReturn(List.of(record));
+
+        // when
+        pendingEventReclaimer.reclaim(STREAM, GROUP);
+
+        // then
+        verify(eventListener).onMessage(any());
+        verify(deadLetterEventStore, never()).moveToDeadLetter(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("전달 횟수에 따른 백오프가 지나지 않은 메시지는 회수하지 않는다")
+    void skipMessageWithinBackoff() {
+        // given
+        // 두 번째 전달 이후에는 60초가 지나야 재전달
+        givenPending(new PendingMessage(RecordId.of("1-0"), Consumer.from(GROUP, "consumer"), Duration.ofSeconds(45), 2));
+
+        // when
+        pendingEventReclaimer.reclaim(STREAM, GROUP);
+
+        // then
+        verify(streamOperations, never()).claim(any(), any(), any(), any(Duration.class), any(RecordId[].class));
+        verify(eventListener, never()).onMessage(any());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘긴 메시지는 dead-letter 스트림으로 옮기고 ACK한다")
+    void deadLetterExhaustedMessage() {
+        // given
+        var recordId = RecordId.of("1-0");
+        givenPending(new PendingMessage(recordId, Consumer.from(GROUP, "consumer"), Duration.ofMinutes(5), 3));
+        var record = record(recordId);
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), any(String.class), eq(Duration.ofSeconds(30)), eq(recordId)))
+                .thenReturn(List.of(record));
+
+        // when
+        pendingEventReclaimer.reclaim(STREAM, GROUP);
+
+        // then
+        verify(deadLetterEventStore).moveToDeadLetter(eq(STREAM), eq(GROUP), any(), eq(3L));
+        verify(streamOperations).acknowledge(STREAM, GROUP, recordId);
+        verify(eventListener, never()).onMessage(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPending(PendingMessage... pendingMessages) {
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), eq(100L)))
+                .thenReturn(new PendingMessages(GROUP, List.of(pendingMessages)));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static MapRecord<String, Object, Object> record(RecordId recordId) {
+        Map<Object, Object> fields = Map.of(EventStreamRecord.EVENT, new byte[]{1});
+        return (MapRecord) StreamRecords.newRecord().in(STREAM).withId(recordId).ofMap(fields);
+    }
+}
@@ -3,8 +3,9 @@ package com.backend.immilog.shared.infrastructure.event;
 import com.backend.immilog.comment.domain.event.CommentCreatedEvent;
 import com.backend.immilog.post.domain.events.PostCompensationEvent;
 import com.backend.immilog.shared.config.event.RedisEventConfig;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import com.backend.immilog.shared.infrastructure.event.codec.EventCodec;
+import com.backend.immilog.shared.infrastructure.event.codec.EventCodecRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,16 +13,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.StreamOperations;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,85 +36,146 @@ import static org.mockito.Mockito.*;
 class RedisEventPublisherTest {
 
     @Mock
-    private RedisTemplate<String, Object> eventRedisTemplate;
-    
+    private RedisTemplate<String, byte[]> eventStreamRedisTemplate;
+
+    @Mock
+    private RedisConnection redisConnection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
     @Mock
-    private StreamOperations<String, Object, Object> streamOperations;
-    
+    private EventCodecRegistry codecRegistry;
+
+    @Mock
+    private EventCodec eventCodec;
+
     @Mock
-    private ObjectMapper objectMapper;
+    private EventTypeRegistry eventTypeRegistry;
 
     private RedisEventPublisher redisEventPublisher;
 
     @BeforeEach
     void setUp() {
-        redisEventPublisher = new RedisEventPublisher(eventRedisTemplate, objectMapper);
+        var properties = new EventBusProperties(
+                null,
+                null,
+                null,
+                null,
+                new EventBusProperties.Retention(
+                        new EventBusProperties.StreamRetention(1000, Duration.ofHours(1)),
+                        Map.of(RedisEventConfig.COMPENSATION_EVENT_STREAM, new EventBusProperties.StreamRetention(0, null))
+                )
+        );
+        redisEventPublisher = new RedisEventPublisher(
+                eventStreamRedisTemplate,
+                codecRegistry,
+                eventTypeRegistry,
+                new EventNodeIdentifier("immilog"),
+                properties
+        );
     }
 
     @Test
     @DisplayName("도메인 이벤트 발행 성공")
-    void publishDomainEvent_Success() throws JsonProcessingException {
+    void publishDomainEvent_Success() throws IOException {
         // given
         CommentCreatedEvent event = new CommentCreatedEvent("comment1", "post1", "user1");
-        String eventPayload = "{\"test\":\"data\"}";
         RecordId recordId = RecordId.of("1234567890-0");
 
-        when(eventRedisTemplate.opsForStream()).thenReturn(streamOperations);
-        when(objectMapper.writeValueAsString(any())).thenReturn("{\"eventMessage\":\"test\"}");
-        when(streamOperations.add(eq(RedisEventConfig.DOMAIN_EVENT_STREAM), any(Map.class))).thenReturn(recordId);
+        givenConnection();
+        when(codecRegistry.forStream(RedisEventConfig.DOMAIN_EVENT_STREAM)).thenReturn(eventCodec);
+        when(eventCodec.name()).thenReturn("smile");
+        when(eventCodec.encode(event)).thenReturn(new byte[]{1, 2, 3});
+        when(eventTypeRegistry.typeIdOf(CommentCreatedEvent.class)).thenReturn("CommentCreatedEvent");
+        when(streamCommands.xAdd(any(MapRecord.class), any(RedisStreamCommands.XAddOptions.class))).thenReturn(recordId);
 
         // when
         redisEventPublisher.publishDomainEvent(event);
 
         // then
-        ArgumentCaptor<Map<String, String>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(streamOperations).add(eq(RedisEventConfig.DOMAIN_EVENT_STREAM), fieldsCaptor.capture());
-        
-        Map<String, String> capturedFields = fieldsCaptor.getValue();
-        assertThat(capturedFields).containsKey("event");
+        var recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        var optionsCaptor = ArgumentCaptor.forClass(RedisStreamCommands.XAddOptions.class);
+        verify(streamCommands).xAdd(recordCaptor.capture(), optionsCaptor.capture());
+
+        var record = recordCaptor.getValue();
+        assertThat(new String((byte[]) record.getStream(), StandardCharsets.UTF_8))
+                .isEqualTo(RedisEventConfig.DOMAIN_EVENT_STREAM);
+
+        Map<String, byte[]> capturedFields = fieldsOf(record);
+        assertThat(capturedFields).containsEntry("event", new byte[]{1, 2, 3});
         assertThat(capturedFields).containsKey("messageId");
-        assertThat(capturedFields).containsKey("eventType");
+        assertThat(EventStreamRecord.header(capturedFields, "eventType")).isEqualTo("CommentCreatedEvent");
+        assertThat(EventStreamRecord.header(capturedFields, "codec")).isEqualTo("smile");
+        assertThat(EventStreamRecord.header(capturedFields, "originNode")).startsWith("immilog-");
+
+        // 근사 MAXLEN으로 함께 정리
+        assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo(1000L);
+        assertThat(optionsCaptor.getValue().isApproximateTrimming()).isTrue();
     }
 
     @Test
     @DisplayName("보상 이벤트 발행 성공")
-    void publishCompensationEvent_Success() throws JsonProcessingException {
+    void publishCompensationEvent_Success() throws IOException {
         // given
         PostCompensationEvent.CommentCountIncreaseCompensation event = 
             new PostCompensationEvent.CommentCountIncreaseCompensation("tx-123", "event-456", "post-789");
-        String eventPayload = "{\"transactionId\":\"tx-123\"}";
         RecordId recordId = RecordId.of("1234567890-1");
 
-        when(eventRedisTemplate.opsForStream()).thenReturn(streamOperations);
-        when(objectMapper.writeValueAsString(any())).thenReturn("{\"eventMessage\":\"compensation\"}");
-        when(streamOperations.add(eq(RedisEventConfig.COMPENSATION_EVENT_STREAM), any(Map.class))).thenReturn(recordId);
+        givenConnection();
+        when(codecRegistry.forStream(RedisEventConfig.COMPENSATION_EVENT_STREAM)).thenReturn(eventCodec);
+        when(eventCodec.name()).thenReturn("json");
+        when(eventCodec.encode(event)).thenReturn(new byte[]{1});
+        when(eventTypeRegistry.typeIdOf(PostCompensationEvent.CommentCountIncreaseCompensation.class))
+                .thenReturn("PostCompensationEvent$CommentCountIncreaseCompensation");
+        when(streamCommands.xAdd(any(MapRecord.class), any(RedisStreamCommands.XAddOptions.class))).thenReturn(recordId);
 
         // when
         redisEventPublisher.publishCompensationEvent(event);
 
         // then
-        ArgumentCaptor<Map<String, String>> fieldsCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(streamOperations).add(eq(RedisEventConfig.COMPENSATION_EVENT_STREAM), fieldsCaptor.capture());
-        
-        Map<String, String> capturedFields = fieldsCaptor.getValue();
+        var recordCaptor = ArgumentCaptor.forClass(MapRecord.class);
+        var optionsCaptor = ArgumentCaptor.forClass(RedisStreamCommands.XAddOptions.class);
+        verify(streamCommands).xAdd(recordCaptor.capture(), optionsCaptor.capture());
+
+        Map<String, byte[]> capturedFields = fieldsOf(recordCaptor.getValue());
         assertThat(capturedFields).containsKey("event");
         assertThat(capturedFields).containsKey("messageId");
-        assertThat(capturedFields).containsKey("eventType");
+        assertThat(EventStreamRecord.header(capturedFields, "codec")).isEqualTo("json");
+
+        // 스트림별 설정으로 MAXLEN을 끈 경우
+        assertThat(optionsCaptor.getValue().hasMaxlen()).isFalse();
     }
 
     @Test
     @DisplayName("도메인 이벤트 직렬화 실패 시 예외 발생")
-    void publishDomainEvent_SerializationFailure() throws JsonProcessingException {
+    void publishDomainEvent_SerializationFailure() throws IOException {
         // given
         CommentCreatedEvent event = new CommentCreatedEvent("comment1", "post1", "user1");
         
-        when(objectMapper.writeValueAsString(event)).thenThrow(new JsonProcessingException("Serialization error") {});
+        when(codecRegistry.forStream(RedisEventConfig.DOMAIN_EVENT_STREAM)).thenReturn(eventCodec);
+        when(eventCodec.encode(event)).thenThrow(new IOException("Serialization error"));
 
         // when & then
         assertThatThrownBy(() -> redisEventPublisher.publishDomainEvent(event))
             .isInstanceOf(RuntimeException.class)
             .hasMessage("Failed to publish domain event");
 
-        verify(streamOperations, never()).add(any(String.class), any(Map.class));
+        verify(eventStreamRedisTemplate, never()).execute(any(RedisCallback.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenConnection() {
+        when(redisConnection.streamCommands()).thenReturn(streamCommands);
+        when(eventStreamRedisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(redisConnection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, byte[]> fieldsOf(MapRecord<?, ?, ?> record) {
+        var fields = new HashMap<String, byte[]>();
+        ((Map<byte[], byte[]>) record.getValue())
+                .forEach((name, value) -> fields.put(new String(name, StandardCharsets.UTF_8), value));
+        return fields;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.shared.domain.event.DomainEvent;
+import com.backend.immilog.shared.infrastructure.event.dto.RedisEventMessage;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 기존 이중 JSON 봉투 경로와 단일 봉투 + Smile 코덱 경로의 페이로드 크기와 인코딩/디코딩 시간을 비교합니다.
+ * 일반 테스트 실행에서는 제외되며 -Dbenchmark=true 로 실행합니다.
+ * 예) ./gradlew :immilog-core:test --tests '*EventCodecBenchmark' -Dbenchmark=true
+ */
+@DisplayName("이벤트 코덱 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 100_000;
+
+    private final ObjectMapper objectMapper = eventObjectMapper();
+    private final SmileEventCodec smileEventCodec = new SmileEventCodec();
+    private final JsonEventCodec jsonEventCodec = new JsonEventCodec(objectMapper);
+
+    @Test
+    @DisplayName("게시물 10건/100건 인터랙션 요청 이벤트")
+    void compareCodecs() throws Exception {
+        for (int postCount : new int[]{10, 100}) {
+            var event = interactionRequest(postCount);
+            System.out.printf("== InteractionDataRequested (postIds=%d) ==%n", postCount);
+            measureLegacy(event);
+            measure(jsonEventCodec, event);
+            measure(smileEventCodec, event);
+        }
+    }
+
+    private void measureLegacy(PostEvent.InteractionDataRequested event) throws Exception {
+        var encoded = legacyEncode(event);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            legacyDecode(legacyEncode(event));
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            encoded = legacyEncode(event);
+            long encodedAt = System.nanoTime();
+            legacyDecode(encoded);
+            long decodedAt = System.nanoTime();
+            encodeNanos += encodedAt - start;
+            decodeNanos += decodedAt - encodedAt;
+        }
+        report("legacy-json", encoded.getBytes(StandardCharsets.UTF_8).length, encodeNanos, decodeNanos);
+    }
+
+    private void measure(
+            EventCodec codec,
+            PostEvent.InteractionDataRequested event
+    ) throws Exception {
+        var encoded = codec.encode(event);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            codec.decode(codec.encode(event), PostEvent.InteractionDataRequested.class);
+        }
+
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            encoded = codec.encode(event);
+            long encodedAt = System.nanoTime();
+            codec.decode(encoded, PostEvent.InteractionDataRequested.class);
+            long decodedAt = System.nanoTime();
+            encodeNanos += encodedAt - start;
+            decodeNanos += decodedAt - encodedAt;
+        }
+        report(codec.name(), encoded.length, encodeNanos, decodeNanos);
+    }
+
+    // 기존 발행 경로: 이벤트를 JSON 문자열로 만든 뒤 RedisEventMessage로 감싸 다시 JSON 직렬화
+    private String legacyEncode(DomainEvent event) throws Exception {
+        var message = new RedisEventMessage(
+                UUID.randomUUID().toString(),
+                event.getClass().getName(),
+                objectMapper.writeValueAsString(event),
+                LocalDateTime.now()
+        );
+        return objectMapper.writeValueAsString(message);
+    }
+
+    // 기존 소비 경로: 봉투 역직렬화, Class.forName, 페이로드 역직렬화
+    private DomainEvent legacyDecode(String eventJson) throws Exception {
+        var message = objectMapper.readValue(eventJson, RedisEventMessage.class);
+        var eventClass = Class.forName(message.eventType());
+        return (DomainEvent) objectMapper.readValue(message.payload(), eventClass);
+    }
+
+    private static void report(
+            String name,
+            int payloadBytes,
+            long encodeNanos,
+            long decodeNanos
+    ) {
+        System.out.printf("%-12s payload=%5d bytes  encode=%7.0f ns/op  decode=%7.0f ns/op%n",
+                name,
+                payloadBytes,
+                (double) encodeNanos / MEASURE_ITERATIONS,
+                (double) decodeNanos / MEASURE_ITERATIONS);
+    }
+
+    private static PostEvent.InteractionDataRequested interactionRequest(int postCount) {
+        var postIds = new ArrayList<String>(postCount);
+        for (int i = 0; i < postCount; i++) {
+            postIds.add(UUID.randomUUID().toString().substring(0, 21));
+        }
+        return new PostEvent.InteractionDataRequested("interaction_" + System.nanoTime(), List.copyOf(postIds), "POST");
+    }
+
+    private static ObjectMapper eventObjectMapper() {
+        var mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+}
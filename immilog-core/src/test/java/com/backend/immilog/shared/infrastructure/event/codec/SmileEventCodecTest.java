@@ -0,0 +1,94 @@
+package com.backend.immilog.shared.infrastructure.event.codec;
+
+import com.backend.immilog.post.domain.events.PostEvent;
+import com.backend.immilog.shared.config.properties.EventBusProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이벤트 코덱 테스트")
+class SmileEventCodecTest {
+
+    private final SmileEventCodec smileEventCodec = new SmileEventCodec();
+    private final JsonEventCodec jsonEventCodec = new JsonEventCodec(eventObjectMapper());
+
+    @Test
+    @DisplayName("Smile 코덱으로 인코딩한 이벤트를 같은 타입으로 복원한다")
+    void roundTrip() throws Exception {
+        // given
+        var event = new PostEvent.InteractionDataRequested(
+                "interaction_1755697626865_1010941893",
+                List.of("EFYM0ByRDNr9-4bgpW7kD", "2aVqxJyz_pvCGdAGcBsOu"),
+                "POST"
+        );
+
+        // when
+        var decoded = smileEventCodec.decode(smileEventCodec.encode(event), PostEvent.InteractionDataRequested.class);
+
+        // then
+        assertThat(decoded.getRequestId()).isEqualTo(event.getRequestId());
+        assertThat(decoded.getPostIds()).containsExactlyElementsOf(event.getPostIds());
+        assertThat(decoded.getContentType()).isEqualTo("POST");
+    }
+
+    @Test
+    @DisplayName("Smile 페이로드는 같은 이벤트의 JSON 페이로드보다 작다")
+    void smallerThanJson() throws Exception {
+        // given
+        var event = new PostEvent.InteractionDataRequested(
+                "interaction_1755697626865_1010941893",
+                List.of("EFYM0ByRDNr9-4bgpW7kD", "2aVqxJyz_pvCGdAGcBsOu", "Z30r8BbOs-wpjHDyGy6ss"),
+                "POST"
+        );
+
+        // when & then
+        assertThat(smileEventCodec.encode(event).length).isLessThan(jsonEventCodec.encode(event).length);
+    }
+
+    @Test
+    @DisplayName("스트림별 코덱 설정이 기본 코덱보다 우선한다")
+    void streamOverride() {
+        // given
+        var properties = new EventBusProperties(
+                null,
+                new EventBusProperties.Codec("smile", Map.of("compensation-events-stream", "json")),
+                null,
+                null,
+                null
+        );
+        var registry = new EventCodecRegistry(List.of(smileEventCodec, jsonEventCodec), properties);
+
+        // when & then
+        assertThat(registry.forStream("domain-events-stream").name()).isEqualTo("smile");
+        assertThat(registry.forStream("compensation-events-stream").name()).isEqualTo("json");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 코덱이 설정되면 기동 시점에 실패한다")
+    void unknownCodec() {
+        // given
+        var properties = new EventBusProperties(null, new EventBusProperties.Codec("cbor", null), null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> new EventCodecRegistry(List.of(smileEventCodec, jsonEventCodec), properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cbor");
+    }
+
+    private static ObjectMapper eventObjectMapper() {
+        var mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+}
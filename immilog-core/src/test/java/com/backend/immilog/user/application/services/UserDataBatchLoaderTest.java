@@ -0,0 +1,87 @@
+package com.backend.immilog.user.application.services;
+
+import com.backend.immilog.shared.domain.model.UserData;
+import com.backend.immilog.user.domain.enums.UserRole;
+import com.backend.immilog.user.domain.enums.UserStatus;
+import com.backend.immilog.user.domain.model.*;
+import com.backend.immilog.user.domain.repositories.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserDataBatchLoader 테스트")
+class UserDataBatchLoaderTest {
+
+    private final UserRepository mockUserRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserDataBatchLoader userDataBatchLoader = new UserDataBatchLoader(
+            mockUserRepository,
+            meterRegistry,
+            Duration.ofMillis(50),
+            500,
+            Duration.ofSeconds(2)
+    );
+
+    @AfterEach
+    void tearDown() {
+        userDataBatchLoader.shutdown();
+    }
+
+    @Test
+    @DisplayName("시간 창 안의 동시 요청은 한 번의 조회로 합쳐지고 각자 요청한 순서대로 결과를 받는다")
+    void concurrentLoadsAreCoalesced() {
+        // given
+        when(mockUserRepository.findAllByIds(anyList()))
+                .thenReturn(List.of(createUser("user1"), createUser("user2"), createUser("user3")));
+        var executor = Executors.newFixedThreadPool(2);
+
+        // when
+        var first = CompletableFuture.supplyAsync(() -> userDataBatchLoader.load(List.of("user1", "user2")), executor);
+        var second = CompletableFuture.supplyAsync(() -> userDataBatchLoader.load(List.of("user3", "user1")), executor);
+
+        // then
+        assertThat(first.join()).extracting(UserData::userId).containsExactly("user1", "user2");
+        assertThat(second.join()).extracting(UserData::userId).containsExactly("user3", "user1");
+        verify(mockUserRepository, times(1)).findAllByIds(anyList());
+        assertThat(meterRegistry.get("user.data.batch.requests").summary().totalAmount()).isEqualTo(2);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("조회되지 않은 유저는 Unknown으로 채운다")
+    void missingUsersAreFilledWithUnknown() {
+        // given
+        when(mockUserRepository.findAllByIds(anyList())).thenReturn(List.of(createUser("user1")));
+
+        // when
+        var result = userDataBatchLoader.load(List.of("user1", "ghost"));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).nickname()).isEqualTo("Unknown");
+    }
+
+    private User createUser(String userId) {
+        return User.restore(
+                UserId.of(userId),
+                Auth.of(userId + "@example.com", "encodedPassword123"),
+                UserRole.ROLE_USER,
+                Profile.of(userId + "-nick", "http://image.url", "KR"),
+                Location.of("KR", "Seoul"),
+                UserStatus.ACTIVE,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+}